@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache of immutable values which are created from the same strings over and over again, like JSON keys and
+ * JSON pointers. Strings longer than the maximum string length are never cached. If the cache is full, it is cleared
+ * and fills again with the strings which are used from then on; thus it never exceeds its maximum size.
+ *
+ * @param <T> the type of the cached values.
+ */
+@ThreadSafe
+final class BoundedInternCache<T> {
+
+    private final int maxSize;
+    private final int maxStringLength;
+    private final Map<String, T> cache;
+
+    /**
+     * Constructs a new {@code BoundedInternCache} object.
+     *
+     * @param maxSize the maximum number of cached values.
+     * @param maxStringLength the maximum length of strings whose values are cached.
+     */
+    BoundedInternCache(final int maxSize, final int maxStringLength) {
+        this.maxSize = maxSize;
+        this.maxStringLength = maxStringLength;
+        cache = new ConcurrentHashMap<>(maxSize);
+    }
+
+    /**
+     * Returns the cached value of the given string or creates it with the given factory. Exceptions of the factory
+     * are propagated and nothing is cached.
+     *
+     * @param string the string to get the value for.
+     * @param factory creates the value from the string.
+     * @return the value.
+     */
+    T get(final String string, final Function<String, T> factory) {
+        if (string.length() > maxStringLength) {
+            return factory.apply(string);
+        }
+        final T cachedValue = cache.get(string);
+        if (null != cachedValue) {
+            return cachedValue;
+        }
+        final T value = factory.apply(string);
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        cache.put(string, value);
+        return value;
+    }
+
+    /**
+     * Returns the number of cached values.
+     *
+     * @return the number of cached values.
+     */
+    int size() {
+        return cache.size();
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -237,16 +238,36 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return valueList.asJsonArrayString();
     }
 
+    @Override
+    public void writeTo(final Appendable appendable) throws IOException {
+        valueList.writeTo(requireNonNull(appendable, "The appendable to write to must not be null!"));
+    }
+
+    /**
+     * Holds the values of a JSON array together with its string representation.
+     * <p>
+     * If the string representation is known when creating the value list, e.g. because the JSON array was parsed, it
+     * is kept and the values are only softly referenced as they can be parsed again at any time. Otherwise the
+     * values are kept and the string representation is lazily written on demand and only softly referenced.
+     * </p>
+     */
     @Immutable
     static final class SoftReferencedValueList {
 
-        private final String jsonArrayStringRepresentation;
+        @Nullable private final String jsonArrayStringRepresentation;
+        @Nullable private final List<JsonValue> jsonValueList;
         private int hashCode;
         private SoftReference<List<JsonValue>> valuesReference;
+        private SoftReference<String> stringReference;
+
+        private SoftReferencedValueList(@Nullable final List<JsonValue> theJsonValueList,
+                @Nullable final String stringRepresentation,
+                final SoftReference<List<JsonValue>> theValuesReference) {
 
-        private SoftReferencedValueList(final List<JsonValue> jsonValueList, final String stringRepresentation) {
             jsonArrayStringRepresentation = stringRepresentation;
-            valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
+            jsonValueList = theJsonValueList;
+            valuesReference = theValuesReference;
+            stringReference = new SoftReference<>(stringRepresentation);
             hashCode = 0;
         }
 
@@ -261,24 +282,11 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation) {
 
+            final List<JsonValue> values = Collections.unmodifiableList(new ArrayList<>(jsonValueList));
             if (null != stringRepresentation) {
-                return new SoftReferencedValueList(jsonValueList, stringRepresentation);
-            }
-            return new SoftReferencedValueList(jsonValueList, createStringRepresentation(jsonValueList));
-        }
-
-        private static String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
-            final StringBuilder stringBuilder = new StringBuilder(512);
-            stringBuilder.append('[');
-            String delimiter = "";
-            for (final JsonValue jsonValue : jsonValues) {
-                stringBuilder.append(delimiter);
-                stringBuilder.append(jsonValue);
-                delimiter = ",";
+                return new SoftReferencedValueList(null, stringRepresentation, new SoftReference<>(values));
             }
-            stringBuilder.append(']');
-
-            return stringBuilder.toString();
+            return new SoftReferencedValueList(values, null, new SoftReference<>(null));
         }
 
         JsonValue get(final int index) {
@@ -312,9 +320,12 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         private List<JsonValue> values() {
+            if (null != jsonValueList) {
+                return jsonValueList;
+            }
             List<JsonValue> result = valuesReference.get();
             if (null == result) {
-                result = parseToList(jsonArrayStringRepresentation);
+                result = parseToList(requireNonNull(jsonArrayStringRepresentation));
                 valuesReference = new SoftReference<>(result);
             }
             return result;
@@ -343,12 +354,11 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
                 return false;
             }
             final SoftReferencedValueList that = (SoftReferencedValueList) o;
-            if (jsonArrayStringRepresentation.equals(that.jsonArrayStringRepresentation)) {
+            final String stringRepresentation = stringReference.get();
+            if (null != stringRepresentation && stringRepresentation.equals(that.stringReference.get())) {
                 return true;
-            } else if (jsonArrayStringRepresentation.length() == that.jsonArrayStringRepresentation.length()) {
-                return Objects.equals(values(), that.values());
             }
-            return false;
+            return Objects.equals(values(), that.values());
         }
 
         @Override
@@ -362,7 +372,41 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         String asJsonArrayString() {
-            return jsonArrayStringRepresentation;
+            String result = stringReference.get();
+            if (null == result) {
+                final StringBuilder stringBuilder = new StringBuilder(512);
+                try {
+                    writeValuesTo(stringBuilder);
+                } catch (final IOException e) {
+                    // a StringBuilder never throws an IOException
+                    throw new IllegalStateException(e);
+                }
+                result = stringBuilder.toString();
+                stringReference = new SoftReference<>(result);
+            }
+            return result;
+        }
+
+        void writeTo(final Appendable appendable) throws IOException {
+            final String stringRepresentation = stringReference.get();
+            if (null != stringRepresentation) {
+                appendable.append(stringRepresentation);
+            } else {
+                writeValuesTo(appendable);
+            }
+        }
+
+        private void writeValuesTo(final Appendable appendable) throws IOException {
+            appendable.append('[');
+            boolean first = true;
+            for (final JsonValue jsonValue : values()) {
+                if (!first) {
+                    appendable.append(',');
+                }
+                jsonValue.writeTo(appendable);
+                first = false;
+            }
+            appendable.append(']');
         }
 
     }
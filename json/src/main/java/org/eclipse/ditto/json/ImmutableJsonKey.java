@@ -25,6 +25,12 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonKey implements JsonKey {
 
+    /*
+     * The same few thousand keys are created over and over again, e. g. while parsing JSON pointers. Sharing their
+     * instances saves allocations and lets most comparisons succeed by identity.
+     */
+    private static final BoundedInternCache<JsonKey> INTERNED_KEYS = new BoundedInternCache<>(8192, 64);
+
     private final String keyValue;
 
     private ImmutableJsonKey(final String theKeyValue) {
@@ -32,10 +38,10 @@ final class ImmutableJsonKey implements JsonKey {
     }
 
     /**
-     * Returns a new JSON Key based on the provided string.
+     * Returns a JSON Key based on the provided string. Keys of short strings are interned.
      *
      * @param keyValue the character sequence forming the keyValue's value.
-     * @return a new JSON Key.
+     * @return the JSON Key.
      * @throws NullPointerException if {@code keyValue} is {@code null}.
      * @throws IllegalArgumentException if {@code keyValue} is empty.
      */
@@ -46,6 +52,8 @@ final class ImmutableJsonKey implements JsonKey {
             return ((JsonKey) keyValue);
         } else  if (0 == keyValue.length()) {
             throw new IllegalArgumentException("The key string must not be empty!");
+        } else if (keyValue instanceof String) {
+            return INTERNED_KEYS.get((String) keyValue, ImmutableJsonKey::new);
         }
 
         return new ImmutableJsonKey(keyValue.toString());
@@ -85,7 +93,8 @@ final class ImmutableJsonKey implements JsonKey {
 
     @Override
     public int hashCode() {
-        return Objects.hash(keyValue);
+        // same as Objects.hash(keyValue) without allocating a varargs array
+        return 31 + keyValue.hashCode();
     }
 
     @Override
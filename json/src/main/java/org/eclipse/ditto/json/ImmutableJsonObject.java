@@ -14,6 +14,7 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
 import java.util.ArrayDeque;
@@ -509,16 +510,37 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.asJsonObjectString();
     }
 
+    @Override
+    public void writeTo(final Appendable appendable) throws IOException {
+        fieldMap.writeTo(requireNonNull(appendable, "The appendable to write to must not be null!"));
+    }
+
+    /**
+     * Holds the fields of a JSON object together with its string representation.
+     * <p>
+     * If the string representation is known when creating the field map, e.g. because the JSON object was parsed, it
+     * is kept and the fields are only softly referenced as they can be parsed again at any time. Otherwise the
+     * fields are kept and the string representation is lazily written on demand and only softly referenced. Nested
+     * values are written in the same pass so that no string is created per nesting level.
+     * </p>
+     */
     @Immutable
     static final class SoftReferencedFieldMap {
 
-        private final String jsonObjectStringRepresentation;
+        @Nullable private final String jsonObjectStringRepresentation;
+        @Nullable private final Map<String, JsonField> jsonFieldMap;
         private int hashCode;
         private SoftReference<Map<String, JsonField>> fieldsReference;
+        private SoftReference<String> stringReference;
+
+        private SoftReferencedFieldMap(@Nullable final Map<String, JsonField> theJsonFieldMap,
+                @Nullable final String stringRepresentation,
+                final SoftReference<Map<String, JsonField>> theFieldsReference) {
 
-        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap, final String stringRepresentation) {
             jsonObjectStringRepresentation = stringRepresentation;
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            jsonFieldMap = theJsonFieldMap;
+            fieldsReference = theFieldsReference;
+            stringReference = new SoftReference<>(stringRepresentation);
             hashCode = 0;
         }
 
@@ -533,24 +555,11 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation) {
 
+            final Map<String, JsonField> fields = Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap));
             if (null != stringRepresentation) {
-                return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation);
+                return new SoftReferencedFieldMap(null, stringRepresentation, new SoftReference<>(fields));
             }
-            return new SoftReferencedFieldMap(jsonFieldMap, createStringRepresentation(jsonFieldMap));
-        }
-
-        private static String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
-            final StringBuilder stringBuilder = new StringBuilder(512);
-            stringBuilder.append('{');
-            String delimiter = "";
-            for (final JsonField jsonField : jsonFieldMap.values()) {
-                stringBuilder.append(delimiter);
-                stringBuilder.append(jsonField);
-                delimiter = ",";
-            }
-            stringBuilder.append('}');
-
-            return stringBuilder.toString();
+            return new SoftReferencedFieldMap(fields, null, new SoftReference<>(null));
         }
 
         int getSize() {
@@ -601,9 +610,12 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> fields() {
+            if (null != jsonFieldMap) {
+                return jsonFieldMap;
+            }
             Map<String, JsonField> result = fieldsReference.get();
             if (null == result) {
-                result = parseToMap(jsonObjectStringRepresentation);
+                result = parseToMap(requireNonNull(jsonObjectStringRepresentation));
                 fieldsReference = new SoftReference<>(result);
             }
             return result;
@@ -624,12 +636,11 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 return false;
             }
             final SoftReferencedFieldMap that = (SoftReferencedFieldMap) o;
-            if (jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
+            final String stringRepresentation = stringReference.get();
+            if (null != stringRepresentation && stringRepresentation.equals(that.stringReference.get())) {
                 return true;
-            } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length()) {
-                return Objects.equals(fields(), that.fields());
             }
-            return false;
+            return Objects.equals(fields(), that.fields());
         }
 
         @Override
@@ -643,7 +654,45 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         String asJsonObjectString() {
-            return jsonObjectStringRepresentation;
+            String result = stringReference.get();
+            if (null == result) {
+                final StringBuilder stringBuilder = new StringBuilder(512);
+                try {
+                    writeFieldsTo(stringBuilder);
+                } catch (final IOException e) {
+                    // a StringBuilder never throws an IOException
+                    throw new IllegalStateException(e);
+                }
+                result = stringBuilder.toString();
+                stringReference = new SoftReference<>(result);
+            }
+            return result;
+        }
+
+        void writeTo(final Appendable appendable) throws IOException {
+            final String stringRepresentation = stringReference.get();
+            if (null != stringRepresentation) {
+                appendable.append(stringRepresentation);
+            } else {
+                writeFieldsTo(appendable);
+            }
+        }
+
+        private void writeFieldsTo(final Appendable appendable) throws IOException {
+            final JavaStringToEscapedJsonString javaStringToEscapedJsonString =
+                    JavaStringToEscapedJsonString.getInstance();
+            appendable.append('{');
+            boolean first = true;
+            for (final JsonField jsonField : fields().values()) {
+                if (!first) {
+                    appendable.append(',');
+                }
+                javaStringToEscapedJsonString.appendTo(jsonField.getKeyName(), appendable);
+                appendable.append(':');
+                jsonField.getValue().writeTo(appendable);
+                first = false;
+            }
+            appendable.append('}');
         }
 
     }
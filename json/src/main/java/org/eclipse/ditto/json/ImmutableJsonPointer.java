@@ -13,40 +13,43 @@
 package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.RandomAccess;
 
 import javax.annotation.concurrent.Immutable;
 
 /**
  * This class represents a JSON pointer consisting of at least one {@link JsonKey}.
+ * <p>
+ * The JSON keys are stored in an array which is shared by all sub pointers, prefix pointers and pointers with a cut
+ * leaf of a pointer; these are therefore created in constant time. Pointers parsed from short strings are interned.
+ * </p>
  */
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
 
-    private static final Pattern DOUBLE_SLASH_PATTERN = Pattern.compile("//");
-    private static final String SLASH = "/";
-    private static final String SLASH_REGEX = "/(?!/)"; // a SLASH which is not followed by another slash
-    private static final Pattern SINGLE_SLASH_REGEX_PATTERN = Pattern.compile(SLASH_REGEX);
-    private static final Pattern ESCAPED_TILDE_PATTERN = Pattern.compile("~0");
-    private static final Pattern DECODED_TILDE_PATTERN = Pattern.compile("~");
+    private static final char SLASH = '/';
+    private static final String DOUBLE_SLASH = "//";
+    private static final String ESCAPED_TILDE = "~0";
+    private static final String DECODED_TILDE = "~";
 
-    private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
+    private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(KeyList.of(new JsonKey[0]));
 
-    private final List<JsonKey> jsonKeyHierarchy;
+    /*
+     * The same few hundred paths like "/features/x/properties/y" are parsed over and over again.
+     */
+    private static final BoundedInternCache<JsonPointer> PARSED_POINTERS = new BoundedInternCache<>(4096, 256);
+
+    private final KeyList jsonKeyHierarchy;
 
-    private ImmutableJsonPointer(final List<JsonKey> theJsonKeys) {
-        jsonKeyHierarchy = Collections.unmodifiableList(new ArrayList<>(theJsonKeys));
+    private ImmutableJsonPointer(final KeyList theJsonKeys) {
+        jsonKeyHierarchy = theJsonKeys;
     }
 
     /**
@@ -64,7 +67,7 @@ final class ImmutableJsonPointer implements JsonPointer {
      *
      * @param slashDelimitedCharSequence a character sequence representing a JSON pointer. The leading slash may be
      * omitted.
-     * @return a new JSON pointer consisting of the JSON keys which were extracted from {@code
+     * @return a JSON pointer consisting of the JSON keys which were extracted from {@code
      * slashDelimitedCharSequence}.
      * @throws NullPointerException if {@code slashDelimitedCharSequence} is {@code null}.
      */
@@ -76,32 +79,45 @@ final class ImmutableJsonPointer implements JsonPointer {
         if (JsonPointer.class.isAssignableFrom(slashDelimitedCharSequence.getClass())) {
             result = (JsonPointer) slashDelimitedCharSequence;
         } else if (JsonKey.class.isAssignableFrom(slashDelimitedCharSequence.getClass())) {
-            result = newInstance(Collections.singletonList(((JsonKey) slashDelimitedCharSequence)));
+            result = newInstance(new JsonKey[]{(JsonKey) slashDelimitedCharSequence});
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
-        } else if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedCharSequence).find()) {
-            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
-                    .build();
+        } else if (slashDelimitedCharSequence instanceof String) {
+            result = PARSED_POINTERS.get((String) slashDelimitedCharSequence, ImmutableJsonPointer::parse);
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = parse(slashDelimitedCharSequence.toString());
         }
 
         return result;
     }
 
-    private static String decodeTilde(final CharSequence keyString) {
-        final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
+    private static JsonPointer parse(final String slashDelimitedString) {
+        if (slashDelimitedString.contains(DOUBLE_SLASH)) {
+            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedString).build();
+        }
+
+        final List<JsonKey> jsonKeys = new ArrayList<>();
+        int segmentStart = 0;
+        for (int i = 0; i <= slashDelimitedString.length(); i++) {
+            if (i == slashDelimitedString.length() || SLASH == slashDelimitedString.charAt(i)) {
+                // ignore empty segments
+                if (i > segmentStart) {
+                    final String keyName = decodeTilde(slashDelimitedString.substring(segmentStart, i));
+                    jsonKeys.add(JsonFactory.newKey(keyName));
+                }
+                segmentStart = i + 1;
+            }
+        }
+
+        return jsonKeys.isEmpty() ? empty() : newInstance(jsonKeys.toArray(new JsonKey[0]));
+    }
+
+    private static String decodeTilde(final String keyString) {
+        return keyString.contains(ESCAPED_TILDE) ? keyString.replace(ESCAPED_TILDE, DECODED_TILDE) : keyString;
     }
 
-    private static ImmutableJsonPointer newInstance(final List<JsonKey> jsonKeyHierarchy) {
-        return new ImmutableJsonPointer(jsonKeyHierarchy);
+    private static ImmutableJsonPointer newInstance(final JsonKey[] jsonKeyHierarchy) {
+        return new ImmutableJsonPointer(KeyList.of(jsonKeyHierarchy));
     }
 
     /**
@@ -117,15 +133,11 @@ final class ImmutableJsonPointer implements JsonPointer {
         requireNonNull(subLevels, "The sub levels must not be null!"
                 + " If the JSON pointer does not require sub levels, just omit this argument.");
 
-        final ImmutableJsonPointer result;
-
-        final List<JsonKey> keyHierarchy = new ArrayList<>(1 + subLevels.length);
-        keyHierarchy.add(rootLevel);
-        Collections.addAll(keyHierarchy, subLevels);
+        final JsonKey[] keyHierarchy = new JsonKey[1 + subLevels.length];
+        keyHierarchy[0] = rootLevel;
+        System.arraycopy(subLevels, 0, keyHierarchy, 1, subLevels.length);
 
-        result = newInstance(keyHierarchy);
-
-        return result;
+        return newInstance(keyHierarchy);
     }
 
     private static void checkRootLevel(final JsonKey rootLevel) {
@@ -144,15 +156,14 @@ final class ImmutableJsonPointer implements JsonPointer {
         checkRootLevel(rootLevel);
         checkSubPointer(subPointer);
 
-        final ImmutableJsonPointer result;
-
-        final List<JsonKey> keyHierarchy = new ArrayList<>(1 + subPointer.getLevelCount());
-        keyHierarchy.add(rootLevel);
-        subPointer.forEach(keyHierarchy::add);
-
-        result = newInstance(keyHierarchy);
+        final JsonKey[] keyHierarchy = new JsonKey[1 + subPointer.getLevelCount()];
+        keyHierarchy[0] = rootLevel;
+        int i = 1;
+        for (final JsonKey jsonKey : subPointer) {
+            keyHierarchy[i++] = jsonKey;
+        }
 
-        return result;
+        return newInstance(keyHierarchy);
     }
 
     private static void checkSubPointer(final Object subPointer) {
@@ -171,8 +182,8 @@ final class ImmutableJsonPointer implements JsonPointer {
     public ImmutableJsonPointer addLeaf(final JsonKey key) {
         requireNonNull(key, "The level to be added must not be null!");
 
-        final List<JsonKey> newJsonKeys = new ArrayList<>(jsonKeyHierarchy);
-        newJsonKeys.add(key);
+        final JsonKey[] newJsonKeys = copyJsonKeys(1);
+        newJsonKeys[newJsonKeys.length - 1] = key;
 
         return newInstance(newJsonKeys);
     }
@@ -186,14 +197,25 @@ final class ImmutableJsonPointer implements JsonPointer {
         if (subPointer.isEmpty()) {
             result = this;
         } else {
-            final List<JsonKey> newJsonKeys = new ArrayList<>(jsonKeyHierarchy);
-            subPointer.forEach(newJsonKeys::add);
+            final JsonKey[] newJsonKeys = copyJsonKeys(subPointer.getLevelCount());
+            int i = getLevelCount();
+            for (final JsonKey jsonKey : subPointer) {
+                newJsonKeys[i++] = jsonKey;
+            }
             result = newInstance(newJsonKeys);
         }
 
         return result;
     }
 
+    private JsonKey[] copyJsonKeys(final int additionalLevels) {
+        final JsonKey[] result = new JsonKey[getLevelCount() + additionalLevels];
+        for (int i = 0; i < getLevelCount(); i++) {
+            result[i] = jsonKeyHierarchy.get(i);
+        }
+        return result;
+    }
+
     /**
      * Returns the number of levels of this JSON pointer. For example if the pointer is {@code "foo/bar/baz"} this
      * method will return the value {@literal 3}.
@@ -212,11 +234,10 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     @Override
     public Optional<JsonKey> get(final int level) {
-        try {
-            return Optional.of(jsonKeyHierarchy.get(level));
-        } catch (final IndexOutOfBoundsException e) {
+        if (level < 0 || level >= getLevelCount()) {
             return Optional.empty();
         }
+        return Optional.of(jsonKeyHierarchy.get(level));
     }
 
     @Override
@@ -229,36 +250,27 @@ final class ImmutableJsonPointer implements JsonPointer {
         return get(getLevelCount() - 1);
     }
 
-    @SuppressWarnings("squid:S1166")
     @Override
     public Optional<JsonPointer> getSubPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(level, jsonKeysCopy.size());
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+        if (level < 0 || level > getLevelCount()) {
             return Optional.empty();
         }
+        return Optional.of(new ImmutableJsonPointer(jsonKeyHierarchy.subList(level, getLevelCount())));
     }
 
     @Override
     public Optional<JsonPointer> getPrefixPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(0, level);
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+        if (level < 0 || level > getLevelCount()) {
             return Optional.empty();
         }
+        return Optional.of(new ImmutableJsonPointer(jsonKeyHierarchy.subList(0, level)));
     }
 
     @Override
     public ImmutableJsonPointer cutLeaf() {
         ImmutableJsonPointer result = this;
         if (!isEmpty()) {
-            final List<JsonKey> subList = jsonKeyHierarchy.subList(0, getLevelCount() - 1);
-            result = newInstance(subList);
+            result = new ImmutableJsonPointer(jsonKeyHierarchy.subList(0, getLevelCount() - 1));
         }
         return result;
     }
@@ -275,7 +287,7 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     @Override
     public Iterator<JsonKey> iterator() {
-        return new ArrayList<>(jsonKeyHierarchy).iterator();
+        return jsonKeyHierarchy.iterator();
     }
 
     @Override
@@ -323,21 +335,62 @@ final class ImmutableJsonPointer implements JsonPointer {
      */
     @Override
     public String toString() {
-        final String stringRepresentation;
         if (jsonKeyHierarchy.isEmpty()) {
-            stringRepresentation = SLASH;
-        } else {
-            stringRepresentation = SLASH + jsonKeyHierarchy.stream()
-                    .map(ImmutableJsonPointer::escapeTilde)
-                    .collect(Collectors.joining(SLASH));
+            return String.valueOf(SLASH);
         }
-        return stringRepresentation;
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (final JsonKey jsonKey : jsonKeyHierarchy) {
+            stringBuilder.append(SLASH).append(escapeTilde(jsonKey));
+        }
+        return stringBuilder.toString();
     }
 
     private static String escapeTilde(final JsonKey jsonKey) {
         final String keyString = jsonKey.toString();
-        final Matcher matcher = DECODED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(ESCAPED_TILDE_PATTERN.toString());
+        return keyString.contains(DECODED_TILDE) ? keyString.replace(DECODED_TILDE, ESCAPED_TILDE) : keyString;
+    }
+
+    /**
+     * Read-only list of a range of an array of JSON keys. Its sub lists share the array.
+     */
+    static final class KeyList extends AbstractList<JsonKey> implements RandomAccess {
+
+        private final JsonKey[] jsonKeys;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private KeyList(final JsonKey[] jsonKeys, final int fromIndex, final int toIndex) {
+            this.jsonKeys = jsonKeys;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        static KeyList of(final JsonKey[] jsonKeys) {
+            return new KeyList(jsonKeys, 0, jsonKeys.length);
+        }
+
+        @Override
+        public JsonKey get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return jsonKeys[fromIndex + index];
+        }
+
+        @Override
+        public int size() {
+            return toIndex - fromIndex;
+        }
+
+        @Override
+        public KeyList subList(final int subListFromIndex, final int subListToIndex) {
+            if (subListFromIndex < 0 || subListToIndex > size() || subListFromIndex > subListToIndex) {
+                throw new IndexOutOfBoundsException(
+                        "From index: " + subListFromIndex + ", to index: " + subListToIndex + ", Size: " + size());
+            }
+            return new KeyList(jsonKeys, fromIndex + subListFromIndex, fromIndex + subListToIndex);
+        }
+
     }
 
 }
@@ -14,6 +14,7 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -84,6 +85,16 @@ final class ImmutableJsonString extends AbstractJsonValue {
         return result;
     }
 
+    @Override
+    public void writeTo(final Appendable appendable) throws IOException {
+        final String result = stringRepresentation;
+        if (null != result) {
+            appendable.append(result);
+        } else {
+            JavaStringToEscapedJsonString.getInstance().appendTo(value, appendable);
+        }
+    }
+
     private String createStringRepresentation() {
         final JavaStringToEscapedJsonString javaStringToEscapedJsonString = JavaStringToEscapedJsonString.getInstance();
         return javaStringToEscapedJsonString.apply(value);
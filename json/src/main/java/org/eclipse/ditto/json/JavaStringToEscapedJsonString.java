@@ -14,6 +14,7 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -68,4 +69,29 @@ final class JavaStringToEscapedJsonString implements UnaryOperator<String> {
         return stringBuilder.toString();
     }
 
+    /**
+     * Appends the given Java String as escaped JSON string to the given appendable without creating an intermediate
+     * string.
+     *
+     * @param javaString the Java String to be converted.
+     * @param appendable the appendable to write the escaped JSON string to.
+     * @throws IOException if the appendable throws an IOException.
+     */
+    void appendTo(final String javaString, final Appendable appendable) throws IOException {
+        requireNonNull(javaString, "The Java String to be converted must not be null");
+        appendable.append(QUOTE);
+        int unescapedStart = 0;
+        final int length = javaString.length();
+        for (int i = 0; i < length; i++) {
+            @Nullable final String replacement = jsonCharEscaper.apply((int) javaString.charAt(i));
+            if (null != replacement) {
+                appendable.append(javaString, unescapedStart, i);
+                appendable.append(replacement);
+                unescapedStart = i + 1;
+            }
+        }
+        appendable.append(javaString, unescapedStart, length);
+        appendable.append(QUOTE);
+    }
+
 }
@@ -12,6 +12,13 @@
  */
 package org.eclipse.ditto.json;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 import javax.annotation.Nullable;
 
 /**
@@ -265,6 +272,33 @@ public interface JsonValue {
     @Override
     String toString();
 
+    /**
+     * Writes the JSON string for this value in its minimal form to the given appendable. In contrast to
+     * {@link #toString()}, JSON objects and arrays are serialized in one pass without creating intermediate strings of
+     * their nested values.
+     *
+     * @param appendable the appendable to write the JSON string to.
+     * @throws IOException if the appendable throws an IOException.
+     * @throws NullPointerException if {@code appendable} is {@code null}.
+     */
+    default void writeTo(final Appendable appendable) throws IOException {
+        appendable.append(toString());
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON string for this value in its minimal form to the given output stream. The stream
+     * is flushed but not closed.
+     *
+     * @param outputStream the output stream to write the JSON string to.
+     * @throws IOException if writing to the output stream failed.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     */
+    default void writeTo(final OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeTo(writer);
+        writer.flush();
+    }
+
     /**
      * Return this JSON value in string representation, without quoting if this is a JSON string already.
      *
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BoundedInternCache}.
+ */
+public final class BoundedInternCacheTest {
+
+    @Test
+    public void returnsCachedValue() {
+        final BoundedInternCache<StringBuilder> underTest = new BoundedInternCache<>(2, 10);
+
+        final StringBuilder first = underTest.get("foo", StringBuilder::new);
+
+        assertThat(underTest.get("foo", StringBuilder::new)).isSameAs(first);
+    }
+
+    @Test
+    public void doesNotCacheLongStrings() {
+        final BoundedInternCache<StringBuilder> underTest = new BoundedInternCache<>(2, 2);
+
+        final StringBuilder first = underTest.get("foo", StringBuilder::new);
+
+        assertThat(underTest.get("foo", StringBuilder::new)).isNotSameAs(first);
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void neverExceedsMaximumSize() {
+        final BoundedInternCache<StringBuilder> underTest = new BoundedInternCache<>(2, 10);
+
+        underTest.get("a", StringBuilder::new);
+        underTest.get("b", StringBuilder::new);
+        underTest.get("c", StringBuilder::new);
+
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+}
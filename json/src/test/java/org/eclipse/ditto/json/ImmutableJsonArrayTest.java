@@ -19,6 +19,7 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -395,6 +396,20 @@ public final class ImmutableJsonArrayTest {
         assertThat(underTest.toString()).isEqualTo(expectedString);
     }
 
+    @Test
+    public void writeToWritesSameAsToString() throws IOException {
+        final List<JsonValue> values = new ArrayList<>(KNOWN_INT_VALUE_LIST);
+        values.add(JsonObject.newBuilder().set("a\\b", JsonArray.empty()).build());
+        values.add(JsonValue.of("tab\t"));
+        final ImmutableJsonArray underTest = ImmutableJsonArray.of(values);
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        underTest.writeTo(stringBuilder);
+
+        assertThat(stringBuilder.toString()).isEqualTo(underTest.toString());
+        assertThat(JsonArray.of(stringBuilder.toString())).isEqualTo(underTest);
+    }
+
     @Test
     public void getValueAtInvalidIndex() {
         final ImmutableJsonArray underTest = ImmutableJsonArray.of(KNOWN_INT_VALUE_LIST);
@@ -20,6 +20,9 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -65,6 +68,32 @@ public final class ImmutableJsonObjectTest {
                 + "}";
     }
 
+    @Test
+    public void writeToWritesSameAsToString() throws IOException {
+        final JsonObject nested = JsonObject.newBuilder()
+                .set("quote\"key", "line\nbreak")
+                .set("array", JsonArray.newBuilder().add(1, 2).add("\u00fc").build())
+                .build();
+        final JsonObject underTest = ImmutableJsonObject.of(toMap("nested", nested));
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        underTest.writeTo(stringBuilder);
+
+        Assertions.assertThat(stringBuilder.toString()).isEqualTo(underTest.toString());
+        Assertions.assertThat(JsonObject.of(stringBuilder.toString())).isEqualTo(underTest);
+    }
+
+    @Test
+    public void writeToOutputStreamWritesUtf8() throws IOException {
+        final JsonObject underTest = ImmutableJsonObject.of(toMap("unit", JsonValue.of("\u00b0C")));
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        underTest.writeTo(outputStream);
+
+        Assertions.assertThat(outputStream.toByteArray())
+                .isEqualTo("{\"unit\":\"\u00b0C\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
     private static Map<String, JsonField> toMap(final CharSequence keyName, final int rawValue) {
         return toMap(keyName, JsonValue.of(rawValue));
     }
@@ -14,7 +14,6 @@ package org.eclipse.ditto.json;
 
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
-import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -41,12 +40,16 @@ public final class ImmutableJsonPointerTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonPointer.class,
                 areImmutable(),
-                provided(JsonKey.class).isAlsoImmutable(), assumingFields("jsonFields").areNotModifiedAndDoNotEscape());
+                provided(JsonKey.class).isAlsoImmutable(),
+                provided(ImmutableJsonPointer.KeyList.class).isAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableJsonPointer.class)
+                .withPrefabValues(ImmutableJsonPointer.KeyList.class,
+                        ImmutableJsonPointer.KeyList.of(new JsonKey[]{JsonFactory.newKey("red")}),
+                        ImmutableJsonPointer.KeyList.of(new JsonKey[]{JsonFactory.newKey("blue")}))
                 .suppress(Warning.NULL_FIELDS)
                 .verify();
     }
@@ -315,4 +318,29 @@ public final class ImmutableJsonPointerTest {
         assertThat(underTest.toString()).isEqualTo("/foo/~0dum/~0die/~0dum/baz");
     }
 
+    @Test
+    public void parsedPointersAreInterned() {
+        final String pointerString = "/features/interned/properties/value";
+
+        assertThat(ImmutableJsonPointer.ofParsed(pointerString))
+                .isSameAs(ImmutableJsonPointer.ofParsed(pointerString));
+    }
+
+    @Test
+    public void pointersSharingKeysBehaveLikeCopies() {
+        final JsonPointer underTest = ImmutableJsonPointer.ofParsed("/a/b/c/d");
+
+        final JsonPointer subPointer = underTest.getSubPointer(1).orElseThrow(IllegalStateException::new);
+        final JsonPointer middle = subPointer.cutLeaf();
+
+        assertThat(middle).isEqualTo(ImmutableJsonPointer.ofParsed("/b/c"));
+        assertThat(middle.hashCode()).isEqualTo(ImmutableJsonPointer.ofParsed("/b/c").hashCode());
+        assertThat(middle.nextLevel()).isEqualTo(ImmutableJsonPointer.ofParsed("/c"));
+        assertThat(middle.getPrefixPointer(3)).isEmpty();
+        assertThat(middle.addLeaf(JsonFactory.newKey("x"))).isEqualTo(ImmutableJsonPointer.ofParsed("/b/c/x"));
+        assertThat(middle.append(subPointer)).isEqualTo(ImmutableJsonPointer.ofParsed("/b/c/b/c/d"));
+        assertThat(middle.toString()).isEqualTo("/b/c");
+        assertThat(underTest).isEqualTo(ImmutableJsonPointer.ofParsed("/a/b/c/d"));
+    }
+
 }
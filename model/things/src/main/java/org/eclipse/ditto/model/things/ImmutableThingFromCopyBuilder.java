@@ -126,7 +126,7 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
         return result;
     }
 
-    private static Instant tryToParseModified(final CharSequence dateTime) {
+    static Instant tryToParseModified(final CharSequence dateTime) {
         try {
             return Instant.parse(dateTime);
         } catch (final DateTimeParseException e) {
@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.things;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+
+/**
+ * A Thing which is backed by the JSON object it was deserialized from. The structure of the JSON object is validated
+ * eagerly, so that malformed JSON objects are rejected on deserialization like they are when parsing a Thing. The
+ * IDs, revision, modified timestamp and lifecycle are read from the JSON object. The Attributes and Features are
+ * however only built on first access, which materializes an {@link ImmutableThing}. As long as the Thing was not
+ * materialized, {@link #toJson(JsonSchemaVersion, Predicate)} returns the backing JSON object without the fields which
+ * are not selected, if the materialized Thing would write the same JSON representation.
+ * <p>
+ * The values of Attributes and Feature properties are arbitrary JSON and need no validation.
+ * </p>
+ */
+@ThreadSafe
+final class JsonObjectBackedThing implements Thing {
+
+    private static final Map<JsonKey, JsonFieldDefinition<?>> THING_FIELD_DEFINITIONS =
+            fieldDefinitionsByKey(Thing.JsonFields.SCHEMA_VERSION, Thing.JsonFields.LIFECYCLE,
+                    Thing.JsonFields.NAMESPACE, Thing.JsonFields.REVISION, Thing.JsonFields.MODIFIED,
+                    Thing.JsonFields.ID, Thing.JsonFields.ACL, Thing.JsonFields.POLICY_ID,
+                    Thing.JsonFields.DEFINITION, Thing.JsonFields.ATTRIBUTES, Thing.JsonFields.FEATURES);
+
+    private static final Map<JsonKey, JsonFieldDefinition<?>> FEATURE_FIELD_DEFINITIONS =
+            fieldDefinitionsByKey(Feature.JsonFields.DEFINITION, Feature.JsonFields.PROPERTIES);
+
+    /**
+     * Definition of the field of a Feature within the Features, with which Features write themselves.
+     */
+    private static final JsonFieldDefinition<JsonObject> FEATURE_DEFINITION =
+            JsonFactory.newJsonObjectFieldDefinition("feature", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final JsonObject jsonObject;
+    @Nullable private final ThingId thingId;
+    @Nullable private final PolicyId policyId;
+    @Nullable private final ThingRevision revision;
+    @Nullable private final Instant modified;
+    @Nullable private final ThingLifecycle lifecycle;
+    @Nullable private volatile Thing materializedThing;
+
+    private JsonObjectBackedThing(final JsonObject jsonObject) {
+        this.jsonObject = jsonObject;
+        thingId = jsonObject.getValue(Thing.JsonFields.ID).map(ThingId::of).orElse(null);
+        policyId = jsonObject.getValue(Thing.JsonFields.POLICY_ID).map(PolicyId::of).orElse(null);
+        revision = jsonObject.getValue(Thing.JsonFields.REVISION)
+                .map(ThingsModelFactory::newThingRevision)
+                .orElse(null);
+        modified = jsonObject.getValue(Thing.JsonFields.MODIFIED)
+                .map(ImmutableThingFromCopyBuilder::tryToParseModified)
+                .orElse(null);
+        lifecycle = jsonObject.getValue(Thing.JsonFields.LIFECYCLE).flatMap(ThingLifecycle::forName).orElse(null);
+        validateStructure(jsonObject);
+        materializedThing = null;
+    }
+
+    /**
+     * Validates the remaining fields of the Thing JSON object like {@link ImmutableThingFromCopyBuilder#of(JsonObject)}
+     * does, without building Attributes and Features.
+     */
+    private static void validateStructure(final JsonObject jsonObject) {
+        jsonObject.getValue(Thing.JsonFields.ACL).ifPresent(ThingsModelFactory::newAcl);
+        jsonObject.getValue(Thing.JsonFields.ATTRIBUTES);
+        jsonObject.getValue(Thing.JsonFields.DEFINITION)
+                .filter(definition -> !definition.isNull())
+                .ifPresent(definition -> ThingsModelFactory.newDefinition(definition.asString()));
+        jsonObject.getValue(Thing.JsonFields.FEATURES)
+                .filter(features -> !features.isNull())
+                .ifPresent(JsonObjectBackedThing::validateFeatures);
+    }
+
+    private static void validateFeatures(final JsonObject featuresJsonObject) {
+        for (final JsonField featureField : featuresJsonObject) {
+            if (featureField.getKey().equals(JsonSchemaVersion.getJsonKey())) {
+                continue;
+            }
+            final JsonValue featureValue = featureField.getValue();
+            if (!featureValue.isObject()) {
+                final String msgPattern = "The Feature value is not an object for Feature with ID ''{0}'': {1}";
+                throw new DittoJsonException(new JsonParseException(
+                        MessageFormat.format(msgPattern, featureField.getKey(), featureValue)));
+            }
+            if (!featureValue.isNull()) {
+                final JsonObject featureJsonObject = featureValue.asObject();
+                featureJsonObject.getValue(Feature.JsonFields.DEFINITION)
+                        .ifPresent(ThingsModelFactory::newFeatureDefinition);
+                featureJsonObject.getValue(Feature.JsonFields.PROPERTIES);
+            }
+        }
+    }
+
+    /**
+     * Returns a new Thing which is backed by the given JSON object.
+     *
+     * @param jsonObject the JSON object representation of a Thing.
+     * @return the Thing.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws JsonParseException if a field of {@code jsonObject} has an unexpected type or format.
+     * @throws DittoJsonException if a Feature of {@code jsonObject} is not a JSON object.
+     * @throws ThingIdInvalidException if the Thing ID of {@code jsonObject} is invalid.
+     * @throws org.eclipse.ditto.model.policies.PolicyIdInvalidException if the Policy ID of {@code jsonObject} is
+     * invalid.
+     */
+    public static JsonObjectBackedThing of(final JsonObject jsonObject) {
+        return new JsonObjectBackedThing(checkNotNull(jsonObject, "JSON object"));
+    }
+
+    /**
+     * Indicates whether all parts of this Thing were already parsed.
+     *
+     * @return {@code true} if this Thing was materialized, {@code false} else.
+     */
+    boolean isMaterialized() {
+        return null != materializedThing;
+    }
+
+    /**
+     * Returns the Thing which is parsed from the backing JSON object. Concurrent callers may parse the JSON object
+     * more than once; they obtain equal Things.
+     *
+     * @return the parsed Thing.
+     */
+    Thing materialize() {
+        Thing result = materializedThing;
+        if (null == result) {
+            result = ImmutableThingFromCopyBuilder.of(jsonObject).build();
+            materializedThing = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<ThingId> getEntityId() {
+        return Optional.ofNullable(thingId);
+    }
+
+    @Override
+    public Optional<String> getNamespace() {
+        return getEntityId().map(ThingId::getNamespace);
+    }
+
+    @Override
+    public Optional<PolicyId> getPolicyEntityId() {
+        return Optional.ofNullable(policyId);
+    }
+
+    @Override
+    public JsonSchemaVersion getImplementedSchemaVersion() {
+        return (jsonObject.contains(Thing.JsonFields.ACL.getPointer()) && null == policyId)
+                ? JsonSchemaVersion.V_1 : JsonSchemaVersion.LATEST;
+    }
+
+    @Override
+    public Optional<ThingRevision> getRevision() {
+        return Optional.ofNullable(revision);
+    }
+
+    @Override
+    public Optional<Instant> getModified() {
+        return Optional.ofNullable(modified);
+    }
+
+    @Override
+    public boolean isDeleted() {
+        return ThingLifecycle.DELETED.equals(lifecycle);
+    }
+
+    @Override
+    public Optional<ThingLifecycle> getLifecycle() {
+        return Optional.ofNullable(lifecycle);
+    }
+
+    @Override
+    public Optional<ThingDefinition> getDefinition() {
+        return materialize().getDefinition();
+    }
+
+    @Override
+    public Optional<Attributes> getAttributes() {
+        return materialize().getAttributes();
+    }
+
+    @Override
+    public Optional<Features> getFeatures() {
+        return materialize().getFeatures();
+    }
+
+    @Override
+    public Optional<AccessControlList> getAccessControlList() {
+        return materialize().getAccessControlList();
+    }
+
+    @Override
+    public Thing setAttributes(@Nullable final Attributes attributes) {
+        return materialize().setAttributes(attributes);
+    }
+
+    @Override
+    public Thing removeAttributes() {
+        return materialize().removeAttributes();
+    }
+
+    @Override
+    public Thing setAttribute(final JsonPointer attributePath, final JsonValue attributeValue) {
+        return materialize().setAttribute(attributePath, attributeValue);
+    }
+
+    @Override
+    public Thing removeAttribute(final JsonPointer attributePath) {
+        return materialize().removeAttribute(attributePath);
+    }
+
+    @Override
+    public Thing setDefinition(@Nullable final CharSequence definitionIdentifier) {
+        return materialize().setDefinition(definitionIdentifier);
+    }
+
+    @Override
+    public Thing removeDefinition() {
+        return materialize().removeDefinition();
+    }
+
+    @Override
+    public Thing setFeatures(@Nullable final Features features) {
+        return materialize().setFeatures(features);
+    }
+
+    @Override
+    public Thing removeFeatures() {
+        return materialize().removeFeatures();
+    }
+
+    @Override
+    public Thing setFeature(final Feature feature) {
+        return materialize().setFeature(feature);
+    }
+
+    @Override
+    public Thing removeFeature(final String featureId) {
+        return materialize().removeFeature(featureId);
+    }
+
+    @Override
+    public Thing setFeatureDefinition(final String featureId, final FeatureDefinition definition) {
+        return materialize().setFeatureDefinition(featureId, definition);
+    }
+
+    @Override
+    public Thing removeFeatureDefinition(final String featureId) {
+        return materialize().removeFeatureDefinition(featureId);
+    }
+
+    @Override
+    public Thing setFeatureProperties(final String featureId, final FeatureProperties properties) {
+        return materialize().setFeatureProperties(featureId, properties);
+    }
+
+    @Override
+    public Thing removeFeatureProperties(final String featureId) {
+        return materialize().removeFeatureProperties(featureId);
+    }
+
+    @Override
+    public Thing setFeatureProperty(final String featureId, final JsonPointer propertyPath,
+            final JsonValue propertyValue) {
+
+        return materialize().setFeatureProperty(featureId, propertyPath, propertyValue);
+    }
+
+    @Override
+    public Thing removeFeatureProperty(final String featureId, final JsonPointer propertyPath) {
+        return materialize().removeFeatureProperty(featureId, propertyPath);
+    }
+
+    @Override
+    public Thing setAccessControlList(final AccessControlList accessControlList) {
+        return materialize().setAccessControlList(accessControlList);
+    }
+
+    @Override
+    public Thing setAclEntry(final AclEntry aclEntry) {
+        return materialize().setAclEntry(aclEntry);
+    }
+
+    @Override
+    public Thing removeAllPermissionsOf(final AuthorizationSubject authorizationSubject) {
+        return materialize().removeAllPermissionsOf(authorizationSubject);
+    }
+
+    @Override
+    public Thing setPolicyId(@Nullable final PolicyId policyId) {
+        return materialize().setPolicyId(policyId);
+    }
+
+    @Override
+    public Thing setLifecycle(final ThingLifecycle newLifecycle) {
+        return materialize().setLifecycle(newLifecycle);
+    }
+
+    @Override
+    public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
+        if (!isMaterialized()) {
+            final JsonObject result = tryToReturnBackingJsonObject(schemaVersion, thePredicate);
+            if (null != result) {
+                return result;
+            }
+        }
+        return materialize().toJson(schemaVersion, thePredicate);
+    }
+
+    /**
+     * Returns the backing JSON object without the fields which are not selected by the given schema version and
+     * predicate. This is only possible if the materialized Thing would write the value of each selected field
+     * unchanged and would not add any field; Attributes and Feature properties are then passed on without being parsed.
+     *
+     * @return the JSON representation or {@code null} if it cannot be determined without materializing this Thing.
+     */
+    @Nullable
+    private JsonObject tryToReturnBackingJsonObject(final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        if (isMissingButSelected(Thing.JsonFields.SCHEMA_VERSION, JsonValue.of(schemaVersion.toInt()), predicate)) {
+            return null;
+        }
+        if (null != thingId &&
+                isMissingButSelected(Thing.JsonFields.NAMESPACE, JsonValue.of(thingId.getNamespace()), predicate)) {
+            return null;
+        }
+        if (JsonSchemaVersion.V_1.equals(schemaVersion) &&
+                isMissingButSelected(Thing.JsonFields.ACL, JsonObject.empty(), predicate)) {
+            return null;
+        }
+        JsonObject result = jsonObject;
+        for (final JsonField field : jsonObject) {
+            final JsonFieldDefinition<?> definition = THING_FIELD_DEFINITIONS.get(field.getKey());
+            if (null == definition) {
+                return null;
+            }
+            if (!predicate.test(JsonField.newInstance(field.getKey(), field.getValue(), definition))) {
+                result = result.remove(field.getKey());
+            } else if (!isWrittenUnchanged(definition, field.getValue(), schemaVersion, thePredicate)) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    private boolean isMissingButSelected(final JsonFieldDefinition<?> definition, final JsonValue value,
+            final Predicate<JsonField> predicate) {
+
+        return !jsonObject.contains(definition.getPointer()) &&
+                predicate.test(JsonField.newInstance(definition.getPointer().getRoot().orElseThrow(
+                        IllegalStateException::new), value, definition));
+    }
+
+    private boolean isWrittenUnchanged(final JsonFieldDefinition<?> definition, final JsonValue value,
+            final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
+
+        if (Thing.JsonFields.SCHEMA_VERSION.equals(definition)) {
+            return value.isNumber() && value.asInt() == schemaVersion.toInt();
+        } else if (Thing.JsonFields.NAMESPACE.equals(definition)) {
+            return null != thingId && value.isString() && value.asString().equals(thingId.getNamespace());
+        } else if (Thing.JsonFields.LIFECYCLE.equals(definition)) {
+            return null != lifecycle;
+        } else if (Thing.JsonFields.REVISION.equals(definition)) {
+            return value.isNumber();
+        } else if (Thing.JsonFields.MODIFIED.equals(definition)) {
+            return null != modified && modified.toString().equals(value.asString());
+        } else if (Thing.JsonFields.DEFINITION.equals(definition)) {
+            return value.isNull() || value.isString();
+        } else if (Thing.JsonFields.ACL.equals(definition)) {
+            // the ACL is written with all permissions of each subject
+            return false;
+        } else if (Thing.JsonFields.ATTRIBUTES.equals(definition)) {
+            return value.isObject() && !value.isNull();
+        } else if (Thing.JsonFields.FEATURES.equals(definition)) {
+            return value.isObject() && !value.isNull() &&
+                    areFeaturesWrittenUnchanged(value.asObject(), schemaVersion, thePredicate);
+        }
+        return true;
+    }
+
+    private static boolean areFeaturesWrittenUnchanged(final JsonObject featuresJsonObject,
+            final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
+
+        // Features and their fields are written without hidden fields
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate.and(FieldType.notHidden()));
+        for (final JsonField featureField : featuresJsonObject) {
+            final JsonValue featureValue = featureField.getValue();
+            if (!featureValue.isObject() || featureValue.isNull() ||
+                    !predicate.test(JsonField.newInstance(featureField.getKey(), featureValue, FEATURE_DEFINITION))) {
+                return false;
+            }
+            for (final JsonField field : featureValue.asObject()) {
+                final JsonFieldDefinition<?> definition = FEATURE_FIELD_DEFINITIONS.get(field.getKey());
+                if (null == definition || !predicate.test(JsonField.newInstance(field.getKey(), field.getValue(),
+                        definition)) || !isFeatureValueWrittenUnchanged(definition, field.getValue())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFeatureValueWrittenUnchanged(final JsonFieldDefinition<?> definition,
+            final JsonValue value) {
+
+        if (value.isNull()) {
+            return false;
+        } else if (Feature.JsonFields.PROPERTIES.equals(definition)) {
+            return value.isObject();
+        }
+        // Feature definitions are small, parsing them normalizes their identifiers
+        return value.isArray() && ThingsModelFactory.newFeatureDefinition(value.asArray()).toJson().equals(value);
+    }
+
+    private static Map<JsonKey, JsonFieldDefinition<?>> fieldDefinitionsByKey(
+            final JsonFieldDefinition<?>... fieldDefinitions) {
+
+        final Map<JsonKey, JsonFieldDefinition<?>> result = new HashMap<>();
+        for (final JsonFieldDefinition<?> fieldDefinition : fieldDefinitions) {
+            fieldDefinition.getPointer().getRoot().ifPresent(key -> result.put(key, fieldDefinition));
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return materialize().hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return materialize().equals(((JsonObjectBackedThing) obj).materialize());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [jsonObject=" + jsonObject + "]";
+    }
+
+}
@@ -749,6 +749,25 @@ public final class ThingsModelFactory {
         return newThingBuilder(jsonObject).build();
     }
 
+    /**
+     * Returns a new immutable {@link Thing} which is backed by the given JSON object. The JSON object is validated
+     * eagerly, but Attributes and Features are only built on first access. As long as they are not accessed,
+     * {@link Thing#toJson(JsonSchemaVersion, java.util.function.Predicate)} returns the given JSON object if it equals
+     * the requested JSON representation of the Thing.
+     * <p>
+     * This is meant for JSON objects written by {@code toJson} of a Thing which are mostly passed on as they are,
+     * e. g. when deserializing responses.
+     * </p>
+     *
+     * @param jsonObject the JSON object representation of a Thing.
+     * @return the new Thing.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws DittoJsonException if {@code jsonObject} cannot be parsed to {@code Thing}.
+     */
+    public static Thing newThingBackedByJson(final JsonObject jsonObject) {
+        return JsonObjectBackedThing.of(jsonObject);
+    }
+
     /**
      * Returns a new immutable {@link Thing} based on the given JSON string.
      *
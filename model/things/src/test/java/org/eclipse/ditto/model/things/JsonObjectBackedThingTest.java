@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.things;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.model.things.TestConstants.Thing.THING_V2;
+import static org.eclipse.ditto.model.things.assertions.DittoThingsAssertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonObjectBackedThing}.
+ */
+public final class JsonObjectBackedThingTest {
+
+    private static final JsonObject THING_JSON =
+            JsonFactory.newObject(THING_V2.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()).toString());
+
+    @Test
+    public void toJsonWritesBackingJsonObjectWithoutMaterializing() {
+        final JsonObjectBackedThing underTest = JsonObjectBackedThing.of(THING_JSON);
+
+        final JsonObject actual = underTest.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+
+        assertThat(actual).isSameAs(THING_JSON);
+        assertThat(actual).isEqualToIgnoringFieldDefinitions(
+                THING_V2.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()));
+        assertThat(underTest.isMaterialized()).isFalse();
+    }
+
+    @Test
+    public void toJsonWithoutHiddenFieldsDoesNotMaterialize() {
+        final JsonObjectBackedThing underTest = JsonObjectBackedThing.of(THING_JSON);
+
+        final JsonObject actual = underTest.toJson(JsonSchemaVersion.V_2, FieldType.notHidden());
+
+        assertThat(actual).isEqualToIgnoringFieldDefinitions(THING_V2.toJson(JsonSchemaVersion.V_2,
+                FieldType.notHidden()));
+        assertThat(underTest.isMaterialized()).isFalse();
+    }
+
+    @Test
+    public void toJsonEqualsJsonOfParsedThing() {
+        final List<Predicate<JsonField>> predicates =
+                Arrays.asList(FieldType.regularOrSpecial(), FieldType.notHidden(), FieldType.REGULAR,
+                        FieldType.all(), jsonField -> !jsonField.getKey().toString().equals("features"));
+
+        for (final JsonSchemaVersion schemaVersion : JsonSchemaVersion.values()) {
+            for (final Predicate<JsonField> predicate : predicates) {
+                final Thing underTest = JsonObjectBackedThing.of(THING_JSON);
+
+                assertThat(underTest.toJson(schemaVersion, predicate))
+                        .isEqualToIgnoringFieldDefinitions(THING_V2.toJson(schemaVersion, predicate));
+            }
+        }
+    }
+
+    @Test
+    public void toJsonOfIncompleteJsonObjectEqualsJsonOfParsedThing() {
+        final JsonObject thingJson = THING_V2.toJson(JsonSchemaVersion.V_2, FieldType.REGULAR)
+                .setValue("unknown", JsonValue.of(true));
+        final JsonObjectBackedThing underTest = JsonObjectBackedThing.of(thingJson);
+
+        final JsonObject actual = underTest.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+
+        assertThat(actual).isEqualTo(ThingsModelFactory.newThing(thingJson)
+                .toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()));
+        assertThat(underTest.isMaterialized()).isTrue();
+    }
+
+    @Test
+    public void idsAreAvailableWithoutMaterializing() {
+        final JsonObjectBackedThing underTest = JsonObjectBackedThing.of(THING_JSON);
+
+        assertThat(underTest.getEntityId()).isEqualTo(THING_V2.getEntityId());
+        assertThat(underTest.getNamespace()).isEqualTo(THING_V2.getNamespace());
+        assertThat(underTest.getPolicyEntityId()).isEqualTo(THING_V2.getPolicyEntityId());
+        assertThat(underTest.getImplementedSchemaVersion().toInt())
+                .isEqualTo(THING_V2.getImplementedSchemaVersion().toInt());
+        assertThat(underTest.getRevision()).isEqualTo(THING_V2.getRevision());
+        assertThat(underTest.getModified()).isEqualTo(THING_V2.getModified());
+        assertThat(underTest.getLifecycle()).isEqualTo(THING_V2.getLifecycle());
+        assertThat(underTest.isDeleted()).isEqualTo(THING_V2.isDeleted());
+        assertThat(underTest.isMaterialized()).isFalse();
+    }
+
+    @Test
+    public void accessingFeaturesMaterializes() {
+        final JsonObjectBackedThing underTest = JsonObjectBackedThing.of(THING_JSON);
+
+        assertThat(underTest.getFeatures()).isEqualTo(THING_V2.getFeatures());
+        assertThat(underTest.getAttributes()).isEqualTo(THING_V2.getAttributes());
+        assertThat(underTest.isMaterialized()).isTrue();
+    }
+
+    @Test
+    public void equalsThingBackedByEqualJsonObject() {
+        final Thing underTest = JsonObjectBackedThing.of(THING_JSON);
+
+        assertThat(underTest).isEqualTo(JsonObjectBackedThing.of(THING_JSON));
+        assertThat(underTest.hashCode()).isEqualTo(JsonObjectBackedThing.of(THING_JSON).hashCode());
+        assertThat(underTest).isNotEqualTo(JsonObjectBackedThing.of(THING_JSON.remove("features")));
+        assertThat(underTest).isNotEqualTo(THING_V2);
+        assertThat(THING_V2).isNotEqualTo(underTest);
+    }
+
+    @Test
+    public void modifyingReturnsModifiedParsedThing() {
+        final Thing underTest = JsonObjectBackedThing.of(THING_JSON);
+
+        final Thing actual = underTest.setAttribute(JsonFactory.newPointer("foo/bar"), JsonValue.of(42));
+
+        assertThat(actual).isEqualTo(THING_V2.setAttribute(JsonFactory.newPointer("foo/bar"), JsonValue.of(42)));
+    }
+
+    @Test
+    public void invalidThingIdIsRejectedEagerly() {
+        final JsonObject thingJson = THING_JSON.setValue(Thing.JsonFields.ID.getPointer(), JsonValue.of("invalid"));
+
+        assertThatExceptionOfType(ThingIdInvalidException.class)
+                .isThrownBy(() -> JsonObjectBackedThing.of(thingJson));
+    }
+
+    @Test
+    public void nonObjectFeatureIsRejectedEagerly() {
+        final JsonObject thingJson =
+                THING_JSON.setValue(JsonFactory.newPointer("features/myFeature"), JsonValue.of("invalid"));
+
+        assertThatExceptionOfType(DittoJsonException.class)
+                .isThrownBy(() -> JsonObjectBackedThing.of(thingJson))
+                .withMessageContaining("myFeature");
+    }
+
+    @Test
+    public void nonObjectAttributesAreRejectedEagerly() {
+        final JsonObject thingJson =
+                THING_JSON.setValue(Thing.JsonFields.ATTRIBUTES.getPointer(), JsonValue.of("invalid"));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonObjectBackedThing.of(thingJson));
+    }
+
+    @Test
+    public void nonArrayFeatureDefinitionIsRejectedEagerly() {
+        final String featureId = THING_V2.getFeatures().flatMap(features -> features.stream().findFirst())
+                .map(Feature::getId)
+                .orElseThrow(IllegalStateException::new);
+        final JsonObject thingJson = THING_JSON.setValue(JsonFactory.newPointer("features/" + featureId +
+                "/definition"), JsonValue.of(42));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonObjectBackedThing.of(thingJson));
+    }
+
+    @Test
+    public void invalidModifiedIsRejectedEagerly() {
+        final JsonObject thingJson =
+                THING_JSON.setValue(Thing.JsonFields.MODIFIED.getPointer(), JsonValue.of("yesterday"));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonObjectBackedThing.of(thingJson))
+                .withMessageContaining(Thing.JsonFields.MODIFIED.getPointer().toString());
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.things.benchmark;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for deserializing a Thing from JSON and serializing it again, which is what happens to Things in
+ * events and responses passed on by a service without looking at their Attributes or Features.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThingJsonRoundTripBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int FEATURE_COUNT = 20;
+    private static final int PROPERTY_COUNT = 10;
+
+    private JsonObject thingJson;
+
+    @Setup
+    public void setUp() {
+        final ThingBuilder.FromScratch thingBuilder = ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("org.eclipse.ditto:benchmark"))
+                .setPolicyId(PolicyId.of("org.eclipse.ditto:benchmark"))
+                .setAttribute(JsonFactory.newPointer("location/latitude"), JsonFactory.newValue(44.673856))
+                .setAttribute(JsonFactory.newPointer("location/longitude"), JsonFactory.newValue(8.261719))
+                .setRevision(42L)
+                .setModified(Instant.now());
+        for (int i = 0; i < FEATURE_COUNT; i++) {
+            final Feature feature = ThingsModelFactory.newFeatureBuilder()
+                    .properties(createProperties(i))
+                    .withId("sensor-" + i)
+                    .build();
+            thingBuilder.setFeature(feature);
+        }
+        thingJson = JsonFactory.readFrom(thingBuilder.build()
+                .toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial())
+                .toString())
+                .asObject();
+    }
+
+    private static JsonObject createProperties(final int featureIndex) {
+        final JsonObject status = JsonFactory.newObjectBuilder()
+                .set("active", true)
+                .set("unit", "celsius")
+                .build();
+        final JsonObjectBuilder propertiesBuilder = JsonFactory.newObjectBuilder()
+                .set("status", status);
+        for (int i = 0; i < PROPERTY_COUNT; i++) {
+            propertiesBuilder.set("value-" + i, featureIndex * 100.0 + i);
+        }
+        return propertiesBuilder.build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject parsedThingToJson() {
+        final Thing thing = ThingsModelFactory.newThing(thingJson);
+        return thing.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject jsonBackedThingToJson() {
+        final Thing thing = ThingsModelFactory.newThingBackedByJson(thingJson);
+        return thing.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject jsonBackedThingToNotHiddenJson() {
+        final Thing thing = ThingsModelFactory.newThingBackedByJson(thingJson);
+        return thing.toJson(JsonSchemaVersion.V_2, FieldType.notHidden());
+    }
+
+}
@@ -31,24 +31,29 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.actors.cleanup.credits.CreditDecisionSource;
 import org.eclipse.ditto.services.concierge.actors.cleanup.messages.CreditDecision;
 import org.eclipse.ditto.services.concierge.actors.cleanup.persistenceids.PersistenceIdSource;
 import org.eclipse.ditto.services.concierge.common.PersistenceCleanupConfig;
 import org.eclipse.ditto.services.models.connectivity.ConnectionTag;
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.actors.ModifyConfigBehavior;
 import org.eclipse.ditto.services.utils.akka.actors.RetrieveConfigBehavior;
 import org.eclipse.ditto.services.utils.akka.controlflow.Transistor;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.eclipse.ditto.services.utils.health.RetrieveHealth;
 import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
 import org.eclipse.ditto.services.utils.health.StatusDetailMessage;
 import org.eclipse.ditto.services.utils.health.StatusInfo;
+import org.eclipse.ditto.services.utils.persistence.mongo.PersistenceCleanupActor;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
@@ -355,10 +360,15 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
 
         final PartialFunction<EntityIdWithRevision, CompletionStage<CleanupPersistenceResponse>> askShardRegionForCleanupByTagType =
                 new PFBuilder<EntityIdWithRevision, CompletionStage<CleanupPersistenceResponse>>()
-                        .match(ThingTag.class, thingTag ->
-                                askShardRegionForCleanup(shardRegions.things(), ThingCommand.RESOURCE_TYPE, thingTag))
-                        .match(PolicyTag.class, policyTag ->
-                                askShardRegionForCleanup(shardRegions.policies(), PolicyCommand.RESOURCE_TYPE, policyTag))
+                        .match(ThingTag.class, thingTag -> config.isDatabaseCleanup()
+                                ? askDatabaseForCleanup(ThingsMessagingConstants.THINGS_PERSISTENCE_CLEANUP_ACTOR_PATH,
+                                ThingCommand.RESOURCE_TYPE, thingTag)
+                                : askShardRegionForCleanup(shardRegions.things(), ThingCommand.RESOURCE_TYPE, thingTag))
+                        .match(PolicyTag.class, policyTag -> config.isDatabaseCleanup()
+                                ? askDatabaseForCleanup(
+                                PoliciesMessagingConstants.POLICIES_PERSISTENCE_CLEANUP_ACTOR_PATH,
+                                PolicyCommand.RESOURCE_TYPE, policyTag)
+                                : askShardRegionForCleanup(shardRegions.policies(), PolicyCommand.RESOURCE_TYPE, policyTag))
                         .match(ConnectionTag.class, connTag ->
                                 askShardRegionForCleanup(shardRegions.connections(), ConnectivityCommand.RESOURCE_TYPE, connTag))
                         .matchAny(e -> {
@@ -380,9 +390,28 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
     private CompletionStage<CleanupPersistenceResponse> askShardRegionForCleanup(final ActorRef shardRegion,
             final String resourceType, final EntityIdWithRevision tag) {
 
-        final EntityId id = tag.getEntityId();
-        final CleanupPersistence cleanupPersistence = getCleanupCommand(id);
-        return Patterns.ask(shardRegion, cleanupPersistence, config.getCleanupTimeout())
+        final CleanupPersistence cleanupPersistence = getCleanupCommand(tag.getEntityId(), DittoHeaders.newBuilder());
+        return askForCleanup(shardRegion, cleanupPersistence, cleanupPersistence, resourceType);
+    }
+
+    /**
+     * Ask the cleanup actor of the service owning the entity to delete events and snapshots in the database, so that
+     * the persistence actor of the entity is not started. Entities with recently written events are skipped.
+     */
+    private CompletionStage<CleanupPersistenceResponse> askDatabaseForCleanup(final String cleanupActorPath,
+            final String resourceType, final EntityIdWithRevision tag) {
+
+        final Instant activeSince = Instant.now().minus(config.getActivePeriod());
+        final CleanupPersistence cleanupPersistence = getCleanupCommand(tag.getEntityId(), DittoHeaders.newBuilder()
+                .putHeader(PersistenceCleanupActor.ACTIVE_SINCE_HEADER, activeSince.toString()));
+        final Object message = DistPubSubAccess.send(cleanupActorPath, cleanupPersistence, false);
+        return askForCleanup(pubSubMediator, message, cleanupPersistence, resourceType);
+    }
+
+    private CompletionStage<CleanupPersistenceResponse> askForCleanup(final ActorRef recipient, final Object message,
+            final CleanupPersistence cleanupPersistence, final String resourceType) {
+
+        return Patterns.ask(recipient, message, config.getCleanupTimeout())
                 .handle((result, error) -> {
                     if (result instanceof CleanupPersistenceResponse) {
                         final CleanupPersistenceResponse response = ((CleanupPersistenceResponse) result);
@@ -445,8 +474,9 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
                 .build();
     }
 
-    private static CleanupPersistence getCleanupCommand(final EntityId id) {
-        final DittoHeaders headers = DittoHeaders.newBuilder()
+    private static CleanupPersistence getCleanupCommand(final EntityId id,
+            final DittoHeadersBuilder<?, ?> headersBuilder) {
+        final DittoHeaders headers = headersBuilder
                 .putHeader(START, Instant.now().toString())
                 .build();
         return CleanupPersistence.of(id, headers);
@@ -46,6 +46,28 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns how many cache entries may be loaded from the entity shard regions concurrently per cache. Further loads
+     * wait until a concurrent load completes.
+     *
+     * @return the maximum number of concurrent loads; zero disables the limit.
+     */
+    int getLoaderParallelism();
+
+    /**
+     * Returns how far into the past modified things are preloaded into the caches on startup.
+     *
+     * @return the warm-up period; zero disables the warm-up.
+     */
+    Duration getWarmUpPeriod();
+
+    /**
+     * Returns the maximum number of things to preload into the caches on startup.
+     *
+     * @return the maximum number of things.
+     */
+    int getWarmUpMaxThings();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +77,22 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * How many cache entries may be loaded concurrently per cache; 0 disables the limit.
+         */
+        LOADER_PARALLELISM("loader-parallelism", 0),
+
+        /**
+         * How far into the past modified things are preloaded on startup.
+         */
+        WARM_UP_PERIOD("warm-up-period", Duration.ZERO),
+
+        /**
+         * The maximum number of things to preload on startup.
+         */
+        WARM_UP_MAX_THINGS("warm-up-max-things", 10_000);
 
         private final String path;
         private final Object defaultValue;
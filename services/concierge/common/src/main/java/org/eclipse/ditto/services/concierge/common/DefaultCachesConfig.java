@@ -35,11 +35,17 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final int loaderParallelism;
+    private final Duration warmUpPeriod;
+    private final int warmUpMaxThings;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        loaderParallelism = config.getInt(CachesConfigValue.LOADER_PARALLELISM.getConfigPath());
+        warmUpPeriod = config.getDuration(CachesConfigValue.WARM_UP_PERIOD.getConfigPath());
+        warmUpMaxThings = config.getInt(CachesConfigValue.WARM_UP_MAX_THINGS.getConfigPath());
     }
 
     /**
@@ -68,6 +74,21 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public int getLoaderParallelism() {
+        return loaderParallelism;
+    }
+
+    @Override
+    public Duration getWarmUpPeriod() {
+        return warmUpPeriod;
+    }
+
+    @Override
+    public int getWarmUpMaxThings() {
+        return warmUpMaxThings;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -77,14 +98,18 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return askTimeout.equals(that.askTimeout) &&
+        return loaderParallelism == that.loaderParallelism &&
+                warmUpMaxThings == that.warmUpMaxThings &&
+                askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                warmUpPeriod.equals(that.warmUpPeriod);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, loaderParallelism, warmUpPeriod,
+                warmUpMaxThings);
     }
 
     @Override
@@ -93,6 +118,9 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", loaderParallelism=" + loaderParallelism +
+                ", warmUpPeriod=" + warmUpPeriod +
+                ", warmUpMaxThings=" + warmUpMaxThings +
                 "]";
     }
 
@@ -51,6 +51,22 @@ public interface PersistenceCleanupConfig {
      */
     int getParallelism();
 
+    /**
+     * Returns whether events and snapshots of things and policies are deleted directly in the database instead of by
+     * their persistence actors.
+     *
+     * @return true or false.
+     */
+    boolean isDatabaseCleanup();
+
+    /**
+     * Returns for how long entities with written events are considered active and skipped by the cleanup in the
+     * database.
+     *
+     * @return the active period.
+     */
+    Duration getActivePeriod();
+
     /**
      * Returns configuration settings for credit decision.
      *
@@ -128,6 +144,16 @@ public interface PersistenceCleanupConfig {
          */
         PARALLELISM("parallelism", 1),
 
+        /**
+         * Whether events and snapshots of things and policies are deleted directly in the database.
+         */
+        DATABASE_CLEANUP("database-cleanup", false),
+
+        /**
+         * For how long entities with written events are skipped by the cleanup in the database.
+         */
+        ACTIVE_PERIOD("active-period", Duration.ofHours(1L)),
+
         /**
          * How many credit decisions to keep in the actor state.
          */
@@ -62,6 +62,18 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+
+        softly.assertThat(underTest.getLoaderParallelism())
+                .as("getLoaderParallelism")
+                .isEqualTo(CachesConfig.CachesConfigValue.LOADER_PARALLELISM.getDefaultValue());
+
+        softly.assertThat(underTest.getWarmUpPeriod())
+                .as("getWarmUpPeriod")
+                .isEqualTo(CachesConfig.CachesConfigValue.WARM_UP_PERIOD.getDefaultValue());
+
+        softly.assertThat(underTest.getWarmUpMaxThings())
+                .as("getWarmUpMaxThings")
+                .isEqualTo(CachesConfig.CachesConfigValue.WARM_UP_MAX_THINGS.getDefaultValue());
     }
 
     @Test
@@ -72,6 +84,18 @@ public final class DefaultCachesConfigTest {
                 .as(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(30L));
 
+        softly.assertThat(underTest.getLoaderParallelism())
+                .as(CachesConfig.CachesConfigValue.LOADER_PARALLELISM.getConfigPath())
+                .isEqualTo(16);
+
+        softly.assertThat(underTest.getWarmUpPeriod())
+                .as(CachesConfig.CachesConfigValue.WARM_UP_PERIOD.getConfigPath())
+                .isEqualTo(Duration.ofHours(1L));
+
+        softly.assertThat(underTest.getWarmUpMaxThings())
+                .as(CachesConfig.CachesConfigValue.WARM_UP_MAX_THINGS.getConfigPath())
+                .isEqualTo(500);
+
         softly.assertThat(underTest.getEnforcerCacheConfig())
                 .as("enforcerCacheConfig")
                 .satisfies(enforcerCacheConfig -> {
@@ -79,6 +79,14 @@ public final class DefaultPersistenceCleanupConfigTest {
                 .as(PersistenceCleanupConfig.ConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(160L);
 
+        softly.assertThat(underTest.isDatabaseCleanup())
+                .as(PersistenceCleanupConfig.ConfigValue.DATABASE_CLEANUP.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getActivePeriod())
+                .as(PersistenceCleanupConfig.ConfigValue.ACTIVE_PERIOD.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(165L));
+
         softly.assertThat(underTest.getKeptCreditDecisions())
                 .as(PersistenceCleanupConfig.ConfigValue.KEEP_CREDIT_DECISIONS.getConfigPath())
                 .isEqualTo(170L);
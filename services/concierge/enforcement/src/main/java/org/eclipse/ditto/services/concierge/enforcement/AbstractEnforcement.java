@@ -29,7 +29,6 @@ import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.services.models.policies.Permission;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
-import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
@@ -76,9 +75,8 @@ public abstract class AbstractEnforcement<T extends Signal> {
 
     private BiFunction<Contextual<WithDittoHeaders>, Throwable, Contextual<WithDittoHeaders>> handleEnforcementCompletion() {
         return (result, throwable) -> {
-            context.getStartedTimer()
-                    .map(startedTimer -> startedTimer.tag("outcome", throwable != null ? "fail" : "success"))
-                    .ifPresent(StartedTimer::stop);
+            context.getTimer()
+                    .ifPresent(timer -> timer.recordSince(context.getTimerStartNanos(), throwable == null));
             if (throwable != null) {
                 final Throwable error = throwable instanceof CompletionException
                         ? throwable.getCause()
@@ -27,11 +27,8 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
-import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
-import org.eclipse.ditto.services.utils.metrics.instruments.timer.ExpiringTimerBuilder;
-import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
-import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.services.utils.config.TypedConfigCache;
+import org.eclipse.ditto.services.utils.metrics.heavyhitters.HeavyHitters;
 import org.eclipse.ditto.signals.commands.base.Command;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -47,14 +44,13 @@ import akka.stream.javadsl.Sink;
  */
 public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextual<WithDittoHeaders>> {
 
-    private static final String TIMER_NAME = "concierge_enforcements";
-
     /**
      * Contextual information about this actor.
      */
     protected final Contextual<WithDittoHeaders> contextual;
 
     private final EnforcementConfig enforcementConfig;
+    private final HeavyHitters heavyHitters;
 
     @Nullable
     private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
@@ -81,16 +77,17 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
         super();
 
-        enforcementConfig = DittoConciergeConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getEnforcementConfig();
+        enforcementConfig = TypedConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoConciergeConfig.class, DittoConciergeConfig::of)
+                .getEnforcementConfig();
+        heavyHitters = HeavyHitters.get(getContext().getSystem());
 
         this.thingIdCache = thingIdCache;
         this.aclEnforcerCache = aclEnforcerCache;
         this.policyEnforcerCache = policyEnforcerCache;
 
         contextual = new Contextual<>(null, getSelf(), getContext().getSystem().deadLetters(),
-                pubSubMediator, conciergeForwarder, enforcementConfig.getAskTimeout(), log, null, null,
+                pubSubMediator, conciergeForwarder, enforcementConfig.getAskTimeout(), log, null, null, 0L,
                 null, null, createResponseReceiversCache());
 
         // register for sending messages via pub/sub to this enforcer
@@ -124,22 +121,18 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
     @Override
     protected Contextual<WithDittoHeaders> beforeProcessMessage(final Contextual<WithDittoHeaders> contextual) {
-        return contextual.withTimer(createTimer(contextual.getMessage()));
+        recordHeavyHitter(contextual.getMessage());
+        return contextual.withTimer(EnforcementTimer.forMessage(contextual.getMessage()));
     }
 
-    private StartedTimer createTimer(final WithDittoHeaders withDittoHeaders) {
-        final ExpiringTimerBuilder timerBuilder = DittoMetrics.expiringTimer(TIMER_NAME);
-
-        withDittoHeaders.getDittoHeaders().getChannel().ifPresent(channel ->
-                timerBuilder.tag("channel", channel)
-        );
-        if (withDittoHeaders instanceof Signal) {
-            timerBuilder.tag("resource", ((Signal) withDittoHeaders).getResourceType());
-        }
+    private void recordHeavyHitter(final WithDittoHeaders withDittoHeaders) {
         if (withDittoHeaders instanceof Command) {
-            timerBuilder.tag("category", ((Command) withDittoHeaders).getCategory().name().toLowerCase());
+            final Command<?> command = (Command<?>) withDittoHeaders;
+            if (!command.getEntityId().isDummy()) {
+                heavyHitters.record(HeavyHitters.Dimension.COMMANDS, command.getResourceType(),
+                        command.getEntityId(), 1L);
+            }
         }
-        return timerBuilder.build();
     }
 
     @Override
@@ -26,7 +26,6 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
-import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.base.WithResource;
 import org.eclipse.ditto.signals.commands.messages.MessageCommand;
@@ -59,7 +58,9 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
     private final EntityIdWithResourceType entityId;
 
     @Nullable
-    private final StartedTimer startedTimer;
+    private final EnforcementTimer timer;
+
+    private final long timerStartNanos;
 
     @Nullable
     private final ActorRef receiver;
@@ -74,7 +75,8 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
             final ActorRef pubSubMediator, final ActorRef conciergeForwarder,
             final Duration askTimeout, final DiagnosticLoggingAdapter log,
             @Nullable final EntityIdWithResourceType entityId,
-            @Nullable final StartedTimer startedTimer,
+            @Nullable final EnforcementTimer timer,
+            final long timerStartNanos,
             @Nullable final ActorRef receiver,
             @Nullable final Function<Object, Object> receiverWrapperFunction,
             final Cache<String, ResponseReceiver> responseReceivers) {
@@ -86,7 +88,8 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
         this.askTimeout = askTimeout;
         this.log = log;
         this.entityId = entityId;
-        this.startedTimer = startedTimer;
+        this.timer = timer;
+        this.timerStartNanos = timerStartNanos;
         this.receiver = receiver;
         this.receiverWrapperFunction = receiverWrapperFunction;
         this.responseReceivers = responseReceivers;
@@ -166,8 +169,12 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
         return entityId;
     }
 
-    Optional<StartedTimer> getStartedTimer() {
-        return Optional.ofNullable(startedTimer);
+    Optional<EnforcementTimer> getTimer() {
+        return Optional.ofNullable(timer);
+    }
+
+    long getTimerStartNanos() {
+        return timerStartNanos;
     }
 
     Optional<ActorRef> getReceiver() {
@@ -188,22 +195,22 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
 
     <S extends WithDittoHeaders> Contextual<S> withReceivedMessage(@Nullable final S message,final ActorRef sender) {
         return new Contextual<>(message, self, sender, pubSubMediator, conciergeForwarder, askTimeout,
-                log, entityIdFor(message), startedTimer, receiver, receiverWrapperFunction, responseReceivers);
+                log, entityIdFor(message), timer, timerStartNanos, receiver, receiverWrapperFunction, responseReceivers);
     }
 
-    Contextual<T> withTimer(final StartedTimer startedTimer) {
+    Contextual<T> withTimer(final EnforcementTimer timer) {
         return new Contextual<>(message, self, sender, pubSubMediator, conciergeForwarder, askTimeout,
-                log, entityId, startedTimer, receiver, receiverWrapperFunction, responseReceivers);
+                log, entityId, timer, System.nanoTime(), receiver, receiverWrapperFunction, responseReceivers);
     }
 
     Contextual<T> withReceiver(@Nullable final ActorRef receiver) {
         return new Contextual<>(message, self, sender, pubSubMediator, conciergeForwarder, askTimeout,
-                log, entityId, startedTimer, receiver, receiverWrapperFunction, responseReceivers);
+                log, entityId, timer, timerStartNanos, receiver, receiverWrapperFunction, responseReceivers);
     }
 
     Contextual<T> withReceiverWrapperFunction(final Function<Object, Object> receiverWrapperFunction) {
         return new Contextual<>(message, self, sender, pubSubMediator, conciergeForwarder, askTimeout,
-                log, entityId, startedTimer, receiver, receiverWrapperFunction, responseReceivers);
+                log, entityId, timer, timerStartNanos, receiver, receiverWrapperFunction, responseReceivers);
     }
 
     @Nullable
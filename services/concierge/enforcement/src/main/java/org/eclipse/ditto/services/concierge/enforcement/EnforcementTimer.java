@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.BoundTimer;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.Command;
+
+/**
+ * Pre-bound timers measuring the duration of enforcements. There is one instance per combination of channel,
+ * resource type and command category; it is shared by all enforcer actors, so that measuring an enforcement
+ * neither builds tag maps nor schedules the expiration of a timer. Looking up the timer of a message allocates
+ * nothing once the timers of its channel and resource type exist.
+ */
+@Immutable
+final class EnforcementTimer {
+
+    private static final String TIMER_NAME = "concierge_enforcements";
+    private static final String NO_TAG = "";
+    private static final String[] CATEGORY_NAMES = Arrays.stream(Command.Category.values())
+            .map(category -> category.name().toLowerCase())
+            .toArray(String[]::new);
+    private static final int NO_CATEGORY = CATEGORY_NAMES.length;
+
+    /**
+     * Timers by channel and resource type, indexed by the ordinal of the command category; the last timer is for
+     * messages which are no commands.
+     */
+    private static final Map<String, Map<String, EnforcementTimer[]>> TIMERS = new ConcurrentHashMap<>();
+
+    private final BoundTimer success;
+    private final BoundTimer fail;
+
+    private EnforcementTimer(final BoundTimer timer) {
+        success = timer.tag("outcome", "success");
+        fail = timer.tag("outcome", "fail");
+    }
+
+    /**
+     * Returns the timer for the tags of the given message.
+     *
+     * @param withDittoHeaders the message to enforce.
+     * @return the timer.
+     */
+    static EnforcementTimer forMessage(final WithDittoHeaders withDittoHeaders) {
+        final String channel = withDittoHeaders.getDittoHeaders().getChannel().orElse(NO_TAG);
+        final String resource =
+                withDittoHeaders instanceof Signal ? ((Signal) withDittoHeaders).getResourceType() : NO_TAG;
+        final int category = withDittoHeaders instanceof Command
+                ? ((Command) withDittoHeaders).getCategory().ordinal()
+                : NO_CATEGORY;
+        return getTimers(channel, resource)[category];
+    }
+
+    /**
+     * Records the duration of an enforcement.
+     *
+     * @param startNanos start of the enforcement as returned by {@link System#nanoTime()}.
+     * @param successful whether the enforcement completed without error.
+     */
+    void recordSince(final long startNanos, final boolean successful) {
+        (successful ? success : fail).recordSince(startNanos);
+    }
+
+    private static EnforcementTimer[] getTimers(final String channel, final String resource) {
+        // look up before computing because computeIfAbsent locks even if the key is present
+        Map<String, EnforcementTimer[]> timersOfChannel = TIMERS.get(channel);
+        if (timersOfChannel == null) {
+            timersOfChannel = TIMERS.computeIfAbsent(channel, c -> new ConcurrentHashMap<>());
+        }
+        final EnforcementTimer[] timers = timersOfChannel.get(resource);
+        if (timers != null) {
+            return timers;
+        }
+        return timersOfChannel.computeIfAbsent(resource, r -> create(channel, r));
+    }
+
+    private static EnforcementTimer[] create(final String channel, final String resource) {
+        BoundTimer timer = DittoMetrics.boundTimer(TIMER_NAME);
+        if (!NO_TAG.equals(channel)) {
+            timer = timer.tag("channel", channel);
+        }
+        if (!NO_TAG.equals(resource)) {
+            timer = timer.tag("resource", resource);
+        }
+        final EnforcementTimer[] timers = new EnforcementTimer[NO_CATEGORY + 1];
+        for (int i = 0; i < NO_CATEGORY; i++) {
+            timers[i] = new EnforcementTimer(timer.tag("category", CATEGORY_NAMES[i]));
+        }
+        timers[NO_CATEGORY] = new EnforcementTimer(timer);
+        return timers;
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.concierge.common.CachesConfig;
+import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
+import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
+import org.eclipse.ditto.services.models.streaming.SudoStreamModifiedEntities;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+
+import akka.NotUsed;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Actor that preloads the thing ID cache and the enforcer caches with the things modified recently, so that the first
+ * requests after a restart do not all miss the caches at once. It stops itself after one pass.
+ */
+public final class CacheWarmUpActor extends AbstractActor {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "cacheWarmUp";
+
+    private static final int BURST = 100;
+
+    /**
+     * How many things are loaded concurrently if the concurrent loads of the caches are not limited.
+     */
+    private static final int DEFAULT_PARALLELISM = 16;
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ActorRef pubSubMediator;
+    private final CachesConfig cachesConfig;
+    private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
+
+    @SuppressWarnings("unused")
+    private CacheWarmUpActor(final ActorRef pubSubMediator,
+            final CachesConfig cachesConfig,
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache) {
+
+        this.pubSubMediator = pubSubMediator;
+        this.cachesConfig = cachesConfig;
+        this.thingIdCache = thingIdCache;
+        this.policyEnforcerCache = policyEnforcerCache;
+        this.aclEnforcerCache = aclEnforcerCache;
+    }
+
+    /**
+     * Create Props of an actor to preload the caches with recently modified things.
+     *
+     * @param pubSubMediator the pub-sub mediator to request the stream of recently modified things with.
+     * @param cachesConfig the config of the caches.
+     * @param thingIdCache the cache of thing IDs to enforcer IDs.
+     * @param policyEnforcerCache the cache of policy enforcers.
+     * @param aclEnforcerCache the cache of ACL enforcers.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final CachesConfig cachesConfig,
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache) {
+
+        return Props.create(CacheWarmUpActor.class, pubSubMediator, cachesConfig, thingIdCache, policyEnforcerCache,
+                aclEnforcerCache);
+    }
+
+    @Override
+    public void preStart() {
+        final Instant end = Instant.now();
+        final Instant start = end.minus(cachesConfig.getWarmUpPeriod());
+        log.info("Preloading caches with things modified since <{}>.", start);
+        final int parallelism = cachesConfig.getLoaderParallelism() > 0
+                ? cachesConfig.getLoaderParallelism()
+                : DEFAULT_PARALLELISM;
+        final CompletionStage<Integer> loadedThings = requestModifiedThings(start, end)
+                .take(cachesConfig.getWarmUpMaxThings())
+                .mapAsyncUnordered(parallelism, this::load)
+                .runWith(Sink.fold(0, (count, loaded) -> loaded ? count + 1 : count),
+                        ActorMaterializer.create(getContext()));
+        Patterns.pipe(loadedThings, getContext().dispatcher()).to(getSelf());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(Integer.class, this::warmUpCompleted)
+                .match(Status.Failure.class, this::warmUpFailed)
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private void warmUpCompleted(final Integer loadedThings) {
+        log.info("Preloaded caches with <{}> recently modified things.", loadedThings);
+        getContext().stop(getSelf());
+    }
+
+    private void warmUpFailed(final Status.Failure failure) {
+        log.warning("Preloading caches failed: <{}>", failure.cause());
+        getContext().stop(getSelf());
+    }
+
+    private Source<EntityId, NotUsed> requestModifiedThings(final Instant start, final Instant end) {
+        final Duration timeout = cachesConfig.getAskTimeout();
+        final SudoStreamModifiedEntities command =
+                SudoStreamModifiedEntities.of(start, end, BURST, timeout.toMillis(), DittoHeaders.empty());
+        final Object message =
+                DistPubSubAccess.send(ThingsMessagingConstants.THINGS_STREAM_PROVIDER_ACTOR_PATH, command, false);
+
+        return Source.fromCompletionStage(Patterns.ask(pubSubMediator, message, timeout))
+                .flatMapConcat(CacheWarmUpActor::handleSourceRef);
+    }
+
+    private static Source<EntityId, NotUsed> handleSourceRef(final Object reply) {
+        if (reply instanceof SourceRef) {
+            return ((SourceRef<?>) reply).getSource()
+                    .mapConcat(element -> {
+                        if (element instanceof BatchedEntityIdWithRevisions) {
+                            return ((BatchedEntityIdWithRevisions<?>) element).getElements();
+                        } else {
+                            throw new IllegalStateException("Expect BatchedEntityIdWithRevisions, got: " + element);
+                        }
+                    })
+                    .map(EntityIdWithRevision::getEntityId)
+                    .mapMaterializedValue(whatever -> NotUsed.getInstance());
+        } else {
+            return Source.failed(new IllegalStateException("Expect SourceRef, got: " + reply));
+        }
+    }
+
+    private CompletionStage<Boolean> load(final EntityId thingId) {
+        final EntityIdWithResourceType thingKey = EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId);
+        return thingIdCache.get(thingKey)
+                .thenCompose(entry -> entry.filter(Entry::exists)
+                        .map(Entry::getValueOrThrow)
+                        .map(this::loadEnforcer)
+                        .orElseGet(() -> CompletableFuture.completedFuture(false)))
+                .exceptionally(error -> false);
+    }
+
+    private CompletionStage<Boolean> loadEnforcer(final EntityIdWithResourceType enforcerKey) {
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> enforcerCache =
+                PolicyCommand.RESOURCE_TYPE.equals(enforcerKey.getResourceType())
+                        ? policyEnforcerCache
+                        : aclEnforcerCache;
+        return enforcerCache.get(enforcerKey).thenApply(entry -> entry.filter(Entry::exists).isPresent());
+    }
+
+}
@@ -36,6 +36,7 @@ import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
 import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
+import org.eclipse.ditto.services.concierge.starter.actors.CacheWarmUpActor;
 import org.eclipse.ditto.services.concierge.starter.actors.CachedNamespaceInvalidator;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActor;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
@@ -47,6 +48,7 @@ import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.BoundedConcurrencyCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
@@ -90,26 +92,32 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         final ActorRef thingsShardRegionProxy = shardRegions.things();
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingEnforcerIdCacheLoader =
-                new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegionProxy);
+                limitConcurrentLoads(new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegionProxy),
+                        cachesConfig);
         final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
                 CacheFactory.createCache(thingEnforcerIdCacheLoader, cachesConfig.getIdCacheConfig(),
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
                         actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
+                limitConcurrentLoads(new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy), cachesConfig);
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
                         actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"));
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCacheLoader =
-                new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy);
+                limitConcurrentLoads(new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy), cachesConfig);
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache =
                 CacheFactory.createCache(aclEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
                         actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"));
 
+        if (!cachesConfig.getWarmUpPeriod().isZero()) {
+            context.actorOf(CacheWarmUpActor.props(pubSubMediator, cachesConfig, thingIdCache, policyEnforcerCache,
+                    aclEnforcerCache), CacheWarmUpActor.ACTOR_NAME);
+        }
+
         // pre-enforcer
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
         final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer =
@@ -155,6 +163,16 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         return context.actorOf(enforcerProps, EnforcerActor.ACTOR_NAME);
     }
 
+    private static <V> AsyncCacheLoader<EntityIdWithResourceType, V> limitConcurrentLoads(
+            final AsyncCacheLoader<EntityIdWithResourceType, V> cacheLoader, final CachesConfig cachesConfig) {
+
+        final int loaderParallelism = cachesConfig.getLoaderParallelism();
+        if (loaderParallelism > 0) {
+            return BoundedConcurrencyCacheLoader.of(cacheLoader, loaderParallelism);
+        }
+        return cacheLoader;
+    }
+
     private static Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> newPreEnforcer(
             final BlockedNamespaces blockedNamespaces, final PlaceholderSubstitution placeholderSubstitution) {
 
@@ -15,6 +15,9 @@ package org.eclipse.ditto.services.connectivity.messaging;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 
 import javax.annotation.Nullable;
 
@@ -24,6 +27,7 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
@@ -32,6 +36,8 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 
 import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
@@ -39,6 +45,13 @@ import akka.routing.ConsistentHashingRouter;
 
 /**
  * Base class for consumer actors that holds common fields and handles the address status.
+ * <p>
+ * Consumers with a maximum number of in-flight messages hand out one credit per message forwarded with
+ * {@link #forwardToMappingActor(ExternalMessage, String, Runnable)}. The credit is returned when the message mapping
+ * processor has mapped and dispatched the message and replied with a {@link Settlement}. The number of unsettled
+ * messages of each consumer is reported as the gauge {@code connectivity_outstanding_credit}, tagged with the
+ * connection ID, the source address and the consumer as {@code <source index>-<consumer index>}.
+ * </p>
  */
 public abstract class BaseConsumerActor extends AbstractActorWithTimers {
 
@@ -48,21 +61,51 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
     protected final ConnectionId connectionId;
 
     private final ActorRef messageMappingProcessor;
+    private final int maxInFlight;
+    private final Map<Long, Runnable> unsettledMessages;
+    private final Gauge outstandingCreditGauge;
 
     @Nullable private ResourceStatus resourceStatus;
+    private long nextDeliveryTag;
 
 
     protected BaseConsumerActor(final ConnectionId connectionId, final String sourceAddress,
             final ActorRef messageMappingProcessor, final Source source) {
+
+        this(connectionId, sourceAddress, 0, messageMappingProcessor, source, connectionConfig -> 0);
+    }
+
+    /**
+     * Constructor for consumers limited by credit.
+     *
+     * @param connectionId the connection ID.
+     * @param sourceAddress the source address.
+     * @param consumerIndex index of the consumer among the consumers of the source address.
+     * @param messageMappingProcessor the message mapping processor to forward messages to.
+     * @param source the source.
+     * @param maxInFlight extracts the maximum number of unsettled messages from the connection config; 0 if the
+     * consumer is not limited by credit.
+     */
+    protected BaseConsumerActor(final ConnectionId connectionId, final String sourceAddress, final int consumerIndex,
+            final ActorRef messageMappingProcessor, final Source source,
+            final ToIntFunction<ConnectionConfig> maxInFlight) {
         this.connectionId = checkNotNull(connectionId, "connectionId");
         this.sourceAddress = checkNotNull(sourceAddress, "sourceAddress");
         this.messageMappingProcessor = checkNotNull(messageMappingProcessor, "messageMappingProcessor");
         this.source = checkNotNull(source, "source");
+        unsettledMessages = new HashMap<>();
+        outstandingCreditGauge = DittoMetrics.gauge("connectivity_outstanding_credit")
+                .tag("id", connectionId.toString())
+                .tag("source", sourceAddress)
+                .tag("consumer", source.getIndex() + "-" + consumerIndex);
+        outstandingCreditGauge.set(0L);
+        nextDeliveryTag = 0L;
         resetResourceStatus();
 
-        final MonitoringConfig monitoringConfig = DittoConnectivityConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getMonitoringConfig();
+        final DittoConnectivityConfig connectivityConfig = DittoConnectivityConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()));
+        final MonitoringConfig monitoringConfig = connectivityConfig.getMonitoringConfig();
+        this.maxInFlight = maxInFlight.applyAsInt(connectivityConfig.getConnectionConfig());
 
         inboundMonitor = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig)
                 .forInboundConsumed(connectionId, sourceAddress);
@@ -76,6 +119,66 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         doForwardToMappingActor(message, hashKey);
     }
 
+    /**
+     * Forward a message to the message mapping processor and take one credit until the message is settled.
+     * Subclasses have to pass {@link Settlement}s to {@link #handleSettlement(Settlement)}.
+     *
+     * @param message the message.
+     * @param hashKey the key to select the message mapping processor with.
+     * @param settle what to do after the message was mapped and dispatched, e.g. acknowledge it.
+     */
+    protected void forwardToMappingActor(final ExternalMessage message, final String hashKey,
+            final Runnable settle) {
+
+        final long deliveryTag = nextDeliveryTag++;
+        unsettledMessages.put(deliveryTag, settle);
+        outstandingCreditGauge.set((long) unsettledMessages.size());
+        final Object envelope = new ConsistentHashingRouter.ConsistentHashableEnvelope(
+                new UnsettledMessage(deliveryTag, addReplyTarget(message)), hashKey);
+        messageMappingProcessor.tell(envelope, getSelf());
+    }
+
+    /**
+     * Settle a message forwarded by {@link #forwardToMappingActor(ExternalMessage, String, Runnable)} and return its
+     * credit.
+     *
+     * @param settlement the settlement sent by the message mapping processor.
+     */
+    protected void handleSettlement(final Settlement settlement) {
+        final Runnable settle = unsettledMessages.remove(settlement.getDeliveryTag());
+        if (settle != null) {
+            final boolean hadCredit = hasCredit();
+            outstandingCreditGauge.set((long) unsettledMessages.size());
+            settle.run();
+            if (!hadCredit && hasCredit()) {
+                onCreditAvailable();
+            }
+        }
+    }
+
+    /**
+     * Check whether the consumer may receive further messages.
+     *
+     * @return whether the number of unsettled messages is below the maximum.
+     */
+    protected boolean hasCredit() {
+        return maxInFlight <= 0 || unsettledMessages.size() < maxInFlight;
+    }
+
+    /**
+     * Called when a settlement returns the first credit after all credit was used up.
+     */
+    protected void onCreditAvailable() {
+        // do nothing by default
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        // each consumer has its own gauge, remove it instead of reporting it forever
+        outstandingCreditGauge.remove();
+        super.postStop();
+    }
+
     private void doForwardToMappingActor(final Object message, final String hashKey) {
         final Object envelope = new ConsistentHashingRouter.ConsistentHashableEnvelope(message, hashKey);
         messageMappingProcessor.forward(envelope, getContext());
@@ -120,4 +223,59 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         return InstanceIdentifierSupplier.getInstance().get();
     }
 
+    /**
+     * An external message whose consumer waits for its settlement.
+     */
+    static final class UnsettledMessage {
+
+        private final long deliveryTag;
+        private final ExternalMessage message;
+
+        private UnsettledMessage(final long deliveryTag, final ExternalMessage message) {
+            this.deliveryTag = deliveryTag;
+            this.message = message;
+        }
+
+        ExternalMessage getMessage() {
+            return message;
+        }
+
+        Settlement toSettlement() {
+            return new Settlement(deliveryTag);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "deliveryTag=" + deliveryTag +
+                    ", message=" + message +
+                    "]";
+        }
+
+    }
+
+    /**
+     * Reply of the message mapping processor after it mapped and dispatched an {@link UnsettledMessage}.
+     */
+    protected static final class Settlement {
+
+        private final long deliveryTag;
+
+        private Settlement(final long deliveryTag) {
+            this.deliveryTag = deliveryTag;
+        }
+
+        private long getDeliveryTag() {
+            return deliveryTag;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "deliveryTag=" + deliveryTag +
+                    "]";
+        }
+
+    }
+
 }
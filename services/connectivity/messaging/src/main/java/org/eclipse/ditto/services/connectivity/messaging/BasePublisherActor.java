@@ -76,6 +76,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     protected final ConnectionMonitor responsePublishedMonitor;
     protected final ConnectionMonitor responseDroppedMonitor;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final Map<String, ConnectionMonitor> publishedMonitors;
     private final List<Optional<ReplyTarget>> replyTargets;
 
     protected BasePublisherActor(final Connection connection) {
@@ -95,6 +96,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         connectionMonitorRegistry = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig);
         responseDroppedMonitor = connectionMonitorRegistry.forResponseDropped(this.connectionId);
         responsePublishedMonitor = connectionMonitorRegistry.forResponsePublished(this.connectionId);
+        publishedMonitors = new HashMap<>();
+        targets.forEach(target -> getPublishedMonitor(target.getOriginalAddress()));
         connectionLogger =
                 ConnectionLoggerRegistry.fromConfig(monitoringConfig.logger()).forConnection(this.connectionId);
         replyTargets = connection.getSources().stream().map(Source::getReplyTarget).collect(Collectors.toList());
@@ -159,9 +162,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                         log().debug("Publishing mapped message of type <{}> to target address <{}>",
                                 outboundSource.getType(), target.getAddress());
 
-                        final ConnectionMonitor publishedMonitor =
-                                connectionMonitorRegistry.forOutboundPublished(connectionId,
-                                        target.getOriginalAddress());
+                        final ConnectionMonitor publishedMonitor = getPublishedMonitor(target.getOriginalAddress());
                         final HeaderMapping headerMapping = target.getHeaderMapping().orElse(null);
                         catchHeaderMappingException(publishedMonitor, outboundSource, () ->
                                 resolveTargetAddress(resolver, target.getAddress())
@@ -184,6 +185,11 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return receiveBuilder.build();
     }
 
+    private ConnectionMonitor getPublishedMonitor(final String originalAddress) {
+        return publishedMonitors.computeIfAbsent(originalAddress,
+                address -> connectionMonitorRegistry.forOutboundPublished(connectionId, address));
+    }
+
     private void catchHeaderMappingException(final ConnectionMonitor publishedMonitor, final Signal<?> outboundSource,
             final Runnable doPublish) {
         try {
@@ -12,17 +12,23 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import javax.annotation.concurrent.ThreadSafe;
+
 import org.eclipse.ditto.model.connectivity.ConnectionId;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
-import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.BoundTimer;
 import org.eclipse.ditto.services.utils.tracing.TracingTags;
 
 /**
- * This class helps to create {@link DittoMetrics#expiringTimer}s measuring the different segments of a mapping
- * operation.
+ * This class helps to measure the different segments of mapping operations with {@link DittoMetrics#boundTimer}s.
+ * An instance is created once per connection and direction and reused for all messages, so that measuring a mapping
+ * does not allocate timers or tag maps. Measurements of the segments are sampled at the configured rate.
  */
+@ThreadSafe
 final class MappingTimer {
 
     private static final String TIMER_NAME = "connectivity_message_mapping";
@@ -33,26 +39,36 @@ final class MappingTimer {
     private static final String DIRECTION_TAG_NAME = "direction";
     private static final String MAPPER_TAG_NAME = "mapper";
 
-    private final StartedTimer timer;
+    private final Outcomes overall;
+    private final Outcomes protocol;
+    private final BoundTimer payload;
+    private final Map<String, Outcomes> payloadByMapper;
 
-    private MappingTimer(final StartedTimer timer) {
-        this.timer = timer;
+    private MappingTimer(final BoundTimer timer, final int segmentSampleRate) {
+        overall = new Outcomes(timer);
+        protocol = new Outcomes(timer.segment(PROTOCOL_SEGMENT_NAME).sampled(segmentSampleRate));
+        payload = timer.segment(PAYLOAD_SEGMENT_NAME).sampled(segmentSampleRate);
+        payloadByMapper = new ConcurrentHashMap<>();
     }
 
     /**
      * @param connectionId ID of the connection
+     * @param segmentSampleRate rate at which measurements of the payload and protocol segments are sampled.
      * @return a new {@link MappingTimer} instance ready to measure inbound mappings.
      */
-    static MappingTimer inbound(final ConnectionId connectionId) {
-        return new MappingTimer(startNewTimer(connectionId.toString()).tag(DIRECTION_TAG_NAME, INBOUND));
+    static MappingTimer inbound(final ConnectionId connectionId, final int segmentSampleRate) {
+        return new MappingTimer(bindTimer(connectionId.toString()).tag(DIRECTION_TAG_NAME, INBOUND),
+                segmentSampleRate);
     }
 
     /**
      * @param connectionId ID of the connection
+     * @param segmentSampleRate rate at which measurements of the payload and protocol segments are sampled.
      * @return a new {@link MappingTimer} instance ready to measure outbound mappings.
      */
-    static MappingTimer outbound(final ConnectionId connectionId) {
-        return new MappingTimer(startNewTimer(connectionId.toString()).tag(DIRECTION_TAG_NAME, OUTBOUND));
+    static MappingTimer outbound(final ConnectionId connectionId, final int segmentSampleRate) {
+        return new MappingTimer(bindTimer(connectionId.toString()).tag(DIRECTION_TAG_NAME, OUTBOUND),
+                segmentSampleRate);
     }
 
     /**
@@ -61,11 +77,14 @@ final class MappingTimer {
      * @param runnable the runnable whose execution time to measure
      */
     void overall(final Runnable runnable) {
-        timed(timer, runnable);
+        timed(overall, () -> {
+            runnable.run();
+            return null;
+        });
     }
 
     <T> T overall(final Supplier<T> supplier) {
-        return timed(timer, supplier);
+        return timed(overall, supplier);
     }
 
     /**
@@ -77,7 +96,12 @@ final class MappingTimer {
      * @return the result of the supplier
      */
     <T> T payload(final String mapper, final Supplier<T> supplier) {
-        return timed(timer.startNewSegment(PAYLOAD_SEGMENT_NAME).tag(MAPPER_TAG_NAME, mapper), supplier);
+        if (!payload.isSampled()) {
+            return supplier.get();
+        }
+        final Outcomes mapperOutcomes = payloadByMapper.computeIfAbsent(mapper,
+                mapperId -> new Outcomes(payload.tag(MAPPER_TAG_NAME, mapperId)));
+        return timed(mapperOutcomes, supplier);
     }
 
     /**
@@ -88,36 +112,38 @@ final class MappingTimer {
      * @return the result of the supplier
      */
     <T> T protocol(final Supplier<T> supplier) {
-        return timed(timer.startNewSegment(PROTOCOL_SEGMENT_NAME), supplier);
+        return protocol.success.isSampled() ? timed(protocol, supplier) : supplier.get();
     }
 
-    private <T> T timed(final StartedTimer startedTimer, final Supplier<T> supplier) {
+    private static <T> T timed(final Outcomes outcomes, final Supplier<T> supplier) {
+        final long startNanos = System.nanoTime();
         try {
             final T result = supplier.get();
-            startedTimer.tag(TracingTags.MAPPING_SUCCESS, true).stop();
+            outcomes.success.recordSince(startNanos);
             return result;
         } catch (final Exception ex) {
-            startedTimer.tag(TracingTags.MAPPING_SUCCESS, false).stop();
+            outcomes.failure.recordSince(startNanos);
             throw ex;
         }
     }
 
-    private void timed(final StartedTimer startedTimer, final Runnable runnable) {
-        try {
-            runnable.run();
-            startedTimer.tag(TracingTags.MAPPING_SUCCESS, true).stop();
-        } catch (final Exception ex) {
-            startedTimer.tag(TracingTags.MAPPING_SUCCESS, false).stop();
-            throw ex;
-        }
+    private static BoundTimer bindTimer(final String connectionId) {
+        return DittoMetrics.boundTimer(TIMER_NAME).tag(TracingTags.CONNECTION_ID, connectionId);
     }
 
-    private static StartedTimer startNewTimer(final String connectionId) {
-        return DittoMetrics
-                .expiringTimer(TIMER_NAME)
-                .tag(TracingTags.CONNECTION_ID, connectionId)
-                .expirationHandling(expiredTimer -> expiredTimer.tag(TracingTags.MAPPING_SUCCESS, false))
-                .build();
+    /**
+     * Bound timers of a segment for successful and failed mappings.
+     */
+    private static final class Outcomes {
+
+        private final BoundTimer success;
+        private final BoundTimer failure;
+
+        private Outcomes(final BoundTimer timer) {
+            success = timer.tag(TracingTags.MAPPING_SUCCESS, true);
+            failure = timer.tag(TracingTags.MAPPING_SUCCESS, false);
+        }
+
     }
 
 }
@@ -65,18 +65,23 @@ public final class MessageMappingProcessor {
     private final DiagnosticLoggingAdapter log;
     private final ProtocolAdapter protocolAdapter;
     private final DittoHeadersSizeChecker dittoHeadersSizeChecker;
+    private final MappingTimer inboundTimer;
+    private final MappingTimer outboundTimer;
 
     private MessageMappingProcessor(final ConnectionId connectionId,
             final MessageMapperRegistry registry,
             final DiagnosticLoggingAdapter log,
             final ProtocolAdapter protocolAdapter,
-            final DittoHeadersSizeChecker dittoHeadersSizeChecker) {
+            final DittoHeadersSizeChecker dittoHeadersSizeChecker,
+            final int timerSegmentSampleRate) {
 
         this.connectionId = connectionId;
         this.registry = registry;
         this.log = log;
         this.protocolAdapter = protocolAdapter;
         this.dittoHeadersSizeChecker = dittoHeadersSizeChecker;
+        inboundTimer = MappingTimer.inbound(connectionId, timerSegmentSampleRate);
+        outboundTimer = MappingTimer.outbound(connectionId, timerSegmentSampleRate);
     }
 
     /**
@@ -112,7 +117,8 @@ public final class MessageMappingProcessor {
                 DittoHeadersSizeChecker.of(limitsConfig.getHeadersMaxSize(), limitsConfig.getAuthSubjectsMaxCount());
 
         return new MessageMappingProcessor(connectionId, registry, log,
-                protocolAdapterProvider.getProtocolAdapter(null), dittoHeadersSizeChecker);
+                protocolAdapterProvider.getProtocolAdapter(null), dittoHeadersSizeChecker,
+                connectivityConfig.getMetricsConfig().getTimerSegmentSampleRate());
     }
 
     /**
@@ -134,10 +140,8 @@ public final class MessageMappingProcessor {
                 message.getHeaders().get(CORRELATION_ID.getKey()), connectionId);
         final List<MessageMapper> mappers = getMappers(message);
         log.debug("Mappers resolved for message: {}", mappers);
-        mappers.forEach(mapper -> {
-            final MappingTimer mappingTimer = MappingTimer.inbound(connectionId);
-            mappingTimer.overall(() -> convertInboundMessage(mapper, message, mappingTimer, resultHandler));
-        });
+        mappers.forEach(mapper -> inboundTimer.overall(
+                () -> convertInboundMessage(mapper, message, inboundTimer, resultHandler)));
     }
 
     /**
@@ -147,7 +151,7 @@ public final class MessageMappingProcessor {
      * @param resultHandler handles the 0..n results of the mapping(s)
      */
     void process(final OutboundSignal outboundSignal, final MappingResultHandler<OutboundSignal.Mapped> resultHandler) {
-        final MappingTimer timer = MappingTimer.outbound(connectionId);
+        final MappingTimer timer = outboundTimer;
         final Adaptable adaptable = timer.protocol(() -> protocolAdapter.toAdaptable(outboundSignal.getSource()));
         enhanceLogFromAdaptable(adaptable);
         final List<MessageMapper> mappers = getMappers(outboundSignal);
@@ -19,6 +19,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.AbstractMap;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -99,6 +100,11 @@ public final class MessageMappingProcessorActor extends AbstractActor {
     private final ConnectionMonitor responseDispatchedMonitor;
     private final ConnectionMonitor responseDroppedMonitor;
     private final ConnectionMonitor responseMappedMonitor;
+    private final Map<String, ConnectionMonitor> inboundMappedMonitors;
+    private final Map<String, ConnectionMonitor> inboundDroppedMonitors;
+    private final Map<String, ConnectionMonitor> inboundEnforcedMonitors;
+    private final Map<String, ConnectionMonitor> outboundMappedMonitors;
+    private final Map<String, ConnectionMonitor> outboundDroppedMonitors;
 
     @SuppressWarnings("unused")
     private MessageMappingProcessorActor(final ActorRef conciergeForwarder,
@@ -122,6 +128,11 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         responseDispatchedMonitor = connectionMonitorRegistry.forResponseDispatched(connectionId);
         responseDroppedMonitor = connectionMonitorRegistry.forResponseDropped(connectionId);
         responseMappedMonitor = connectionMonitorRegistry.forResponseMapped(connectionId);
+        inboundMappedMonitors = new HashMap<>();
+        inboundDroppedMonitors = new HashMap<>();
+        inboundEnforcedMonitors = new HashMap<>();
+        outboundMappedMonitors = new HashMap<>();
+        outboundDroppedMonitors = new HashMap<>();
     }
 
     /**
@@ -146,6 +157,7 @@ public final class MessageMappingProcessorActor extends AbstractActor {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(ExternalMessage.class, this::handleInboundMessage)
+                .match(BaseConsumerActor.UnsettledMessage.class, this::handleUnsettledMessage)
                 .match(CommandResponse.class, this::handleCommandResponse)
                 .match(OutboundSignal.class, this::handleOutboundSignal)
                 .match(Signal.class, this::handleSignal)
@@ -170,6 +182,12 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         }
     }
 
+    private void handleUnsettledMessage(final BaseConsumerActor.UnsettledMessage unsettledMessage) {
+        handleInboundMessage(unsettledMessage.getMessage());
+        // the message is mapped and dispatched; return the credit to the consumer
+        getSender().tell(unsettledMessage.toSettlement(), getSelf());
+    }
+
     private void handleException(final Exception e, final ExternalMessage message,
             @Nullable final AuthorizationContext authorizationContext) {
         if (e instanceof DittoRuntimeException) {
@@ -199,8 +217,12 @@ public final class MessageMappingProcessorActor extends AbstractActor {
             final ExternalMessage incomingMessage,
             final AuthorizationContext authorizationContext) {
         final String source = incomingMessage.getSourceAddress().orElse("unknown");
-        final ConnectionMonitor inboundMapped = connectionMonitorRegistry.forInboundMapped(connectionId, source);
-        final ConnectionMonitor inboundDropped = connectionMonitorRegistry.forInboundDropped(connectionId, source);
+        final ConnectionMonitor inboundMapped = inboundMappedMonitors.computeIfAbsent(source,
+                address -> connectionMonitorRegistry.forInboundMapped(connectionId, address));
+        final ConnectionMonitor inboundDropped = inboundDroppedMonitors.computeIfAbsent(source,
+                address -> connectionMonitorRegistry.forInboundDropped(connectionId, address));
+        final ConnectionMonitor inboundEnforced = inboundEnforcedMonitors.computeIfAbsent(source,
+                address -> connectionMonitorRegistry.forInboundEnforced(connectionId, address));
 
         return new InboundMappingResultHandler(
                 mappedInboundMessage -> {
@@ -215,8 +237,7 @@ public final class MessageMappingProcessorActor extends AbstractActor {
 
                     enhanceLogUtil(adjustedSignal);
                     // enforce signal ID after header mapping was done
-                    connectionMonitorRegistry.forInboundEnforced(connectionId, source)
-                            .wrapExecution(adjustedSignal)
+                    inboundEnforced.wrapExecution(adjustedSignal)
                             .execute(() -> applySignalIdEnforcement(incomingMessage, signal));
 
                     // This message is important to check if a command is accepted for a specific connection, as this happens
@@ -369,26 +390,28 @@ public final class MessageMappingProcessorActor extends AbstractActor {
 
     private Set<ConnectionMonitor> getMonitorsForDroppedSignal(final OutboundSignal outbound,
             final ConnectionId connectionId) {
-        return getMonitorsForOutboundSignal(outbound, connectionId, DROPPED, LogType.DROPPED, responseDroppedMonitor);
+        return getMonitorsForOutboundSignal(outbound, connectionId, DROPPED, LogType.DROPPED, responseDroppedMonitor,
+                outboundDroppedMonitors);
     }
 
     private Set<ConnectionMonitor> getMonitorsForMappedSignal(final OutboundSignal outbound,
             final ConnectionId connectionId) {
-        return getMonitorsForOutboundSignal(outbound, connectionId, MAPPED, LogType.MAPPED, responseMappedMonitor);
+        return getMonitorsForOutboundSignal(outbound, connectionId, MAPPED, LogType.MAPPED, responseMappedMonitor,
+                outboundMappedMonitors);
     }
 
     private Set<ConnectionMonitor> getMonitorsForOutboundSignal(final OutboundSignal outbound,
             final ConnectionId connectionId, final MetricType metricType, final LogType logType,
-            final ConnectionMonitor responseMonitor) {
+            final ConnectionMonitor responseMonitor, final Map<String, ConnectionMonitor> targetMonitors) {
         if (outbound.getSource() instanceof CommandResponse) {
             return Collections.singleton(responseMonitor);
         } else {
             return outbound.getTargets()
                     .stream()
                     .map(Target::getOriginalAddress)
-                    .map(address -> connectionMonitorRegistry.getMonitor(connectionId, metricType,
-                            MetricDirection.OUTBOUND,
-                            logType, LogCategory.TARGET, address))
+                    .map(originalAddress -> targetMonitors.computeIfAbsent(originalAddress,
+                            address -> connectionMonitorRegistry.getMonitor(connectionId, metricType,
+                                    MetricDirection.OUTBOUND, logType, LogCategory.TARGET, address)))
                     .collect(Collectors.toSet());
         }
     }
@@ -31,8 +31,10 @@ import javax.jms.MessageConsumer;
 import javax.jms.MessageListener;
 import javax.jms.TextMessage;
 
+import org.apache.qpid.jms.JmsAcknowledgeCallback;
 import org.apache.qpid.jms.JmsMessageConsumer;
 import org.apache.qpid.jms.message.JmsMessage;
+import org.apache.qpid.jms.message.JmsMessageSupport;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -86,6 +88,8 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
     private final int throttlingLimit;
     // the state for message throttling
     private final AtomicReference<ThrottleState> throttleState;
+    // until when the message consumer is stopped due to throttling
+    private long throttledUntil;
 
     // Access to the actor who performs JMS tasks in own thread
     private final ActorRef jmsActor;
@@ -100,8 +104,10 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
             final ActorRef messageMappingProcessor, final ActorRef jmsActor) {
         super(connectionId,
                 checkNotNull(consumerData, "consumerData").getAddress(),
+                consumerData.getConsumerIndex(),
                 messageMappingProcessor,
-                consumerData.getSource());
+                consumerData.getSource(),
+                connectionConfig -> connectionConfig.getAmqp10Config().getConsumerMaxInFlight());
         final ConnectionConfig connectionConfig =
                 DittoConnectivityConfig.of(
                         DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
@@ -115,6 +121,7 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         throttlingInterval = amqp10Config.getConsumerThrottlingInterval();
         throttlingLimit = amqp10Config.getConsumerThrottlingLimit();
         throttleState = new AtomicReference<>(new ThrottleState(0L, 0));
+        throttledUntil = 0L;
 
         final Enforcement enforcement = consumerData.getSource().getEnforcement().orElse(null);
         headerEnforcementFilterFactory = enforcement != null ? EnforcementFactoryFactory
@@ -142,6 +149,7 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         return ReceiveBuilder.create()
                 .match(RestartMessageConsumer.class, this::handleRestartMessageConsumer)
                 .match(JmsMessage.class, this::handleJmsMessage)
+                .match(Settlement.class, this::handleSettlement)
                 .match(ResourceStatus.class, this::handleAddressStatus)
                 .match(RetrieveAddressStatus.class, ras -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .match(ConsumerClosedStatusReport.class, this::matchesOwnConsumer, this::handleConsumerClosed)
@@ -295,19 +303,37 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
      * @param restartMessageConsumer the message signalling that we should restart the consumer
      */
     private void handleRestartMessageConsumer(final RestartMessageConsumer restartMessageConsumer) {
+        throttledUntil = restartMessageConsumer.getRestartAt();
         final long delay = restartMessageConsumer.getRestartAt() - System.currentTimeMillis();
         if (delay <= 25) { // restart message consumer immediately if delay is negative or too small to schedule
-            log.debug("Restarting message consumer.");
-            startMessageConsumer();
+            if (hasCredit()) {
+                log.debug("Restarting message consumer.");
+                startMessageConsumer();
+            } else {
+                log.debug("Not restarting message consumer without credit.");
+            }
         } else { // otherwise schedule restarting of consumer
             log.debug("Scheduling restart of message consumer after {}ms.", delay);
             getTimers().startSingleTimer(RESTART_MESSAGE_CONSUMER, restartMessageConsumer, Duration.ofMillis(delay));
         }
     }
 
+    /**
+     * Restarts the message consumer when the settlement of a message returns credit, unless the consumer is
+     * throttled. Then it is restarted after the current throttling interval.
+     */
+    @Override
+    protected void onCreditAvailable() {
+        if (System.currentTimeMillis() >= throttledUntil) {
+            log.debug("Restarting message consumer after credit was returned.");
+            startMessageConsumer();
+        }
+    }
+
     private void handleJmsMessage(final JmsMessage message) {
         Map<String, String> headers = null;
         String hashKey = "";
+        boolean settledByMappingActor = false;
         try {
             hashKey = message.getJMSDestination() != null ? message.getJMSDestination().toString() : sourceAddress;
             headers = extractHeadersMapFromJmsMessage(message);
@@ -327,7 +353,12 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
                 log.debug("Received message from AMQP 1.0 ({}): {}", externalMessage.getHeaders(),
                         externalMessage.getTextPayload().orElse("binary"));
             }
-            forwardToMappingActor(externalMessage, hashKey);
+            forwardToMappingActor(externalMessage, hashKey, () -> acknowledge(message));
+            settledByMappingActor = true;
+            if (!hasCredit()) {
+                log.debug("Stopping message consumer until credit is returned.");
+                stopMessageConsumer();
+            }
         } catch (final DittoRuntimeException e) {
             log.info("Got DittoRuntimeException '{}' when command was parsed: {}", e.getErrorCode(), e.getMessage());
             if (headers != null) {
@@ -347,12 +378,23 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
 
             log.error(e, "Unexpected {}: {}", e.getClass().getName(), e.getMessage());
         } finally {
-            try {
-                // we use the manual acknowledge mode so we always have to ack the message
-                message.acknowledge();
-            } catch (final JMSException e) {
-                log.error(e, "Failed to ack an AMQP message");
+            if (!settledByMappingActor) {
+                acknowledge(message);
+            }
+        }
+    }
+
+    private void acknowledge(final JmsMessage message) {
+        try {
+            // we use the manual acknowledge mode so we always have to ack the message;
+            // messages are settled out of order, so accept only this message instead of all consumed messages
+            final JmsAcknowledgeCallback acknowledgeCallback = message.getAcknowledgeCallback();
+            if (acknowledgeCallback != null) {
+                acknowledgeCallback.setAckType(JmsMessageSupport.ACCEPTED);
             }
+            message.acknowledge();
+        } catch (final JMSException e) {
+            log.error(e, "Failed to ack an AMQP message");
         }
     }
 
@@ -26,19 +26,21 @@ public final class ConsumerData {
     private final Source source;
     private final String address;
     private final String addressWithIndex;
+    private final int consumerIndex;
     private final MessageConsumer messageConsumer;
 
     private ConsumerData(final Source source, final String address, final String addressWithIndex,
-            final MessageConsumer messageConsumer) {
+            final int consumerIndex, final MessageConsumer messageConsumer) {
         this.source = source;
         this.address = address;
         this.addressWithIndex = addressWithIndex;
+        this.consumerIndex = consumerIndex;
         this.messageConsumer = messageConsumer;
     }
 
     static ConsumerData of(final Source source, final String address, final String addressWithIndex,
-            final MessageConsumer messageConsumer) {
-        return new ConsumerData(source, address, addressWithIndex, messageConsumer);
+            final int consumerIndex, final MessageConsumer messageConsumer) {
+        return new ConsumerData(source, address, addressWithIndex, consumerIndex, messageConsumer);
     }
 
     Source getSource() {
@@ -53,6 +55,10 @@ public final class ConsumerData {
         return addressWithIndex;
     }
 
+    int getConsumerIndex() {
+        return consumerIndex;
+    }
+
     MessageConsumer getMessageConsumer() {
         return messageConsumer;
     }
@@ -62,7 +68,7 @@ public final class ConsumerData {
     }
 
     ConsumerData withMessageConsumer(final MessageConsumer messageConsumer) {
-        return new ConsumerData(source, address, addressWithIndex, messageConsumer);
+        return new ConsumerData(source, address, addressWithIndex, consumerIndex, messageConsumer);
     }
 
     @Override
@@ -73,12 +79,13 @@ public final class ConsumerData {
         return Objects.equals(source, wrapper.source) &&
                 Objects.equals(address, wrapper.address) &&
                 Objects.equals(addressWithIndex, wrapper.addressWithIndex) &&
+                consumerIndex == wrapper.consumerIndex &&
                 Objects.equals(messageConsumer, wrapper.messageConsumer);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(source, address, addressWithIndex, messageConsumer);
+        return Objects.hash(source, address, addressWithIndex, consumerIndex, messageConsumer);
     }
 
     @Override
@@ -86,6 +93,7 @@ public final class ConsumerData {
         return getClass().getSimpleName() + " [" +
                 "address=" + address +
                 ", addressWithIndex=" + addressWithIndex +
+                ", consumerIndex=" + consumerIndex +
                 "]";
     }
 }
@@ -61,6 +61,13 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
      */
     static final String ACTOR_NAME_PREFIX = "jmsConnectionHandling-";
 
+    /**
+     * Acknowledgement mode of Qpid JMS acknowledging only the message on which {@code acknowledge()} is called, in
+     * contrast to {@link Session#CLIENT_ACKNOWLEDGE} acknowledging all messages consumed by the session so far.
+     * Messages are settled out of order after mapping, hence each message must be acknowledged individually.
+     */
+    static final int INDIVIDUAL_ACKNOWLEDGE = 101;
+
     /**
      * Config key of the dispatcher for this actor.
      */
@@ -131,7 +138,7 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
             final ConsumerData consumerData = command.getConsumerData();
             final ConsumerData newConsumerData =
                     createJmsConsumer(currentSession, new HashMap<>(), consumerData.getSource(),
-                            consumerData.getAddress(), consumerData.getAddressWithIndex());
+                            consumerData.getAddress(), consumerData.getConsumerIndex());
             if (newConsumerData != null) {
                 final Object response = command.toResponse(newConsumerData.getMessageConsumer());
                 getSender().tell(response, getSelf());
@@ -256,7 +263,7 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
 
     private Session createSession(final JmsConnection jmsConnection) {
         final Session session = safelyExecuteJmsOperation(jmsConnection, "create session",
-                () -> (jmsConnection.createSession(Session.CLIENT_ACKNOWLEDGE)));
+                () -> (jmsConnection.createSession(INDIVIDUAL_ACKNOWLEDGE)));
         currentSession = session;
         return session;
     }
@@ -287,9 +294,7 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
         final List<ConsumerData> consumers = connection.getSources().stream().flatMap(source ->
                 source.getAddresses().stream().flatMap(sourceAddress ->
                         IntStream.range(0, source.getConsumerCount())
-                                .mapToObj(i -> sourceAddress + "-" + i)
-                                .map(addressWithIndex -> createJmsConsumer(session, failedSources, source,
-                                        sourceAddress, addressWithIndex))
+                                .mapToObj(i -> createJmsConsumer(session, failedSources, source, sourceAddress, i))
                                 .filter(Objects::nonNull)
                                 .collect(Collectors.toList()).stream()
                 ).collect(Collectors.toList()).stream()
@@ -303,13 +308,14 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
 
     @Nullable
     private ConsumerData createJmsConsumer(final Session session, final Map<String, Exception> failedSources,
-            final Source source, final String sourceAddress, final String addressWithIndex) {
+            final Source source, final String sourceAddress, final int consumerIndex) {
+        final String addressWithIndex = sourceAddress + "-" + consumerIndex;
         log.debug("Creating AMQP Consumer for <{}>", addressWithIndex);
         final Destination destination = new JmsQueue(sourceAddress);
         final MessageConsumer messageConsumer;
         try {
             messageConsumer = session.createConsumer(destination);
-            return ConsumerData.of(source, sourceAddress, addressWithIndex, messageConsumer);
+            return ConsumerData.of(source, sourceAddress, addressWithIndex, consumerIndex, messageConsumer);
         } catch (final JMSException jmsException) {
             failedSources.put(addressWithIndex, jmsException);
             return null;
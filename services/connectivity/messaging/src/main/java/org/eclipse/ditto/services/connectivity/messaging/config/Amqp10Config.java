@@ -53,6 +53,14 @@ public interface Amqp10Config {
         return getConsumerThrottlingConfig().getLimit();
     }
 
+    /**
+     * Returns how many messages a consumer may have received without them being settled by the message mapping
+     * processor. The consumer stops receiving messages while it has no credit left.
+     *
+     * @return the maximum number of unsettled messages per consumer, or 0 if consumers are not limited by credit.
+     */
+    int getConsumerMaxInFlight();
+
     /**
      * Returns how many message producers to cache.
      *
@@ -76,7 +84,12 @@ public interface Amqp10Config {
         /**
          * How many message producers to cache per client actor.
          */
-        PRODUCER_CACHE_SIZE("producer-cache-size", 10);
+        PRODUCER_CACHE_SIZE("producer-cache-size", 10),
+
+        /**
+         * How many unsettled messages a consumer may have received.
+         */
+        CONSUMER_MAX_IN_FLIGHT("consumer.max-in-flight", 100);
 
         private final String path;
         private final Object defaultValue;
@@ -72,6 +72,13 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
      */
     KafkaConfig getKafkaConfig();
 
+    /**
+     * Returns the config specific to the RabbitMQ protocol.
+     *
+     * @return the config.
+     */
+    RabbitMQConfig getRabbitMQConfig();
+
     /**
      * Returns the configuration for connection type http-push.
      *
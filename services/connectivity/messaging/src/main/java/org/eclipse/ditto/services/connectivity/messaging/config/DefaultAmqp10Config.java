@@ -38,6 +38,7 @@ public final class DefaultAmqp10Config implements Amqp10Config {
     private final int producerCacheSize;
     private final BackOffConfig backOffConfig;
     private final ThrottlingConfig consumerThrottlingConfig;
+    private final int consumerMaxInFlight;
 
     private DefaultAmqp10Config(final ScopedConfig config) {
         producerCacheSize = config.getInt(Amqp10ConfigValue.PRODUCER_CACHE_SIZE.getConfigPath());
@@ -45,6 +46,7 @@ public final class DefaultAmqp10Config implements Amqp10Config {
         consumerThrottlingConfig = ThrottlingConfig.of(config.hasPath(CONSUMER_PATH)
                 ? config.getConfig(CONSUMER_PATH)
                 : ConfigFactory.empty());
+        consumerMaxInFlight = config.getInt(Amqp10ConfigValue.CONSUMER_MAX_IN_FLIGHT.getConfigPath());
     }
 
     /**
@@ -63,6 +65,11 @@ public final class DefaultAmqp10Config implements Amqp10Config {
         return consumerThrottlingConfig;
     }
 
+    @Override
+    public int getConsumerMaxInFlight() {
+        return consumerMaxInFlight;
+    }
+
     @Override
     public int getProducerCacheSize() {
         return producerCacheSize;
@@ -84,12 +91,13 @@ public final class DefaultAmqp10Config implements Amqp10Config {
         final DefaultAmqp10Config that = (DefaultAmqp10Config) o;
         return producerCacheSize == that.producerCacheSize &&
                 Objects.equals(backOffConfig, that.backOffConfig) &&
-                Objects.equals(consumerThrottlingConfig, that.consumerThrottlingConfig);
+                Objects.equals(consumerThrottlingConfig, that.consumerThrottlingConfig) &&
+                consumerMaxInFlight == that.consumerMaxInFlight;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(producerCacheSize, backOffConfig, consumerThrottlingConfig);
+        return Objects.hash(producerCacheSize, backOffConfig, consumerThrottlingConfig, consumerMaxInFlight);
     }
 
     @Override
@@ -98,6 +106,7 @@ public final class DefaultAmqp10Config implements Amqp10Config {
                 "producerCacheSize=" + producerCacheSize +
                 ", backOffConfig=" + backOffConfig +
                 ", consumerThrottlingConfig=" + consumerThrottlingConfig +
+                ", consumerMaxInFlight=" + consumerMaxInFlight +
                 "]";
     }
 
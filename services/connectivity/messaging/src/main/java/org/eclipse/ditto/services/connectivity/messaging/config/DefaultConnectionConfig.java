@@ -45,6 +45,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
     private final Amqp10Config amqp10Config;
     private final MqttConfig mqttConfig;
     private final KafkaConfig kafkaConfig;
+    private final RabbitMQConfig rabbitMQConfig;
     private final HttpPushConfig httpPushConfig;
     private final ActivityCheckConfig activityCheckConfig;
 
@@ -58,6 +59,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         amqp10Config = DefaultAmqp10Config.of(config);
         mqttConfig = DefaultMqttConfig.of(config);
         kafkaConfig = DefaultKafkaConfig.of(config);
+        rabbitMQConfig = DefaultRabbitMQConfig.of(config);
         httpPushConfig = DefaultHttpPushConfig.of(config);
         activityCheckConfig = DefaultActivityCheckConfig.of(config);
     }
@@ -109,6 +111,11 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return kafkaConfig;
     }
 
+    @Override
+    public RabbitMQConfig getRabbitMQConfig() {
+        return rabbitMQConfig;
+    }
+
     @Override
     public HttpPushConfig getHttpPushConfig() {
         return httpPushConfig;
@@ -136,13 +143,14 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 Objects.equals(mqttConfig, that.mqttConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(kafkaConfig, that.kafkaConfig) &&
+                Objects.equals(rabbitMQConfig, that.rabbitMQConfig) &&
                 Objects.equals(httpPushConfig, that.httpPushConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(clientActorAskTimeout, blacklistedHostnames, supervisorConfig, snapshotConfig, amqp10Config,
-                mqttConfig, kafkaConfig, activityCheckConfig, httpPushConfig);
+                mqttConfig, kafkaConfig, rabbitMQConfig, activityCheckConfig, httpPushConfig);
     }
 
     @Override
@@ -155,6 +163,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 ", amqp10Config=" + amqp10Config +
                 ", mqttConfig=" + mqttConfig +
                 ", kafkaConfig=" + kafkaConfig +
+                ", rabbitMQConfig=" + rabbitMQConfig +
                 ", httpPushConfig=" + httpPushConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 "]";
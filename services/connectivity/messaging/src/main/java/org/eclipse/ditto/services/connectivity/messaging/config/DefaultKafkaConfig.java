@@ -12,11 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -30,9 +31,18 @@ public final class DefaultKafkaConfig implements KafkaConfig {
     private static final String CONFIG_PATH = "kafka";
 
     private final Config internalProducerConfig;
+    private final Config internalConsumerConfig;
+    private final Config committerConfig;
+    private final int consumerMaxInFlight;
+    private final Duration consumerProcessingTimeout;
 
     private DefaultKafkaConfig(final ScopedConfig kafkaScopedConfig) {
         internalProducerConfig = kafkaScopedConfig.getConfig("producer.internal");
+        internalConsumerConfig = kafkaScopedConfig.getConfig("consumer.internal");
+        committerConfig = kafkaScopedConfig.getConfig("consumer.committer");
+        consumerMaxInFlight = kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_MAX_IN_FLIGHT.getConfigPath());
+        consumerProcessingTimeout =
+                kafkaScopedConfig.getDuration(KafkaConfigValue.CONSUMER_PROCESSING_TIMEOUT.getConfigPath());
     }
 
     /**
@@ -43,7 +53,7 @@ public final class DefaultKafkaConfig implements KafkaConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultKafkaConfig of(final Config config) {
-        return new DefaultKafkaConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultKafkaConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, KafkaConfigValue.values()));
     }
 
     @Override
@@ -51,6 +61,26 @@ public final class DefaultKafkaConfig implements KafkaConfig {
         return internalProducerConfig;
     }
 
+    @Override
+    public Config getInternalConsumerConfig() {
+        return internalConsumerConfig;
+    }
+
+    @Override
+    public Config getCommitterConfig() {
+        return committerConfig;
+    }
+
+    @Override
+    public int getConsumerMaxInFlight() {
+        return consumerMaxInFlight;
+    }
+
+    @Override
+    public Duration getConsumerProcessingTimeout() {
+        return consumerProcessingTimeout;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +90,27 @@ public final class DefaultKafkaConfig implements KafkaConfig {
             return false;
         }
         final DefaultKafkaConfig that = (DefaultKafkaConfig) o;
-        return Objects.equals(internalProducerConfig, that.internalProducerConfig);
+        return consumerMaxInFlight == that.consumerMaxInFlight &&
+                Objects.equals(internalProducerConfig, that.internalProducerConfig) &&
+                Objects.equals(internalConsumerConfig, that.internalConsumerConfig) &&
+                Objects.equals(committerConfig, that.committerConfig) &&
+                Objects.equals(consumerProcessingTimeout, that.consumerProcessingTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalProducerConfig);
+        return Objects.hash(internalProducerConfig, internalConsumerConfig, committerConfig,
+                consumerMaxInFlight, consumerProcessingTimeout);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "internalProducerConfig=" + internalProducerConfig +
+                ", internalConsumerConfig=" + internalConsumerConfig +
+                ", committerConfig=" + committerConfig +
+                ", consumerMaxInFlight=" + consumerMaxInFlight +
+                ", consumerProcessingTimeout=" + consumerProcessingTimeout +
                 "]";
     }
 
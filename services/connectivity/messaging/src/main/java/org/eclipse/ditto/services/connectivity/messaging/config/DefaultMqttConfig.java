@@ -31,9 +31,11 @@ public final class DefaultMqttConfig implements MqttConfig {
     private static final String CONFIG_PATH = "mqtt";
 
     private final int sourceBufferSize;
+    private final int maxInFlight;
 
     private DefaultMqttConfig(final ScopedConfig config) {
         sourceBufferSize = config.getInt(MqttConfigValue.SOURCE_BUFFER_SIZE.getConfigPath());
+        maxInFlight = config.getInt(MqttConfigValue.MAX_IN_FLIGHT.getConfigPath());
     }
 
     /**
@@ -52,6 +54,11 @@ public final class DefaultMqttConfig implements MqttConfig {
         return sourceBufferSize;
     }
 
+    @Override
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -61,18 +68,20 @@ public final class DefaultMqttConfig implements MqttConfig {
             return false;
         }
         final DefaultMqttConfig that = (DefaultMqttConfig) o;
-        return sourceBufferSize == that.sourceBufferSize;
+        return sourceBufferSize == that.sourceBufferSize &&
+                maxInFlight == that.maxInFlight;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(sourceBufferSize);
+        return Objects.hash(sourceBufferSize, maxInFlight);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "sourceBufferSize=" + sourceBufferSize +
+                ", maxInFlight=" + maxInFlight +
                 "]";
     }
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link RabbitMQConfig}.
+ */
+@Immutable
+public final class DefaultRabbitMQConfig implements RabbitMQConfig {
+
+    private static final String CONFIG_PATH = "rabbitmq";
+
+    private final int maxInFlight;
+
+    private DefaultRabbitMQConfig(final ScopedConfig config) {
+        maxInFlight = config.getInt(RabbitMQConfigValue.MAX_IN_FLIGHT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultRabbitMQConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the RabbitMQ config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultRabbitMQConfig of(final Config config) {
+        return new DefaultRabbitMQConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, RabbitMQConfigValue.values()));
+    }
+
+    @Override
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultRabbitMQConfig that = (DefaultRabbitMQConfig) o;
+        return maxInFlight == that.maxInFlight;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxInFlight);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxInFlight=" + maxInFlight +
+                "]";
+    }
+
+}
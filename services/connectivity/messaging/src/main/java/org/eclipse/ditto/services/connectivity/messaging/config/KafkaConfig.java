@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -30,4 +34,72 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the Config for consumers needed by akka-stream-kafka.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#settings">akka-stream-kafka Consumer settings</a>
+     * @return internal consumer configuration needed by akka-stream-kafka client.
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Returns the Config for committing consumed offsets in batches needed by akka-stream-kafka.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#committer-sink">akka-stream-kafka Committer settings</a>
+     * @return committer configuration needed by akka-stream-kafka client.
+     */
+    Config getCommitterConfig();
+
+    /**
+     * Returns the maximum number of records a single consumer has in flight, i.e. consumed but not yet mapped and
+     * dispatched.
+     *
+     * @return the maximum number of records in flight.
+     */
+    int getConsumerMaxInFlight();
+
+    /**
+     * Returns how long a consumed record may take to be mapped and dispatched before the consumer stream fails and
+     * its uncommitted records are redelivered.
+     *
+     * @return the processing timeout of a consumed record.
+     */
+    Duration getConsumerProcessingTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of records a single consumer has in flight.
+         */
+        CONSUMER_MAX_IN_FLIGHT("consumer.max-in-flight", 100),
+
+        /**
+         * How long a consumed record may take to be mapped and dispatched.
+         */
+        CONSUMER_PROCESSING_TIMEOUT("consumer.processing-timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
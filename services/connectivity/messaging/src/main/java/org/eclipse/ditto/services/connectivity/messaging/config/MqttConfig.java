@@ -29,6 +29,14 @@ public interface MqttConfig {
      */
     int getSourceBufferSize();
 
+    /**
+     * Returns how many messages a consumer may have received without them being settled by the message mapping
+     * processor.
+     *
+     * @return the maximum number of unsettled messages per consumer, or 0 if consumers are not limited by credit.
+     */
+    int getMaxInFlight();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code MqttConfig}.
@@ -38,7 +46,12 @@ public interface MqttConfig {
         /**
          * The maximum number of buffered messages for each MQTT source.
          */
-        SOURCE_BUFFER_SIZE("source-buffer-size", 8);
+        SOURCE_BUFFER_SIZE("source-buffer-size", 8),
+
+        /**
+         * How many unsettled messages a consumer may have received.
+         */
+        MAX_IN_FLIGHT("max-in-flight", 100);
 
         private final String path;
         private final Object defaultValue;
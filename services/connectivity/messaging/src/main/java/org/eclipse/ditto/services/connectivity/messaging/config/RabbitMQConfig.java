@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the RabbitMQ protocol.
+ */
+@Immutable
+public interface RabbitMQConfig {
+
+    /**
+     * Returns how many messages a consumer may have received without them being settled by the message mapping
+     * processor. The broker does not deliver further messages to a consumer while this many are unacknowledged.
+     *
+     * @return the maximum number of unsettled messages per consumer, or 0 if consumers are not limited by credit.
+     */
+    int getMaxInFlight();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code RabbitMQConfig}.
+     */
+    enum RabbitMQConfigValue implements KnownConfigValue {
+
+        /**
+         * How many unsettled messages a consumer may have received.
+         */
+        MAX_IN_FLIGHT("max-in-flight", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        RabbitMQConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerSettings;
+
+/**
+ * Creates {@link akka.kafka.ConsumerSettings} and {@link akka.kafka.CommitterSettings} from a given
+ * {@link org.eclipse.ditto.model.connectivity.Connection} configuration.
+ */
+final class ConsumerSettingsFactory {
+
+    private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
+            Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
+                    KafkaBootstrapServerSpecificConfig.getInstance()));
+
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<String> VALUE_DESERIALIZER = KEY_DESERIALIZER;
+
+    private final Connection connection;
+    private final KafkaConfig kafkaConfig;
+
+    private ConsumerSettingsFactory(final Connection connection, final KafkaConfig kafkaConfig) {
+        this.connection = checkNotNull(connection, "connection");
+        this.kafkaConfig = checkNotNull(kafkaConfig, "Kafka config");
+    }
+
+    /**
+     * Returns an instance of the ConsumerSettings factory.
+     *
+     * @param connection the Kafka connection.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static ConsumerSettingsFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
+        return new ConsumerSettingsFactory(connection, kafkaConfig);
+    }
+
+    /**
+     * Creates the settings of a single consumer of the connection. All consumers of a connection belong to the same
+     * consumer group, so that the partitions of the source topics are distributed among them.
+     *
+     * @param consumerId identifies the consumer within the client actor of the connection.
+     * @return the consumer settings.
+     */
+    ConsumerSettings<String, String> getConsumerSettings(final String consumerId) {
+        ConsumerSettings<String, String> settings =
+                ConsumerSettings.create(kafkaConfig.getInternalConsumerConfig(), KEY_DESERIALIZER,
+                        VALUE_DESERIALIZER);
+
+        settings = addMetadata(settings, consumerId);
+        settings = addSecurityProtocol(settings);
+        settings = addSpecificConfigs(settings);
+
+        return settings;
+    }
+
+    CommitterSettings getCommitterSettings() {
+        return CommitterSettings.create(kafkaConfig.getCommitterConfig());
+    }
+
+    private ConsumerSettings<String, String> addMetadata(final ConsumerSettings<String, String> settings,
+            final String consumerId) {
+
+        // identify the connected Kafka client by the connectionId followed by the instance index and the consumer
+        // (in order to be able to differentiate if a clientCount or consumerCount >1 was configured):
+        final InstanceIdentifierSupplier instanceIdentifierSupplier = InstanceIdentifierSupplier.getInstance();
+
+        return settings.withGroupId(connection.getId().toString())
+                .withProperty(CommonClientConfigs.CLIENT_ID_CONFIG,
+                        connection.getId() + "-" + instanceIdentifierSupplier.get() + "-" + consumerId);
+    }
+
+    private ConsumerSettings<String, String> addSpecificConfigs(final ConsumerSettings<String, String> settings) {
+        ConsumerSettings<String, String> currentSettings = settings;
+        for (final KafkaSpecificConfig specificConfig : SPECIFIC_CONFIGS) {
+            currentSettings = specificConfig.apply(currentSettings, connection);
+        }
+        return currentSettings;
+    }
+
+    private ConsumerSettings<String, String> addSecurityProtocol(final ConsumerSettings<String, String> settings) {
+        if (isConnectionAuthenticated()) {
+            return addAuthenticatedSecurityProtocol(settings);
+        }
+        return addUnauthenticatedSecurityProtocol(settings);
+    }
+
+    private boolean isConnectionAuthenticated() {
+        final KafkaSpecificConfig authenticationSpecificConfig = KafkaAuthenticationSpecificConfig.getInstance();
+        return authenticationSpecificConfig.isApplicable(connection);
+    }
+
+    private ConsumerSettings<String, String> addAuthenticatedSecurityProtocol(
+            final ConsumerSettings<String, String> settings) {
+
+        if (isConnectionSecure()) {
+            return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_SSL");
+        }
+        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_PLAINTEXT");
+    }
+
+    private ConsumerSettings<String, String> addUnauthenticatedSecurityProtocol(
+            final ConsumerSettings<String, String> settings) {
+
+        if (isConnectionSecure()) {
+            return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SSL");
+        }
+        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "PLAINTEXT");
+    }
+
+    private boolean isConnectionSecure() {
+        return "ssl".equals(connection.getProtocol());
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import akka.Done;
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.ConsumerSettings;
+import akka.kafka.Subscriptions;
+import akka.kafka.javadsl.Committer;
+import akka.kafka.javadsl.Consumer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Creates the sources of consumed Kafka records and the sinks committing their offsets.
+ */
+final class DefaultKafkaConsumerStreamFactory implements KafkaConsumerStreamFactory {
+
+    private final ConsumerSettings<String, String> consumerSettings;
+    private final CommitterSettings committerSettings;
+
+    private DefaultKafkaConsumerStreamFactory(final ConsumerSettings<String, String> consumerSettings,
+            final CommitterSettings committerSettings) {
+
+        this.consumerSettings = consumerSettings;
+        this.committerSettings = committerSettings;
+    }
+
+    /**
+     * Returns an instance of the default Kafka consumer stream factory.
+     *
+     * @param consumerSettings the settings of the Kafka consumer.
+     * @param committerSettings the settings of the batched offset commits.
+     * @return the Kafka consumer stream factory.
+     */
+    static DefaultKafkaConsumerStreamFactory getInstance(final ConsumerSettings<String, String> consumerSettings,
+            final CommitterSettings committerSettings) {
+
+        return new DefaultKafkaConsumerStreamFactory(consumerSettings, committerSettings);
+    }
+
+    @Override
+    public Source<ConsumerMessage.CommittableMessage<String, String>, Consumer.Control> newSource(
+            final Set<String> topics) {
+
+        return Consumer.committableSource(consumerSettings, Subscriptions.topics(topics));
+    }
+
+    @Override
+    public Sink<ConsumerMessage.CommittableOffset, CompletionStage<Done>> newCommitterSink() {
+        return Committer.sink(committerSettings);
+    }
+
+}
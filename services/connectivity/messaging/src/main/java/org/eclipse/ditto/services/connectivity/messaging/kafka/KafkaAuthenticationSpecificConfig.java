@@ -24,6 +24,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -91,6 +92,21 @@ final class KafkaAuthenticationSpecificConfig implements KafkaSpecificConfig {
     public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
             final Connection connection) {
 
+        return getSaslProperties(connection)
+                .map(saslProperties -> producerSettings.withProperties(saslProperties))
+                .orElse(producerSettings);
+    }
+
+    @Override
+    public ConsumerSettings<String, String> apply(final ConsumerSettings<String, String> consumerSettings,
+            final Connection connection) {
+
+        return getSaslProperties(connection)
+                .map(saslProperties -> consumerSettings.withProperties(saslProperties))
+                .orElse(consumerSettings);
+    }
+
+    private Optional<Map<String, String>> getSaslProperties(final Connection connection) {
         final Optional<String> username = connection.getUsername();
         final Optional<String> password = connection.getPassword();
         // chose to not use isApplicable() but directly check username and password since we need to Optional#get them.
@@ -99,11 +115,13 @@ final class KafkaAuthenticationSpecificConfig implements KafkaSpecificConfig {
             final String loginModule = getLoginModuleForSaslMechanism(saslMechanism);
             final String jaasConfig = getJaasConfig(loginModule, username.get(), password.get());
 
-            return producerSettings.withProperty(SaslConfigs.SASL_MECHANISM, saslMechanism)
-                    .withProperty(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig);
+            final Map<String, String> saslProperties = new HashMap<>();
+            saslProperties.put(SaslConfigs.SASL_MECHANISM, saslMechanism);
+            saslProperties.put(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig);
+            return Optional.of(saslProperties);
         }
 
-        return producerSettings;
+        return Optional.empty();
     }
 
     private static String getJaasConfig(final String loginModule, final String username, final String password) {
@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -21,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
@@ -35,6 +38,7 @@ import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.japi.pf.FSMStateFunctionBuilder;
+import akka.kafka.CommitterSettings;
 
 /**
  * Actor which handles connection to Kafka server.
@@ -44,6 +48,8 @@ public final class KafkaClientActor extends BaseClientActor {
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConfig kafkaConfig;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -55,10 +61,11 @@ public final class KafkaClientActor extends BaseClientActor {
 
         super(connection, conciergeForwarder);
         final ConnectionConfig connectionConfig = connectivityConfig.getConnectionConfig();
-        final KafkaConfig kafkaConfig = connectionConfig.getKafkaConfig();
+        kafkaConfig = connectionConfig.getKafkaConfig();
         connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig);
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -133,13 +140,36 @@ public final class KafkaClientActor extends BaseClientActor {
 
     /**
      * Start Kafka publishers, expect "Status.Success" from each of them, then send "ClientConnected" to self.
+     * Consumers are started in {@link #startConsumerActors(ClientConnected)} once the client is connected.
      *
      * @param dryRun if set to true, exchange no message between the broker and the Ditto cluster.
      */
     private void connectClient(final boolean dryRun) {
         // start publisher
         startKafkaPublisher(dryRun);
-        // no command consumers as we don't support consuming from sources yet
+    }
+
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(final ClientConnected clientConnected) {
+        // ensure no previous consumers stay in memory
+        stopConsumerActors();
+        final ConsumerSettingsFactory settingsFactory = ConsumerSettingsFactory.getInstance(connection(), kafkaConfig);
+        final CommitterSettings committerSettings = settingsFactory.getCommitterSettings();
+        for (final Source source : getSourcesOrEmptyList()) {
+            for (int i = 0; i < source.getConsumerCount(); i++) {
+                final String consumerId = source.getIndex() + "-" + i;
+                log.info("Starting Kafka consumer actor <{}> for topics <{}>.", consumerId, source.getAddresses());
+                final KafkaConsumerStreamFactory streamFactory = DefaultKafkaConsumerStreamFactory.getInstance(
+                        settingsFactory.getConsumerSettings(consumerId), committerSettings);
+                final Props consumerActorProps = KafkaConsumerActor.props(connectionId(),
+                        getMessageMappingProcessorActor(), source, streamFactory, i,
+                        kafkaConfig.getConsumerMaxInFlight(), kafkaConfig.getConsumerProcessingTimeout());
+                kafkaConsumerActors.add(
+                        startChildActorConflictFree(KafkaConsumerActor.ACTOR_NAME_PREFIX + consumerId,
+                                consumerActorProps));
+            }
+        }
+        return CompletableFuture.completedFuture(DONE);
     }
 
     private void startKafkaPublisher(final boolean dryRun) {
@@ -154,6 +184,7 @@ public final class KafkaClientActor extends BaseClientActor {
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
+        stopConsumerActors();
         stopPublisherActor();
     }
 
@@ -170,6 +201,12 @@ public final class KafkaClientActor extends BaseClientActor {
         }
     }
 
+    private void stopConsumerActors() {
+        // the consumer actors shut down their consumer streams when stopped; uncommitted records are consumed again
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
+    }
+
     private State<BaseClientState, BaseClientData> handleStatusReportFromChildren(final Status.Status status) {
         if (pendingStatusReportsFromStreams.contains(getSender())) {
             pendingStatusReportsFromStreams.remove(getSender());
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.ResourceStatus;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Keep;
+
+/**
+ * Actor which consumes the topics of a {@link Source} from a Kafka broker and forwards the consumed records to the
+ * {@code MessageMappingProcessorActor}.
+ * <p>
+ * All partitions assigned to this consumer are consumed by a single stream which keeps up to {@code maxInFlight}
+ * records in flight. The offset of a record is committed only after the message mapping processor settled the record,
+ * i.e. mapped and dispatched it. Offsets are committed in batches and in the order of consumption, so records which
+ * were not settled when the consumer stream fails are consumed again. A record which is not settled within the
+ * processing timeout is logged as failed and its offset is committed anyway, so that a single slow record does not
+ * restart the consumption of all partitions.
+ * </p>
+ */
+final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    static final String KAFKA_TOPIC_HEADER = "kafka.topic";
+    static final String KAFKA_KEY_HEADER = "kafka.key";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final KafkaConsumerStreamFactory streamFactory;
+    private final int maxInFlight;
+    private final Duration processingTimeout;
+    @Nullable
+    private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+
+    @Nullable private Consumer.Control consumerControl;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final ConnectionId connectionId,
+            final ActorRef messageMappingProcessor,
+            final Source source,
+            final KafkaConsumerStreamFactory streamFactory,
+            final int consumerIndex,
+            final int maxInFlight,
+            final Duration processingTimeout) {
+
+        super(connectionId, String.join(";", source.getAddresses()), consumerIndex, messageMappingProcessor, source,
+                connectionConfig -> maxInFlight);
+        this.streamFactory = streamFactory;
+        this.maxInFlight = maxInFlight;
+        this.processingTimeout = processingTimeout;
+        headerEnforcementFilterFactory = source.getEnforcement()
+                .map(enforcement -> EnforcementFactoryFactory.newEnforcementFilterFactory(enforcement,
+                        PlaceholderFactory.newHeadersPlaceholder()))
+                .orElse(null);
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param connectionId ID of the connection this consumer belongs to.
+     * @param messageMappingProcessor the ActorRef to the {@code MessageMappingProcessor}.
+     * @param source the source whose topics are consumed.
+     * @param streamFactory creates the source of consumed records and the sink committing their offsets.
+     * @param consumerIndex index of the consumer among the consumers of the source.
+     * @param maxInFlight the maximum number of records consumed but not yet settled.
+     * @param processingTimeout how long a consumed record may take to be mapped and dispatched.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId,
+            final ActorRef messageMappingProcessor,
+            final Source source,
+            final KafkaConsumerStreamFactory streamFactory,
+            final int consumerIndex,
+            final int maxInFlight,
+            final Duration processingTimeout) {
+
+        return Props.create(KafkaConsumerActor.class, connectionId, messageMappingProcessor, source, streamFactory,
+                consumerIndex, maxInFlight, processingTimeout);
+    }
+
+    @Override
+    public void preStart() {
+        startConsumerStream();
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        stopConsumerStream();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(ConsumerMessage.CommittableMessage.class, this::handleCommittableMessage)
+                .match(Settlement.class, this::handleSettlement)
+                .match(SettlementTimeout.class, this::handleSettlementTimeout)
+                .match(StreamTerminated.class, this::handleStreamTerminated)
+                .matchEquals(RestartStream.INSTANCE, unused -> startConsumerStream())
+                .match(ResourceStatus.class, this::handleAddressStatus)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(unhandled -> {
+                    log.info("Unhandled message: {}", unhandled);
+                    unhandled(unhandled);
+                })
+                .build();
+    }
+
+    private void startConsumerStream() {
+        logWithConnectionId().info("Starting Kafka consumer stream for topics <{}>.", sourceAddress);
+        final ActorRef self = getSelf();
+        final Pair<Consumer.Control, CompletionStage<Done>> materializedValues =
+                streamFactory.newSource(new HashSet<>(source.getAddresses()))
+                        // mapAsync emits the offsets in the order of consumption even if records are settled out of
+                        // order, so a committed offset never skips an unsettled record
+                        .mapAsync(maxInFlight, message -> settle(self, message))
+                        .toMat(streamFactory.newCommitterSink(), Keep.both())
+                        .run(ActorMaterializer.create(getContext()));
+        final Consumer.Control control = materializedValues.first();
+        materializedValues.second()
+                .whenComplete((done, error) -> self.tell(new StreamTerminated(control, error), self));
+        consumerControl = control;
+        resetResourceStatus();
+    }
+
+    private CompletionStage<ConsumerMessage.CommittableOffset> settle(final ActorRef self,
+            final ConsumerMessage.CommittableMessage<String, String> message) {
+
+        return Patterns.ask(self, message, processingTimeout)
+                .handle((settled, error) -> {
+                    if (null != error) {
+                        // commit the offset anyway instead of failing the stream of all partitions
+                        self.tell(new SettlementTimeout(message.record(), error), ActorRef.noSender());
+                    }
+                    return message.committableOffset();
+                });
+    }
+
+    private void stopConsumerStream() {
+        if (null != consumerControl) {
+            logWithConnectionId().info("Stopping Kafka consumer stream for topics <{}>.", sourceAddress);
+            consumerControl.shutdown();
+            consumerControl = null;
+        }
+    }
+
+    private void handleStreamTerminated(final StreamTerminated streamTerminated) {
+        if (streamTerminated.control != consumerControl) {
+            // termination of a previous stream which was already replaced
+            return;
+        }
+        consumerControl = null;
+        final String statusDetails;
+        if (null != streamTerminated.error) {
+            logWithConnectionId().warning("Kafka consumer stream for topics <{}> failed: {}", sourceAddress,
+                    streamTerminated.error.getMessage());
+            statusDetails = "Consumer stream failed at " + Instant.now() + ": " + streamTerminated.error.getMessage();
+        } else {
+            logWithConnectionId().info("Kafka consumer stream for topics <{}> completed.", sourceAddress);
+            statusDetails = "Consumer stream completed at " + Instant.now();
+        }
+        handleAddressStatus(ConnectivityModelFactory.newSourceStatus(InstanceIdentifierSupplier.getInstance().get(),
+                ConnectivityStatus.FAILED, sourceAddress, statusDetails));
+        // uncommitted records are consumed again by the restarted stream
+        getTimers().startSingleTimer(RestartStream.INSTANCE, RestartStream.INSTANCE, processingTimeout);
+    }
+
+    private void handleCommittableMessage(final ConsumerMessage.CommittableMessage<String, String> message) {
+        final ConsumerRecord<String, String> record = message.record();
+        final ActorRef sender = getSender();
+        boolean settledByMappingActor = false;
+        final String hashKey = getHashKey(record);
+        Map<String, String> headers = null;
+        try {
+            if (log.isDebugEnabled()) {
+                logWithConnectionId().debug("Received record from Kafka topic <{}> partition <{}> offset <{}>: {}",
+                        record.topic(), record.partition(), record.offset(), record.value());
+            }
+            headers = extractHeadersFromRecord(record);
+            final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                    .withText(null != record.value() ? record.value() : "")
+                    .withAuthorizationContext(source.getAuthorizationContext())
+                    .withEnforcement(null != headerEnforcementFilterFactory
+                            ? headerEnforcementFilterFactory.getFilter(headers)
+                            : null)
+                    .withHeaderMapping(source.getHeaderMapping().orElse(null))
+                    .withSourceAddress(record.topic())
+                    .withPayloadMapping(source.getPayloadMapping())
+                    .build();
+            inboundMonitor.success(externalMessage);
+            forwardToMappingActor(externalMessage, hashKey, () -> sender.tell(Done.getInstance(), ActorRef.noSender()));
+            settledByMappingActor = true;
+        } catch (final DittoRuntimeException e) {
+            logWithConnectionId().info("Failed to handle Kafka record: {}", e.getMessage());
+            if (null != headers) {
+                // send response if headers were extracted successfully
+                forwardToMappingActor(e.setDittoHeaders(DittoHeaders.of(headers)), hashKey);
+                inboundMonitor.failure(headers, e);
+            } else {
+                inboundMonitor.failure(e);
+            }
+        } catch (final Exception e) {
+            logWithConnectionId().info("Failed to handle Kafka record: {}", e.getMessage());
+            if (null != headers) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+        }
+        if (!settledByMappingActor) {
+            // the record was handled without being mapped, its offset may be committed right away
+            sender.tell(Done.getInstance(), getSelf());
+        }
+    }
+
+    private void handleSettlementTimeout(final SettlementTimeout settlementTimeout) {
+        final ConsumerRecord<String, String> record = settlementTimeout.record;
+        logWithConnectionId().warning("Record from Kafka topic <{}> partition <{}> offset <{}> was not mapped and " +
+                        "dispatched in time, committing its offset anyway: {}", record.topic(), record.partition(),
+                record.offset(), settlementTimeout.error.getMessage());
+        inboundMonitor.exception("Record from topic {0} partition {1} offset {2} was not mapped and dispatched " +
+                "within {3}.", record.topic(), record.partition(), record.offset(), processingTimeout);
+    }
+
+    private static String getHashKey(final ConsumerRecord<String, String> record) {
+        // records with the same key (e.g. of the same device) are mapped in order
+        if (null != record.key()) {
+            return record.topic() + ":" + record.key();
+        }
+        return record.topic() + ":" + record.partition();
+    }
+
+    private static Map<String, String> extractHeadersFromRecord(final ConsumerRecord<String, String> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (null != header.value()) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        headers.put(KAFKA_TOPIC_HEADER, record.topic());
+        if (null != record.key()) {
+            headers.put(KAFKA_KEY_HEADER, record.key());
+        }
+        return headers;
+    }
+
+    private DiagnosticLoggingAdapter logWithConnectionId() {
+        ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
+        return log;
+    }
+
+    /**
+     * Message the consumer actor sends to itself when its consumer stream terminated.
+     */
+    private static final class StreamTerminated {
+
+        private final Consumer.Control control;
+        @Nullable private final Throwable error;
+
+        private StreamTerminated(final Consumer.Control control, @Nullable final Throwable error) {
+            this.control = control;
+            this.error = error;
+        }
+
+    }
+
+    /**
+     * Message the consumer actor sends to itself when a record was not settled within the processing timeout.
+     */
+    private static final class SettlementTimeout {
+
+        private final ConsumerRecord<String, String> record;
+        private final Throwable error;
+
+        private SettlementTimeout(final ConsumerRecord<String, String> record, final Throwable error) {
+            this.record = record;
+            this.error = error;
+        }
+
+    }
+
+    /**
+     * Message the consumer actor sends to itself in order to restart its terminated consumer stream.
+     */
+    private static final class RestartStream {
+
+        private static final RestartStream INSTANCE = new RestartStream();
+
+        private RestartStream() {
+            // intentionally empty
+        }
+
+    }
+
+}
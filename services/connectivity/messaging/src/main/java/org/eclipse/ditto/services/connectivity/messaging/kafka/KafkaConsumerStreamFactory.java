@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import akka.Done;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Creates the sources of consumed Kafka records and the sinks committing their offsets.
+ */
+interface KafkaConsumerStreamFactory {
+
+    /**
+     * Create an Akka stream source of the records of the given topics.
+     *
+     * @param topics the topics to subscribe to.
+     * @return Akka stream source that consumes the records of all partitions of {@code topics} assigned to it.
+     */
+    Source<ConsumerMessage.CommittableMessage<String, String>, Consumer.Control> newSource(Set<String> topics);
+
+    /**
+     * Create an Akka stream sink which commits offsets in batches.
+     *
+     * @return Akka stream sink that commits the offsets it receives.
+     */
+    Sink<ConsumerMessage.CommittableOffset, CompletionStage<Done>> newCommitterSink();
+
+}
@@ -30,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.Resolvers;
 import org.eclipse.ditto.services.connectivity.messaging.validation.AbstractProtocolValidator;
 
@@ -46,6 +47,7 @@ public final class KafkaValidator extends AbstractProtocolValidator {
 
     private static final String INVALID_TOPIC_FORMAT = "The provided topic ''{0}'' is not valid: {1}";
     private static final String NOT_EMPTY_FORMAT = "The provided {0} in your target address may not be empty.";
+    private static final String NOT_EMPTY_SOURCE_FORMAT = "The provided {0} in your source address may not be empty.";
 
     private static final Collection<String> ACCEPTED_SCHEMES =
             Collections.unmodifiableList(Arrays.asList("tcp", "ssl"));
@@ -82,10 +84,32 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     protected void validateSource(final Source source, final DittoHeaders dittoHeaders,
             final Supplier<String> sourceDescription) {
 
-        final String message = "Kafka connectivity currently does not provide sources.";
-        throw ConnectionConfigurationInvalidException.newBuilder(message)
-                .dittoHeaders(dittoHeaders)
-                .build();
+        // source addresses are the topics to consume, they must not contain placeholders
+        source.getAddresses().forEach(topic -> validateSourceTopic(topic, dittoHeaders));
+        source.getEnforcement().ifPresent(enforcement -> {
+            validateTemplate(enforcement.getInput(), dittoHeaders, PlaceholderFactory.newHeadersPlaceholder());
+            enforcement.getFilters().forEach(filterTemplate ->
+                    validateTemplate(filterTemplate, dittoHeaders, PlaceholderFactory.newThingPlaceholder()));
+        });
+        source.getHeaderMapping().ifPresent(mapping -> validateHeaderMapping(mapping, dittoHeaders));
+    }
+
+    private static void validateSourceTopic(final String topic, final DittoHeaders dittoHeaders) {
+        if (topic.isEmpty()) {
+            final String message = MessageFormat.format(NOT_EMPTY_SOURCE_FORMAT, "topic");
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        try {
+            Topic.validate(topic);
+        } catch (final InvalidTopicException e) {
+            final String message = MessageFormat.format(INVALID_TOPIC_FORMAT, topic, e.getMessage());
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .cause(e)
+                    .build();
+        }
     }
 
     @Override
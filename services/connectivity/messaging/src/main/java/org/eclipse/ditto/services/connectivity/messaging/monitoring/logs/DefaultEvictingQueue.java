@@ -10,73 +10,144 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-
 package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
 
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
 import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Default implementation of {@link org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.EvictingQueue}.
- * This implementation does not care about synchronization, as we don't care if there might be an element too much or
- * too little in the queue. We care about speed of the queue.
+ * This implementation is a lock-free ring buffer backed by an array of fixed size: adding an element costs one atomic
+ * increment and overwrites the oldest element if the queue is full. Reading the queue copies a snapshot of the
+ * elements in insertion order.
+ * <p>
+ * Concurrent writers and readers are not synchronized beyond that, as we don't care if there might be an element too
+ * much or too little in a snapshot. We care about speed of adding elements.
+ * </p>
  *
  * @param <E> type of elements in the queue.
  */
-@NotThreadSafe
+@ThreadSafe
 final class DefaultEvictingQueue<E> extends AbstractQueue<E> implements EvictingQueue<E> {
 
     private final int capacity;
-    private final Queue<E> elements;
+    private final AtomicReferenceArray<E> elements;
+
+    // number of elements ever added to the queue; the next element is written to slot tail % capacity
+    private final AtomicLong tail;
+
+    // number of elements ever removed from the queue by polling or clearing it
+    private final AtomicLong head;
 
     private DefaultEvictingQueue(final int capacity) {
         this.capacity = capacity;
-        this.elements = new ConcurrentLinkedQueue<>();
+        elements = new AtomicReferenceArray<>(capacity);
+        tail = new AtomicLong();
+        head = new AtomicLong();
     }
 
     /**
-     * Create a new synchronized evicting queue.
+     * Create a new evicting queue.
      *
      * @param capacity capacity of the queue.
      * @param <E> type of elements in the queue.
      * @return a new instance of {@code DefaultEvictingQueue}.
+     * @throws IllegalArgumentException if {@code capacity} is negative.
      */
     static <E> DefaultEvictingQueue<E> withCapacity(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity must not be negative but was <" + capacity + ">!");
+        }
         return new DefaultEvictingQueue<>(capacity);
     }
 
     @Override
     public Iterator<E> iterator() {
-        return elements.iterator();
+        return snapshot().iterator();
     }
 
     @Override
     public boolean offer(@Nullable final E e) {
-        if (capacity == elements.size()) {
-            elements.poll();
+        checkNotNull(e, "element");
+        if (0 < capacity) {
+            final long index = tail.getAndIncrement();
+            elements.set(slot(index), e);
         }
-        return elements.offer(e);
+        return true;
     }
 
     @Override
+    @Nullable
     public E poll() {
-        return elements.poll();
+        while (true) {
+            final long currentHead = head.get();
+            final long end = tail.get();
+            final long first = firstIndex(currentHead, end);
+            if (first == end) {
+                return null;
+            }
+            final E result = elements.get(slot(first));
+            if (head.compareAndSet(currentHead, first + 1)) {
+                return result;
+            }
+        }
     }
 
     @Override
+    @Nullable
     public E peek() {
-        return elements.peek();
+        final long end = tail.get();
+        final long first = firstIndex(head.get(), end);
+        return first < end ? elements.get(slot(first)) : null;
     }
 
     @Override
     public int size() {
-        return elements.size();
+        final long end = tail.get();
+        return (int) (end - firstIndex(head.get(), end));
+    }
+
+    @Override
+    public void clear() {
+        head.set(tail.get());
+    }
+
+    /**
+     * Copies the elements of this queue in insertion order.
+     *
+     * @return an unmodifiable snapshot of the elements.
+     */
+    List<E> snapshot() {
+        final long end = tail.get();
+        final long first = firstIndex(head.get(), end);
+        final List<E> result = new ArrayList<>((int) (end - first));
+        for (long index = first; index < end; index++) {
+            // if the writer of a slot did not set it yet, the slot is still null or holds the element it overwrites
+            final E element = elements.get(slot(index));
+            if (null != element) {
+                result.add(element);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private long firstIndex(final long currentHead, final long currentTail) {
+        return Math.max(currentHead, currentTail - capacity);
+    }
+
+    private int slot(final long index) {
+        return (int) (index % capacity);
     }
 
     @Override
@@ -89,19 +160,19 @@ final class DefaultEvictingQueue<E> extends AbstractQueue<E> implements Evicting
         }
         final DefaultEvictingQueue<?> that = (DefaultEvictingQueue<?>) o;
         return capacity == that.capacity &&
-                Objects.equals(elements, that.elements);
+                Objects.equals(snapshot(), that.snapshot());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(capacity, elements);
+        return Objects.hash(capacity, snapshot());
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 ", capacity=" + capacity +
-                ", elements=" + elements +
+                ", elements=" + snapshot() +
                 "]";
     }
 
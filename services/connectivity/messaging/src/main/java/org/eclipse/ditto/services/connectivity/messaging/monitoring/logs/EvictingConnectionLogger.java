@@ -15,9 +15,14 @@ package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.text.MessageFormat;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 
@@ -29,6 +34,7 @@ import org.eclipse.ditto.model.connectivity.LogCategory;
 import org.eclipse.ditto.model.connectivity.LogEntry;
 import org.eclipse.ditto.model.connectivity.LogLevel;
 import org.eclipse.ditto.model.connectivity.LogType;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.slf4j.Logger;
@@ -37,6 +43,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Implementation of {@link org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLogger} that
  * has fixed capacity for its success and failure logs and will evict old logs when new logs are added.
+ * <p>
+ * Logs are stored with their message template and arguments. Messages are only formatted when the logs are retrieved,
+ * as most logs are evicted before anybody retrieves them.
+ * </p>
  */
 final class EvictingConnectionLogger implements ConnectionLogger {
 
@@ -47,8 +57,8 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     private final LogCategory category;
     private final LogType type;
 
-    private final EvictingQueue<LogEntry> successLogs;
-    private final EvictingQueue<LogEntry> failureLogs;
+    private final DefaultEvictingQueue<PendingLogEntry> successLogs;
+    private final DefaultEvictingQueue<PendingLogEntry> failureLogs;
 
     private final String defaultSuccessMessage;
     private final String defaultFailureMessage;
@@ -104,10 +114,10 @@ final class EvictingConnectionLogger implements ConnectionLogger {
 
     @Override
     public void success(final ConnectionMonitor.InfoProvider infoProvider, final String message, final Object... messageArguments) {
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceWithCorrelationId(infoProvider.getCorrelationId(), "success", infoProvider, formattedMessage);
-        successLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.SUCCESS));
-
+        final PendingLogEntry pendingLogEntry =
+                newPendingLogEntry(infoProvider, LogLevel.SUCCESS, message, messageArguments);
+        logTraceWithCorrelationId("success", pendingLogEntry);
+        successLogs.add(pendingLogEntry);
     }
 
     @Override
@@ -124,9 +134,10 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     @Override
     public void failure(final ConnectionMonitor.InfoProvider infoProvider, final String message,
             final Object... messageArguments) {
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceWithCorrelationId(infoProvider.getCorrelationId(), "failure", infoProvider, formattedMessage);
-        failureLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.FAILURE));
+        final PendingLogEntry pendingLogEntry =
+                newPendingLogEntry(infoProvider, LogLevel.FAILURE, message, messageArguments);
+        logTraceWithCorrelationId("failure", pendingLogEntry);
+        failureLogs.add(pendingLogEntry);
     }
 
     @Override
@@ -137,9 +148,10 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     @Override
     public void exception(final ConnectionMonitor.InfoProvider infoProvider, final String message,
             final Object... messageArguments) {
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceWithCorrelationId(infoProvider.getCorrelationId(), "exception", infoProvider, formattedMessage);
-        failureLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.FAILURE));
+        final PendingLogEntry pendingLogEntry =
+                newPendingLogEntry(infoProvider, LogLevel.FAILURE, message, messageArguments);
+        logTraceWithCorrelationId("exception", pendingLogEntry);
+        failureLogs.add(pendingLogEntry);
     }
 
     @Override
@@ -151,28 +163,52 @@ final class EvictingConnectionLogger implements ConnectionLogger {
 
     @Override
     public Collection<LogEntry> getLogs() {
-        final List<LogEntry> logs = new ArrayList<>(successLogs.size() + failureLogs.size());
-        logs.addAll(successLogs);
-        logs.addAll(failureLogs);
+        final List<PendingLogEntry> successLogsSnapshot = successLogs.snapshot();
+        final List<PendingLogEntry> failureLogsSnapshot = failureLogs.snapshot();
+        final List<LogEntry> logs = new ArrayList<>(successLogsSnapshot.size() + failureLogsSnapshot.size());
+        successLogsSnapshot.forEach(pendingLogEntry -> logs.add(getLogEntry(pendingLogEntry)));
+        failureLogsSnapshot.forEach(pendingLogEntry -> logs.add(getLogEntry(pendingLogEntry)));
 
         LOGGER.trace("Returning logs: {}", logs);
         return logs;
     }
 
-    private String formatMessage(final ConnectionMonitor.InfoProvider infoProvider, final String message, final Object... messageArguments) {
-        final String formattedMessage = formatMessage(message, messageArguments);
-        return addHeadersAndPayloadToMessage(infoProvider, formattedMessage);
-    }
+    private PendingLogEntry newPendingLogEntry(final ConnectionMonitor.InfoProvider infoProvider,
+            final LogLevel logLevel, final String message, final Object... messageArguments) {
 
-    private String addHeadersAndPayloadToMessage(final ConnectionMonitor.InfoProvider infoProvider, final String initialMessage) {
+        // headers and payload are rendered right away to not keep the whole message until the logs are retrieved
+        final String headersAndPayloadMessage = logHeadersAndPayload
+                ? getDebugHeaderMessage(infoProvider) + getDebugPayloadMessage(infoProvider)
+                : "";
+        return new PendingLogEntry(infoProvider.getCorrelationId(), infoProvider.getTimestamp(),
+                infoProvider.getThingId(), logLevel, message, toImmutableArguments(messageArguments),
+                headersAndPayloadMessage);
+    }
 
-        if (this.logHeadersAndPayload) {
-            final String headersMessage = getDebugHeaderMessage(infoProvider);
-            final String payloadMessage = getDebugPayloadMessage(infoProvider);
-            return initialMessage + headersMessage + payloadMessage;
+    /**
+     * Keeps immutable arguments as they are, so that MessageFormat formats them like before, and renders all other
+     * arguments to strings with their current state.
+     */
+    private static Object[] toImmutableArguments(final Object... messageArguments) {
+        final Object[] result = new Object[messageArguments.length];
+        for (int i = 0; i < messageArguments.length; i++) {
+            final Object argument = messageArguments[i];
+            if (argument instanceof Date) {
+                result[i] = new Date(((Date) argument).getTime());
+            } else if (null == argument || isImmutable(argument)) {
+                result[i] = argument;
+            } else {
+                result[i] = String.valueOf(argument);
+            }
         }
+        return result;
+    }
 
-        return initialMessage;
+    private static boolean isImmutable(final Object argument) {
+        return argument instanceof String || argument instanceof Boolean || argument instanceof Character ||
+                argument instanceof Enum || argument instanceof Integer || argument instanceof Long ||
+                argument instanceof Double || argument instanceof Float || argument instanceof Short ||
+                argument instanceof Byte || argument instanceof BigInteger || argument instanceof BigDecimal;
     }
 
     private static String getDebugHeaderMessage(final ConnectionMonitor.InfoProvider infoProvider) {
@@ -232,20 +268,88 @@ final class EvictingConnectionLogger implements ConnectionLogger {
                 "]";
     }
 
-    private LogEntry getLogEntry(final ConnectionMonitor.InfoProvider infoProvider, final String message,
-            final LogLevel logLevel) {
-        return ImmutableLogEntry.getBuilder(infoProvider.getCorrelationId(), infoProvider.getTimestamp(), category, type, logLevel, message,
-                address, infoProvider.getThingId())
+    private LogEntry getLogEntry(final PendingLogEntry pendingLogEntry) {
+        return ImmutableLogEntry.getBuilder(pendingLogEntry.correlationId, pendingLogEntry.timestamp, category, type,
+                pendingLogEntry.logLevel, pendingLogEntry.formatMessage(), address, pendingLogEntry.thingId)
                 .build();
     }
 
-    private void logTraceWithCorrelationId(final String correlationId, final String level,
-            final ConnectionMonitor.InfoProvider infoProvider, final String message) {
+    private static void logTraceWithCorrelationId(final String level, final PendingLogEntry pendingLogEntry) {
         if (LOGGER.isTraceEnabled()) {
-            LogUtil.enhanceLogWithCorrelationId(correlationId);
+            LogUtil.enhanceLogWithCorrelationId(pendingLogEntry.correlationId);
             LOGGER.trace("Saving {} log at <{}> for thing <{}> with message: {}", level,
-                    infoProvider.getTimestamp(), infoProvider.getThingId(), message);
+                    pendingLogEntry.timestamp, pendingLogEntry.thingId, pendingLogEntry.formatMessage());
+        }
+    }
+
+    /**
+     * A log entry whose message is not formatted yet. Its arguments and the rendered headers and payload are
+     * immutable, so that formatting the message later yields the same message as formatting it right away.
+     */
+    private static final class PendingLogEntry {
+
+        private final String correlationId;
+        private final Instant timestamp;
+        @Nullable private final ThingId thingId;
+        private final LogLevel logLevel;
+        private final String message;
+        private final Object[] messageArguments;
+        private final String headersAndPayloadMessage;
+
+        private PendingLogEntry(final String correlationId, final Instant timestamp, @Nullable final ThingId thingId,
+                final LogLevel logLevel, final String message, final Object[] messageArguments,
+                final String headersAndPayloadMessage) {
+
+            this.correlationId = correlationId;
+            this.timestamp = timestamp;
+            this.thingId = thingId;
+            this.logLevel = logLevel;
+            this.message = message;
+            this.messageArguments = messageArguments;
+            this.headersAndPayloadMessage = headersAndPayloadMessage;
+        }
+
+        private String formatMessage() {
+            return EvictingConnectionLogger.formatMessage(message, messageArguments) + headersAndPayloadMessage;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final PendingLogEntry that = (PendingLogEntry) o;
+            return Objects.equals(correlationId, that.correlationId) &&
+                    Objects.equals(timestamp, that.timestamp) &&
+                    Objects.equals(thingId, that.thingId) &&
+                    logLevel == that.logLevel &&
+                    Objects.equals(message, that.message) &&
+                    Arrays.equals(messageArguments, that.messageArguments) &&
+                    Objects.equals(headersAndPayloadMessage, that.headersAndPayloadMessage);
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(correlationId, timestamp, thingId, logLevel, message,
+                    Arrays.hashCode(messageArguments), headersAndPayloadMessage);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    ", correlationId=" + correlationId +
+                    ", timestamp=" + timestamp +
+                    ", thingId=" + thingId +
+                    ", logLevel=" + logLevel +
+                    ", message=" + message +
+                    ", messageArguments=" + Arrays.toString(messageArguments) +
+                    ", headersAndPayloadMessage=" + headersAndPayloadMessage +
+                    "]";
+        }
+
     }
 
     /**
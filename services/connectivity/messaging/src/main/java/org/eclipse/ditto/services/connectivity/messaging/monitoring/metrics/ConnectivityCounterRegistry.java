@@ -29,11 +29,12 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.connectivity.AddressMetric;
 import org.eclipse.ditto.model.connectivity.Connection;
@@ -57,7 +58,8 @@ import org.eclipse.ditto.signals.commands.connectivity.query.RetrieveConnectionM
  */
 public final class ConnectivityCounterRegistry implements ConnectionMonitorRegistry<ConnectionMetricsCounter> {
 
-    private static final ConcurrentMap<MapKey, DefaultConnectionMetricsCounter> counters = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<ConnectionId, ConcurrentMap<String, AddressCounters>> counters =
+            new ConcurrentHashMap<>();
 
     private static final MeasurementWindow[] DEFAULT_WINDOWS = {ONE_MINUTE, ONE_HOUR, ONE_DAY};
 
@@ -104,23 +106,32 @@ public final class ConnectivityCounterRegistry implements ConnectionMonitorRegis
     @Override
     public void resetForConnection(final Connection connection) {
 
-        final ConnectionId connectionId = connection.getId();
-        counters.entrySet().stream()
-                .filter(entry -> entry.getKey().connectionId.equals(connectionId))
-                .forEach(entry -> entry.getValue().reset());
+        streamFor(connection.getId()).forEach(DefaultConnectionMetricsCounter::reset);
     }
 
     private static void initCounter(final ConnectionId connectionId, final MetricDirection metricDirection,
             final String address) {
         Arrays.stream(MetricType.values())
                 .filter(metricType -> metricType.supportsDirection(metricDirection))
-                .forEach(metricType -> {
-                    final MapKey key = new MapKey(connectionId, metricType, metricDirection, address);
-                    counters.computeIfAbsent(key, m -> {
-                        final SlidingWindowCounter counter = new SlidingWindowCounter(CLOCK_UTC, DEFAULT_WINDOWS);
-                        return new DefaultConnectionMetricsCounter(metricDirection, address, metricType, counter);
-                    });
-                });
+                .forEach(metricType -> getAddressCounters(connectionId, address)
+                        .getOrCreate(CLOCK_UTC, metricType, metricDirection));
+    }
+
+    /**
+     * Looks up the counters of an address without allocating on the hot path, i.e. if the counters already exist.
+     */
+    private static AddressCounters getAddressCounters(final ConnectionId connectionId, final String address) {
+        checkNotNull(connectionId, "connectionId");
+        checkNotNull(address, "address");
+        ConcurrentMap<String, AddressCounters> addressCounters = counters.get(connectionId);
+        if (null == addressCounters) {
+            addressCounters = counters.computeIfAbsent(connectionId, id -> new ConcurrentHashMap<>());
+        }
+        final AddressCounters result = addressCounters.get(address);
+        if (null != result) {
+            return result;
+        }
+        return addressCounters.computeIfAbsent(address, AddressCounters::new);
     }
 
     /**
@@ -158,11 +169,7 @@ public final class ConnectivityCounterRegistry implements ConnectionMonitorRegis
             final MetricDirection metricDirection,
             final String address) {
 
-        final MapKey key = new MapKey(connectionId, metricType, metricDirection, address);
-        return counters.computeIfAbsent(key, m -> {
-            final SlidingWindowCounter counter = new SlidingWindowCounter(clock, DEFAULT_WINDOWS);
-            return new DefaultConnectionMetricsCounter(metricDirection, address, metricType, counter);
-        });
+        return getAddressCounters(connectionId, address).getOrCreate(clock, metricType, metricDirection);
     }
 
     /**
@@ -293,14 +300,18 @@ public final class ConnectivityCounterRegistry implements ConnectionMonitorRegis
         return getCounter(connectionId, MetricType.PUBLISHED, MetricDirection.OUTBOUND, RESPONSES_ADDRESS);
     }
 
+    private static Stream<DefaultConnectionMetricsCounter> streamFor(final ConnectionId connectionId) {
+        final Map<String, AddressCounters> addressCounters = counters.get(connectionId);
+        if (null == addressCounters) {
+            return Stream.empty();
+        }
+        return addressCounters.values().stream().flatMap(AddressCounters::stream);
+    }
+
     private static Stream<DefaultConnectionMetricsCounter> streamFor(final ConnectionId connectionId,
             final MetricDirection metricDirection) {
 
-        return counters.entrySet()
-                .stream()
-                .filter(e -> e.getKey().connectionId.equals(connectionId))
-                .filter(e -> metricDirection == e.getValue().getMetricDirection())
-                .map(Map.Entry::getValue);
+        return streamFor(connectionId).filter(counter -> metricDirection == counter.getMetricDirection());
     }
 
     private static Map<String, AddressMetric> aggregateMetrics(final ConnectionId connectionId,
@@ -471,62 +482,43 @@ public final class ConnectivityCounterRegistry implements ConnectionMonitorRegis
     }
 
     /**
-     * Helper class to build the map key of the registry.
+     * Holds the counters of one address of a connection in an array indexed by metric direction and type, so that
+     * looking up a counter for a message is an array access instead of hashing a composite key.
      */
-    @Immutable
-    private static class MapKey {
+    private static final class AddressCounters {
+
+        private static final int NUMBER_OF_METRIC_TYPES = MetricType.values().length;
 
-        private final ConnectionId connectionId;
-        private final String metric;
-        private final String direction;
         private final String address;
+        private final AtomicReferenceArray<DefaultConnectionMetricsCounter> countersByDirectionAndType;
 
-        /**
-         * New map key.
-         *
-         * @param connectionId connection id
-         * @param metricType the metricType
-         * @param metricDirection the metricDirection
-         * @param address the address
-         */
-        MapKey(final ConnectionId connectionId,
-                final MetricType metricType,
-                final MetricDirection metricDirection,
-                final String address) {
-            this.connectionId = checkNotNull(connectionId, "connectionId");
-            this.metric = metricType.getName();
-            this.direction = metricDirection.getName();
-            this.address = checkNotNull(address, "address");
+        private AddressCounters(final String address) {
+            this.address = address;
+            countersByDirectionAndType =
+                    new AtomicReferenceArray<>(MetricDirection.values().length * NUMBER_OF_METRIC_TYPES);
         }
 
-        @Override
-        public boolean equals(@Nullable final Object o) {
-            if (this == o) {
-                return true;
+        private DefaultConnectionMetricsCounter getOrCreate(final Clock clock, final MetricType metricType,
+                final MetricDirection metricDirection) {
+
+            final int index = metricDirection.ordinal() * NUMBER_OF_METRIC_TYPES + metricType.ordinal();
+            final DefaultConnectionMetricsCounter existing = countersByDirectionAndType.get(index);
+            if (null != existing) {
+                return existing;
             }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+            final SlidingWindowCounter counter = new SlidingWindowCounter(clock, DEFAULT_WINDOWS);
+            final DefaultConnectionMetricsCounter created =
+                    new DefaultConnectionMetricsCounter(metricDirection, address, metricType, counter);
+            if (countersByDirectionAndType.compareAndSet(index, null, created)) {
+                return created;
             }
-            final MapKey mapKey = (MapKey) o;
-            return Objects.equals(connectionId, mapKey.connectionId) &&
-                    Objects.equals(metric, mapKey.metric) &&
-                    Objects.equals(direction, mapKey.direction) &&
-                    Objects.equals(address, mapKey.address);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(connectionId, metric, direction, address);
+            return countersByDirectionAndType.get(index);
         }
 
-        @Override
-        public String toString() {
-            return getClass().getSimpleName() + " [" +
-                    ", connectionId=" + connectionId +
-                    ", metric=" + metric +
-                    ", direction=" + direction +
-                    ", address=" + address +
-                    "]";
+        private Stream<DefaultConnectionMetricsCounter> stream() {
+            return IntStream.range(0, countersByDirectionAndType.length())
+                    .mapToObj(countersByDirectionAndType::get)
+                    .filter(Objects::nonNull);
         }
 
     }
@@ -17,26 +17,37 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
- * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
- * fill the {@code window}.
+ * Lock-free implementation of a sliding window using one ring buffer of time slots per {@link MeasurementWindow}.
+ * Depending on the given windows this implementation holds counters for time slots of the size of the window's
+ * resolution to fill the window.
+ * <p>
+ * Every bucket of a ring buffer is a single {@code long} which packs the lower 24 bits of the
+ * time slot it belongs to together with the count of that slot, so that recording a measurement is a single CAS on a
+ * primitive array and neither allocates nor needs to clean up old measurements: a bucket of an elapsed time slot is
+ * simply overwritten when its index is reused. Each ring buffer holds two windows worth of slots in order to tolerate
+ * measurements with timestamps ahead of the current time (e.g. due to clock skew).
+ * </p>
  */
 public final class SlidingWindowCounter {
 
+    private static final int SLOT_TAG_BITS = 24;
+    private static final int COUNT_BITS = Long.SIZE - SLOT_TAG_BITS;
+    private static final long SLOT_TAG_MASK = (1L << SLOT_TAG_BITS) - 1;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long HALF_SLOT_TAG_RANGE = 1L << (SLOT_TAG_BITS - 1);
+
     private final Clock clock;
     private final MeasurementWindow[] windows;
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final long[] resolutionsInMs;
+    private final AtomicLongArray[] successBuckets;
+    private final AtomicLongArray[] failureBuckets;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
 
     /**
      * Instantiates a new {@link SlidingWindowCounter} that records the measurements for the given time windows.
@@ -47,10 +58,15 @@ public final class SlidingWindowCounter {
         this.clock = clock;
         this.windows = windows;
 
-        minResolution = Stream.of(windows)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        resolutionsInMs = new long[windows.length];
+        successBuckets = new AtomicLongArray[windows.length];
+        failureBuckets = new AtomicLongArray[windows.length];
+        for (int i = 0; i < windows.length; i++) {
+            resolutionsInMs[i] = windows[i].getResolution().toMillis();
+            final int slotsPerWindow = (int) (windows[i].getWindow().toMillis() / resolutionsInMs[i]);
+            successBuckets[i] = new AtomicLongArray(2 * slotsPerWindow + 1);
+            failureBuckets[i] = new AtomicLongArray(2 * slotsPerWindow + 1);
+        }
     }
 
     /**
@@ -82,7 +98,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -92,55 +108,48 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
         if (success) {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
-            incrementMeasurements(ts, successMeasurements);
+            updateTimestamp(lastSuccessTimestamp, ts);
+            incrementMeasurements(ts, successBuckets);
         } else {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
-            incrementMeasurements(ts, failureMeasurements);
-        }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
+            updateTimestamp(lastFailureTimestamp, ts);
+            incrementMeasurements(ts, failureBuckets);
         }
     }
 
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
-    }
-
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windows) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
+    private static void updateTimestamp(final AtomicLong toUpdate, final long ts) {
+        long previous = toUpdate.get();
+        while (previous < ts && !toUpdate.compareAndSet(previous, ts)) {
+            previous = toUpdate.get();
         }
     }
 
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
+    private void incrementMeasurements(final long ts, final AtomicLongArray[] buckets) {
+        for (int i = 0; i < windows.length; i++) {
+            incrementBucket(buckets[i], getSlot(ts, resolutionsInMs[i]));
+        }
     }
 
-    private boolean isOld(long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
+    private static void incrementBucket(final AtomicLongArray buckets, final long slot) {
+        final int index = getIndex(slot, buckets.length());
+        final long slotTag = slot & SLOT_TAG_MASK;
+        while (true) {
+            final long bucket = buckets.get(index);
+            final long bucketCount = bucket & COUNT_MASK;
+            final long updated;
+            if (bucketCount == 0 || getSlotTag(bucket) == slotTag) {
+                updated = (slotTag << COUNT_BITS) | Math.min(bucketCount + 1, COUNT_MASK);
+            } else if (((slotTag - getSlotTag(bucket)) & SLOT_TAG_MASK) < HALF_SLOT_TAG_RANGE) {
+                // the bucket belongs to an elapsed slot: start counting for the new one
+                updated = (slotTag << COUNT_BITS) | 1;
+            } else {
+                // the bucket already belongs to a more recent slot, this measurement is out of all windows
+                return;
+            }
+            if (buckets.compareAndSet(index, bucket, updated)) {
+                return;
             }
         }
-        return true;
     }
 
     /**
@@ -151,35 +160,34 @@ public final class SlidingWindowCounter {
      */
     Map<Duration, Long> getCounts(final boolean success) {
         if (success) {
-            return getCounts(successMeasurements);
+            return getCounts(successBuckets);
         }
-        return getCounts(failureMeasurements);
+        return getCounts(failureBuckets);
     }
 
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param buckets the ring buffers to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements) {
+    private Map<Duration, Long> getCounts(final AtomicLongArray[] buckets) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
+        final long now = clock.millis();
+        for (int i = 0; i < windows.length; i++) {
             // min is where we start to sum up the slots
-            final long windowInMs = window.getWindow().toMillis();
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long min = getSlot(now - windowInMs, resolutionInMs);
+            final long windowInMs = windows[i].getWindow().toMillis();
+            final long min = getSlot(now - windowInMs, resolutionsInMs[i]);
             // max is the current active time slot
-            final long max = getSlot(now, resolutionInMs);
+            final long max = getSlot(now, resolutionsInMs[i]);
             long sum = 0;
-            for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                long slot = e.getKey();
-                if (slot > min && slot <= max) {
-                    sum += e.getValue();
+            for (long slot = min + 1; slot <= max; slot++) {
+                final long bucket = buckets[i].get(getIndex(slot, buckets[i].length()));
+                if (getSlotTag(bucket) == (slot & SLOT_TAG_MASK)) {
+                    sum += bucket & COUNT_MASK;
                 }
             }
-            result.put(window.getWindow(), sum);
+            result.put(windows[i].getWindow(), sum);
         }
         return result;
     }
@@ -188,23 +196,35 @@ public final class SlidingWindowCounter {
      * Reset all counts.
      */
     void reset() {
-        reset(successMeasurements);
-        reset(failureMeasurements);
+        reset(successBuckets);
+        reset(failureBuckets);
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
+    private static void reset(final AtomicLongArray[] buckets) {
+        for (final AtomicLongArray ringBuffer : buckets) {
+            for (int i = 0; i < ringBuffer.length(); i++) {
+                ringBuffer.set(i, 0L);
+            }
+        }
     }
 
-    private long getSlot(long ts, final long resolutionInMs) {
+    private static long getSlot(final long ts, final long resolutionInMs) {
         return ts / resolutionInMs;
     }
 
+    private static int getIndex(final long slot, final int numberOfBuckets) {
+        return (int) Math.floorMod(slot, (long) numberOfBuckets);
+    }
+
+    private static long getSlotTag(final long bucket) {
+        return bucket >>> COUNT_BITS;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                "successCounts=" + getCounts(true) +
+                ", failureCounts=" + getCounts(false) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
                 "]";
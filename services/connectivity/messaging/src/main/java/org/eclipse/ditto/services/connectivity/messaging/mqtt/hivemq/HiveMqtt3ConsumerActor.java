@@ -54,13 +54,16 @@ public final class HiveMqtt3ConsumerActor extends BaseConsumerActor {
     private final boolean dryRun;
     @Nullable private final EnforcementFilterFactory<String, CharSequence> topicEnforcementFilterFactory;
     private final PayloadMapping payloadMapping;
+    private boolean overloaded;
 
     @SuppressWarnings("unused")
     private HiveMqtt3ConsumerActor(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
             final Source source, final boolean dryRun) {
-        super(connectionId, String.join(";", source.getAddresses()), messageMappingProcessor, source);
+        super(connectionId, String.join(";", source.getAddresses()), 0, messageMappingProcessor, source,
+                connectionConfig -> connectionConfig.getMqttConfig().getMaxInFlight());
         this.dryRun = dryRun;
         this.payloadMapping = source.getPayloadMapping();
+        overloaded = false;
         topicEnforcementFilterFactory = source.getEnforcement()
                 .map(enforcement -> EnforcementFactoryFactory
                         .newEnforcementFilterFactory(enforcement,
@@ -89,6 +92,7 @@ public final class HiveMqtt3ConsumerActor extends BaseConsumerActor {
                 .match(Mqtt3Publish.class, this::isDryRun,
                         message -> log.info("Dropping message in dryRun mode: {}", message))
                 .match(Mqtt3Publish.class, this::handleMqttMessage)
+                .match(Settlement.class, this::handleSettlement)
                 .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .matchAny(unhandled -> {
                     log.info("Unhandled message: {}", unhandled);
@@ -100,8 +104,21 @@ public final class HiveMqtt3ConsumerActor extends BaseConsumerActor {
     private void handleMqttMessage(final Mqtt3Publish message) {
         log.info("Received message: {}", message);
         final Optional<ExternalMessage> externalMessageOptional = hiveToExternalMessage(message, connectionId);
-        externalMessageOptional.ifPresent(
-                externalMessage -> forwardToMappingActor(externalMessage, message.getTopic().toString()));
+        externalMessageOptional.ifPresent(externalMessage -> {
+            if (!hasCredit() && !overloaded) {
+                // the MQTT client acknowledges messages on receipt, so the broker cannot be asked to pause
+                overloaded = true;
+                log.info("Source <{}> has no credit left, messages are piling up.", sourceAddress);
+                inboundMonitor.getLogger()
+                        .failure("Source <{0}> receives messages faster than they are processed.", sourceAddress);
+            }
+            forwardToMappingActor(externalMessage, message.getTopic().toString(), () -> {});
+        });
+    }
+
+    @Override
+    protected void onCreditAvailable() {
+        overloaded = false;
     }
 
     private Optional<ExternalMessage> hiveToExternalMessage(final Mqtt3Publish message,
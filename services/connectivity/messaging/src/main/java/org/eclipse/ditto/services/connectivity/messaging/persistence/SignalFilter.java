@@ -16,9 +16,12 @@ import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.COMMANDS;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -63,12 +66,14 @@ final class SignalFilter {
 
     private final Connection connection;
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
-    private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final Map<String, ConnectionMonitor> dispatchedMonitors;
+    private final Map<String, ConnectionMonitor> filteredMonitors;
 
     /**
      * Constructs a new SignalFilter instance with the given {@code connection}.
      *
      * @param connection the connection to filter the signals on.
+     * @param connectionMonitorRegistry the registry to resolve the monitors of the connection's targets from.
      */
     SignalFilter(final Connection connection, final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
         this.connection = connection;
@@ -76,7 +81,17 @@ final class SignalFilter {
         final ThingsFieldExpressionFactory fieldExpressionFactory =
                 new ModelBasedThingsFieldExpressionFactory();
         queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
-        this.connectionMonitorRegistry = connectionMonitorRegistry;
+        dispatchedMonitors = getMonitorsByTargetAddress(connection,
+                address -> connectionMonitorRegistry.forOutboundDispatched(connection.getId(), address));
+        filteredMonitors = getMonitorsByTargetAddress(connection,
+                address -> connectionMonitorRegistry.forOutboundFiltered(connection.getId(), address));
+    }
+
+    private static Map<String, ConnectionMonitor> getMonitorsByTargetAddress(final Connection connection,
+            final Function<String, ConnectionMonitor> monitorResolver) {
+        final Map<String, ConnectionMonitor> monitors = new HashMap<>();
+        connection.getTargets().forEach(target -> monitors.computeIfAbsent(target.getAddress(), monitorResolver));
+        return Collections.unmodifiableMap(monitors);
     }
 
     /**
@@ -91,12 +106,10 @@ final class SignalFilter {
         return connection.getTargets().stream()
                 .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
                 // count authorized targets
-                .peek(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection.getId(), authorizedTarget.getAddress())
-                        .success(signal))
+                .peek(authorizedTarget -> dispatchedMonitors.get(authorizedTarget.getAddress()).success(signal))
                 .filter(t -> isTargetSubscribedForTopic(t, signal))
                 // count authorized + filtered targets
-                .peek(filteredTarget -> connectionMonitorRegistry.forOutboundFiltered(connection.getId(), filteredTarget.getAddress())
-                        .success(signal))
+                .peek(filteredTarget -> filteredMonitors.get(filteredTarget.getAddress()).success(signal))
                 .collect(Collectors.toList());
     }
 
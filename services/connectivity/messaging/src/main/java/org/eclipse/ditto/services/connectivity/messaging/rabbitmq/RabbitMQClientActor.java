@@ -196,7 +196,7 @@ public final class RabbitMQClientActor extends BaseClientActor {
     protected CompletionStage<Status.Status> startConsumerActors(final ClientConnected clientConnected) {
         if (clientConnected instanceof RmqConsumerChannelCreated) {
             final RmqConsumerChannelCreated rmqConsumerChannelCreated = (RmqConsumerChannelCreated) clientConnected;
-            startCommandConsumers(rmqConsumerChannelCreated.getChannel());
+            startCommandConsumers(rmqConsumerChannelCreated.getChannel(), rmqConsumerChannelCreated.getChannelActor());
         }
         return super.startConsumerActors(clientConnected);
     }
@@ -336,14 +336,25 @@ public final class RabbitMQClientActor extends BaseClientActor {
         consumerByAddressWithIndex.clear();
     }
 
-    private void startCommandConsumers(final Channel channel) {
+    private void startCommandConsumers(final Channel channel, final ActorRef channelActor) {
         log.info("Starting to consume queues...");
         ensureQueuesExist(channel);
         stopCommandConsumers();
-        startConsumers(channel);
+        startConsumers(channel, channelActor);
     }
 
-    private void startConsumers(final Channel channel) {
+    private void startConsumers(final Channel channel, final ActorRef channelActor) {
+        final int maxInFlight = connectivityConfig.getConnectionConfig().getRabbitMQConfig().getMaxInFlight();
+        if (maxInFlight > 0) {
+            try {
+                // the prefetch count applies to each consumer subsequently created on the channel
+                channel.basicQos(maxInFlight);
+            } catch (final IOException e) {
+                connectionLogger.failure("Failed to limit unacknowledged deliveries to {0}: {1}", maxInFlight,
+                        e.getMessage());
+                log.warning("Failed to limit unacknowledged deliveries to <{}>: <{}>", maxInFlight, e.getMessage());
+            }
+        }
         getSourcesOrEmptyList().forEach(source ->
                 source.getAddresses().forEach(sourceAddress -> {
                     for (int i = 0; i < source.getConsumerCount(); i++) {
@@ -354,8 +365,8 @@ public final class RabbitMQClientActor extends BaseClientActor {
                         final PayloadMapping payloadMapping = source.getPayloadMapping();
                         final ActorRef consumer = startChildActorConflictFree(
                                 CONSUMER_ACTOR_PREFIX + addressWithIndex,
-                                RabbitMQConsumerActor.props(sourceAddress, getMessageMappingProcessorActor(), source,
-                                        connectionId()));
+                                RabbitMQConsumerActor.props(sourceAddress, i, getMessageMappingProcessorActor(), source,
+                                        channel, channelActor, connectionId()));
                         consumerByAddressWithIndex.put(addressWithIndex, consumer);
                         try {
                             final String consumerTag = channel.basicConsume(sourceAddress, false,
@@ -431,15 +442,21 @@ public final class RabbitMQClientActor extends BaseClientActor {
     private static final class RmqConsumerChannelCreated implements ClientConnected {
 
         private final Channel channel;
+        private final ActorRef channelActor;
 
-        private RmqConsumerChannelCreated(final Channel channel) {
+        private RmqConsumerChannelCreated(final Channel channel, final ActorRef channelActor) {
             this.channel = channel;
+            this.channelActor = channelActor;
         }
 
         private Channel getChannel() {
             return channel;
         }
 
+        private ActorRef getChannelActor() {
+            return channelActor;
+        }
+
         @Override
         public Optional<ActorRef> getOrigin() {
             return Optional.empty();
@@ -461,7 +478,7 @@ public final class RabbitMQClientActor extends BaseClientActor {
 
         @Override
         public Object apply(final Channel channel, final ActorRef channelActor) {
-            recipient.tell(new RmqConsumerChannelCreated(channel), channelActor);
+            recipient.tell(new RmqConsumerChannelCreated(channel, channelActor), channelActor);
             return channel;
         }
 
@@ -495,22 +512,8 @@ public final class RabbitMQClientActor extends BaseClientActor {
         public void handleDelivery(final String consumerTag, final Envelope envelope,
                 final AMQP.BasicProperties properties, final byte[] body) {
 
-            ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId());
-            try {
-                consumerActor.tell(new Delivery(envelope, properties, body), RabbitMQClientActor.this.getSelf());
-            } catch (final Exception e) {
-                connectionLogger.failure("Failed to process delivery {0}: {1}", envelope.getDeliveryTag(),
-                        e.getMessage());
-                log.info("Failed to process delivery <{}>: {}", envelope.getDeliveryTag(), e.getMessage());
-            } finally {
-                try {
-                    getChannel().basicAck(envelope.getDeliveryTag(), false);
-                } catch (final IOException e) {
-                    connectionLogger.failure("Failed to ack delivery {0}: {1}", envelope.getDeliveryTag(),
-                            e.getMessage());
-                    log.info("Failed to ack delivery <{}>: {}", envelope.getDeliveryTag(), e.getMessage());
-                }
-            }
+            // the consumer actor acknowledges the delivery after it was mapped and dispatched
+            consumerActor.tell(new Delivery(envelope, properties, body), RabbitMQClientActor.this.getSelf());
         }
 
         @Override
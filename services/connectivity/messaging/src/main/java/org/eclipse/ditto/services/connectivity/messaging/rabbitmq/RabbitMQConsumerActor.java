@@ -38,7 +38,9 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 
+import com.newmotion.akka.rabbitmq.ChannelMessage;
 import com.rabbitmq.client.BasicProperties;
+import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Delivery;
 import com.rabbitmq.client.Envelope;
 
@@ -50,6 +52,10 @@ import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Actor which receives message from an RabbitMQ source and forwards them to a {@code MessageMappingProcessorActor}.
+ * <p>
+ * Deliveries are acknowledged after they were settled. The channel is shared by all consumers of a connection and must
+ * not be used concurrently, so the acknowledgements are sent to the actor which owns the channel.
+ * </p>
  */
 public final class RabbitMQConsumerActor extends BaseConsumerActor {
 
@@ -61,11 +67,15 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
     @Nullable
     private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
     private final PayloadMapping payloadMapping;
+    private final Channel channel;
+    private final ActorRef channelActor;
 
     @SuppressWarnings("unused")
     private RabbitMQConsumerActor(final ConnectionId connectionId, final String sourceAddress,
-            final ActorRef messageMappingProcessor, final Source source) {
-        super(connectionId, sourceAddress, messageMappingProcessor, source);
+            final int consumerIndex, final ActorRef messageMappingProcessor, final Source source,
+            final Channel channel, final ActorRef channelActor) {
+        super(connectionId, sourceAddress, consumerIndex, messageMappingProcessor, source,
+                connectionConfig -> connectionConfig.getRabbitMQConfig().getMaxInFlight());
         headerEnforcementFilterFactory =
                 source.getEnforcement()
                         .map(value ->
@@ -73,27 +83,34 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
                                         PlaceholderFactory.newHeadersPlaceholder()))
                         .orElse(null);
         this.payloadMapping = source.getPayloadMapping();
+        this.channel = channel;
+        this.channelActor = channelActor;
     }
 
     /**
      * Creates Akka configuration object {@link Props} for this {@code RabbitMQConsumerActor}.
      *
      * @param sourceAddress the source address.
+     * @param consumerIndex index of the consumer among the consumers of the source address.
      * @param messageMappingProcessor the message mapping processor where received messages are forwarded to
      * @param source the configured connection source for the consumer actor.
+     * @param channel the channel the deliveries are received on.
+     * @param channelActor the actor which owns {@code channel} and acknowledges deliveries on it.
      * @param connectionId ID of the connection
      * @return the Akka configuration Props object.
      */
-    static Props props(final String sourceAddress, final ActorRef messageMappingProcessor, final Source source,
-            final ConnectionId connectionId) {
+    static Props props(final String sourceAddress, final int consumerIndex, final ActorRef messageMappingProcessor,
+            final Source source, final Channel channel, final ActorRef channelActor, final ConnectionId connectionId) {
 
-        return Props.create(RabbitMQConsumerActor.class, connectionId, sourceAddress, messageMappingProcessor, source);
+        return Props.create(RabbitMQConsumerActor.class, connectionId, sourceAddress, consumerIndex,
+                messageMappingProcessor, source, channel, channelActor);
     }
 
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(Delivery.class, this::handleDelivery)
+                .match(Settlement.class, this::handleSettlement)
                 .match(ResourceStatus.class, this::handleAddressStatus)
                 .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .matchAny(m -> {
@@ -109,6 +126,7 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
         final String hashKey = envelope.getExchange() + ":" + envelope.getRoutingKey();
 
         Map<String, String> headers = null;
+        boolean settledByMappingActor = false;
         try {
             final String correlationId = properties.getCorrelationId();
             LogUtil.enhanceLogWithCorrelationId(log, correlationId);
@@ -135,7 +153,8 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
             externalMessageBuilder.withPayloadMapping(payloadMapping);
             final ExternalMessage externalMessage = externalMessageBuilder.build();
             inboundMonitor.success(externalMessage);
-            forwardToMappingActor(externalMessage, hashKey);
+            forwardToMappingActor(externalMessage, hashKey, () -> acknowledge(envelope));
+            settledByMappingActor = true;
         } catch (final DittoRuntimeException e) {
             log.warning("Processing delivery {} failed: {}", envelope.getDeliveryTag(), e.getMessage());
             if (headers != null) {
@@ -152,9 +171,30 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
             } else {
                 inboundMonitor.exception(e);
             }
+        } finally {
+            if (!settledByMappingActor) {
+                acknowledge(envelope);
+            }
         }
     }
 
+    private void acknowledge(final Envelope envelope) {
+        final long deliveryTag = envelope.getDeliveryTag();
+        final ChannelMessage channelMessage = ChannelMessage.apply(currentChannel -> {
+            // delivery tags are only valid on the channel they were received on; deliveries of a channel which was
+            // replaced after a reconnect are redelivered by the broker
+            if (currentChannel == channel) {
+                try {
+                    currentChannel.basicAck(deliveryTag, false);
+                } catch (final Exception e) {
+                    log.info("Failed to ack delivery <{}>: {}", deliveryTag, e.getMessage());
+                }
+            }
+            return null;
+        }, true);
+        channelActor.tell(channelMessage, getSelf());
+    }
+
     private static boolean shouldBeInterpretedAsBytes(@Nullable final String contentType) {
         return contentType != null && contentType.startsWith(CONTENT_TYPE_APPLICATION_OCTET_STREAM);
     }
@@ -216,7 +216,7 @@ public abstract class AbstractConsumerActorTest<M> {
         }};
     }
 
-    private ActorRef setupMessageMappingProcessorActor(final ActorRef clientActor,
+    protected ActorRef setupMessageMappingProcessorActor(final ActorRef clientActor,
             final ActorRef conciergeForwarderActor) {
 
         final Map<String, MappingContext> mappings = new HashMap<>();
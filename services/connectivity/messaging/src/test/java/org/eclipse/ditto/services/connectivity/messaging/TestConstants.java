@@ -132,6 +132,7 @@ import akka.actor.Props;
 import akka.cluster.sharding.ShardRegion;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.pattern.Patterns;
+import akka.routing.ConsistentHashingRouter;
 import akka.testkit.TestProbe;
 
 public final class TestConstants {
@@ -847,6 +848,17 @@ public final class TestConstants {
         return new AbstractMap.SimpleImmutableEntry<>(key, value);
     }
 
+    /**
+     * Creates the settlement the message mapping processor replies for a message forwarded by a consumer actor with
+     * credit.
+     *
+     * @param envelope the envelope the consumer actor sent to the message mapping processor.
+     * @return the settlement to send back to the consumer actor.
+     */
+    public static Object settle(final ConsistentHashingRouter.ConsistentHashableEnvelope envelope) {
+        return ((BaseConsumerActor.UnsettledMessage) envelope.message()).toSettlement();
+    }
+
     public static final class ConciergeForwarderActorMock extends AbstractActor {
 
         private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
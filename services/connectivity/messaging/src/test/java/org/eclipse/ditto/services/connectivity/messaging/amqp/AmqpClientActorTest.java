@@ -181,7 +181,7 @@ public final class AmqpClientActorTest extends AbstractBaseClientActorTest {
     @Before
     public void init() throws JMSException {
         Mockito.reset(mockConnection, mockSession, mockConsumer);
-        when(mockConnection.createSession(Session.CLIENT_ACKNOWLEDGE)).thenReturn(mockSession);
+        when(mockConnection.createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE)).thenReturn(mockSession);
         listenerArgumentCaptor = ArgumentCaptor.forClass(JmsConnectionListener.class);
         doNothing().when(mockConnection).addConnectionListener(listenerArgumentCaptor.capture());
         prepareSession(mockSession, mockConsumer);
@@ -408,7 +408,8 @@ public final class AmqpClientActorTest extends AbstractBaseClientActorTest {
     @Test
     public void testCreateSessionFails() throws JMSException {
         new TestKit(actorSystem) {{
-            doThrow(JMS_EXCEPTION).when(mockConnection).createSession(Session.CLIENT_ACKNOWLEDGE);
+            doThrow(JMS_EXCEPTION).when(mockConnection)
+                    .createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE);
             final Props props =
                     AmqpClientActor.propsForTests(connection,
                             getRef(), (ac, el) -> mockConnection);
@@ -422,7 +423,7 @@ public final class AmqpClientActorTest extends AbstractBaseClientActorTest {
     @Test
     public void testCreateConsumerFails() throws JMSException {
         new TestKit(actorSystem) {{
-            doReturn(mockSession).when(mockConnection).createSession(Session.CLIENT_ACKNOWLEDGE);
+            doReturn(mockSession).when(mockConnection).createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE);
             doThrow(JMS_EXCEPTION).when(mockSession).createConsumer(any());
             final Props props =
                     AmqpClientActor.propsForTests(connection,
@@ -462,7 +463,7 @@ public final class AmqpClientActorTest extends AbstractBaseClientActorTest {
         doReturn(mockSession) // initial session
                 .doReturn(newSession) // recovered session
                 .when(mockConnection)
-                .createSession(Session.CLIENT_ACKNOWLEDGE);
+                .createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE);
         prepareSession(newSession, recoveredConsumer);
 
         new TestKit(actorSystem) {{
@@ -487,7 +488,8 @@ public final class AmqpClientActorTest extends AbstractBaseClientActorTest {
 
             // now close session
             jmsConnectionListener.onConnectionRestored(URI.create("amqp://broker:5671"));
-            verify(mockConnection, timeout(2000).times(2)).createSession(Session.CLIENT_ACKNOWLEDGE);
+            verify(mockConnection, timeout(2000).times(2))
+                    .createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE);
 
             // close is called on old session
             verify(mockSession, timeout(2000).times(2)).close();
@@ -874,7 +876,7 @@ public final class AmqpClientActorTest extends AbstractBaseClientActorTest {
         final CountDownLatch latch = new CountDownLatch(1);
         try {
             new TestKit(actorSystem) {{
-                when(mockConnection.createSession(Session.CLIENT_ACKNOWLEDGE))
+                when(mockConnection.createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE))
                         .thenAnswer(invocationOnMock -> waitForLatchAndReturn(latch, mockSession));
                 final Props props =
                         AmqpClientActor.propsForTests(connection, getRef(),
@@ -162,6 +162,29 @@ public class AmqpConsumerActorTest extends AbstractConsumerActorTest<JmsMessage>
         }};
     }
 
+    @Test
+    public void acknowledgeMessageAfterSettlement() throws JMSException {
+        new TestKit(actorSystem) {{
+            final TestProbe mappingActor = TestProbe.apply(actorSystem);
+            final ActorRef processor = setupActor(getRef(), null);
+            final ActorRef underTest = actorSystem.actorOf(getConsumerActorProps(mappingActor.ref(),
+                    ConnectivityModelFactory.emptyPayloadMapping()));
+
+            final JmsMessage message = Mockito.spy(getInboundMessage(
+                    TestConstants.header("device_id", TestConstants.Things.THING_ID)));
+            underTest.tell(message, null);
+
+            final ConsistentHashingRouter.ConsistentHashableEnvelope envelope =
+                    mappingActor.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+            Mockito.verify(message, Mockito.never()).acknowledge();
+
+            // the mapping actor settles the message after mapping and dispatching it
+            processor.tell(envelope, underTest);
+            expectMsgClass(Command.class);
+            Mockito.verify(message, Mockito.timeout(3000L)).acknowledge();
+        }};
+    }
+
     @SafeVarargs // varargs array is not modified or passed around
     private static JmsMessage getJmsMessage(final String plainPayload, final String correlationId,
             final Map.Entry<String, ?>... headers) {
@@ -257,7 +280,7 @@ public class AmqpConsumerActorTest extends AbstractConsumerActorTest<JmsMessage>
 
     private static ConsumerData consumerData(final String address, final MessageConsumer messageConsumer,
             final Source source) {
-        return ConsumerData.of(source, address, address + "_with_index", messageConsumer);
+        return ConsumerData.of(source, address, address + "_with_index", 0, messageConsumer);
     }
 
     private static MessageMappingProcessor getMessageMappingProcessor(@Nullable final MappingContext mappingContext) {
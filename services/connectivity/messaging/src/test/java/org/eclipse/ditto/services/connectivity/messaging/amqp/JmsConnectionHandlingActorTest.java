@@ -77,7 +77,7 @@ public class JmsConnectionHandlingActorTest extends WithMockServers {
 
     @Before
     public void init() throws JMSException {
-        when(mockConnection.createSession(Session.CLIENT_ACKNOWLEDGE)).thenReturn(mockSession);
+        when(mockConnection.createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE)).thenReturn(mockSession);
     }
 
     @Test
@@ -161,7 +161,7 @@ public class JmsConnectionHandlingActorTest extends WithMockServers {
             assertThat(recovered.getSession()).isSameAs(mockSession);
 
             verify(existingSession).close();
-            verify(mockConnection).createSession(Session.CLIENT_ACKNOWLEDGE);
+            verify(mockConnection).createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE);
             verify(mockSession, times(connection.getSources()
                     .stream()
                     .mapToInt(s -> s.getAddresses().size() * s.getConsumerCount())
@@ -175,7 +175,8 @@ public class JmsConnectionHandlingActorTest extends WithMockServers {
         new TestKit(actorSystem) {{
 
             final JmsConnection failsToCreateSession = Mockito.mock(JmsConnection.class);
-            when(failsToCreateSession.createSession(Session.CLIENT_ACKNOWLEDGE)).thenThrow(new JMSException("failed to create session"));
+            when(failsToCreateSession.createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE))
+                    .thenThrow(new JMSException("failed to create session"));
 
             final Props props = JMSConnectionHandlingActor.props(connection, e -> {}, jmsConnectionFactory);
             final ActorRef connectionHandlingActor = watch(actorSystem.actorOf(props));
@@ -184,7 +185,7 @@ public class JmsConnectionHandlingActorTest extends WithMockServers {
 
             expectMsgClass(ConnectionFailure.class);
             verify(mockSession).close();
-            verify(failsToCreateSession).createSession(Session.CLIENT_ACKNOWLEDGE);
+            verify(failsToCreateSession).createSession(JMSConnectionHandlingActor.INDIVIDUAL_ACKNOWLEDGE);
         }};
     }
 
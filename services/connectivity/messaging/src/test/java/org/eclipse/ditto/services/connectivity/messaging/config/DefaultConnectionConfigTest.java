@@ -109,8 +109,23 @@ public final class DefaultConnectionConfigTest {
                     softly.assertThat(mqttConfig.getSourceBufferSize())
                             .as(MqttConfig.MqttConfigValue.SOURCE_BUFFER_SIZE.getConfigPath())
                             .isEqualTo(7);
+                    softly.assertThat(mqttConfig.getMaxInFlight())
+                            .as(MqttConfig.MqttConfigValue.MAX_IN_FLIGHT.getConfigPath())
+                            .isEqualTo(17);
                 });
 
+        softly.assertThat(underTest.getRabbitMQConfig())
+                .as("rabbitMQConfig")
+                .satisfies(rabbitMQConfig -> softly.assertThat(rabbitMQConfig.getMaxInFlight())
+                        .as(RabbitMQConfig.RabbitMQConfigValue.MAX_IN_FLIGHT.getConfigPath())
+                        .isEqualTo(19));
+
+        softly.assertThat(underTest.getAmqp10Config())
+                .as("amqp10Config")
+                .satisfies(amqp10Config -> softly.assertThat(amqp10Config.getConsumerMaxInFlight())
+                        .as(Amqp10Config.Amqp10ConfigValue.CONSUMER_MAX_IN_FLIGHT.getConfigPath())
+                        .isEqualTo(13));
+
         softly.assertThat(underTest.getHttpPushConfig())
                 .as("httpPushConfig")
                 .satisfies(httpPushConfig -> {
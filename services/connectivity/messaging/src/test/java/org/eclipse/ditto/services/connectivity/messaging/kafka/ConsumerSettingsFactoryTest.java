@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.config.SaslConfigs;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerSettings;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.kafka.ConsumerSettingsFactory}.
+ */
+public final class ConsumerSettingsFactoryTest {
+
+    private static final String[] BOOTSTRAP_SERVERS = {
+            "foo:123",
+            "bar:456",
+            "baz:789"
+    };
+    private static final String USERNAME = "user";
+    @SuppressWarnings("squid:S2068")
+    private static final String PASSWORD = "pw";
+    private static final String SOURCE_ADDRESS = "telemetry";
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+
+    private static KafkaConfig kafkaConfig;
+    private static Connection connection;
+
+    private ConsumerSettingsFactory underTest;
+
+    @BeforeClass
+    public static void initTestFixture() {
+        final String uri = "tcp://" + USERNAME + ":" + PASSWORD + "@" + BOOTSTRAP_SERVERS[BOOTSTRAP_SERVERS.length - 1];
+        final Map<String, String> specificConfig = new HashMap<>();
+        final String additionalBootstrapServers = Arrays.stream(BOOTSTRAP_SERVERS)
+                .limit(BOOTSTRAP_SERVERS.length - 1L)
+                .collect(Collectors.joining(","));
+        specificConfig.put("bootstrapServers", additionalBootstrapServers);
+
+        connection =
+                ConnectivityModelFactory.newConnectionBuilder(CONNECTION_ID, ConnectionType.KAFKA,
+                        ConnectivityStatus.OPEN, uri)
+                        .sources(singletonList(
+                                ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, SOURCE_ADDRESS)))
+                        .specificConfig(specificConfig)
+                        .build();
+
+        kafkaConfig = TestConstants.CONNECTION_CONFIG.getKafkaConfig();
+    }
+
+    @Before
+    public void setUp() {
+        underTest = ConsumerSettingsFactory.getInstance(connection, kafkaConfig);
+    }
+
+    @Test
+    public void addsBootstrapServers() {
+        final ConsumerSettings<String, String> settings = underTest.getConsumerSettings("0-0");
+
+        final scala.collection.immutable.Map<String, String> properties = settings.properties();
+        final List<String> servers = properties.get(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG)
+                .map(s -> Arrays.asList(s.split(",")))
+                .getOrElse(null);
+
+        assertThat(servers).containsExactlyInAnyOrder(BOOTSTRAP_SERVERS);
+    }
+
+    @Test
+    public void consumersOfConnectionShareConsumerGroup() {
+        final scala.collection.immutable.Map<String, String> first = underTest.getConsumerSettings("0-0").properties();
+        final scala.collection.immutable.Map<String, String> second = underTest.getConsumerSettings("0-1").properties();
+
+        assertThat(first.get(ConsumerConfig.GROUP_ID_CONFIG).get()).isEqualTo(CONNECTION_ID.toString());
+        assertThat(second.get(ConsumerConfig.GROUP_ID_CONFIG).get()).isEqualTo(CONNECTION_ID.toString());
+        assertThat(first.get(CommonClientConfigs.CLIENT_ID_CONFIG).get())
+                .isNotEqualTo(second.get(CommonClientConfigs.CLIENT_ID_CONFIG).get());
+    }
+
+    @Test
+    public void addsAuthentication() {
+        final scala.collection.immutable.Map<String, String> properties =
+                underTest.getConsumerSettings("0-0").properties();
+
+        assertThat(properties.get(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG).get()).isEqualTo("SASL_PLAINTEXT");
+        assertThat(properties.get(SaslConfigs.SASL_MECHANISM).get()).isEqualTo("PLAIN");
+        assertThat(properties.get(SaslConfigs.SASL_JAAS_CONFIG).get()).contains(USERNAME, PASSWORD);
+    }
+
+    @Test
+    public void offsetsAreNotAutoCommitted() {
+        final scala.collection.immutable.Map<String, String> properties =
+                underTest.getConsumerSettings("0-0").properties();
+
+        assertThat(properties.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG).get()).isEqualTo("false");
+    }
+
+    @Test
+    public void createsCommitterSettingsFromConfig() {
+        final CommitterSettings committerSettings = underTest.getCommitterSettings();
+
+        assertThat(committerSettings.maxBatch()).isEqualTo(1000L);
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.routing.ConsistentHashingRouter;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.Future;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Unit test for {@link KafkaConsumerActor}.
+ */
+public final class KafkaConsumerActorTest {
+
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+    private static final String TOPIC = "topic";
+    private static final Source SOURCE = ConnectivityModelFactory.newSourceBuilder()
+            .address(TOPIC)
+            .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+            .build();
+    private static final Duration PROCESSING_TIMEOUT = Duration.ofSeconds(30L);
+    private static final Duration SHORT_PROCESSING_TIMEOUT = Duration.ofSeconds(1L);
+    private static final FiniteDuration NO_MESSAGE_TIMEOUT = FiniteDuration.create(300L, TimeUnit.MILLISECONDS);
+
+    private ActorSystem actorSystem;
+    private TestProbe mappingActor;
+    private TestProbe committer;
+    private AtomicInteger startedStreams;
+    private Consumer.Control control;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+        mappingActor = TestProbe.apply(actorSystem);
+        committer = TestProbe.apply(actorSystem);
+        startedStreams = new AtomicInteger();
+        control = Mockito.mock(Consumer.Control.class);
+        Mockito.when(control.shutdown()).thenReturn(CompletableFuture.completedFuture(Done.getInstance()));
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void consumeAllPartitionsAndCommitOffsetsInOrderAfterSettlement() {
+        final List<ConsumerMessage.CommittableMessage<String, String>> messages = Arrays.asList(
+                message(0, 0L, "a"),
+                message(1, 0L, "b"),
+                message(0, 1L, "c"));
+        final ActorRef underTest = startConsumer(messages, 10, PROCESSING_TIMEOUT);
+
+        // the records of all partitions are in flight at the same time
+        final ConsistentHashingRouter.ConsistentHashableEnvelope first = expectForwarded();
+        final ConsistentHashingRouter.ConsistentHashableEnvelope second = expectForwarded();
+        final ConsistentHashingRouter.ConsistentHashableEnvelope third = expectForwarded();
+
+        underTest.tell(TestConstants.settle(third), mappingActor.ref());
+        underTest.tell(TestConstants.settle(second), mappingActor.ref());
+        committer.expectNoMessage(NO_MESSAGE_TIMEOUT);
+
+        underTest.tell(TestConstants.settle(first), mappingActor.ref());
+        committer.expectMsg(messages.get(0).committableOffset());
+        committer.expectMsg(messages.get(1).committableOffset());
+        committer.expectMsg(messages.get(2).committableOffset());
+    }
+
+    @Test
+    public void limitRecordsInFlight() {
+        final List<ConsumerMessage.CommittableMessage<String, String>> messages = Arrays.asList(
+                message(0, 0L, "a"),
+                message(1, 0L, "b"));
+        final ActorRef underTest = startConsumer(messages, 1, PROCESSING_TIMEOUT);
+
+        final ConsistentHashingRouter.ConsistentHashableEnvelope first = expectForwarded();
+        mappingActor.expectNoMessage(NO_MESSAGE_TIMEOUT);
+
+        underTest.tell(TestConstants.settle(first), mappingActor.ref());
+        committer.expectMsg(messages.get(0).committableOffset());
+        expectForwarded();
+    }
+
+    @Test
+    public void commitOffsetOfRecordWhichIsNotSettledInTime() {
+        final List<ConsumerMessage.CommittableMessage<String, String>> messages = Arrays.asList(
+                message(0, 0L, "a"),
+                message(0, 1L, "b"));
+        final ActorRef underTest = startConsumer(messages, 10, SHORT_PROCESSING_TIMEOUT);
+
+        expectForwarded();
+        final ConsistentHashingRouter.ConsistentHashableEnvelope second = expectForwarded();
+        underTest.tell(TestConstants.settle(second), mappingActor.ref());
+
+        // the first record times out; its offset is committed without restarting the stream
+        final FiniteDuration timeout = FiniteDuration.create(SHORT_PROCESSING_TIMEOUT.toMillis() * 5,
+                TimeUnit.MILLISECONDS);
+        committer.expectMsg(timeout, messages.get(0).committableOffset());
+        committer.expectMsg(messages.get(1).committableOffset());
+        assertThat(startedStreams.get()).isEqualTo(1);
+        Mockito.verify(control, Mockito.never()).shutdown();
+    }
+
+    private ActorRef startConsumer(final List<ConsumerMessage.CommittableMessage<String, String>> messages,
+            final int maxInFlight, final Duration processingTimeout) {
+
+        final KafkaConsumerStreamFactory streamFactory = new KafkaConsumerStreamFactory() {
+
+            @Override
+            public akka.stream.javadsl.Source<ConsumerMessage.CommittableMessage<String, String>, Consumer.Control>
+            newSource(final Set<String> topics) {
+                return akka.stream.javadsl.Source.from(messages)
+                        .concat(akka.stream.javadsl.Source.maybe())
+                        .mapMaterializedValue(notUsed -> {
+                            startedStreams.incrementAndGet();
+                            return control;
+                        });
+            }
+
+            @Override
+            public Sink<ConsumerMessage.CommittableOffset, CompletionStage<Done>>
+            newCommitterSink() {
+                return Flow.<ConsumerMessage.CommittableOffset>create()
+                        .map(offset -> {
+                            committer.ref().tell(offset, ActorRef.noSender());
+                            return offset;
+                        })
+                        .toMat(Sink.ignore(), Keep.right());
+            }
+
+        };
+        return actorSystem.actorOf(KafkaConsumerActor.props(CONNECTION_ID, mappingActor.ref(), SOURCE, streamFactory,
+                0, maxInFlight, processingTimeout));
+    }
+
+    private ConsistentHashingRouter.ConsistentHashableEnvelope expectForwarded() {
+        return mappingActor.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+    }
+
+    private static ConsumerMessage.CommittableMessage<String, String> message(final int partition, final long offset,
+            final String key) {
+
+        final ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, partition, offset, key, "{}");
+        return new ConsumerMessage.CommittableMessage<>(record, new TestOffset(partition, offset));
+    }
+
+    /**
+     * Offset which is not committed to a broker but passed to the test committer.
+     */
+    private static final class TestOffset implements ConsumerMessage.CommittableOffset {
+
+        private final ConsumerMessage.PartitionOffset partitionOffset;
+
+        private TestOffset(final int partition, final long offset) {
+            partitionOffset = new ConsumerMessage.PartitionOffset(
+                    new ConsumerMessage.GroupTopicPartition("group", TOPIC, partition), offset);
+        }
+
+        @Override
+        public ConsumerMessage.PartitionOffset partitionOffset() {
+            return partitionOffset;
+        }
+
+        @Override
+        public Future<Done> commitScaladsl() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Done> commitJavadsl() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long batchSize() {
+            return 1L;
+        }
+
+        @Override
+        public String toString() {
+            return "TestOffset [" + partitionOffset + "]";
+        }
+
+    }
+
+}
@@ -77,11 +77,24 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "telemetry");
 
+        underTest.validateSource(source, DittoHeaders.empty(), () -> "");
+    }
+
+    @Test
+    public void testInvalidSourceAddress() {
+        final Source emptyTopic = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "");
+        final Source invalidTopic = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events/");
+        final Source placeholderTopic = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "{{thing:id}}");
+
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(emptyTopic, DittoHeaders.empty(), () -> ""));
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(invalidTopic, DittoHeaders.empty(), () -> ""));
         assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
-                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+                .isThrownBy(() -> underTest.validateSource(placeholderTopic, DittoHeaders.empty(), () -> ""));
     }
 
     @Test
@@ -17,14 +17,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.Test;
 
-import nl.jqno.equalsverifier.EqualsVerifier;
-
 /**
  * Unit test for {@link DefaultEvictingQueue}.
  */
@@ -54,11 +55,52 @@ public final class DefaultEvictingQueueTest {
                 .collect(Collectors.toList());
     }
 
+    @Test
+    public void pollReturnsElementsInInsertionOrder() {
+        final EvictingQueue<String> queue = DefaultEvictingQueue.withCapacity(CAPACITY);
+        final List<String> strings = createRandomStrings(CAPACITY + 2);
+        queue.addAll(strings);
+
+        assertThat(queue.peek()).isEqualTo(strings.get(2));
+        assertThat(queue.poll()).isEqualTo(strings.get(2));
+        assertThat(queue.poll()).isEqualTo(strings.get(3));
+        assertThat(queue).containsExactlyElementsOf(strings.subList(4, strings.size()));
+
+        queue.clear();
+
+        assertThat(queue).isEmpty();
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    public void concurrentOffersKeepAtMostCapacityElements() throws InterruptedException {
+        final EvictingQueue<String> queue = DefaultEvictingQueue.withCapacity(CAPACITY);
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executorService.execute(() -> createRandomStrings(1000).forEach(queue::offer));
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10L, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(queue).hasSize(CAPACITY).doesNotContainNull();
+    }
+
     @Test
     public void testEqualsAndHashcode() {
-        EqualsVerifier.forClass(
-                DefaultEvictingQueue.class)
-                .verify();
+        final List<String> strings = createRandomStrings(CAPACITY);
+        final EvictingQueue<String> queue = DefaultEvictingQueue.withCapacity(CAPACITY);
+        queue.addAll(createRandomStrings(3));
+        queue.addAll(strings);
+        final EvictingQueue<String> equalQueue = DefaultEvictingQueue.withCapacity(CAPACITY);
+        equalQueue.addAll(strings);
+        final EvictingQueue<String> queueWithOtherCapacity = DefaultEvictingQueue.withCapacity(CAPACITY + 1);
+        queueWithOtherCapacity.addAll(strings);
+
+        // equality is based on the current elements, not on the state of the ring buffer
+        assertThat(queue).isEqualTo(equalQueue);
+        assertThat(queue.hashCode()).isEqualTo(equalQueue.hashCode());
+        assertThat(queue).isNotEqualTo(queueWithOtherCapacity);
+        assertThat(queue).isNotEqualTo(DefaultEvictingQueue.withCapacity(CAPACITY));
     }
 
 }
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.text.MessageFormat;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Map;
@@ -309,6 +310,18 @@ public final class EvictingConnectionLoggerTest {
                 .hasMessageContainingPayload(payloadWithBadCharacters);
     }
 
+    @Test
+    public void mutableArgumentsAreRenderedWhenLogging() {
+        final EvictingConnectionLogger logger = builder().build();
+        final StringBuilder argument = new StringBuilder("before");
+
+        logger.success(randomInfoProvider(), "argument {0} and number {1}", argument, 1234);
+        argument.append(" and after");
+
+        LogEntryAssertions.assertThat(getFirstAndOnlyEntry(logger))
+                .hasMessage(MessageFormat.format("argument {0} and number {1}", "before", 1234));
+    }
+
     @Test
     public void testEqualsAndHashcode() {
         EqualsVerifier.forClass(EvictingConnectionLogger.class)
@@ -13,10 +13,14 @@
 package org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -63,4 +67,54 @@ public class SlidingWindowCounterTest {
 
     }
 
+    @Test
+    public void testMeasurementsOutsideWindowAreIgnored() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(), MeasurementWindow.ONE_MINUTE);
+        final long now = System.currentTimeMillis();
+
+        counter.increment(true, now);
+        // reuses the ring buffer bucket of "now" but belongs to an elapsed slot
+        counter.increment(true, now - 13 * MeasurementWindow.ONE_MINUTE.getResolution().toMillis());
+        counter.increment(true, now - 2 * MeasurementWindow.ONE_MINUTE.getWindow().toMillis());
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 1L);
+        assertThat(counter.getLastSuccessMeasurementAt()).isEqualTo(now);
+    }
+
+    @Test
+    public void testReset() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(),
+                MeasurementWindow.ONE_MINUTE, MeasurementWindow.ONE_DAY);
+        counter.increment(true);
+        counter.increment(false);
+
+        counter.reset();
+
+        assertThat(counter.getCounts(true)).containsOnly(entry(MeasurementWindow.ONE_MINUTE.getWindow(), 0L),
+                entry(MeasurementWindow.ONE_DAY.getWindow(), 0L));
+        assertThat(counter.getCounts(false)).containsOnly(entry(MeasurementWindow.ONE_MINUTE.getWindow(), 0L),
+                entry(MeasurementWindow.ONE_DAY.getWindow(), 0L));
+    }
+
+    @Test
+    public void testConcurrentIncrements() throws InterruptedException {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(), MeasurementWindow.ONE_HOUR);
+        final long ts = System.currentTimeMillis();
+        final int threads = 8;
+        final int incrementsPerThread = 10_000;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    counter.increment(true, ts);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counter.getCounts(true))
+                .containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), (long) threads * incrementsPerThread);
+    }
+
 }
@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.header;
+
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
@@ -22,13 +25,21 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.PayloadMapping;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.junit.Test;
+import org.mockito.Mockito;
 
+import com.newmotion.akka.rabbitmq.ChannelMessage;
 import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Delivery;
 import com.rabbitmq.client.Envelope;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.routing.ConsistentHashingRouter;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
 
 /**
  * Unit test for {@link RabbitMQConsumerActor}.
@@ -40,7 +51,64 @@ public final class RabbitMQConsumerActorTest extends AbstractConsumerActorTest<D
 
     @Override
     protected Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping) {
-        return RabbitMQConsumerActor.props("rmq-consumer", mappingActor,
+        return getConsumerActorProps(mappingActor, payloadMapping, Mockito.mock(Channel.class),
+                actorSystem.deadLetters());
+    }
+
+    @Test
+    public void acknowledgeDeliveryOnChannelActorAfterSettlement() throws IOException {
+        new TestKit(actorSystem) {{
+            final TestProbe concierge = TestProbe.apply(actorSystem);
+            final TestProbe mappingActor = TestProbe.apply(actorSystem);
+            final TestProbe channelActor = TestProbe.apply(actorSystem);
+            final ActorRef processor = setupMessageMappingProcessorActor(getRef(), concierge.ref());
+            final Channel channel = Mockito.mock(Channel.class);
+            final ActorRef underTest = actorSystem.actorOf(getConsumerActorProps(mappingActor.ref(),
+                    ConnectivityModelFactory.emptyPayloadMapping(), channel, channelActor.ref()));
+
+            underTest.tell(getInboundMessage(header("device_id", TestConstants.Things.THING_ID)), getRef());
+
+            final ConsistentHashingRouter.ConsistentHashableEnvelope envelope =
+                    mappingActor.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+            channelActor.expectNoMessage();
+
+            // the mapping actor settles the delivery after mapping and dispatching it
+            processor.tell(envelope, underTest);
+            concierge.expectMsgClass(ModifyThing.class);
+            final ChannelMessage channelMessage = channelActor.expectMsgClass(ChannelMessage.class);
+            Mockito.verify(channel, Mockito.never()).basicAck(Mockito.anyLong(), Mockito.anyBoolean());
+
+            // the channel is only used by the channel actor
+            channelMessage.onChannel().apply(channel);
+            Mockito.verify(channel).basicAck(ENVELOPE.getDeliveryTag(), false);
+        }};
+    }
+
+    @Test
+    public void doNotAcknowledgeDeliveryOnReplacedChannel() throws IOException {
+        new TestKit(actorSystem) {{
+            final TestProbe concierge = TestProbe.apply(actorSystem);
+            final TestProbe channelActor = TestProbe.apply(actorSystem);
+            final ActorRef processor = setupMessageMappingProcessorActor(getRef(), concierge.ref());
+            final Channel channel = Mockito.mock(Channel.class);
+            final ActorRef underTest = actorSystem.actorOf(getConsumerActorProps(processor,
+                    ConnectivityModelFactory.emptyPayloadMapping(), channel, channelActor.ref()));
+
+            underTest.tell(getInboundMessage(header("device_id", TestConstants.Things.THING_ID)), getRef());
+            concierge.expectMsgClass(ModifyThing.class);
+            final ChannelMessage channelMessage = channelActor.expectMsgClass(ChannelMessage.class);
+
+            // the channel actor recreated the channel after a reconnect
+            final Channel replacedChannel = Mockito.mock(Channel.class);
+            channelMessage.onChannel().apply(replacedChannel);
+            Mockito.verify(replacedChannel, Mockito.never()).basicAck(Mockito.anyLong(), Mockito.anyBoolean());
+        }};
+    }
+
+    private static Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping,
+            final Channel channel, final ActorRef channelActor) {
+
+        return RabbitMQConsumerActor.props("rmq-consumer", 0, mappingActor,
                 ConnectivityModelFactory.newSourceBuilder()
                         .address("rmq-consumer")
                         .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
@@ -48,6 +116,8 @@ public final class RabbitMQConsumerActorTest extends AbstractConsumerActorTest<D
                         .headerMapping(TestConstants.HEADER_MAPPING)
                         .payloadMapping(payloadMapping)
                         .build(),
+                channel,
+                channelActor,
                 CONNECTION_ID);
     }
 
@@ -16,6 +16,7 @@ import static org.eclipse.ditto.services.gateway.util.FireAndForgetMessageUtil.i
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,6 +36,7 @@ import org.eclipse.ditto.model.messages.Message;
 import org.eclipse.ditto.model.messages.MessageTimeoutException;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.services.utils.aggregator.StreamRetrieveThings;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.base.WithOptionalEntity;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -52,10 +54,13 @@ import akka.actor.Status;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.http.javadsl.model.ContentType;
 import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpCharsets;
 import akka.http.javadsl.model.HttpEntities;
 import akka.http.javadsl.model.HttpHeader;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.MediaType;
+import akka.http.javadsl.model.MediaTypes;
 import akka.http.javadsl.model.StatusCodes;
 import akka.http.javadsl.model.Uri;
 import akka.http.javadsl.model.headers.Location;
@@ -64,6 +69,7 @@ import akka.http.scaladsl.model.ContentType$;
 import akka.http.scaladsl.model.EntityStreamSizeException;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.AskTimeoutException;
+import akka.stream.javadsl.Source;
 import akka.util.ByteString;
 import scala.concurrent.duration.Duration;
 import scala.util.Either;
@@ -80,6 +86,13 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
      */
     public static final String COMPLETE_MESSAGE = "complete";
 
+    /**
+     * Media type of newline delimited JSON, in which the things of a {@link StreamRetrieveThings} message are streamed.
+     */
+    public static final MediaType.WithFixedCharset APPLICATION_NDJSON =
+            MediaTypes.customWithFixedCharset("application", "x-ndjson", HttpCharsets.UTF_8,
+                    Collections.emptyMap(), false);
+
     private static final ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
     private static final ContentType CONTENT_TYPE_TEXT = ContentTypes.TEXT_PLAIN_UTF8;
 
@@ -332,6 +345,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 })
                 .match(DittoRuntimeException.class, this::handleDittoRuntimeException)
                 .match(ReceiveTimeout.class, this::handleReceiveTimeout)
+                .match(StreamRetrieveThings.class, this::handleStreamRetrieveThings)
                 .match(Command.class, command -> { // receive Commands
                     LogUtil.enhanceLogWithCorrelationId(logger, command);
                     logger.debug("Got <Command> message {}, telling the targetActor about it.", command);
@@ -353,6 +367,28 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 .build();
     }
 
+    private void handleStreamRetrieveThings(final StreamRetrieveThings streamRetrieveThings) {
+        final DittoHeaders dittoHeaders = streamRetrieveThings.getRetrieveThings().getDittoHeaders();
+        LogUtil.enhanceLogWithCorrelationId(logger, dittoHeaders.getCorrelationId());
+        logger.debug("Got <{}> message, telling the targetActor about it.", StreamRetrieveThings.class.getSimpleName());
+
+        proxyActor.tell(streamRetrieveThings, getSelf());
+
+        // the things are streamed in a source; errors are replied like to commands
+        getContext().become(ReceiveBuilder.create()
+                .match(Source.class, thingJsons -> completeWithResult(createNdjsonResponse(thingJsons, dittoHeaders)))
+                .build()
+                .orElse(commandResponseAwaiting));
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse createNdjsonResponse(final Source<?, ?> thingJsons, final DittoHeaders dittoHeaders) {
+        final Source<ByteString, ?> lines =
+                ((Source<String, ?>) thingJsons).map(thingJson -> ByteString.fromString(thingJson + "\n"));
+        return enhanceResponseWithExternalDittoHeaders(HttpResponse.create(), dittoHeaders)
+                .withEntity(HttpEntities.createChunked(APPLICATION_NDJSON.toContentType(), lines));
+    }
+
     private HttpResponse handleMessageResponseMessage(final MessageCommandResponse<?, ?> messageCommandResponse) {
         HttpResponse httpResponse;
 
@@ -35,6 +35,7 @@ import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.security.config.DevOpsConfig;
 import org.eclipse.ditto.services.utils.devops.DevOpsCommandsActor;
 import org.eclipse.ditto.signals.commands.common.RetrieveConfig;
+import org.eclipse.ditto.signals.commands.common.RetrieveHeavyHitters;
 import org.eclipse.ditto.signals.commands.devops.ChangeLogLevel;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
 import org.eclipse.ditto.signals.commands.devops.ExecutePiggybackCommand;
@@ -61,6 +62,7 @@ public final class DevOpsRoute extends AbstractRoute {
     private static final String PATH_LOGGING = "logging";
     private static final String PATH_PIGGYBACK = "piggyback";
     private static final String PATH_CONFIG = "config";
+    private static final String PATH_HEAVY_HITTERS = "heavyhitters";
 
     /**
      * Timeout in milliseconds of how long to wait for all responses before returning.
@@ -74,7 +76,7 @@ public final class DevOpsRoute extends AbstractRoute {
 
     /**
      * Actor path of DevOpsCommandsActor for ALL services. Not starting DevOpsCommandsActor at this path results
-     * in the service not getting any RetrieveConfig commands.
+     * in the service not getting any RetrieveConfig or RetrieveHeavyHitters commands.
      */
     private static final String DEVOPS_COMMANDS_ACTOR_SELECTION = "/user/devOpsCommandsActor";
 
@@ -119,7 +121,10 @@ public final class DevOpsRoute extends AbstractRoute {
                                     ),
                                     rawPathPrefix(PathMatchers.slash().concat(PATH_CONFIG),
                                             () -> // /devops/config
-                                                    config(ctx, createHeaders(optionalTimeout)))
+                                                    config(ctx, createHeaders(optionalTimeout))),
+                                    rawPathPrefix(PathMatchers.slash().concat(PATH_HEAVY_HITTERS),
+                                            () -> // /devops/heavyhitters
+                                                    heavyHitters(ctx, createHeaders(optionalTimeout)))
                             )
                     )
             );
@@ -147,6 +152,13 @@ public final class DevOpsRoute extends AbstractRoute {
         return buildRouteWithOptionalServiceNameAndInstance(ctx, dittoHeaders, this::routeConfig);
     }
 
+    /*
+     * @return {@code /devops/heavyhitters} route.
+     */
+    private Route heavyHitters(final RequestContext ctx, final DittoHeaders dittoHeaders) {
+        return buildRouteWithOptionalServiceNameAndInstance(ctx, dittoHeaders, this::routeHeavyHitters);
+    }
+
     /*
      * @return {@code /devops/<logging|piggyback>/} route.
      */
@@ -287,6 +299,27 @@ public final class DevOpsRoute extends AbstractRoute {
 
     }
 
+    private Route routeHeavyHitters(final RequestContext ctx,
+            final String serviceName,
+            final String instance,
+            final DittoHeaders dittoHeaders) {
+
+        final DittoHeaders headersWithAggregate = dittoHeaders.toBuilder()
+                .putHeader(DevOpsCommandsActor.AGGREGATE_HEADER,
+                        String.valueOf(serviceName == null || instance == null))
+                .build();
+
+        return get(() ->
+                handlePerRequest(ctx,
+                        ExecutePiggybackCommand.of(
+                                serviceName, instance, DEVOPS_COMMANDS_ACTOR_SELECTION,
+                                RetrieveHeavyHitters.of(headersWithAggregate).toJson(),
+                                headersWithAggregate
+                        )
+                )
+        );
+    }
+
     private static Function<JsonValue, JsonValue> transformResponse(final CharSequence serviceName,
             final String instance) {
 
@@ -18,7 +18,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
@@ -35,10 +37,12 @@ import org.eclipse.ditto.model.things.ThingDefinition;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.actors.AbstractHttpRequestActor;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
 import org.eclipse.ditto.services.gateway.endpoints.config.MessageConfig;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.endpoints.utils.UriEncoding;
+import org.eclipse.ditto.services.utils.aggregator.StreamRetrieveThings;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingIdNotExplicitlySettableException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.DeleteAclEntry;
@@ -64,6 +68,8 @@ import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.headers.Accept;
 import akka.http.javadsl.server.PathMatchers;
 import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
@@ -218,17 +224,45 @@ public final class ThingsRoute extends AbstractRoute {
 
     private Route buildRetrieveThingsRoute(final RequestContext ctx, final DittoHeaders dittoHeaders) {
         return parameter(ThingsParameter.IDS.toString(), idsString ->
-                parameterOptional(ThingsParameter.FIELDS.toString(), fieldsString ->
-                        handlePerRequest(ctx, dittoHeaders, Source.empty(), emptyRequestBody -> RetrieveThings
-                                .getBuilder(
-                                        (idsString).isEmpty() ? Collections.emptyList() : splitThingIdString(idsString))
-                                .selectedFields(calculateSelectedFields(fieldsString))
-                                .dittoHeaders(dittoHeaders).build())
+                parameterOptional(ThingsParameter.FIELDS.toString(), fieldsString -> acceptsNdjson(ctx)
+                        ? streamThings(ctx, buildRetrieveThings(idsString, fieldsString, dittoHeaders))
+                        : handlePerRequest(ctx, dittoHeaders, Source.empty(), emptyRequestBody ->
+                                buildRetrieveThings(idsString, fieldsString, dittoHeaders))
                 )
 
         );
     }
 
+    private RetrieveThings buildRetrieveThings(final String idsString, final Optional<String> fieldsString,
+            final DittoHeaders dittoHeaders) {
+
+        return RetrieveThings.getBuilder(
+                (idsString).isEmpty() ? Collections.emptyList() : splitThingIdString(idsString))
+                .selectedFields(calculateSelectedFields(fieldsString))
+                .dittoHeaders(dittoHeaders).build();
+    }
+
+    /*
+     * Streams the retrieved things as newline delimited JSON in a chunked response, so that neither the gateway nor
+     * the client has to wait for all things before receiving the first one. The HTTP request actor renders headers
+     * and errors like for the aggregated response.
+     */
+    private Route streamThings(final RequestContext ctx, final RetrieveThings retrieveThings) {
+        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+        createHttpPerRequestActor(ctx, httpResponseFuture)
+                .tell(StreamRetrieveThings.of(retrieveThings), ActorRef.noSender());
+        return completeWithFuture(preprocessResponse(httpResponseFuture));
+    }
+
+    private static boolean acceptsNdjson(final RequestContext ctx) {
+        return ctx.getRequest()
+                .getHeader(Accept.class)
+                .filter(accept -> StreamSupport.stream(accept.getMediaRanges().spliterator(), false)
+                        .filter(mr -> !"*".equals(mr.mainType()))
+                        .anyMatch(mr -> mr.matches(AbstractHttpRequestActor.APPLICATION_NDJSON)))
+                .isPresent();
+    }
+
     private List<ThingId> splitThingIdString(final String thingIdString) {
         return Arrays.stream(thingIdString.split(","))
                 .map(ThingId::of)
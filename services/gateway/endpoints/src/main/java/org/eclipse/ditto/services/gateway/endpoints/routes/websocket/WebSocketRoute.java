@@ -24,15 +24,19 @@ import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.Prot
 import static org.eclipse.ditto.services.gateway.endpoints.routes.websocket.ProtocolMessages.STOP_SEND_MESSAGES;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -62,6 +66,7 @@ import org.eclipse.ditto.services.gateway.streaming.actors.CommandSubscriber;
 import org.eclipse.ditto.services.gateway.streaming.actors.EventAndResponsePublisher;
 import org.eclipse.ditto.services.gateway.streaming.actors.StreamingActor;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
+import org.eclipse.ditto.services.utils.akka.CborJsonCodec;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
 import org.eclipse.ditto.services.utils.akka.controlflow.LimitRateByRejection;
@@ -86,6 +91,7 @@ import akka.event.EventStream;
 import akka.event.Logging;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.ws.BinaryMessage;
 import akka.http.javadsl.model.ws.Message;
 import akka.http.javadsl.model.ws.TextMessage;
 import akka.http.javadsl.model.ws.UpgradeToWebSocket;
@@ -105,6 +111,7 @@ import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Merge;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import akka.util.ByteString;
 import scala.util.Either;
 import scala.util.Left;
 import scala.util.Right;
@@ -123,6 +130,12 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
     private static final String STREAMING_TYPE_WS = "WS";
 
+    /**
+     * The WebSocket subprotocol a client may request via {@code Sec-WebSocket-Protocol} in order to exchange Ditto
+     * Protocol messages as CBOR encoded binary frames instead of JSON text frames.
+     */
+    public static final String CBOR_SUBPROTOCOL = "ditto-protocol+cbor";
+
     private static final String BEARER = "Bearer";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketRoute.class);
@@ -235,27 +248,42 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final ProtocolAdapter adapter,
             final HttpRequest request) {
 
+        final boolean binary = isCborSubprotocolRequested(upgradeToWebSocket);
         LogUtil.logWithCorrelationId(LOGGER, connectionCorrelationId, logger ->
-                logger.info("Creating WebSocket for connection authContext: <{}>", authContext));
+                logger.info("Creating WebSocket for connection authContext: <{}>, binary: <{}>", authContext,
+                        binary));
 
         return retrieveWebsocketConfig().thenApply(websocketConfig -> {
             final Flow<Message, DittoRuntimeException, NotUsed> incoming =
                     createIncoming(version, connectionCorrelationId, authContext, additionalHeaders, adapter, request,
-                            websocketConfig);
+                            websocketConfig, binary);
             final Flow<DittoRuntimeException, Message, NotUsed> outgoing =
-                    createOutgoing(connectionCorrelationId, additionalHeaders, adapter, request, websocketConfig);
+                    createOutgoing(connectionCorrelationId, additionalHeaders, adapter, request, websocketConfig,
+                            binary);
 
+            if (binary) {
+                return upgradeToWebSocket.handleMessagesWith(incoming.via(outgoing), CBOR_SUBPROTOCOL);
+            }
             return upgradeToWebSocket.handleMessagesWith(incoming.via(outgoing));
         });
     }
 
+    private static boolean isCborSubprotocolRequested(final UpgradeToWebSocket upgradeToWebSocket) {
+        for (final String requestedProtocol : upgradeToWebSocket.getRequestedProtocols()) {
+            if (CBOR_SUBPROTOCOL.equalsIgnoreCase(requestedProtocol.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /* Incoming flow:
      *
      * Websocket message with streamed content
      *                  +
      *                  | strictify+sniffer
      *                  v
-     *                String
+     * Either<String, ByteString> (text or CBOR frame)
      *                  +
      *                  |
      *                  v                   bad cast/bad signal
@@ -295,14 +323,17 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final DittoHeaders additionalHeaders,
             final ProtocolAdapter adapter,
             final HttpRequest request,
-            final WebsocketConfig websocketConfig) {
+            final WebsocketConfig websocketConfig,
+            final boolean binary) {
 
         return Flow.fromGraph(GraphDSL.create(builder -> {
 
-            final FlowShape<Message, String> strictify =
-                    builder.add(getStrictifyFlow(request, connectionCorrelationId).via(throttle(websocketConfig)));
+            final FlowShape<Message, Either<String, ByteString>> strictify =
+                    builder.add(getStrictifyFlow(request, connectionCorrelationId, binary)
+                            .via(throttle(websocketConfig)));
 
-            final FanOutShape2<String, Either<StreamControlMessage, Signal>, DittoRuntimeException> select =
+            final FanOutShape2<Either<String, ByteString>, Either<StreamControlMessage, Signal>,
+                    DittoRuntimeException> select =
                     builder.add(selectStreamControlOrSignal(version, connectionCorrelationId, connectionAuthContext,
                             additionalHeaders, adapter));
 
@@ -354,26 +385,47 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Sink.actorSubscriber(commandSubscriberProps);
     }
 
-    private Flow<Message, String, NotUsed> getStrictifyFlow(final HttpRequest request, final String correlationId) {
+    private Flow<Message, Either<String, ByteString>, NotUsed> getStrictifyFlow(final HttpRequest request,
+            final String correlationId, final boolean binary) {
+
+        final Flow<Message, Either<String, ByteString>, NotUsed> frameFlow;
+        if (binary) {
+            frameFlow = Flow.<Message>create()
+                    .flatMapConcat(msg -> msg.isText()
+                            ? strictifyText(msg.asTextMessage()).map(Left::<String, ByteString>apply)
+                            : strictifyBinary(msg.asBinaryMessage()).map(Right::<String, ByteString>apply))
+                    .via(sniffTextFrames(request));
+        } else {
+            frameFlow = Flow.<Message>create()
+                    .filter(Message::isText)
+                    .map(Message::asTextMessage)
+                    .map(textMsg -> {
+                        if (textMsg.isStrict()) {
+                            return Source.single(textMsg.getStrictText());
+                        } else {
+                            return textMsg.getStreamedText();
+                        }
+                    })
+                    .flatMapConcat(textMsg -> textMsg.fold("", (str1, str2) -> str1 + str2))
+                    .via(incomingMessageSniffer.toAsyncFlow(request))
+                    .map(Left::<String, ByteString>apply);
+        }
+
         return Flow.<Message>create()
                 .via(Flow.fromFunction(msg -> {
                     IN_COUNTER.increment();
                     return msg;
                 }))
-                .filter(Message::isText)
-                .map(Message::asTextMessage)
-                .map(textMsg -> {
-                    if (textMsg.isStrict()) {
-                        return Source.single(textMsg.getStrictText());
-                    } else {
-                        return textMsg.getStreamedText();
-                    }
-                })
-                .flatMapConcat(textMsg -> textMsg.fold("", (str1, str2) -> str1 + str2))
-                .via(incomingMessageSniffer.toAsyncFlow(request))
+                .via(frameFlow)
                 .via(Flow.fromFunction(result -> {
-                    LogUtil.logWithCorrelationId(LOGGER, correlationId, logger ->
-                            logger.debug("Received incoming WebSocket message: {}", result));
+                    LogUtil.logWithCorrelationId(LOGGER, correlationId, logger -> {
+                        if (result.isLeft()) {
+                            logger.debug("Received incoming WebSocket message: {}", result.left().get());
+                        } else {
+                            logger.debug("Received incoming binary WebSocket message of <{}> bytes",
+                                    result.right().get().size());
+                        }
+                    });
                     return result;
                 }))
                 .withAttributes(Attributes.createLogLevels(Logging.DebugLevel(), Logging.DebugLevel(),
@@ -381,12 +433,50 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
     }
 
+    private static Source<String, NotUsed> strictifyText(final TextMessage textMsg) {
+        if (textMsg.isStrict()) {
+            return Source.single(textMsg.getStrictText());
+        } else {
+            return textMsg.getStreamedText()
+                    .fold("", (str1, str2) -> str1 + str2)
+                    .mapMaterializedValue(any -> NotUsed.getInstance());
+        }
+    }
+
+    private static Source<ByteString, NotUsed> strictifyBinary(final BinaryMessage binaryMsg) {
+        if (binaryMsg.isStrict()) {
+            return Source.single(binaryMsg.getStrictData());
+        } else {
+            return binaryMsg.getStreamedData()
+                    .fold(ByteString.empty(), ByteString::concat)
+                    .mapMaterializedValue(any -> NotUsed.getInstance());
+        }
+    }
+
+    /**
+     * The incoming sniffer works on strings; when the binary subprotocol is used, text frames are sniffed and binary
+     * frames are passed through without being sniffed.
+     */
+    private Flow<Either<String, ByteString>, Either<String, ByteString>, NotUsed> sniffTextFrames(
+            final HttpRequest request) {
+
+        if (incomingMessageSniffer instanceof EventSniffer.NoOp) {
+            return Flow.create();
+        }
+        return Flow.<Either<String, ByteString>>create()
+                .wireTap(Flow.<Either<String, ByteString>>create()
+                        .filter(Either::isLeft)
+                        .map(frame -> frame.left().get())
+                        .via(incomingMessageSniffer.toAsyncFlow(request))
+                        .to(Sink.ignore()));
+    }
+
     private Sink<StreamControlMessage, ?> getStreamingActorSink() {
         return Sink.foreach(streamControlMessage -> streamingActor.tell(streamControlMessage, ActorRef.noSender()));
     }
 
-    private Graph<FanOutShape2<String, Either<StreamControlMessage, Signal>, DittoRuntimeException>, NotUsed>
-    selectStreamControlOrSignal(
+    private Graph<FanOutShape2<Either<String, ByteString>, Either<StreamControlMessage, Signal>,
+            DittoRuntimeException>, NotUsed> selectStreamControlOrSignal(
             final Integer version,
             final String connectionCorrelationId,
             final AuthorizationContext connectionAuthContext,
@@ -396,35 +486,69 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final ProtocolMessageExtractor protocolMessageExtractor =
                 new ProtocolMessageExtractor(connectionAuthContext, connectionCorrelationId);
 
-        return Filter.multiplexByEither(cmdString -> {
-            final Optional<StreamControlMessage> streamControlMessage = protocolMessageExtractor.apply(cmdString);
-            if (streamControlMessage.isPresent()) {
-                return Right.apply(Left.apply(streamControlMessage.get()));
-            } else {
-                try {
-                    final Signal signal =
-                            buildSignal(cmdString, version, connectionCorrelationId, connectionAuthContext,
-                                    additionalHeaders, adapter);
-                    return Right.apply(Right.apply(signal));
-                } catch (final DittoRuntimeException dre) {
-                    // This is a client error usually; log at level DEBUG without stack trace.
-                    LOGGER.debug("DittoRuntimeException building signal from <{}>: <{}>", cmdString, dre);
-                    return Left.apply(dre);
-                } catch (final Exception throwable) {
-                    LOGGER.warn("Error building signal from <{}>: {}: <{}>", cmdString,
-                            throwable.getClass().getSimpleName(), throwable.getMessage());
-                    final DittoRuntimeException dittoRuntimeException = GatewayInternalErrorException.newBuilder()
-                            .cause(throwable).build();
-                    return Left.apply(dittoRuntimeException);
-                }
+        return Filter.multiplexByEither(frame -> {
+            if (frame.isLeft()) {
+                return selectFromText(frame.left().get(), protocolMessageExtractor, version, connectionCorrelationId,
+                        connectionAuthContext, additionalHeaders, adapter);
             }
+            // CBOR frames carry either a protocol message as text string or a Ditto Protocol envelope as map
+            final JsonValue cborValue;
+            try {
+                cborValue = wrapJsonRuntimeException(frame.right().get(), DittoHeaders.empty(),
+                        (bytes, unused) -> CborJsonCodec.decode(bytes));
+            } catch (final DittoRuntimeException dre) {
+                LOGGER.debug("DittoRuntimeException decoding binary WebSocket message: <{}>", dre);
+                return Left.apply(dre);
+            }
+            if (cborValue.isString()) {
+                return selectFromText(cborValue.asString(), protocolMessageExtractor, version,
+                        connectionCorrelationId, connectionAuthContext, additionalHeaders, adapter);
+            }
+            return toSignalOrException(cborValue, () -> buildSignal(cborValue, version, connectionCorrelationId,
+                    connectionAuthContext, additionalHeaders, adapter));
         });
     }
 
+    private static Either<DittoRuntimeException, Either<StreamControlMessage, Signal>> selectFromText(
+            final String cmdString,
+            final ProtocolMessageExtractor protocolMessageExtractor,
+            final Integer version,
+            final String connectionCorrelationId,
+            final AuthorizationContext connectionAuthContext,
+            final DittoHeaders additionalHeaders,
+            final ProtocolAdapter adapter) {
+
+        final Optional<StreamControlMessage> streamControlMessage = protocolMessageExtractor.apply(cmdString);
+        if (streamControlMessage.isPresent()) {
+            return Right.apply(Left.apply(streamControlMessage.get()));
+        } else {
+            return toSignalOrException(cmdString, () -> buildSignal(cmdString, version, connectionCorrelationId,
+                    connectionAuthContext, additionalHeaders, adapter));
+        }
+    }
+
+    private static Either<DittoRuntimeException, Either<StreamControlMessage, Signal>> toSignalOrException(
+            final Object cmd, final Supplier<Signal> signalSupplier) {
+
+        try {
+            return Right.apply(Right.apply(signalSupplier.get()));
+        } catch (final DittoRuntimeException dre) {
+            // This is a client error usually; log at level DEBUG without stack trace.
+            LOGGER.debug("DittoRuntimeException building signal from <{}>: <{}>", cmd, dre);
+            return Left.apply(dre);
+        } catch (final Exception throwable) {
+            LOGGER.warn("Error building signal from <{}>: {}: <{}>", cmd,
+                    throwable.getClass().getSimpleName(), throwable.getMessage());
+            final DittoRuntimeException dittoRuntimeException = GatewayInternalErrorException.newBuilder()
+                    .cause(throwable).build();
+            return Left.apply(dittoRuntimeException);
+        }
+    }
+
     private Flow<DittoRuntimeException, Message, NotUsed> createOutgoing(final String connectionCorrelationId,
             final DittoHeaders additionalHeaders,
             final ProtocolAdapter adapter,
-            final HttpRequest request, final WebsocketConfig websocketConfig) {
+            final HttpRequest request, final WebsocketConfig websocketConfig, final boolean binary) {
 
         final Optional<JsonWebToken> optJsonWebToken = extractJwtFromRequestIfPresent(request);
 
@@ -457,19 +581,34 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final Flow<DittoRuntimeException, Jsonifiable.WithPredicate<JsonObject, JsonField>, NotUsed> errorFlow =
                 Flow.fromFunction(x -> x);
 
-        final Flow<Jsonifiable.WithPredicate<JsonObject, JsonField>, Message, NotUsed> messageFlow =
-                Flow.fromFunction(jsonifiableToString(adapter))
-                        .via(Flow.fromFunction(result -> {
-                            LogUtil.logWithCorrelationId(LOGGER, connectionCorrelationId, logger ->
-                                    logger.debug("Sending outgoing WebSocket message: {}", result));
-                            return result;
-                        }))
-                        .via(outgoingMessageSniffer.toAsyncFlow(request))
-                        .<Message>map(TextMessage::create)
-                        .via(Flow.fromFunction(msg -> {
-                            OUT_COUNTER.increment();
-                            return msg;
-                        }));
+        final Flow<Jsonifiable.WithPredicate<JsonObject, JsonField>, Message, NotUsed> messageFlow;
+        if (binary) {
+            messageFlow = Flow.fromFunction(jsonifiableToJsonValue(adapter))
+                    .via(Flow.fromFunction(result -> {
+                        LogUtil.logWithCorrelationId(LOGGER, connectionCorrelationId, logger ->
+                                logger.debug("Sending outgoing binary WebSocket message: {}", result));
+                        return result;
+                    }))
+                    .via(sniffOutgoingJsonValues(request))
+                    .mapConcat(jsonValue -> toBinaryMessage(jsonValue, connectionCorrelationId))
+                    .via(Flow.fromFunction(msg -> {
+                        OUT_COUNTER.increment();
+                        return msg;
+                    }));
+        } else {
+            messageFlow = Flow.fromFunction(jsonifiableToString(adapter))
+                    .via(Flow.fromFunction(result -> {
+                        LogUtil.logWithCorrelationId(LOGGER, connectionCorrelationId, logger ->
+                                logger.debug("Sending outgoing WebSocket message: {}", result));
+                        return result;
+                    }))
+                    .via(outgoingMessageSniffer.toAsyncFlow(request))
+                    .<Message>map(TextMessage::create)
+                    .via(Flow.fromFunction(msg -> {
+                        OUT_COUNTER.increment();
+                        return msg;
+                    }));
+        }
 
         return joinOutgoingFlows(eventAndResponseSource, errorFlow, messageFlow);
     }
@@ -493,6 +632,17 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 }));
     }
 
+    private Flow<JsonValue, JsonValue, NotUsed> sniffOutgoingJsonValues(final HttpRequest request) {
+        if (outgoingMessageSniffer instanceof EventSniffer.NoOp) {
+            return Flow.create();
+        }
+        return Flow.<JsonValue>create()
+                .wireTap(Flow.<JsonValue>create()
+                        .map(WebSocketRoute::jsonValueToText)
+                        .via(outgoingMessageSniffer.toAsyncFlow(request))
+                        .to(Sink.ignore()));
+    }
+
     private Jsonifiable.WithPredicate<JsonObject, JsonField> publishResponsePublishedEvent(
             final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable) {
 
@@ -536,25 +686,66 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final DittoHeaders additionalHeaders,
             final ProtocolAdapter adapter) {
 
+        final DittoHeaders initialInternalHeaders =
+                getInitialInternalHeaders(version, connectionCorrelationId, connectionAuthContext);
+
+        if (cmdString.isEmpty()) {
+            final RuntimeException cause = new IllegalArgumentException("Empty json.");
+            throw new DittoJsonException(cause, initialInternalHeaders);
+        }
+
+        final JsonifiableAdaptable jsonifiableAdaptable = wrapJsonRuntimeException(cmdString,
+                DittoHeaders.empty(), // unused
+                (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(s)));
+
+        return buildSignal(jsonifiableAdaptable, initialInternalHeaders, connectionCorrelationId, additionalHeaders,
+                adapter);
+    }
+
+    private static Signal buildSignal(final JsonValue cmdValue,
+            final Integer version,
+            final String connectionCorrelationId,
+            final AuthorizationContext connectionAuthContext,
+            final DittoHeaders additionalHeaders,
+            final ProtocolAdapter adapter) {
+
+        final DittoHeaders initialInternalHeaders =
+                getInitialInternalHeaders(version, connectionCorrelationId, connectionAuthContext);
+
+        if (!cmdValue.isObject()) {
+            final RuntimeException cause = new IllegalArgumentException("Binary message did not contain a CBOR map.");
+            throw new DittoJsonException(cause, initialInternalHeaders);
+        }
+
+        final JsonifiableAdaptable jsonifiableAdaptable = wrapJsonRuntimeException(cmdValue.asObject(),
+                DittoHeaders.empty(), // unused
+                (o, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(o));
+
+        return buildSignal(jsonifiableAdaptable, initialInternalHeaders, connectionCorrelationId, additionalHeaders,
+                adapter);
+    }
+
+    private static DittoHeaders getInitialInternalHeaders(final Integer version,
+            final String connectionCorrelationId,
+            final AuthorizationContext connectionAuthContext) {
+
         final JsonSchemaVersion jsonSchemaVersion = JsonSchemaVersion.forInt(version)
                 .orElseThrow(() -> CommandNotSupportedException.newBuilder(version).build());
 
         // initial internal header values
-        final DittoHeaders initialInternalHeaders = DittoHeaders.newBuilder()
+        return DittoHeaders.newBuilder()
                 .schemaVersion(jsonSchemaVersion)
                 .authorizationContext(connectionAuthContext)
                 .correlationId(connectionCorrelationId) // for logging
                 .origin(connectionCorrelationId)
                 .build();
+    }
 
-        if (cmdString.isEmpty()) {
-            final RuntimeException cause = new IllegalArgumentException("Empty json.");
-            throw new DittoJsonException(cause, initialInternalHeaders);
-        }
-
-        final JsonifiableAdaptable jsonifiableAdaptable = wrapJsonRuntimeException(cmdString,
-                DittoHeaders.empty(), // unused
-                (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(s)));
+    private static Signal buildSignal(final JsonifiableAdaptable jsonifiableAdaptable,
+            final DittoHeaders initialInternalHeaders,
+            final String connectionCorrelationId,
+            final DittoHeaders additionalHeaders,
+            final ProtocolAdapter adapter) {
 
         final Signal<? extends Signal> signal;
         try {
@@ -596,26 +787,64 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             if (jsonifiable instanceof StreamingAck) {
                 return streamingAckToString((StreamingAck) jsonifiable);
             }
+            return jsonifiableToJsonifiableAdaptable(jsonifiable, adapter).toJsonString();
+        };
+    }
 
-            final Adaptable adaptable;
-            if (jsonifiable instanceof WithDittoHeaders
-                    && ((WithDittoHeaders) jsonifiable).getDittoHeaders().getChannel().isPresent()) {
-                // if channel was present in headers, use that one:
-                final TopicPath.Channel channel =
-                        TopicPath.Channel.forName(((WithDittoHeaders) jsonifiable).getDittoHeaders().getChannel().get())
-                                .orElse(TopicPath.Channel.TWIN);
-                adaptable = jsonifiableToAdaptable(jsonifiable, channel, adapter);
-            } else if (jsonifiable instanceof Signal && isLiveSignal((Signal<?>) jsonifiable)) {
-                adaptable = jsonifiableToAdaptable(jsonifiable, TopicPath.Channel.LIVE, adapter);
-            } else {
-                adaptable = jsonifiableToAdaptable(jsonifiable, TopicPath.Channel.TWIN, adapter);
+    /**
+     * Counterpart of {@link #jsonifiableToString(ProtocolAdapter)} for the binary subprotocol: protocol messages
+     * become JSON strings, everything else the JSON representation of the Ditto Protocol envelope.
+     */
+    private static Function<Jsonifiable.WithPredicate<JsonObject, JsonField>, JsonValue> jsonifiableToJsonValue(
+            final ProtocolAdapter adapter) {
+        return jsonifiable -> {
+            if (jsonifiable instanceof StreamingAck) {
+                return JsonValue.of(streamingAckToString((StreamingAck) jsonifiable));
             }
-
-            final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
-            return jsonifiableAdaptable.toJsonString();
+            return jsonifiableToJsonifiableAdaptable(jsonifiable, adapter).toJson();
         };
     }
 
+    /**
+     * Encodes a JSON value as CBOR binary frame. A value which cannot be encoded, e.g. because it is nested too
+     * deeply, is dropped instead of failing the stream and thereby closing the WebSocket.
+     */
+    private static List<Message> toBinaryMessage(final JsonValue jsonValue, final String connectionCorrelationId) {
+        try {
+            return Collections.singletonList(BinaryMessage.create(CborJsonCodec.encode(jsonValue)));
+        } catch (final IllegalArgumentException e) {
+            DROPPED_COUNTER.increment();
+            LogUtil.logWithCorrelationId(LOGGER, connectionCorrelationId, logger ->
+                    logger.warn("Dropping outgoing WebSocket message which could not be encoded as CBOR: {}",
+                            e.getMessage()));
+            return Collections.emptyList();
+        }
+    }
+
+    private static String jsonValueToText(final JsonValue jsonValue) {
+        return jsonValue.isString() ? jsonValue.asString() : jsonValue.toString();
+    }
+
+    private static JsonifiableAdaptable jsonifiableToJsonifiableAdaptable(
+            final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable, final ProtocolAdapter adapter) {
+
+        final Adaptable adaptable;
+        if (jsonifiable instanceof WithDittoHeaders
+                && ((WithDittoHeaders) jsonifiable).getDittoHeaders().getChannel().isPresent()) {
+            // if channel was present in headers, use that one:
+            final TopicPath.Channel channel =
+                    TopicPath.Channel.forName(((WithDittoHeaders) jsonifiable).getDittoHeaders().getChannel().get())
+                            .orElse(TopicPath.Channel.TWIN);
+            adaptable = jsonifiableToAdaptable(jsonifiable, channel, adapter);
+        } else if (jsonifiable instanceof Signal && isLiveSignal((Signal<?>) jsonifiable)) {
+            adaptable = jsonifiableToAdaptable(jsonifiable, TopicPath.Channel.LIVE, adapter);
+        } else {
+            adaptable = jsonifiableToAdaptable(jsonifiable, TopicPath.Channel.TWIN, adapter);
+        }
+
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
+    }
+
     private static String streamingAckToString(final StreamingAck streamingAck) {
         final StreamingType streamingType = streamingAck.getStreamingType();
         final boolean subscribed = streamingAck.isSubscribed();
@@ -14,14 +14,20 @@ package org.eclipse.ditto.services.gateway.endpoints.routes.things;
 
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 
+import java.util.Arrays;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
+import org.eclipse.ditto.services.utils.aggregator.StreamRetrieveThings;
 import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
 import org.eclipse.ditto.signals.commands.things.exceptions.MissingThingIdsException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinition;
 import org.junit.Before;
@@ -30,6 +36,7 @@ import org.junit.Test;
 import akka.actor.ActorSystem;
 import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpHeader;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.RequestEntity;
 import akka.http.javadsl.model.StatusCodes;
@@ -37,12 +44,15 @@ import akka.http.javadsl.server.Route;
 import akka.http.javadsl.testkit.TestRoute;
 import akka.http.javadsl.testkit.TestRouteResult;
 import akka.http.scaladsl.model.HttpEntity;
+import akka.stream.javadsl.Source;
 
 /**
  * Tests {@link ThingsRoute}.
  */
 public final class ThingsRouteTest extends EndpointTestBase {
 
+    private static final String STREAMING_CORRELATION_ID = "streaming-correlation-id";
+
     private ThingsRoute thingsRoute;
 
     private TestRoute underTest;
@@ -147,4 +157,46 @@ public final class ThingsRouteTest extends EndpointTestBase {
         result.assertStatusCode(StatusCodes.BAD_REQUEST);
     }
 
+    @Test
+    public void streamThingsAsNdjson() {
+        final TestRoute streamingRoute = createStreamingRoute(message -> message instanceof StreamRetrieveThings
+                ? Optional.of(Source.from(Arrays.asList("{\"thingId\":\"x:1\"}", "{\"thingId\":\"x:2\"}")))
+                : Optional.empty());
+
+        final TestRouteResult result = streamingRoute.run(HttpRequest.GET("/things?ids=x:1,x:2")
+                .addHeader(HttpHeader.parse("Accept", "application/x-ndjson")));
+
+        result.assertStatusCode(StatusCodes.OK);
+        result.assertMediaType("application/x-ndjson");
+        result.assertHeaderExists("correlation-id", STREAMING_CORRELATION_ID);
+        result.assertEntity("{\"thingId\":\"x:1\"}\n{\"thingId\":\"x:2\"}\n");
+    }
+
+    @Test
+    public void streamThingsAsNdjsonRendersErrorsLikeAggregatedResponse() {
+        final TestRoute streamingRoute = createStreamingRoute(message -> message instanceof StreamRetrieveThings
+                ? Optional.of(ThingNotAccessibleException.newBuilder(ThingId.of("x:1"))
+                .dittoHeaders(((StreamRetrieveThings) message).getRetrieveThings().getDittoHeaders())
+                .build())
+                : Optional.empty());
+
+        final TestRouteResult result = streamingRoute.run(HttpRequest.GET("/things?ids=x:1")
+                .addHeader(HttpHeader.parse("Accept", "application/x-ndjson")));
+
+        result.assertStatusCode(StatusCodes.NOT_FOUND);
+        result.assertMediaType("application/json");
+        result.assertHeaderExists("correlation-id", STREAMING_CORRELATION_ID);
+        assertThat(JsonObject.of(result.entityString()))
+                .contains(JsonKey.of("error"), ThingNotAccessibleException.ERROR_CODE);
+    }
+
+    private TestRoute createStreamingRoute(final Function<Object, Optional<Object>> responseProvider) {
+        final ActorSystem actorSystem = system();
+        final ProtocolAdapterProvider adapterProvider = ProtocolAdapterProvider.load(protocolConfig, actorSystem);
+        final ThingsRoute streamingThingsRoute = new ThingsRoute(createDummyResponseActor(responseProvider),
+                actorSystem, messageConfig, claimMessageConfig, httpConfig, adapterProvider.getHttpHeaderTranslator());
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId(STREAMING_CORRELATION_ID).build();
+        return testRoute(extractRequestContext(ctx -> streamingThingsRoute.buildThingsRoute(ctx, dittoHeaders)));
+    }
+
 }
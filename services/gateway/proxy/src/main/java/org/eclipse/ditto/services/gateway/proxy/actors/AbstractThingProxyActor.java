@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.utils.aggregator.StreamRetrieveThings;
 import org.eclipse.ditto.services.utils.aggregator.ThingsAggregatorProxyActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.base.Signal;
@@ -61,6 +62,7 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
                 /* handle RetrieveThings in a special way */
                 .match(RetrieveThings.class, rt -> aggregatorProxyActor.forward(rt, getContext()))
                 .match(SudoRetrieveThings.class, srt -> aggregatorProxyActor.forward(srt, getContext()))
+                .match(StreamRetrieveThings.class, srt -> aggregatorProxyActor.forward(srt, getContext()))
 
                 .match(QueryThings.class, qt -> {
                     final ActorRef responseActor = getContext().actorOf(
@@ -21,6 +21,7 @@ import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.gateway.endpoints.config.GatewayHttpConfig;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoQueryThingsResponse;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
@@ -42,6 +43,9 @@ import akka.event.DiagnosticLoggingAdapter;
  * This is needed in gateway so that we can maintain the max. cluster-message size in Ditto while still being able to
  * respond to searches with max. 200 search results.
  * </p>
+ * <p>
+ * Responses whose items were already assembled from the search index are passed on without retrieving the things.
+ * </p>
  */
 final class QueryThingsPerRequestActor extends AbstractActor {
 
@@ -114,6 +118,15 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                         aggregatorProxyActor.tell(retrieveThings, getSelf());
                     }
                 })
+                .match(SudoQueryThingsResponse.class, sqtr -> {
+                    LogUtil.enhanceLogWithCorrelationId(log, sqtr);
+                    log.debug("Received SudoQueryThingsResponse: {}", sqtr);
+
+                    // shortcut - the search index already provided the selected fields of the found things
+                    originatingSender.tell(sqtr.toQueryThingsResponse(), getSelf());
+
+                    stopMyself();
+                })
                 .match(RetrieveThingsResponse.class, rtr -> {
                     LogUtil.enhanceLogWithCorrelationId(log, rtr);
                     log.debug("Received RetrieveThingsResponse: {}", rtr);
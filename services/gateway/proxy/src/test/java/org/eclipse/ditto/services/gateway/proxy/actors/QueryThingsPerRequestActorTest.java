@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.proxy.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
+import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoQueryThingsResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link QueryThingsPerRequestActor}.
+ */
+public final class QueryThingsPerRequestActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "thing");
+
+    private static final SearchResult SEARCH_RESULT = SearchModelFactory.newSearchResult(
+            JsonFactory.newArrayBuilder()
+                    .add(JsonFactory.newObject("{\"thingId\":\"" + THING_ID + "\",\"attributes\":{\"x\":1}}"))
+                    .build(),
+            SearchResult.NO_NEXT_PAGE);
+
+    private ActorSystem actorSystem;
+    private TestProbe aggregatorProxyActor;
+    private TestProbe originatingSender;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.parseString("ditto {}"));
+        aggregatorProxyActor = TestProbe.apply(actorSystem);
+        originatingSender = TestProbe.apply(actorSystem);
+    }
+
+    @After
+    public void shutdown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void retrieveThingsOfQueryThingsResponseEvenIfRequestClaimsIndexedFields() {
+        // a client may set any header on its request, which is carried forward to the response
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("cid")
+                .putHeader("ditto-search-indexed-fields", "true")
+                .build();
+        final ActorRef underTest = actorSystem.actorOf(QueryThingsPerRequestActor.props(queryThings(dittoHeaders),
+                aggregatorProxyActor.ref(), originatingSender.ref()));
+
+        underTest.tell(QueryThingsResponse.of(SEARCH_RESULT, dittoHeaders), ActorRef.noSender());
+
+        final RetrieveThings retrieveThings = aggregatorProxyActor.expectMsgClass(RetrieveThings.class);
+        assertThat(retrieveThings.getThingEntityIds()).containsExactly(THING_ID);
+        originatingSender.expectNoMessage();
+    }
+
+    @Test
+    public void forwardSudoQueryThingsResponseWithoutRetrievingThings() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("cid").build();
+        final ActorRef underTest = actorSystem.actorOf(QueryThingsPerRequestActor.props(queryThings(dittoHeaders),
+                aggregatorProxyActor.ref(), originatingSender.ref()));
+
+        underTest.tell(SudoQueryThingsResponse.of(SEARCH_RESULT, dittoHeaders), ActorRef.noSender());
+
+        originatingSender.expectMsg(QueryThingsResponse.of(SEARCH_RESULT, dittoHeaders));
+        aggregatorProxyActor.expectNoMessage();
+    }
+
+    private static QueryThings queryThings(final DittoHeaders dittoHeaders) {
+        return QueryThings.of(null, null, JsonFieldSelector.newInstance("thingId", "attributes/x"),
+                Collections.emptySet(), dittoHeaders);
+    }
+
+}
@@ -33,6 +33,12 @@ public final class PoliciesMessagingConstants {
      */
     public static final String POLICIES_STREAM_PROVIDER_ACTOR_PATH = ROOT_ACTOR_PATH + "/persistenceStreamingActor";
 
+    /**
+     * Path of the actor cleaning up events and snapshots of policies in the database.
+     */
+    public static final String POLICIES_PERSISTENCE_CLEANUP_ACTOR_PATH =
+            ROOT_ACTOR_PATH + "/persistenceCleanupActor";
+
     /**
      * Name of the shard region for Policy entities.
      */
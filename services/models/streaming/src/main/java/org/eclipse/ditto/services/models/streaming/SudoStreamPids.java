@@ -61,20 +61,26 @@ public final class SudoStreamPids extends AbstractCommand<SudoStreamPids>
     static final JsonFieldDefinition<JsonObject> JSON_LOWER_BOUND =
             JsonFactory.newJsonObjectFieldDefinition("payload/lowerBound", REGULAR, V_1, V_2);
 
+    static final JsonFieldDefinition<Boolean> JSON_WITH_REVISIONS =
+            JsonFactory.newBooleanFieldDefinition("payload/withRevisions", REGULAR, V_1, V_2);
+
     private final int burst;
 
     private final long timeoutMillis;
 
     private final EntityIdWithRevision<?> lowerBound;
 
+    private final boolean withRevisions;
+
     private SudoStreamPids(final Integer burst, final Long timeoutMillis, final EntityIdWithRevision lowerBound,
-            final DittoHeaders dittoHeaders) {
+            final boolean withRevisions, final DittoHeaders dittoHeaders) {
 
         super(TYPE, dittoHeaders);
 
         this.burst = burst;
         this.timeoutMillis = timeoutMillis;
         this.lowerBound = lowerBound;
+        this.withRevisions = withRevisions;
     }
 
     /**
@@ -89,7 +95,7 @@ public final class SudoStreamPids extends AbstractCommand<SudoStreamPids>
     public static SudoStreamPids of(final Integer burst, final Long timeoutMillis,
             final DittoHeaders dittoHeaders) {
 
-        return new SudoStreamPids(burst, timeoutMillis, new LowerBound(), dittoHeaders);
+        return new SudoStreamPids(burst, timeoutMillis, new LowerBound(), false, dittoHeaders);
     }
 
     /**
@@ -108,7 +114,8 @@ public final class SudoStreamPids extends AbstractCommand<SudoStreamPids>
         final long timeoutMillis = jsonObject.getValueOrThrow(JSON_TIMEOUT_MILLIS);
         final EntityIdWithRevision lowerBound =
                 jsonObject.getValue(JSON_LOWER_BOUND).map(LowerBound::new).orElseGet(LowerBound::new);
-        return new SudoStreamPids(burst, timeoutMillis, lowerBound, dittoHeaders);
+        final boolean withRevisions = jsonObject.getValue(JSON_WITH_REVISIONS).orElse(false);
+        return new SudoStreamPids(burst, timeoutMillis, lowerBound, withRevisions, dittoHeaders);
     }
 
     /**
@@ -119,7 +126,27 @@ public final class SudoStreamPids extends AbstractCommand<SudoStreamPids>
      * @return a copy of this command with lower-bound set.
      */
     public SudoStreamPids withLowerBound(final EntityIdWithRevision lowerBound) {
-        return new SudoStreamPids(burst, timeoutMillis, lowerBound, getDittoHeaders());
+        return new SudoStreamPids(burst, timeoutMillis, lowerBound, withRevisions, getDittoHeaders());
+    }
+
+    /**
+     * Create a copy of this command requesting the highest revision of each persistence ID. The PIDs are streamed
+     * in ascending order.
+     *
+     * @return a copy of this command requesting revisions.
+     */
+    public SudoStreamPids withRevisions() {
+        return new SudoStreamPids(burst, timeoutMillis, lowerBound, true, getDittoHeaders());
+    }
+
+    /**
+     * Return whether the highest revision of each persistence ID is requested. If not, the revisions of the streamed
+     * elements are 0.
+     *
+     * @return whether revisions are requested.
+     */
+    public boolean isWithRevisions() {
+        return withRevisions;
     }
 
     /**
@@ -162,6 +189,9 @@ public final class SudoStreamPids extends AbstractCommand<SudoStreamPids>
         jsonObjectBuilder.set(JSON_BURST, burst, predicate);
         jsonObjectBuilder.set(JSON_TIMEOUT_MILLIS, timeoutMillis, predicate);
         jsonObjectBuilder.set(JSON_LOWER_BOUND, lowerBound.toJson(), predicate);
+        if (withRevisions) {
+            jsonObjectBuilder.set(JSON_WITH_REVISIONS, true, predicate);
+        }
     }
 
     @Override
@@ -176,12 +206,12 @@ public final class SudoStreamPids extends AbstractCommand<SudoStreamPids>
 
     @Override
     public SudoStreamPids setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return of(burst, timeoutMillis, dittoHeaders);
+        return new SudoStreamPids(burst, timeoutMillis, lowerBound, withRevisions, dittoHeaders);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), burst, timeoutMillis, lowerBound);
+        return Objects.hash(super.hashCode(), burst, timeoutMillis, lowerBound, withRevisions);
     }
 
     @Override
@@ -189,7 +219,7 @@ public final class SudoStreamPids extends AbstractCommand<SudoStreamPids>
         if (obj instanceof SudoStreamPids) {
             final SudoStreamPids that = (SudoStreamPids) obj;
             return burst == that.burst && timeoutMillis == that.timeoutMillis && lowerBound.equals(that.lowerBound) &&
-                    super.equals(that);
+                    withRevisions == that.withRevisions && super.equals(that);
         } else {
             return false;
         }
@@ -206,6 +236,7 @@ public final class SudoStreamPids extends AbstractCommand<SudoStreamPids>
                 + ", burst=" + burst
                 + ", timeoutMillis=" + timeoutMillis
                 + ", lowerBound=" + lowerBound
+                + ", withRevisions=" + withRevisions
                 + "]";
     }
 
@@ -80,6 +80,16 @@ public final class SudoStreamPidsTest {
         assertThat(underTest).isEqualTo(expectedCommand);
     }
 
+    @Test
+    public void withRevisionsRoundTrip() {
+        final SudoStreamPids underTest =
+                SudoStreamPids.of(KNOWN_BURST, KNOWN_TIMEOUT, EMPTY_DITTO_HEADERS).withRevisions();
+        final JsonObject json = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(json.getValue(SudoStreamPids.JSON_WITH_REVISIONS)).contains(true);
+        assertThat(SudoStreamPids.fromJson(json, EMPTY_DITTO_HEADERS)).isEqualTo(underTest);
+    }
+
     @Test
     public void parseWithRegistry() {
         final SudoStreamPids expected =
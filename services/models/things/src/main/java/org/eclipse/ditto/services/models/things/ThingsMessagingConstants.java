@@ -33,6 +33,11 @@ public final class ThingsMessagingConstants {
      */
     public static final String THINGS_STREAM_PROVIDER_ACTOR_PATH = ROOT_ACTOR_PATH + "/persistenceStreamingActor";
 
+    /**
+     * Path of the actor cleaning up events and snapshots of things in the database.
+     */
+    public static final String THINGS_PERSISTENCE_CLEANUP_ACTOR_PATH = ROOT_ACTOR_PATH + "/persistenceCleanupActor";
+
     /**
      * Name of the shard region for Thing entities.
      */
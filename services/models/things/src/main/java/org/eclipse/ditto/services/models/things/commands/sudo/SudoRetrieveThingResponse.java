@@ -121,7 +121,7 @@ public final class SudoRetrieveThingResponse extends AbstractCommandResponse<Sud
      * @return the Thing.
      */
     public Thing getThing() {
-        return ThingsModelFactory.newThing(thing);
+        return ThingsModelFactory.newThingBackedByJson(thing);
     }
 
     @Override
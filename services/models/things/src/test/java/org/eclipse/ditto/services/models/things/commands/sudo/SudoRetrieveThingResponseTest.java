@@ -76,7 +76,8 @@ public final class SudoRetrieveThingResponseTest {
         final SudoRetrieveThingResponse underTest = SudoRetrieveThingResponse.fromJson(KNOWN_JSON, EMPTY_DITTO_HEADERS);
 
         Assertions.assertThat(underTest).isNotNull();
-        Assertions.assertThat(underTest.getThing()).isEqualTo(THING);
+        // the Thing is backed by the JSON object, thus it is no ImmutableThing
+        Assertions.assertThat(underTest.getThing().toJson()).isEqualTo(THING.toJson());
     }
 
     @Test
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which pins the index hint of a query shape of the search index, or lets the index hint be chosen by latency
+ * again if no index is given. The pin is held in memory of each search instance receiving the command and is lost on
+ * restart; sent as piggyback without instance, the command reaches every search instance. Pins meant to last are
+ * configured by {@code ditto.things-search.query-shape-hints.pinned-shapes}.
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = SudoPinQueryShape.TYPE_PREFIX, name = SudoPinQueryShape.NAME)
+public final class SudoPinQueryShape extends AbstractCommand<SudoPinQueryShape>
+        implements ThingSearchSudoCommand<SudoPinQueryShape> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "sudoPinQueryShape";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<String> JSON_SHAPE =
+            JsonFactory.newStringFieldDefinition("shape", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<String> JSON_INDEX =
+            JsonFactory.newStringFieldDefinition("index", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final String shape;
+    @Nullable private final String index;
+
+    private SudoPinQueryShape(final String shape, @Nullable final String index, final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+        this.shape = shape;
+        this.index = index;
+    }
+
+    /**
+     * Returns a new instance of {@code SudoPinQueryShape}.
+     *
+     * @param shape the query shape as reported by {@link SudoRetrieveQueryShapesResponse}.
+     * @param index name of the index to pin, or {@code null} to choose the index by latency again.
+     * @param dittoHeaders the headers of the command.
+     * @return a new command for pinning the index of a query shape.
+     * @throws NullPointerException if {@code shape} or {@code dittoHeaders} is {@code null}.
+     */
+    public static SudoPinQueryShape of(final String shape, @Nullable final String index,
+            final DittoHeaders dittoHeaders) {
+
+        return new SudoPinQueryShape(checkNotNull(shape, "shape"), index, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoPinQueryShape} from a JSON string.
+     *
+     * @param jsonString the JSON string of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoPinQueryShape fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoPinQueryShape} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if {@code jsonObject} did not contain a value for
+     * "shape".
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoPinQueryShape fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<SudoPinQueryShape>(TYPE, jsonObject).deserialize(() -> {
+            final String extractedShape = jsonObject.getValueOrThrow(JSON_SHAPE);
+            final String extractedIndex = jsonObject.getValue(JSON_INDEX).orElse(null);
+
+            return of(extractedShape, extractedIndex, dittoHeaders);
+        });
+    }
+
+    /**
+     * Get the query shape.
+     *
+     * @return the query shape.
+     */
+    public String getShape() {
+        return shape;
+    }
+
+    /**
+     * Get the index to pin.
+     *
+     * @return the index name, or an empty optional if the index should be chosen by latency again.
+     */
+    public Optional<String> getIndex() {
+        return Optional.ofNullable(index);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_SHAPE, shape, predicate);
+        getIndex().ifPresent(theIndex -> jsonObjectBuilder.set(JSON_INDEX, theIndex, predicate));
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.MODIFY;
+    }
+
+    @Override
+    public SudoPinQueryShape setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(shape, index, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoPinQueryShape that = (SudoPinQueryShape) o;
+        return that.canEqual(this) &&
+                Objects.equals(shape, that.shape) &&
+                Objects.equals(index, that.index) &&
+                super.equals(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), shape, index);
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return (other instanceof SudoPinQueryShape);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() +
+                ", shape=" + shape +
+                ", index=" + index +
+                "]";
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
+import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
+
+/**
+ * Internal response to a {@link QueryThings} command whose search result items already contain the selected fields
+ * of the found things, assembled from the search index. Unlike a {@link QueryThingsResponse}, the items do not have to
+ * be retrieved from the things service.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = SudoQueryThingsResponse.TYPE)
+public final class SudoQueryThingsResponse extends AbstractCommandResponse<SudoQueryThingsResponse>
+        implements ThingSearchSudoCommandResponse<SudoQueryThingsResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + "sudoQueryThings";
+
+    private final SearchResult searchResult;
+
+    private SudoQueryThingsResponse(final SearchResult searchResult, final DittoHeaders dittoHeaders) {
+        super(TYPE, HttpStatusCode.OK, dittoHeaders);
+        this.searchResult = searchResult;
+    }
+
+    /**
+     * Returns a new instance of {@code SudoQueryThingsResponse}.
+     *
+     * @param searchResult the search result whose items contain the selected fields of the found things.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoQueryThingsResponse of(final SearchResult searchResult, final DittoHeaders dittoHeaders) {
+        checkNotNull(searchResult, "search result");
+
+        return new SudoQueryThingsResponse(searchResult, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoQueryThingsResponse} command from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoQueryThingsResponse fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoQueryThingsResponse} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoQueryThingsResponse fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandResponseJsonDeserializer<SudoQueryThingsResponse>(TYPE, jsonObject)
+                .deserialize(statusCode -> {
+                    final JsonObject searchResultJson = jsonObject.getValueOrThrow(JsonFields.PAYLOAD).asObject();
+
+                    return of(SearchModelFactory.newSearchResult(searchResultJson), dittoHeaders);
+                });
+    }
+
+    /**
+     * Returns the SearchResult.
+     *
+     * @return the SearchResult.
+     */
+    public SearchResult getSearchResult() {
+        return searchResult;
+    }
+
+    /**
+     * Returns the {@link QueryThingsResponse} to deliver to the issuer of the query.
+     *
+     * @return the QueryThingsResponse with the search result and the headers of this response.
+     */
+    public QueryThingsResponse toQueryThingsResponse() {
+        return QueryThingsResponse.of(searchResult, getDittoHeaders());
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.PAYLOAD, searchResult.toJson(schemaVersion, thePredicate), predicate);
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return searchResult.toJson(schemaVersion);
+    }
+
+    @Override
+    public SudoQueryThingsResponse setEntity(final JsonValue entity) {
+        checkNotNull(entity, "entity");
+        return of(SearchModelFactory.newSearchResult(entity.asObject()), getDittoHeaders());
+    }
+
+    @Override
+    public SudoQueryThingsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(searchResult, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), searchResult);
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067"})
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoQueryThingsResponse that = (SudoQueryThingsResponse) o;
+        return that.canEqual(this) &&
+                Objects.equals(searchResult, that.searchResult) &&
+                super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return other instanceof SudoQueryThingsResponse;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", searchResult=" + searchResult + "]";
+    }
+
+}
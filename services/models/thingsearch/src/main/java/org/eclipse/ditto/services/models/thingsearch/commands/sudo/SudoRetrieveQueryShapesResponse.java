@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+
+/**
+ * Response to a {@link SudoRetrieveQueryShapes} or {@link SudoPinQueryShape} containing the observed query shapes.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = SudoRetrieveQueryShapesResponse.TYPE)
+public final class SudoRetrieveQueryShapesResponse
+        extends AbstractCommandResponse<SudoRetrieveQueryShapesResponse>
+        implements ThingSearchSudoCommandResponse<SudoRetrieveQueryShapesResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + SudoRetrieveQueryShapes.NAME;
+
+    private final JsonArray queryShapes;
+
+    private SudoRetrieveQueryShapesResponse(final JsonArray queryShapes, final DittoHeaders dittoHeaders) {
+        super(TYPE, HttpStatusCode.OK, dittoHeaders);
+        this.queryShapes = queryShapes;
+    }
+
+    /**
+     * Returns a new instance of {@code SudoRetrieveQueryShapesResponse}.
+     *
+     * @param queryShapes the query shapes with their latency statistics.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrieveQueryShapesResponse of(final JsonArray queryShapes, final DittoHeaders dittoHeaders) {
+        return new SudoRetrieveQueryShapesResponse(checkNotNull(queryShapes, "queryShapes"), dittoHeaders);
+    }
+
+    /**
+     * Creates a {@code SudoRetrieveQueryShapesResponse} from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveQueryShapesResponse fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a {@code SudoRetrieveQueryShapesResponse} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveQueryShapesResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return new CommandResponseJsonDeserializer<SudoRetrieveQueryShapesResponse>(TYPE, jsonObject)
+                .deserialize(statusCode -> of(jsonObject.getValueOrThrow(JsonFields.PAYLOAD).asArray(),
+                        dittoHeaders));
+    }
+
+    /**
+     * Returns the query shapes with their latency statistics.
+     *
+     * @return the query shapes.
+     */
+    public JsonArray getQueryShapes() {
+        return queryShapes;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.PAYLOAD, queryShapes, predicate);
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return queryShapes;
+    }
+
+    @Override
+    public SudoRetrieveQueryShapesResponse setEntity(final JsonValue entity) {
+        checkNotNull(entity, "entity");
+        return of(entity.asArray(), getDittoHeaders());
+    }
+
+    @Override
+    public SudoRetrieveQueryShapesResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(queryShapes, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), queryShapes);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoRetrieveQueryShapesResponse that = (SudoRetrieveQueryShapesResponse) o;
+        return that.canEqual(this) &&
+                Objects.equals(queryShapes, that.queryShapes) &&
+                super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return other instanceof SudoRetrieveQueryShapesResponse;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [queryShapes=" + queryShapes + "]";
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
+import org.junit.Test;
+import org.mutabilitydetector.unittesting.MutabilityAssert;
+import org.mutabilitydetector.unittesting.MutabilityMatchers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link SudoPinQueryShape}.
+ */
+public final class SudoPinQueryShapeTest {
+
+    private static final String KNOWN_SHAPE = "find {d:{$elemMatch:{k:/attributes/x,v:?}}} sort {\"_id\": 1}";
+    private static final String KNOWN_INDEX = "key-value";
+
+    private static final String JSON_ALL_FIELDS_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, SudoPinQueryShape.TYPE)
+            .set(SudoPinQueryShape.JSON_SHAPE, KNOWN_SHAPE)
+            .set(SudoPinQueryShape.JSON_INDEX, KNOWN_INDEX)
+            .build().toString();
+
+    private static final String JSON_MINIMAL_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, SudoPinQueryShape.TYPE)
+            .set(SudoPinQueryShape.JSON_SHAPE, KNOWN_SHAPE)
+            .build().toString();
+
+    /** */
+    @Test
+    public void assertImmutability() {
+        MutabilityAssert.assertInstancesOf(SudoPinQueryShape.class, MutabilityMatchers.areImmutable());
+    }
+
+    /** */
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoPinQueryShape.class)
+                .usingGetClass()
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    /** */
+    @Test
+    public void toJsonWithAllFieldsSetV2() {
+        final SudoPinQueryShape command = SudoPinQueryShape.of(KNOWN_SHAPE, KNOWN_INDEX, DittoHeaders.empty());
+
+        assertThat(command.toJsonString()).isEqualTo(JSON_ALL_FIELDS_V2);
+    }
+
+    /** */
+    @Test
+    public void toJsonWithOnlyRequiredFieldsSetV2() {
+        final SudoPinQueryShape command = SudoPinQueryShape.of(KNOWN_SHAPE, null, DittoHeaders.empty());
+
+        assertThat(command.toJsonString()).isEqualTo(JSON_MINIMAL_V2);
+    }
+
+    /** */
+    @Test
+    public void fromJsonWithAllFieldsSetV2() {
+        final SudoPinQueryShape command = SudoPinQueryShape.fromJson(JSON_ALL_FIELDS_V2, DittoHeaders.empty());
+
+        assertThat(command.getShape()).isEqualTo(KNOWN_SHAPE);
+        assertThat(command.getIndex()).contains(KNOWN_INDEX);
+    }
+
+    /** */
+    @Test
+    public void fromJsonWithOnlyRequiredFieldsSetV2() {
+        final SudoPinQueryShape command = SudoPinQueryShape.fromJson(JSON_MINIMAL_V2, DittoHeaders.empty());
+
+        assertThat(command.getShape()).isEqualTo(KNOWN_SHAPE);
+        assertThat(command.getIndex()).isEmpty();
+    }
+
+}
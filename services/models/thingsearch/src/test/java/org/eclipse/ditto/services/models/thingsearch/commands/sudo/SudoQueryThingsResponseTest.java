@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
+import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests the {@link SudoQueryThingsResponse}.
+ */
+public final class SudoQueryThingsResponseTest {
+
+    private static final SearchResult SEARCH_RESULT = SearchModelFactory.newSearchResult(
+            JsonFactory.newArrayBuilder()
+                    .add(JsonFactory.newObject("{\"thingId\":\"thing:one\",\"attributes\":{\"x\":1}}"))
+                    .build(),
+            5L);
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("cid").build();
+
+    /** */
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoQueryThingsResponse.class)
+                .usingGetClass()
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    /** */
+    @Test
+    public void fromJsonReturnsExpected() {
+        final SudoQueryThingsResponse underTest = SudoQueryThingsResponse.of(SEARCH_RESULT, DITTO_HEADERS);
+        final JsonObject jsonObject = underTest.toJson();
+
+        assertThat(SudoQueryThingsResponse.fromJson(jsonObject, DITTO_HEADERS)).isEqualTo(underTest);
+    }
+
+    /** */
+    @Test
+    public void toQueryThingsResponseKeepsSearchResultAndHeaders() {
+        final SudoQueryThingsResponse underTest = SudoQueryThingsResponse.of(SEARCH_RESULT, DITTO_HEADERS);
+
+        assertThat(underTest.toQueryThingsResponse())
+                .isEqualTo(QueryThingsResponse.of(SEARCH_RESULT, DITTO_HEADERS));
+    }
+
+}
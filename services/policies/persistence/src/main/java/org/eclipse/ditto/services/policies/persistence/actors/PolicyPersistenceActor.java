@@ -23,7 +23,7 @@ import org.eclipse.ditto.services.policies.common.config.PolicyConfig;
 import org.eclipse.ditto.services.policies.persistence.actors.strategies.commands.PolicyCommandStrategies;
 import org.eclipse.ditto.services.policies.persistence.actors.strategies.events.PolicyEventStrategies;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.TypedConfigCache;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
@@ -70,9 +70,8 @@ public final class PolicyPersistenceActor
             final ActorRef pubSubMediator) {
         super(policyId, snapshotAdapter);
         this.pubSubMediator = pubSubMediator;
-        final DittoPoliciesConfig policiesConfig = DittoPoliciesConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        );
+        final DittoPoliciesConfig policiesConfig = TypedConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoPoliciesConfig.class, DittoPoliciesConfig::of);
         this.policyConfig = policiesConfig.getPolicyConfig();
     }
 
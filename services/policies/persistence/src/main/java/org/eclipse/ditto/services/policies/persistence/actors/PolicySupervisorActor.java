@@ -24,7 +24,7 @@ import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.policies.common.config.DittoPoliciesConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.TypedConfigCache;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyUnavailableException;
@@ -78,9 +78,8 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
 
     @Override
     protected ExponentialBackOffConfig getExponentialBackOffConfig() {
-        final DittoPoliciesConfig policiesConfig = DittoPoliciesConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        );
+        final DittoPoliciesConfig policiesConfig = TypedConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoPoliciesConfig.class, DittoPoliciesConfig::of);
         return policiesConfig.getPolicyConfig().getSupervisorConfig().getExponentialBackOffConfig();
     }
 
@@ -18,6 +18,7 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
@@ -26,13 +27,26 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectId;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonEventDecoder;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.signals.base.WithType;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
 import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+import org.eclipse.ditto.signals.events.policies.ResourceCreated;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceModified;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectModified;
 import org.slf4j.Logger;
 
 import akka.actor.ExtendedActorSystem;
@@ -56,6 +70,43 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
             JsonFactory.newJsonObjectFieldDefinition("policy/entries", FieldType.SPECIAL, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
 
+    private static final String POLICY_ID = "policyId";
+    private static final String LABEL = "label";
+    private static final String SUBJECT_ID = "subjectId";
+    private static final String SUBJECT = "subject";
+    private static final String RESOURCE_KEY = "resourceKey";
+    private static final String RESOURCE = "resource";
+
+    // decodes the most frequent events during recovery without converting them to JSON first
+    static final BsonEventDecoder<Event> EVENT_DECODER = BsonEventDecoder.empty()
+            .with(SubjectCreated.TYPE, (document, revision, timestamp) ->
+                    SubjectCreated.of(getPolicyId(document), getLabel(document),
+                            PoliciesModelFactory.newSubject(BsonEventDecoder.getString(document, SUBJECT_ID),
+                                    BsonEventDecoder.getJsonObject(document, SUBJECT)),
+                            revision, timestamp, DittoHeaders.empty()))
+            .with(SubjectModified.TYPE, (document, revision, timestamp) ->
+                    SubjectModified.of(getPolicyId(document), getLabel(document),
+                            PoliciesModelFactory.newSubject(BsonEventDecoder.getString(document, SUBJECT_ID),
+                                    BsonEventDecoder.getJsonObject(document, SUBJECT)),
+                            revision, timestamp, DittoHeaders.empty()))
+            .with(SubjectDeleted.TYPE, (document, revision, timestamp) ->
+                    SubjectDeleted.of(getPolicyId(document), getLabel(document),
+                            SubjectId.newInstance(BsonEventDecoder.getString(document, SUBJECT_ID)),
+                            revision, timestamp, DittoHeaders.empty()))
+            .with(ResourceCreated.TYPE, (document, revision, timestamp) ->
+                    ResourceCreated.of(getPolicyId(document), getLabel(document),
+                            PoliciesModelFactory.newResource(getResourceKey(document),
+                                    BsonEventDecoder.getJsonObject(document, RESOURCE)),
+                            revision, timestamp, DittoHeaders.empty()))
+            .with(ResourceModified.TYPE, (document, revision, timestamp) ->
+                    ResourceModified.of(getPolicyId(document), getLabel(document),
+                            PoliciesModelFactory.newResource(getResourceKey(document),
+                                    BsonEventDecoder.getJsonObject(document, RESOURCE)),
+                            revision, timestamp, DittoHeaders.empty()))
+            .with(ResourceDeleted.TYPE, (document, revision, timestamp) ->
+                    ResourceDeleted.of(getPolicyId(document), getLabel(document), getResourceKey(document),
+                            revision, timestamp, DittoHeaders.empty()));
+
     protected final GlobalEventRegistry eventRegistry;
     @Nullable private final ExtendedActorSystem system;
 
@@ -93,7 +144,9 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            final BsonValue bsonValue = (BsonValue) event;
+            return EventSeq.single(EVENT_DECODER.tryToDecode(bsonValue)
+                    .orElseGet(() -> tryToCreateEventFrom(DittoBsonJson.getInstance().serialize(bsonValue))));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
@@ -117,6 +170,18 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
 
     protected abstract Event createEventFrom(final JsonValue json);
 
+    private static PolicyId getPolicyId(final BsonDocument document) {
+        return PolicyId.of(BsonEventDecoder.getString(document, POLICY_ID));
+    }
+
+    private static Label getLabel(final BsonDocument document) {
+        return Label.of(BsonEventDecoder.getString(document, LABEL));
+    }
+
+    private static ResourceKey getResourceKey(final BsonDocument document) {
+        return ResourceKey.newInstance(BsonEventDecoder.getString(document, RESOURCE_KEY));
+    }
+
     /**
      * A "payload" object was wrapping the events payload until the introduction of "cr-commands 1.0.0". This field has
      * to be used as fallback for already persisted events with "things-model" &lt; 3.0.0. Removing this workaround is
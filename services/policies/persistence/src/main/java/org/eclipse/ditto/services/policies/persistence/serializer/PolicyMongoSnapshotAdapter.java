@@ -18,6 +18,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -34,6 +35,15 @@ public final class PolicyMongoSnapshotAdapter extends AbstractMongoSnapshotAdapt
         super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class));
     }
 
+    /**
+     * Constructs a new {@code PolicyMongoSnapshotAdapter} storing snapshots in the encoding of the given config.
+     *
+     * @param snapshotConfig the snapshot config.
+     */
+    public PolicyMongoSnapshotAdapter(final SnapshotConfig snapshotConfig) {
+        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class), snapshotConfig.isBinaryEncoding());
+    }
+
     @Override
     protected Policy createJsonifiableFrom(final JsonObject jsonObject) {
         return PoliciesModelFactory.newPolicy(jsonObject);
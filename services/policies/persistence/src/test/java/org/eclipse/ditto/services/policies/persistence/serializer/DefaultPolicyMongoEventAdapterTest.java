@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.BsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectId;
+import org.eclipse.ditto.services.policies.persistence.TestConstants;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+import org.eclipse.ditto.signals.events.policies.ResourceCreated;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceModified;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectModified;
+import org.junit.Test;
+
+/**
+ * Tests {@link DefaultPolicyMongoEventAdapter}.
+ */
+public final class DefaultPolicyMongoEventAdapterTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto", "policy");
+    private static final Label LABEL = Label.of("owner");
+    private static final Subject SUBJECT =
+            PoliciesModelFactory.newSubject(SubjectId.newInstance("issuer:subject"),
+                    TestConstants.Policy.SUBJECT_TYPE);
+    private static final ResourceKey RESOURCE_KEY = ResourceKey.newInstance("thing:/attributes/a");
+    private static final Resource RESOURCE = PoliciesModelFactory.newResource(RESOURCE_KEY,
+            EffectedPermissions.newInstance(TestConstants.Policy.PERMISSIONS_ALL,
+                    Collections.singletonList(TestConstants.Policy.PERMISSION_WRITE)));
+
+    private final DefaultPolicyMongoEventAdapter underTest = new DefaultPolicyMongoEventAdapter(null);
+
+    @Test
+    public void directlyDecodedEventsEqualPersistedEvents() {
+        final Instant timestamp = Instant.now();
+        final DittoHeaders dittoHeaders = DittoHeaders.empty();
+        final List<PolicyEvent> events = Arrays.asList(
+                SubjectCreated.of(POLICY_ID, LABEL, SUBJECT, 0L, timestamp, dittoHeaders),
+                SubjectModified.of(POLICY_ID, LABEL, SUBJECT, 0L, null, dittoHeaders),
+                SubjectDeleted.of(POLICY_ID, LABEL, SUBJECT.getId(), 0L, timestamp, dittoHeaders),
+                ResourceCreated.of(POLICY_ID, LABEL, RESOURCE, 0L, timestamp, dittoHeaders),
+                ResourceModified.of(POLICY_ID, LABEL, RESOURCE, 0L, null, dittoHeaders),
+                ResourceDeleted.of(POLICY_ID, LABEL, RESOURCE_KEY, 0L, timestamp, dittoHeaders));
+
+        for (final PolicyEvent event : events) {
+            final BsonValue journalEntry = (BsonValue) underTest.toJournal(event);
+
+            // the direct decoder must not fall back to the JSON path for any of these types
+            assertThat(AbstractPolicyMongoEventAdapter.EVENT_DECODER.tryToDecode(journalEntry)).contains(event);
+            assertThat(underTest.fromJournal(journalEntry, event.getType()).events().head()).isEqualTo(event);
+        }
+    }
+
+}
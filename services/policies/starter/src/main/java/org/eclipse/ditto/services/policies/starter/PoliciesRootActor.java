@@ -28,14 +28,20 @@ import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.policies.common.config.PoliciesConfig;
 import org.eclipse.ditto.services.policies.persistence.actors.PoliciesPersistenceStreamingActorCreator;
+import org.eclipse.ditto.services.policies.persistence.actors.PolicyPersistenceActor;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicyPersistenceOperationsActor;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicySupervisorActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.cluster.LoadAwareShardAllocationStrategy;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadCounter;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadMap;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadReporter;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
+import org.eclipse.ditto.services.utils.cluster.config.ShardAllocationConfig;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
@@ -45,6 +51,7 @@ import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
+import org.eclipse.ditto.services.utils.persistence.mongo.PersistenceCleanupActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 
@@ -56,6 +63,7 @@ import akka.actor.ActorSystem;
 import akka.actor.CoordinatedShutdown;
 import akka.actor.InvalidActorNameException;
 import akka.actor.OneForOneStrategy;
+import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.actor.SupervisorStrategy;
@@ -152,10 +160,32 @@ public final class PoliciesRootActor extends AbstractActor {
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(persistenceStreamingActor), getSelf());
 
+        final ActorRef persistenceCleanupActor = startChildActor(PersistenceCleanupActor.ACTOR_NAME,
+                PersistenceCleanupActor.props(PolicyPersistenceActor.PERSISTENCE_ID_PREFIX));
+        pubSubMediator.tell(DistPubSubAccess.put(persistenceCleanupActor), getSelf());
+
         final ClusterConfig clusterConfig = policiesConfig.getClusterConfig();
-        final ActorRef policiesShardRegion = ClusterSharding.get(actorSystem)
-                .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
-                        ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
+        final ShardRegionExtractor shardRegionExtractor =
+                ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem);
+        final ShardAllocationConfig shardAllocationConfig = clusterConfig.getShardAllocationConfig();
+        final ActorRef policiesShardRegion;
+        if (shardAllocationConfig.isLoadAware()) {
+            final ShardLoadCounter shardLoadCounter = ShardLoadCounter.newInstance();
+            final ShardLoadMap shardLoadMap = ShardLoadMap.newInstance();
+            policiesShardRegion = ClusterSharding.get(actorSystem)
+                    .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
+                            shardRegionExtractor.withLoadCounter(shardLoadCounter),
+                            LoadAwareShardAllocationStrategy.of(shardLoadMap, shardAllocationConfig,
+                                    Cluster.get(actorSystem).selfAddress()),
+                            PoisonPill.getInstance());
+            startChildActor(ShardLoadReporter.ACTOR_NAME,
+                    ShardLoadReporter.props(PoliciesMessagingConstants.SHARD_REGION, policiesShardRegion,
+                            shardLoadCounter, shardLoadMap, pubSubMediator, shardAllocationConfig.getReportInterval()));
+        } else {
+            policiesShardRegion = ClusterSharding.get(actorSystem)
+                    .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
+                            shardRegionExtractor);
+        }
 
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
@@ -24,7 +24,7 @@ import org.eclipse.ditto.services.things.common.config.ThingConfig;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.ThingCommandStrategies;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.events.ThingEventStrategies;
 import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.TypedConfigCache;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
@@ -52,7 +52,7 @@ public final class ThingPersistenceActor
     /**
      * The prefix of the persistenceId for Things.
      */
-    static final String PERSISTENCE_ID_PREFIX = "thing:";
+    public static final String PERSISTENCE_ID_PREFIX = "thing:";
 
     /**
      * The ID of the journal plugin this persistence actor uses.
@@ -72,9 +72,8 @@ public final class ThingPersistenceActor
             final SnapshotAdapter<Thing> snapshotAdapter) {
 
         super(thingId, snapshotAdapter);
-        final DittoThingsConfig thingsConfig = DittoThingsConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        );
+        final DittoThingsConfig thingsConfig = TypedConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoThingsConfig.class, DittoThingsConfig::of);
         thingConfig = thingsConfig.getThingConfig();
         this.distributedPub = distributedPub;
     }
@@ -24,7 +24,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.TypedConfigCache;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
@@ -108,7 +108,8 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
     @Override
     @Nonnull
     protected ExponentialBackOffConfig getExponentialBackOffConfig() {
-        return DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+        return TypedConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoThingsConfig.class, DittoThingsConfig::of)
                 .getThingConfig()
                 .getSupervisorConfig()
                 .getExponentialBackOffConfig();
@@ -22,6 +22,7 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
@@ -35,15 +36,21 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonEventDecoder;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
 import org.eclipse.ditto.signals.events.things.AclEntryCreated;
 import org.eclipse.ditto.signals.events.things.AttributeCreated;
+import org.eclipse.ditto.signals.events.things.AttributeDeleted;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
 import org.eclipse.ditto.signals.events.things.AttributesCreated;
 import org.eclipse.ditto.signals.events.things.FeatureCreated;
 import org.eclipse.ditto.signals.events.things.FeatureModified;
 import org.eclipse.ditto.signals.events.things.FeaturePropertiesCreated;
+import org.eclipse.ditto.signals.events.things.FeaturePropertiesDeleted;
 import org.eclipse.ditto.signals.events.things.FeaturePropertiesModified;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyCreated;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyDeleted;
@@ -75,6 +82,10 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     private static final String THING_ATTRIBUTE_DELETED = "thingAttributeDeleted";
     private static final String ATTRIBUTE = "attribute";
     private static final String PROPERTY = "property";
+    private static final String PROPERTIES = "properties";
+    private static final String VALUE = "value";
+    private static final String THING_ID = "thingId";
+    private static final String FEATURE_ID = "featureId";
 
     private static final Predicate<JsonField> IS_REVISION = field -> field.getDefinition()
             .map(definition -> Objects.equals(definition, Event.JsonFields.REVISION))
@@ -88,6 +99,43 @@ public final class ThingMongoEventAdapter implements EventAdapter {
             JsonFactory.newJsonObjectFieldDefinition("payload", FieldType.REGULAR, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
 
+    // decodes the most frequent events during recovery without converting them to JSON first
+    static final BsonEventDecoder<Event> EVENT_DECODER = BsonEventDecoder.empty()
+            .with(AttributeCreated.TYPE, (document, revision, timestamp) ->
+                    AttributeCreated.of(getThingId(document), getPointer(document, ATTRIBUTE),
+                            BsonEventDecoder.getJsonValue(document, VALUE), revision, timestamp, DittoHeaders.empty()))
+            .with(AttributeModified.TYPE, (document, revision, timestamp) ->
+                    AttributeModified.of(getThingId(document), getPointer(document, ATTRIBUTE),
+                            BsonEventDecoder.getJsonValue(document, VALUE), revision, timestamp, DittoHeaders.empty()))
+            .with(AttributeDeleted.TYPE, (document, revision, timestamp) ->
+                    AttributeDeleted.of(getThingId(document), getPointer(document, ATTRIBUTE), revision, timestamp,
+                            DittoHeaders.empty()))
+            .with(FeaturePropertyCreated.TYPE, (document, revision, timestamp) ->
+                    FeaturePropertyCreated.of(getThingId(document), BsonEventDecoder.getString(document, FEATURE_ID),
+                            getPointer(document, PROPERTY), BsonEventDecoder.getJsonValue(document, VALUE), revision,
+                            timestamp, DittoHeaders.empty()))
+            .with(FeaturePropertyModified.TYPE, (document, revision, timestamp) ->
+                    FeaturePropertyModified.of(getThingId(document), BsonEventDecoder.getString(document, FEATURE_ID),
+                            getPointer(document, PROPERTY), BsonEventDecoder.getJsonValue(document, VALUE), revision,
+                            timestamp, DittoHeaders.empty()))
+            .with(FeaturePropertyDeleted.TYPE, (document, revision, timestamp) ->
+                    FeaturePropertyDeleted.of(getThingId(document), BsonEventDecoder.getString(document, FEATURE_ID),
+                            getPointer(document, PROPERTY), revision, timestamp, DittoHeaders.empty()))
+            .with(FeaturePropertiesCreated.TYPE, (document, revision, timestamp) ->
+                    FeaturePropertiesCreated.of(getThingId(document),
+                            BsonEventDecoder.getString(document, FEATURE_ID), ThingsModelFactory.newFeatureProperties(
+                                    BsonEventDecoder.getJsonObject(document, PROPERTIES)), revision, timestamp,
+                            DittoHeaders.empty()))
+            .with(FeaturePropertiesModified.TYPE, (document, revision, timestamp) ->
+                    FeaturePropertiesModified.of(getThingId(document),
+                            BsonEventDecoder.getString(document, FEATURE_ID), ThingsModelFactory.newFeatureProperties(
+                                    BsonEventDecoder.getJsonObject(document, PROPERTIES)), revision, timestamp,
+                            DittoHeaders.empty()))
+            .with(FeaturePropertiesDeleted.TYPE, (document, revision, timestamp) ->
+                    FeaturePropertiesDeleted.of(getThingId(document),
+                            BsonEventDecoder.getString(document, FEATURE_ID), revision, timestamp,
+                            DittoHeaders.empty()));
+
     private final Map<String, Function<JsonObject, JsonObject>> migrationMappings;
     private final ExtendedActorSystem system;
     private final GlobalEventRegistry eventRegistry;
@@ -154,7 +202,9 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            final BsonValue bsonValue = (BsonValue) event;
+            return EventSeq.single(EVENT_DECODER.tryToDecode(bsonValue)
+                    .orElseGet(() -> tryToCreateEventFrom(DittoBsonJson.getInstance().serialize(bsonValue))));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
@@ -183,6 +233,14 @@ public final class ThingMongoEventAdapter implements EventAdapter {
         return eventRegistry.parse(migrateComplex(migratePayload(jsonObject)), DittoHeaders.empty());
     }
 
+    private static ThingId getThingId(final BsonDocument document) {
+        return ThingId.of(BsonEventDecoder.getString(document, THING_ID));
+    }
+
+    private static JsonPointer getPointer(final BsonDocument document, final String key) {
+        return JsonFactory.newPointer(BsonEventDecoder.getString(document, key));
+    }
+
     /**
      * A "payload" object was wrapping the events payload until the introduction of "cr-commands 1.0.0".
      * This field has to be used as fallback for already persisted events with "things-model" < 3.0.0.
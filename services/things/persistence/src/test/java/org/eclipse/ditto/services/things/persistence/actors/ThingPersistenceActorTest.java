@@ -31,10 +31,12 @@ import java.time.Instant;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
@@ -140,8 +142,9 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
 
     private static void assertThingInResponse(final Thing actualThing, final Thing expectedThing) {
         // Policy entries are ignored by things-persistence.
-        assertThat(actualThing).hasEqualJson(expectedThing, FieldType.notHidden()
-                .and(IS_MODIFIED.negate()));
+        final Predicate<JsonField> predicate = FieldType.notHidden().and(IS_MODIFIED.negate());
+        // the Thing of a deserialized response returns the JSON object it is backed by
+        assertThat(actualThing.toJson(predicate)).isEqualToIgnoringFieldDefinitions(expectedThing.toJson(predicate));
 
         assertThat(actualThing.getModified()).isPresent(); // we cannot check exact timestamp
     }
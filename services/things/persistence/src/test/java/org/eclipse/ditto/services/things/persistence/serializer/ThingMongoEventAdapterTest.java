@@ -14,10 +14,16 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.eclipse.ditto.model.base.assertions.DittoBaseAssertions.assertThat;
 
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
@@ -34,6 +40,7 @@ import org.eclipse.ditto.signals.events.things.AttributesModified;
 import org.eclipse.ditto.signals.events.things.FeatureCreated;
 import org.eclipse.ditto.signals.events.things.FeatureModified;
 import org.eclipse.ditto.signals.events.things.FeaturePropertiesCreated;
+import org.eclipse.ditto.signals.events.things.FeaturePropertiesDeleted;
 import org.eclipse.ditto.signals.events.things.FeaturePropertiesModified;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyCreated;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyDeleted;
@@ -617,6 +624,59 @@ public final class ThingMongoEventAdapterTest {
                 .isEqualTo(TestConstants.Feature.FLUX_CAPACITOR_PROPERTIES.toJsonString());
     }
 
+    @Test
+    public void directlyDecodedEventsEqualPersistedEvents() {
+        final Instant timestamp = Instant.now();
+        final DittoHeaders dittoHeaders = DittoHeaders.empty();
+        final JsonObject nestedValue = JsonFactory.newObjectBuilder()
+                .set("org.eclipse.ditto", 42)
+                .set("$type", "nested")
+                .build();
+        final JsonPointer property = JsonPointer.of("target/year");
+        final List<ThingEvent> events = Arrays.asList(
+                AttributeCreated.of(TestConstants.Thing.THING_ID, JsonPointer.of("a/b"), nestedValue, 0L,
+                        timestamp, dittoHeaders),
+                AttributeModified.of(TestConstants.Thing.THING_ID, JsonPointer.of("a"), JsonValue.of(1.5), 0L,
+                        null, dittoHeaders),
+                AttributeDeleted.of(TestConstants.Thing.THING_ID, JsonPointer.of("a"), 0L, timestamp, dittoHeaders),
+                FeaturePropertyCreated.of(TestConstants.Thing.THING_ID, TestConstants.Feature.FLUX_CAPACITOR_ID,
+                        property, JsonValue.of("1955"), 0L, timestamp, dittoHeaders),
+                FeaturePropertyModified.of(TestConstants.Thing.THING_ID, TestConstants.Feature.FLUX_CAPACITOR_ID,
+                        property, JsonValue.nullLiteral(), 0L, timestamp, dittoHeaders),
+                FeaturePropertyDeleted.of(TestConstants.Thing.THING_ID, TestConstants.Feature.FLUX_CAPACITOR_ID,
+                        property, 0L, timestamp, dittoHeaders),
+                FeaturePropertiesCreated.of(TestConstants.Thing.THING_ID, TestConstants.Feature.FLUX_CAPACITOR_ID,
+                        TestConstants.Feature.FLUX_CAPACITOR_PROPERTIES, 0L, timestamp, dittoHeaders),
+                FeaturePropertiesModified.of(TestConstants.Thing.THING_ID, TestConstants.Feature.FLUX_CAPACITOR_ID,
+                        TestConstants.Feature.FLUX_CAPACITOR_PROPERTIES, 0L, null, dittoHeaders),
+                FeaturePropertiesDeleted.of(TestConstants.Thing.THING_ID, TestConstants.Feature.FLUX_CAPACITOR_ID,
+                        0L, timestamp, dittoHeaders));
+
+        for (final ThingEvent event : events) {
+            final BsonValue journalEntry = (BsonValue) underTest.toJournal(event);
+
+            // the direct decoder must not fall back to the JSON path for any of these types
+            assertThat(ThingMongoEventAdapter.EVENT_DECODER.tryToDecode(journalEntry)).contains(event);
+            assertThat(underTest.fromJournal(journalEntry, event.getType()).events().head()).isEqualTo(event);
+        }
+    }
+
+    @Test
+    public void legacyAndUnregisteredJournalEntriesAreNotDecodedDirectly() {
+        final BsonValue legacyEntry = (BsonValue) toDbObject(JsonFactory.newObjectBuilder()
+                .set("event", AttributeModified.NAME)
+                .set("type", AttributeModified.TYPE)
+                .set("/payload/thingId", TestConstants.Thing.THING_ID.toString())
+                .set("/payload/attribute", "/a")
+                .set("/payload/value", 1)
+                .build());
+        final BsonValue unregisteredEntry = (BsonValue) underTest.toJournal(
+                ThingCreated.of(TestConstants.Thing.THING_V2, 0L, DittoHeaders.empty()));
+
+        assertThat(ThingMongoEventAdapter.EVENT_DECODER.tryToDecode(legacyEntry)).isEmpty();
+        assertThat(ThingMongoEventAdapter.EVENT_DECODER.tryToDecode(unregisteredEntry)).isEmpty();
+    }
+
     private static Object toDbObject(final JsonObject jsonObject) {
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(jsonObject);
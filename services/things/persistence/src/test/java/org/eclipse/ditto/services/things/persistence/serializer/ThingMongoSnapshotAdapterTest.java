@@ -17,9 +17,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.bson.BsonDocument;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.persistence.SnapshotMetadata;
 import akka.persistence.SnapshotOffer;
 
@@ -48,4 +51,32 @@ public final class ThingMongoSnapshotAdapterTest {
         assertThat(restoredThing).isEqualTo(thing);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void binaryRoundtripReturnsExpected() {
+        final ThingMongoSnapshotAdapter binaryAdapter = new ThingMongoSnapshotAdapter(binarySnapshotConfig());
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final Object rawSnapshotEntity = binaryAdapter.toSnapshotStore(thing);
+        assertThat(rawSnapshotEntity).isInstanceOf(BsonDocument.class);
+        final Thing restoredThing =
+                binaryAdapter.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, rawSnapshotEntity));
+        assertThat(restoredThing).isEqualTo(thing);
+    }
+
+    @Test
+    public void snapshotsOfBothEncodingsAreReadable() {
+        final ThingMongoSnapshotAdapter binaryAdapter = new ThingMongoSnapshotAdapter(binarySnapshotConfig());
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final Object bsonSnapshot = underTest.toSnapshotStore(thing);
+        final Object binarySnapshot = binaryAdapter.toSnapshotStore(thing);
+
+        assertThat(binaryAdapter.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, bsonSnapshot)))
+                .isEqualTo(thing);
+        assertThat(underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, binarySnapshot)))
+                .isEqualTo(thing);
+    }
+
+    private static DefaultSnapshotConfig binarySnapshotConfig() {
+        return DefaultSnapshotConfig.of(ConfigFactory.parseString("snapshot.binary-encoding = true"));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.serializer.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoEventAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.signals.events.base.Event;
+import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark for replaying the journal of a thing with {@link ThingMongoEventAdapter}, comparing the direct
+ * decoding of BSON journal entries with parsing their JSON representation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThingEventReplayBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int EVENTS_PER_RECOVERY = 500;
+
+    private ThingMongoEventAdapter adapter;
+    private List<Object> journalEntries;
+
+    @Setup
+    public void setUp() {
+        adapter = new ThingMongoEventAdapter(null);
+        journalEntries = new ArrayList<>(EVENTS_PER_RECOVERY);
+        final ThingId thingId = ThingId.of("benchmark", "thing");
+        for (int i = 0; i < EVENTS_PER_RECOVERY; i++) {
+            final Event<?> event = i % 2 == 0
+                    ? AttributeModified.of(thingId, JsonPointer.of("counter/" + (i % 10)), JsonValue.of(i), i, null,
+                    DittoHeaders.empty())
+                    : FeaturePropertyModified.of(thingId, "sensor", JsonPointer.of("status/value"),
+                    JsonObject.newBuilder().set("value", i).set("unit", "celsius").build(), i, null,
+                    DittoHeaders.empty());
+            journalEntries.add(adapter.toJournal(event));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @OperationsPerInvocation(EVENTS_PER_RECOVERY)
+    public void replayDirectlyFromBson(final Blackhole blackhole) {
+        for (final Object journalEntry : journalEntries) {
+            blackhole.consume(adapter.fromJournal(journalEntry, ""));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @OperationsPerInvocation(EVENTS_PER_RECOVERY)
+    public void replayViaJson(final Blackhole blackhole) {
+        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+        final GlobalEventRegistry eventRegistry = GlobalEventRegistry.getInstance();
+        for (final Object journalEntry : journalEntries) {
+            final JsonObject jsonObject = dittoBsonJson.serialize((BsonValue) journalEntry)
+                    .asObject()
+                    .setValue(Event.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
+            blackhole.consume(eventRegistry.parse(jsonObject, DittoHeaders.empty()));
+        }
+    }
+
+}
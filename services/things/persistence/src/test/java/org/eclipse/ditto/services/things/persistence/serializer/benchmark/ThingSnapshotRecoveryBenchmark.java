@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.serializer.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.persistence.SnapshotMetadata;
+import akka.persistence.SnapshotOffer;
+
+/**
+ * JMH Benchmark for recovering things of different sizes from BSON and from binary snapshots with
+ * {@link ThingMongoSnapshotAdapter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThingSnapshotRecoveryBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int ATTRIBUTE_SIZE = 100;
+
+    /**
+     * Approximate size of the serialized thing in bytes.
+     */
+    @Param({"10240", "102400", "1048576"})
+    public int thingSize;
+
+    /**
+     * Whether the snapshot is stored in the binary format.
+     */
+    @Param({"false", "true"})
+    public boolean binaryEncoding;
+
+    private ThingMongoSnapshotAdapter adapter;
+    private SnapshotOffer snapshotOffer;
+
+    @Setup
+    public void setUp() {
+        adapter = new ThingMongoSnapshotAdapter(DefaultSnapshotConfig.of(
+                ConfigFactory.parseString("snapshot.binary-encoding = " + binaryEncoding)));
+        final Thing thing = createThing(thingSize);
+        snapshotOffer = new SnapshotOffer(new SnapshotMetadata("thing:benchmark:thing", 1L, 0L),
+                adapter.toSnapshotStore(thing));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Thing recoverFromSnapshot() {
+        return adapter.fromSnapshotStore(snapshotOffer);
+    }
+
+    private static Thing createThing(final int thingSize) {
+        final JsonObjectBuilder attributes = JsonFactory.newObjectBuilder();
+        final String padding = new String(new char[ATTRIBUTE_SIZE]).replace('\0', 'x');
+        for (int i = 0; i < thingSize / ATTRIBUTE_SIZE; i++) {
+            attributes.set("attribute" + i, padding + i);
+        }
+        return ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("benchmark", "thing"))
+                .setAttributes(ThingsModelFactory.newAttributes(attributes.build()))
+                .setRevision(1L)
+                .build();
+    }
+
+}
@@ -26,6 +26,7 @@ import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.things.common.config.ThingsConfig;
+import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceOperationsActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor;
@@ -33,9 +34,14 @@ import org.eclipse.ditto.services.things.persistence.actors.ThingsPersistenceStr
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.cluster.LoadAwareShardAllocationStrategy;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadCounter;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadMap;
+import org.eclipse.ditto.services.utils.cluster.ShardLoadReporter;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
+import org.eclipse.ditto.services.utils.cluster.config.ShardAllocationConfig;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
@@ -44,6 +50,7 @@ import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
+import org.eclipse.ditto.services.utils.persistence.mongo.PersistenceCleanupActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
@@ -57,6 +64,7 @@ import akka.actor.ActorSystem;
 import akka.actor.CoordinatedShutdown;
 import akka.actor.InvalidActorNameException;
 import akka.actor.OneForOneStrategy;
+import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.actor.SupervisorStrategy;
@@ -159,11 +167,29 @@ public final class ThingsRootActor extends AbstractActor {
         final ThingEventPubSubFactory pubSubFactory = ThingEventPubSubFactory.of(getContext(), shardRegionExtractor);
         final DistributedPub<ThingEvent> distributedPub = pubSubFactory.startDistributedPub();
 
-        final ActorRef thingsShardRegion = ClusterSharding.get(actorSystem)
-                .start(ThingsMessagingConstants.SHARD_REGION,
-                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory),
-                        ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
-                        shardRegionExtractor);
+        final Props thingSupervisorActorProps =
+                getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory);
+        final ClusterShardingSettings shardingSettings =
+                ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE);
+        final ShardAllocationConfig shardAllocationConfig = clusterConfig.getShardAllocationConfig();
+        final ActorRef thingsShardRegion;
+        if (shardAllocationConfig.isLoadAware()) {
+            final ShardLoadCounter shardLoadCounter = ShardLoadCounter.newInstance();
+            final ShardLoadMap shardLoadMap = ShardLoadMap.newInstance();
+            thingsShardRegion = ClusterSharding.get(actorSystem)
+                    .start(ThingsMessagingConstants.SHARD_REGION, thingSupervisorActorProps, shardingSettings,
+                            shardRegionExtractor.withLoadCounter(shardLoadCounter),
+                            LoadAwareShardAllocationStrategy.of(shardLoadMap, shardAllocationConfig,
+                                    Cluster.get(actorSystem).selfAddress()),
+                            PoisonPill.getInstance());
+            startChildActor(ShardLoadReporter.ACTOR_NAME,
+                    ShardLoadReporter.props(ThingsMessagingConstants.SHARD_REGION, thingsShardRegion,
+                            shardLoadCounter, shardLoadMap, pubSubMediator, shardAllocationConfig.getReportInterval()));
+        } else {
+            thingsShardRegion = ClusterSharding.get(actorSystem)
+                    .start(ThingsMessagingConstants.SHARD_REGION, thingSupervisorActorProps, shardingSettings,
+                            shardRegionExtractor);
+        }
 
         startChildActor(ThingPersistenceOperationsActor.ACTOR_NAME,
                 ThingPersistenceOperationsActor.props(pubSubMediator, thingsConfig.getMongoDbConfig(),
@@ -199,6 +225,10 @@ public final class ThingsRootActor extends AbstractActor {
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(persistenceStreamingActor), getSelf());
 
+        final ActorRef persistenceCleanupActor = startChildActor(PersistenceCleanupActor.ACTOR_NAME,
+                PersistenceCleanupActor.props(ThingPersistenceActor.PERSISTENCE_ID_PREFIX));
+        pubSubMediator.tell(DistPubSubAccess.put(persistenceCleanupActor), getSelf());
+
         final HttpConfig httpConfig = thingsConfig.getHttpConfig();
         String hostname = httpConfig.getHostname();
         if (hostname.isEmpty()) {
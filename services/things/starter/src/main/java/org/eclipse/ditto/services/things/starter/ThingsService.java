@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.things.starter;
 import org.eclipse.ditto.services.base.DittoService;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.things.common.config.ThingsConfig;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,7 +65,8 @@ public final class ThingsService extends DittoService<ThingsConfig> {
             final ActorMaterializer materializer) {
 
         return ThingsRootActor.props(thingsConfig, pubSubMediator, materializer,
-                DefaultThingPersistenceActorPropsFactory.getInstance());
+                DefaultThingPersistenceActorPropsFactory.of(
+                        new ThingMongoSnapshotAdapter(thingsConfig.getThingConfig().getSnapshotConfig())));
     }
 
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the adaptive bulk size and write interval of the search updater: the bulk size
+ * grows additively and the write interval shrinks additively while bulk writes are fast; both are changed
+ * multiplicatively when a bulk write is slow or fails.
+ */
+@Immutable
+public interface AdaptiveBulkConfig {
+
+    /**
+     * Indicates whether bulk size and write interval are adapted to the latency of bulk writes.
+     *
+     * @return whether the adaptation is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the lower bound of the bulk size.
+     *
+     * @return the minimum bulk size.
+     */
+    int getMinBulkSize();
+
+    /**
+     * Returns by how many write operations the bulk size grows after each fast bulk write.
+     *
+     * @return the bulk size step.
+     */
+    int getBulkSizeStep();
+
+    /**
+     * Returns the upper bound of the write interval.
+     *
+     * @return the maximum write interval.
+     */
+    Duration getMaxWriteInterval();
+
+    /**
+     * Returns by how much the write interval shrinks after each fast bulk write.
+     *
+     * @return the write interval step.
+     */
+    Duration getWriteIntervalStep();
+
+    /**
+     * Returns the latency above which a bulk write is considered slow.
+     *
+     * @return the target latency.
+     */
+    Duration getTargetLatency();
+
+    /**
+     * Returns the factor by which the bulk size is multiplied and the write interval is divided after a slow or
+     * failed bulk write.
+     *
+     * @return the decrease factor between 0 and 1.
+     */
+    double getDecreaseFactor();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code AdaptiveBulkConfig}.
+     */
+    enum AdaptiveBulkConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether bulk size and write interval are adapted to the latency of bulk writes.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The lower bound of the bulk size.
+         */
+        MIN_BULK_SIZE("min-bulk-size", 10),
+
+        /**
+         * The additive increase of the bulk size.
+         */
+        BULK_SIZE_STEP("bulk-size-step", 10),
+
+        /**
+         * The upper bound of the write interval.
+         */
+        MAX_WRITE_INTERVAL("max-write-interval", Duration.ofSeconds(10L)),
+
+        /**
+         * The additive decrease of the write interval.
+         */
+        WRITE_INTERVAL_STEP("write-interval-step", Duration.ofMillis(100L)),
+
+        /**
+         * The latency above which a bulk write is considered slow.
+         */
+        TARGET_LATENCY("target-latency", Duration.ofSeconds(1L)),
+
+        /**
+         * The multiplicative decrease factor.
+         */
+        DECREASE_FACTOR("decrease-factor", 0.5);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private AdaptiveBulkConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
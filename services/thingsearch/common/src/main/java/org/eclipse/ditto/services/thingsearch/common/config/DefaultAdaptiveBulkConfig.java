@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link AdaptiveBulkConfig}.
+ */
+@Immutable
+public final class DefaultAdaptiveBulkConfig implements AdaptiveBulkConfig {
+
+    /**
+     * Path where the adaptive bulk config values are expected.
+     */
+    static final String CONFIG_PATH = "adaptive";
+
+    private final boolean enabled;
+    private final int minBulkSize;
+    private final int bulkSizeStep;
+    private final Duration maxWriteInterval;
+    private final Duration writeIntervalStep;
+    private final Duration targetLatency;
+    private final double decreaseFactor;
+
+    private DefaultAdaptiveBulkConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(AdaptiveBulkConfigValue.ENABLED.getConfigPath());
+        minBulkSize = config.getInt(AdaptiveBulkConfigValue.MIN_BULK_SIZE.getConfigPath());
+        bulkSizeStep = config.getInt(AdaptiveBulkConfigValue.BULK_SIZE_STEP.getConfigPath());
+        maxWriteInterval = config.getDuration(AdaptiveBulkConfigValue.MAX_WRITE_INTERVAL.getConfigPath());
+        writeIntervalStep = config.getDuration(AdaptiveBulkConfigValue.WRITE_INTERVAL_STEP.getConfigPath());
+        targetLatency = config.getDuration(AdaptiveBulkConfigValue.TARGET_LATENCY.getConfigPath());
+        decreaseFactor = config.getDouble(AdaptiveBulkConfigValue.DECREASE_FACTOR.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultAdaptiveBulkConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the adaptive bulk config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultAdaptiveBulkConfig of(final Config config) {
+        return new DefaultAdaptiveBulkConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, AdaptiveBulkConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMinBulkSize() {
+        return minBulkSize;
+    }
+
+    @Override
+    public int getBulkSizeStep() {
+        return bulkSizeStep;
+    }
+
+    @Override
+    public Duration getMaxWriteInterval() {
+        return maxWriteInterval;
+    }
+
+    @Override
+    public Duration getWriteIntervalStep() {
+        return writeIntervalStep;
+    }
+
+    @Override
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+    @Override
+    public double getDecreaseFactor() {
+        return decreaseFactor;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultAdaptiveBulkConfig that = (DefaultAdaptiveBulkConfig) o;
+        return enabled == that.enabled &&
+                minBulkSize == that.minBulkSize &&
+                bulkSizeStep == that.bulkSizeStep &&
+                Double.compare(that.decreaseFactor, decreaseFactor) == 0 &&
+                Objects.equals(maxWriteInterval, that.maxWriteInterval) &&
+                Objects.equals(writeIntervalStep, that.writeIntervalStep) &&
+                Objects.equals(targetLatency, that.targetLatency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, minBulkSize, bulkSizeStep, maxWriteInterval, writeIntervalStep, targetLatency,
+                decreaseFactor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", minBulkSize=" + minBulkSize +
+                ", bulkSizeStep=" + bulkSizeStep +
+                ", maxWriteInterval=" + maxWriteInterval +
+                ", writeIntervalStep=" + writeIntervalStep +
+                ", targetLatency=" + targetLatency +
+                ", decreaseFactor=" + decreaseFactor +
+                "]";
+    }
+
+}
@@ -31,12 +31,14 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
     private static final String CONFIG_PATH = "persistence";
 
     private final int maxBulkSize;
+    private final DefaultAdaptiveBulkConfig adaptiveBulkConfig;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
             final DefaultStreamStageConfig defaultStreamStageConfig) {
 
         maxBulkSize = persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath());
+        adaptiveBulkConfig = DefaultAdaptiveBulkConfig.of(persistenceStreamScopedConfig);
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -58,6 +60,11 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return maxBulkSize;
     }
 
+    @Override
+    public AdaptiveBulkConfig getAdaptiveBulkConfig() {
+        return adaptiveBulkConfig;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -78,18 +85,20 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         }
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return maxBulkSize == that.maxBulkSize &&
+                adaptiveBulkConfig.equals(that.adaptiveBulkConfig) &&
                 defaultStreamStageConfig.equals(that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxBulkSize, defaultStreamStageConfig);
+        return Objects.hash(maxBulkSize, adaptiveBulkConfig, defaultStreamStageConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maxBulkSize=" + maxBulkSize +
+                ", adaptiveBulkConfig=" + adaptiveBulkConfig +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
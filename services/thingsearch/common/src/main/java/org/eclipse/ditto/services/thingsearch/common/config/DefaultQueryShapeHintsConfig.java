@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link QueryShapeHintsConfig}.
+ */
+@Immutable
+public final class DefaultQueryShapeHintsConfig implements QueryShapeHintsConfig {
+
+    /**
+     * Path where the query shape hints config values are expected.
+     */
+    static final String CONFIG_PATH = "query-shape-hints";
+
+    private final boolean enabled;
+    private final int samplesPerIndex;
+    private final double explorationRate;
+    private final int maxShapes;
+    private final String pinnedShapes;
+
+    private DefaultQueryShapeHintsConfig(final ConfigWithFallback configWithFallback) {
+        enabled = configWithFallback.getBoolean(QueryShapeHintsConfigValue.ENABLED.getConfigPath());
+        samplesPerIndex = configWithFallback.getInt(QueryShapeHintsConfigValue.SAMPLES_PER_INDEX.getConfigPath());
+        explorationRate = configWithFallback.getDouble(QueryShapeHintsConfigValue.EXPLORATION_RATE.getConfigPath());
+        maxShapes = configWithFallback.getInt(QueryShapeHintsConfigValue.MAX_SHAPES.getConfigPath());
+        pinnedShapes = configWithFallback.getString(QueryShapeHintsConfigValue.PINNED_SHAPES.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultQueryShapeHintsConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the query shape hints config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultQueryShapeHintsConfig of(final Config config) {
+        return new DefaultQueryShapeHintsConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, QueryShapeHintsConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getSamplesPerIndex() {
+        return samplesPerIndex;
+    }
+
+    @Override
+    public double getExplorationRate() {
+        return explorationRate;
+    }
+
+    @Override
+    public int getMaxShapes() {
+        return maxShapes;
+    }
+
+    @Override
+    public String getPinnedShapes() {
+        return pinnedShapes;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultQueryShapeHintsConfig that = (DefaultQueryShapeHintsConfig) o;
+        return enabled == that.enabled &&
+                samplesPerIndex == that.samplesPerIndex &&
+                Double.compare(that.explorationRate, explorationRate) == 0 &&
+                maxShapes == that.maxShapes &&
+                Objects.equals(pinnedShapes, that.pinnedShapes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, samplesPerIndex, explorationRate, maxShapes, pinnedShapes);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", samplesPerIndex=" + samplesPerIndex +
+                ", explorationRate=" + explorationRate +
+                ", maxShapes=" + maxShapes +
+                ", pinnedShapes=" + pinnedShapes +
+                "]";
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ReconciliationConfig}.
+ */
+@Immutable
+public final class DefaultReconciliationConfig implements ReconciliationConfig {
+
+    /**
+     * Path where the reconciliation config values are expected.
+     */
+    static final String CONFIG_PATH = "reconciliation";
+
+    private final boolean active;
+    private final Duration interval;
+    private final int thingsPerSecond;
+    private final int burst;
+    private final Duration streamTimeout;
+    private final int maxMissingFromIndex;
+
+    private DefaultReconciliationConfig(final ConfigWithFallback configWithFallback) {
+        active = configWithFallback.getBoolean(ReconciliationConfigValue.ACTIVE.getConfigPath());
+        interval = configWithFallback.getDuration(ReconciliationConfigValue.INTERVAL.getConfigPath());
+        thingsPerSecond = configWithFallback.getInt(ReconciliationConfigValue.THINGS_PER_SECOND.getConfigPath());
+        burst = configWithFallback.getInt(ReconciliationConfigValue.BURST.getConfigPath());
+        streamTimeout = configWithFallback.getDuration(ReconciliationConfigValue.STREAM_TIMEOUT.getConfigPath());
+        maxMissingFromIndex =
+                configWithFallback.getInt(ReconciliationConfigValue.MAX_MISSING_FROM_INDEX.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultReconciliationConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the reconciliation config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultReconciliationConfig of(final Config config) {
+        return new DefaultReconciliationConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ReconciliationConfigValue.values()));
+    }
+
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public Duration getInterval() {
+        return interval;
+    }
+
+    @Override
+    public int getThingsPerSecond() {
+        return thingsPerSecond;
+    }
+
+    @Override
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public Duration getStreamTimeout() {
+        return streamTimeout;
+    }
+
+    @Override
+    public int getMaxMissingFromIndex() {
+        return maxMissingFromIndex;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultReconciliationConfig that = (DefaultReconciliationConfig) o;
+        return active == that.active &&
+                thingsPerSecond == that.thingsPerSecond &&
+                burst == that.burst &&
+                maxMissingFromIndex == that.maxMissingFromIndex &&
+                Objects.equals(interval, that.interval) &&
+                Objects.equals(streamTimeout, that.streamTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(active, interval, thingsPerSecond, burst, streamTimeout, maxMissingFromIndex);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "active=" + active +
+                ", interval=" + interval +
+                ", thingsPerSecond=" + thingsPerSecond +
+                ", burst=" + burst +
+                ", streamTimeout=" + streamTimeout +
+                ", maxMissingFromIndex=" + maxMissingFromIndex +
+                "]";
+    }
+
+}
@@ -42,6 +42,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final boolean eventProcessingActive;
     private final SyncConfig thingsSyncConfig;
     private final SyncConfig policiesSyncConfig;
+    private final ReconciliationConfig reconciliationConfig;
 
     private DefaultUpdaterConfig(final ConfigWithFallback updaterScopedConfig) {
         maxIdleTime = updaterScopedConfig.getDuration(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath());
@@ -52,6 +53,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 updaterScopedConfig.getBoolean(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath());
         thingsSyncConfig = DefaultSyncConfig.getInstance(updaterScopedConfig, THINGS_SYNC_CONFIG_PATH);
         policiesSyncConfig = DefaultSyncConfig.getInstance(updaterScopedConfig, POLICIES_SYNC_CONFIG_PATH);
+        reconciliationConfig = DefaultReconciliationConfig.of(updaterScopedConfig);
     }
 
     /**
@@ -96,6 +98,11 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return policiesSyncConfig;
     }
 
+    @Override
+    public ReconciliationConfig getReconciliationConfig() {
+        return reconciliationConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -110,13 +117,14 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 Objects.equals(maxIdleTime, that.maxIdleTime) &&
                 Objects.equals(shardingStatePollInterval, that.shardingStatePollInterval) &&
                 Objects.equals(thingsSyncConfig, that.thingsSyncConfig) &&
-                Objects.equals(policiesSyncConfig, that.policiesSyncConfig);
+                Objects.equals(policiesSyncConfig, that.policiesSyncConfig) &&
+                Objects.equals(reconciliationConfig, that.reconciliationConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(maxIdleTime, maxBulkSize, shardingStatePollInterval, eventProcessingActive,
-                thingsSyncConfig, policiesSyncConfig);
+                thingsSyncConfig, policiesSyncConfig, reconciliationConfig);
     }
 
     @Override
@@ -128,6 +136,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", eventProcessingActive=" + eventProcessingActive +
                 ", thingsSyncConfig=" + thingsSyncConfig +
                 ", policiesSyncConfig=" + policiesSyncConfig +
+                ", reconciliationConfig=" + reconciliationConfig +
                 "]";
     }
 
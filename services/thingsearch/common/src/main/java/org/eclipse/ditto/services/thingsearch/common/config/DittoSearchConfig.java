@@ -44,6 +44,9 @@ public final class DittoSearchConfig implements SearchConfig {
 
     private final DittoServiceConfig dittoServiceConfig;
     @Nullable private final String mongoHintsByNamespace;
+    private final boolean indexedFieldsEnabled;
+    private final boolean sharedPermissionGroupEnabled;
+    private final QueryShapeHintsConfig queryShapeHintsConfig;
     private final DeleteConfig deleteConfig;
     private final DeletionConfig deletionConfig;
     private final UpdaterConfig updaterConfig;
@@ -62,6 +65,11 @@ public final class DittoSearchConfig implements SearchConfig {
         final ConfigWithFallback configWithFallback =
                 ConfigWithFallback.newInstance(dittoScopedConfig, CONFIG_PATH, SearchConfigValue.values());
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
+        indexedFieldsEnabled =
+                configWithFallback.getBoolean(SearchConfigValue.INDEXED_FIELDS_ENABLED.getConfigPath());
+        sharedPermissionGroupEnabled =
+                configWithFallback.getBoolean(SearchConfigValue.SHARED_PERMISSION_GROUP_ENABLED.getConfigPath());
+        queryShapeHintsConfig = DefaultQueryShapeHintsConfig.of(configWithFallback);
         deleteConfig = DefaultDeleteConfig.of(configWithFallback);
         deletionConfig = DefaultDeletionConfig.of(configWithFallback);
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
@@ -86,6 +94,21 @@ public final class DittoSearchConfig implements SearchConfig {
         return Optional.ofNullable(mongoHintsByNamespace);
     }
 
+    @Override
+    public boolean isIndexedFieldsEnabled() {
+        return indexedFieldsEnabled;
+    }
+
+    @Override
+    public boolean isSharedPermissionGroupEnabled() {
+        return sharedPermissionGroupEnabled;
+    }
+
+    @Override
+    public QueryShapeHintsConfig getQueryShapeHintsConfig() {
+        return queryShapeHintsConfig;
+    }
+
     @Override
     public DeleteConfig getDeleteConfig() {
         return deleteConfig;
@@ -157,6 +180,9 @@ public final class DittoSearchConfig implements SearchConfig {
         }
         final DittoSearchConfig that = (DittoSearchConfig) o;
         return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
+                indexedFieldsEnabled == that.indexedFieldsEnabled &&
+                sharedPermissionGroupEnabled == that.sharedPermissionGroupEnabled &&
+                Objects.equals(queryShapeHintsConfig, that.queryShapeHintsConfig) &&
                 Objects.equals(deleteConfig, that.deleteConfig) &&
                 Objects.equals(deletionConfig, that.deletionConfig) &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
@@ -170,14 +196,18 @@ public final class DittoSearchConfig implements SearchConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig,
-                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
+        return Objects.hash(mongoHintsByNamespace, indexedFieldsEnabled, sharedPermissionGroupEnabled,
+                queryShapeHintsConfig, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig, healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig,
+                mongoDbConfig, streamConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
+                ", indexedFieldsEnabled=" + indexedFieldsEnabled +
+                ", sharedPermissionGroupEnabled=" + sharedPermissionGroupEnabled +
+                ", queryShapeHintsConfig=" + queryShapeHintsConfig +
                 ", deleteConfig=" + deleteConfig +
                 ", deletionConfig=" + deletionConfig +
                 ", updaterConfig=" + updaterConfig +
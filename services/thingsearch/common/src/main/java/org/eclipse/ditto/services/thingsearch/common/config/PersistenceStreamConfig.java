@@ -29,6 +29,13 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     int getMaxBulkSize();
 
+    /**
+     * Returns the configuration settings of the adaptive bulk size and write interval.
+     *
+     * @return the config.
+     */
+    AdaptiveBulkConfig getAdaptiveBulkConfig();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
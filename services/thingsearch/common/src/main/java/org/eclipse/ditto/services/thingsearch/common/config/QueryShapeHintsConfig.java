@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of the adaptive selection of index hints per query shape.
+ */
+@Immutable
+public interface QueryShapeHintsConfig {
+
+    /**
+     * Indicates whether index hints are chosen by the observed latency of each query shape.
+     *
+     * @return whether adaptive index hints are enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how many queries of a shape to run with each index before choosing the fastest index.
+     *
+     * @return the number of samples per index.
+     */
+    int getSamplesPerIndex();
+
+    /**
+     * Returns the probability of running a query with a random index after the fastest index was chosen, so that
+     * changes of the data distribution are noticed.
+     *
+     * @return the exploration rate between 0 and 1.
+     */
+    double getExplorationRate();
+
+    /**
+     * Returns the maximum number of query shapes to keep statistics for. Queries of further shapes are executed
+     * without hint.
+     *
+     * @return the maximum number of query shapes.
+     */
+    int getMaxShapes();
+
+    /**
+     * Returns the index hints pinned for query shapes at startup as JSON object from the query shape key to the name
+     * of the index. Unlike pins set by piggyback command, these pins survive restarts and apply to every search
+     * instance.
+     *
+     * @return the pinned query shapes as JSON object string.
+     */
+    String getPinnedShapes();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * QueryShapeHintsConfig.
+     */
+    enum QueryShapeHintsConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether index hints are chosen by the observed latency of each query shape.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * Number of queries per shape and index before choosing the fastest index.
+         */
+        SAMPLES_PER_INDEX("samples-per-index", 3),
+
+        /**
+         * Probability of running a query with a random index.
+         */
+        EXPLORATION_RATE("exploration-rate", 0.01),
+
+        /**
+         * Maximum number of query shapes to keep statistics for.
+         */
+        MAX_SHAPES("max-shapes", 1000),
+
+        /**
+         * JSON object from query shape key to the name of the index pinned for it.
+         */
+        PINNED_SHAPES("pinned-shapes", "{}");
+
+        private final String path;
+        private final Object defaultValue;
+
+        private QueryShapeHintsConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of the reconciliation between the things journal and the search index.
+ */
+@Immutable
+public interface ReconciliationConfig {
+
+    /**
+     * Indicates whether reconciliation passes should run.
+     *
+     * @return whether reconciliation is active.
+     */
+    boolean isActive();
+
+    /**
+     * Returns the delay between the start of consecutive reconciliation passes.
+     *
+     * @return the interval.
+     */
+    Duration getInterval();
+
+    /**
+     * Returns how many things to compare per second at most.
+     *
+     * @return the maximum number of things compared per second.
+     */
+    int getThingsPerSecond();
+
+    /**
+     * Returns how many things the Things service sends in one streamed message.
+     *
+     * @return the burst.
+     */
+    int getBurst();
+
+    /**
+     * Returns how long to wait for the Things service to start or continue the stream of thing revisions.
+     *
+     * @return the timeout.
+     */
+    Duration getStreamTimeout();
+
+    /**
+     * Returns how many things missing from the search index to remember between passes. Remembered things are not
+     * reported again as long as their revision does not change; any others are reported in every pass.
+     *
+     * @return the maximum number of remembered things missing from the search index.
+     */
+    int getMaxMissingFromIndex();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * ReconciliationConfig.
+     */
+    enum ReconciliationConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether reconciliation passes should run.
+         */
+        ACTIVE("active", false),
+
+        /**
+         * Delay between the start of consecutive reconciliation passes.
+         */
+        INTERVAL("interval", Duration.ofDays(1L)),
+
+        /**
+         * Maximum number of things compared per second.
+         */
+        THINGS_PER_SECOND("things-per-second", 1000),
+
+        /**
+         * Number of things per streamed message.
+         */
+        BURST("burst", 100),
+
+        /**
+         * Timeout of the stream of thing revisions.
+         */
+        STREAM_TIMEOUT("stream-timeout", Duration.ofMinutes(5L)),
+
+        /**
+         * Maximum number of remembered things missing from the search index.
+         */
+        MAX_MISSING_FROM_INDEX("max-missing-from-index", 100_000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private ReconciliationConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
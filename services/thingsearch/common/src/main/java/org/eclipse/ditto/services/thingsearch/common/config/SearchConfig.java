@@ -32,6 +32,34 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
 
     Optional<String> getMongoHintsByNamespace();
 
+    /**
+     * Indicates whether queries selecting fields are answered from the search index without retrieving the things
+     * if the search index contains all selected fields.
+     *
+     * @return {@code true} if selected fields are served from the search index, {@code false} else.
+     */
+    boolean isIndexedFieldsEnabled();
+
+    /**
+     * Indicates whether search index documents store the most frequent grants and revokes of their flattened values
+     * once in a shared permission group. Queries consider both the shared permission group and the grants and revokes
+     * of flattened values, so that documents written before enabling it remain searchable until they are reindexed.
+     * <p>
+     * Disabling it again is not seamless: queries then ignore shared permission groups, so that values of documents
+     * written with one are invisible until reconciliation has reindexed those documents.
+     * </p>
+     *
+     * @return {@code true} if documents are written with a shared permission group, {@code false} else.
+     */
+    boolean isSharedPermissionGroupEnabled();
+
+    /**
+     * Returns the configuration settings of the adaptive selection of index hints per query shape.
+     *
+     * @return the config.
+     */
+    QueryShapeHintsConfig getQueryShapeHintsConfig();
+
     /**
      * Returns the configuration settings of the "delete" section.
      *
@@ -69,7 +97,17 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
         /**
          * Default value is {@code null}.
          */
-        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null);
+        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null),
+
+        /**
+         * Determines whether selected fields are served from the search index.
+         */
+        INDEXED_FIELDS_ENABLED("indexed-fields-enabled", false),
+
+        /**
+         * Determines whether search index documents store a shared permission group.
+         */
+        SHARED_PERMISSION_GROUP_ENABLED("shared-permission-group-enabled", false);
 
         private final String path;
         private final Object defaultValue;
@@ -45,6 +45,21 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns the maximum number of things to index per event dump. Further changes stay queued for later dumps.
+     *
+     * @return the maximum dump size.
+     */
+    int getMaxDumpSize();
+
+    /**
+     * Returns the minimum interval between two indexing attempts of the same thing. Changes of a thing indexed more
+     * recently stay queued and are coalesced with its later changes.
+     *
+     * @return the minimum indexing interval per thing.
+     */
+    Duration getMinThingInterval();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -84,7 +99,17 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The maximum number of things to index per event dump.
+         */
+        MAX_DUMP_SIZE("max-dump-size", 10_000),
+
+        /**
+         * The minimum interval between two indexing attempts of the same thing.
+         */
+        MIN_THING_INTERVAL("min-thing-interval", Duration.ofSeconds(1L));
 
         private final String configPath;
         private final Object defaultValue;
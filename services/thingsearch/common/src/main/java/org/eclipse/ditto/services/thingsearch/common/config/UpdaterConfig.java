@@ -68,6 +68,13 @@ public interface UpdaterConfig {
      */
     SyncConfig getPoliciesSyncConfig();
 
+    /**
+     * Returns the settings of the reconciliation between the things journal and the search index.
+     *
+     * @return the config.
+     */
+    ReconciliationConfig getReconciliationConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * UpdaterConfig.
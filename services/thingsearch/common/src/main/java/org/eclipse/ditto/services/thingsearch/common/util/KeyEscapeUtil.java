@@ -41,4 +41,17 @@ public final class KeyEscapeUtil {
                 .replace("$", FAKE_DOLLAR)
                 .replace(".", FAKE_DOT);
     }
+
+    /**
+     * Reverts the escaping of a MongoDB key done by {@link #escape(String)}.
+     *
+     * @param str the escaped String
+     * @return the unescaped String
+     */
+    public static String unescape(final String str) {
+        requireNonNull(str);
+        return str.replace(FAKE_DOT, ".")
+                .replace(FAKE_DOLLAR, "$")
+                .replace(FAKE_TILDA, "~");
+    }
 }
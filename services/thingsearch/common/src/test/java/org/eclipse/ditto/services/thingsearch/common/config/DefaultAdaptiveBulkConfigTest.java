@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.AdaptiveBulkConfig.AdaptiveBulkConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultAdaptiveBulkConfig}.
+ */
+public final class DefaultAdaptiveBulkConfigTest {
+
+    private static Config adaptiveBulkTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        adaptiveBulkTestConfig = ConfigFactory.load("adaptive-bulk-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultAdaptiveBulkConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultAdaptiveBulkConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultAdaptiveBulkConfig underTest = DefaultAdaptiveBulkConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(AdaptiveBulkConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(AdaptiveBulkConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMinBulkSize())
+                .as(AdaptiveBulkConfigValue.MIN_BULK_SIZE.getConfigPath())
+                .isEqualTo(AdaptiveBulkConfigValue.MIN_BULK_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getBulkSizeStep())
+                .as(AdaptiveBulkConfigValue.BULK_SIZE_STEP.getConfigPath())
+                .isEqualTo(AdaptiveBulkConfigValue.BULK_SIZE_STEP.getDefaultValue());
+        softly.assertThat(underTest.getMaxWriteInterval())
+                .as(AdaptiveBulkConfigValue.MAX_WRITE_INTERVAL.getConfigPath())
+                .isEqualTo(AdaptiveBulkConfigValue.MAX_WRITE_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getWriteIntervalStep())
+                .as(AdaptiveBulkConfigValue.WRITE_INTERVAL_STEP.getConfigPath())
+                .isEqualTo(AdaptiveBulkConfigValue.WRITE_INTERVAL_STEP.getDefaultValue());
+        softly.assertThat(underTest.getTargetLatency())
+                .as(AdaptiveBulkConfigValue.TARGET_LATENCY.getConfigPath())
+                .isEqualTo(AdaptiveBulkConfigValue.TARGET_LATENCY.getDefaultValue());
+        softly.assertThat(underTest.getDecreaseFactor())
+                .as(AdaptiveBulkConfigValue.DECREASE_FACTOR.getConfigPath())
+                .isEqualTo(AdaptiveBulkConfigValue.DECREASE_FACTOR.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultAdaptiveBulkConfig underTest = DefaultAdaptiveBulkConfig.of(adaptiveBulkTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(AdaptiveBulkConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMinBulkSize())
+                .as(AdaptiveBulkConfigValue.MIN_BULK_SIZE.getConfigPath())
+                .isEqualTo(5);
+        softly.assertThat(underTest.getBulkSizeStep())
+                .as(AdaptiveBulkConfigValue.BULK_SIZE_STEP.getConfigPath())
+                .isEqualTo(7);
+        softly.assertThat(underTest.getMaxWriteInterval())
+                .as(AdaptiveBulkConfigValue.MAX_WRITE_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
+        softly.assertThat(underTest.getWriteIntervalStep())
+                .as(AdaptiveBulkConfigValue.WRITE_INTERVAL_STEP.getConfigPath())
+                .isEqualTo(Duration.ofMillis(20L));
+        softly.assertThat(underTest.getTargetLatency())
+                .as(AdaptiveBulkConfigValue.TARGET_LATENCY.getConfigPath())
+                .isEqualTo(Duration.ofMillis(250L));
+        softly.assertThat(underTest.getDecreaseFactor())
+                .as(AdaptiveBulkConfigValue.DECREASE_FACTOR.getConfigPath())
+                .isEqualTo(0.75);
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryShapeHintsConfig.QueryShapeHintsConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultQueryShapeHintsConfig}.
+ */
+public final class DefaultQueryShapeHintsConfigTest {
+
+    private static Config queryShapeHintsTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        queryShapeHintsTestConfig = ConfigFactory.load("query-shape-hints-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultQueryShapeHintsConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultQueryShapeHintsConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultQueryShapeHintsConfig underTest = DefaultQueryShapeHintsConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryShapeHintsConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(QueryShapeHintsConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getSamplesPerIndex())
+                .as(QueryShapeHintsConfigValue.SAMPLES_PER_INDEX.getConfigPath())
+                .isEqualTo(QueryShapeHintsConfigValue.SAMPLES_PER_INDEX.getDefaultValue());
+        softly.assertThat(underTest.getExplorationRate())
+                .as(QueryShapeHintsConfigValue.EXPLORATION_RATE.getConfigPath())
+                .isEqualTo(QueryShapeHintsConfigValue.EXPLORATION_RATE.getDefaultValue());
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryShapeHintsConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(QueryShapeHintsConfigValue.MAX_SHAPES.getDefaultValue());
+        softly.assertThat(underTest.getPinnedShapes())
+                .as(QueryShapeHintsConfigValue.PINNED_SHAPES.getConfigPath())
+                .isEqualTo(QueryShapeHintsConfigValue.PINNED_SHAPES.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultQueryShapeHintsConfig underTest = DefaultQueryShapeHintsConfig.of(queryShapeHintsTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryShapeHintsConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getSamplesPerIndex())
+                .as(QueryShapeHintsConfigValue.SAMPLES_PER_INDEX.getConfigPath())
+                .isEqualTo(5);
+        softly.assertThat(underTest.getExplorationRate())
+                .as(QueryShapeHintsConfigValue.EXPLORATION_RATE.getConfigPath())
+                .isEqualTo(0.2);
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryShapeHintsConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getPinnedShapes())
+                .as(QueryShapeHintsConfigValue.PINNED_SHAPES.getConfigPath())
+                .isEqualTo("{\"count {_namespace:?}\":\"namespace\"}");
+    }
+
+}
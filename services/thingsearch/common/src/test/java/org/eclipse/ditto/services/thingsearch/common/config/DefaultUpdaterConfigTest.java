@@ -117,6 +117,18 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.getPoliciesSyncConfig())
                 .as(DefaultUpdaterConfig.POLICIES_SYNC_CONFIG_PATH)
                 .isEqualTo(policiesSyncConfig);
+        softly.assertThat(underTest.getReconciliationConfig())
+                .as(DefaultReconciliationConfig.CONFIG_PATH)
+                .isEqualTo(DefaultReconciliationConfig.of(updaterScopedRawConfig));
+        softly.assertThat(underTest.getReconciliationConfig().isActive())
+                .as(ReconciliationConfig.ReconciliationConfigValue.ACTIVE.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getReconciliationConfig().getThingsPerSecond())
+                .as(ReconciliationConfig.ReconciliationConfigValue.THINGS_PER_SECOND.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getReconciliationConfig().getMaxMissingFromIndex())
+                .as(ReconciliationConfig.ReconciliationConfigValue.MAX_MISSING_FROM_INDEX.getConfigPath())
+                .isEqualTo(1000);
     }
 
 }
@@ -39,15 +39,31 @@ public final class Indices {
     }
 
     /**
-     * Index for queries with effective filters.
+     * Name of the index for queries with effective filters.
      */
-    private static final Index KEY_VALUE = IndexFactory.newInstance("key-value",
+    public static final String KEY_VALUE_NAME = "key-value";
+
+    /**
+     * Name of the index for queries without effective filters.
+     */
+    public static final String GLOBAL_READ_NAME = "global-read";
+
+    /**
+     * Name of the index for namespace.
+     */
+    public static final String NAMESPACE_NAME = "namespace";
+
+    /**
+     * Index for queries with effective filters. With shared permission groups, flattened values without own grants
+     * are looked up with null bounds on the grants, so that no further index is needed.
+     */
+    private static final Index KEY_VALUE = IndexFactory.newInstance(KEY_VALUE_NAME,
             Arrays.asList(FIELD_GRANTED_PATH, FIELD_PATH_KEY, FIELD_PATH_VALUE, FIELD_ID), false);
 
     /**
      * Index for queries without effective filters to be executed as scans over all visible things.
      */
-    private static final Index GLOBAL_READ = IndexFactory.newInstance("global-read",
+    private static final Index GLOBAL_READ = IndexFactory.newInstance(GLOBAL_READ_NAME,
             Collections.singletonList(FIELD_GLOBAL_READ), false);
 
     /**
@@ -61,7 +77,7 @@ public final class Indices {
     /**
      * Index for namespace.
      */
-    private static final Index NAMESPACE = IndexFactory.newInstance("namespace",
+    private static final Index NAMESPACE = IndexFactory.newInstance(NAMESPACE_NAME,
             Arrays.asList(FIELD_NAMESPACE, FIELD_ID), false);
 
     /**
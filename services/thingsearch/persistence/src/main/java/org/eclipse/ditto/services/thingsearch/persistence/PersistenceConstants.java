@@ -161,6 +161,26 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_REVOKED = "r";
 
+    /**
+     * Full path of the revoked field.
+     */
+    public static final String FIELD_REVOKED_PATH = FIELD_INTERNAL + DOT + FIELD_REVOKED;
+
+    /**
+     * Field name for the permission group shared by all flattened entries without own grants and revokes.
+     */
+    public static final String FIELD_PERMISSION_GROUP = "p";
+
+    /**
+     * Full path of the grants of the shared permission group.
+     */
+    public static final String FIELD_PERMISSION_GROUP_GRANTED_PATH = FIELD_PERMISSION_GROUP + DOT + FIELD_GRANTED;
+
+    /**
+     * Full path of the revokes of the shared permission group.
+     */
+    public static final String FIELD_PERMISSION_GROUP_REVOKED_PATH = FIELD_PERMISSION_GROUP + DOT + FIELD_REVOKED;
+
     /**
      * Mark a document for deletion.
      */
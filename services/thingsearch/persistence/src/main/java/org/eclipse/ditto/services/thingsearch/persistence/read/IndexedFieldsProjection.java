@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PERMISSION_GROUP;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+/**
+ * Assembles the selected fields of a thing from its search index document.
+ * <p>
+ * Values are taken from the hierarchical sorting copy of the thing. Each leaf value is only included if the flattened
+ * entry of its key grants READ to one of the authorization subjects and revokes it for none of them; entries without
+ * own grants and revokes are subject to the shared permission group of the document. If any selected value cannot be
+ * served faithfully from the index, e.g. because its flattened entry was dropped for exceeding the index length or
+ * because an array might have been truncated, no projection is produced.
+ * </p>
+ */
+final class IndexedFieldsProjection {
+
+    private static final JsonKey POLICY_KEY = JsonKey.of(Policy.INLINED_FIELD_NAME);
+
+    private static final JsonKey WILDCARD_KEY = JsonKey.of("*");
+
+    private final JsonFieldSelector fields;
+    private final Collection<String> authorizationSubjectIds;
+    private final int maxArraySize;
+
+    private IndexedFieldsProjection(final JsonFieldSelector fields,
+            final Collection<String> authorizationSubjectIds,
+            final int maxArraySize) {
+
+        this.fields = fields;
+        this.authorizationSubjectIds = authorizationSubjectIds;
+        this.maxArraySize = maxArraySize;
+    }
+
+    /**
+     * Create a projection of selected fields for the given authorization subjects.
+     *
+     * @param fields the selected fields.
+     * @param authorizationSubjectIds the authorization subjects requesting the fields.
+     * @param maxArraySize the maximum array size of the search index, or a negative number if arrays are never
+     * truncated.
+     * @return the projection.
+     */
+    static IndexedFieldsProjection of(final JsonFieldSelector fields,
+            final Collection<String> authorizationSubjectIds,
+            final int maxArraySize) {
+
+        return new IndexedFieldsProjection(fields, authorizationSubjectIds, maxArraySize);
+    }
+
+    /**
+     * Check whether the selected fields can be found in the search index at all. The inlined policy of a thing is
+     * not part of the thing's search index document.
+     *
+     * @param fields the selected fields.
+     * @return whether the fields are potentially servable from the search index.
+     */
+    static boolean isApplicable(final JsonFieldSelector fields) {
+        return fields.getPointers().stream().noneMatch(pointer ->
+                pointer.getRoot().filter(POLICY_KEY::equals).isPresent() || containsWildcard(pointer));
+    }
+
+    private static boolean containsWildcard(final JsonPointer pointer) {
+        for (final JsonKey key : pointer) {
+            if (WILDCARD_KEY.equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the MongoDB projection of the fields needed to assemble results and to compute the values of sort keys.
+     *
+     * @param sortProjection projection of sort keys.
+     * @return the projection.
+     */
+    static Document getMongoProjection(final Document sortProjection) {
+        final Document projection = new Document();
+        // sort keys within the sorting copy are covered by the projection of the whole copy
+        sortProjection.keySet()
+                .stream()
+                .filter(key -> !key.startsWith(FIELD_SORTING + "."))
+                .forEach(key -> projection.append(key, true));
+        return projection.append(FIELD_ID, true)
+                .append(FIELD_SORTING, true)
+                .append(FIELD_INTERNAL + "." + FIELD_INTERNAL_KEY, true)
+                .append(FIELD_INTERNAL + "." + FIELD_GRANTED, true)
+                .append(FIELD_INTERNAL + "." + FIELD_REVOKED, true)
+                .append(FIELD_PERMISSION_GROUP, true);
+    }
+
+    /**
+     * Assemble the selected fields from a search index document.
+     *
+     * @param document the search index document projected by {@link #getMongoProjection(Document)}.
+     * @return the selected fields visible to the authorization subjects, or an empty optional if the document does
+     * not contain enough information to compute them.
+     */
+    Optional<JsonObject> apply(final Document document) {
+        return new DocumentProjection(BsonUtil.toBsonDocument(document)).project();
+    }
+
+    private final class DocumentProjection {
+
+        private final BsonDocument sortingCopy;
+        private final Map<String, BsonDocument> flattenedEntries;
+        private final BsonDocument sharedPermissionGroup;
+        private boolean complete;
+
+        private DocumentProjection(final BsonDocument document) {
+            sortingCopy = document.getDocument(FIELD_SORTING, new BsonDocument());
+            sharedPermissionGroup = document.getDocument(FIELD_PERMISSION_GROUP, new BsonDocument());
+            flattenedEntries = new HashMap<>();
+            document.getArray(FIELD_INTERNAL, new BsonArray())
+                    .stream()
+                    .filter(BsonValue::isDocument)
+                    .map(BsonValue::asDocument)
+                    .forEach(entry -> {
+                        final BsonValue key = entry.get(FIELD_INTERNAL_KEY);
+                        if (key != null && key.isString()) {
+                            flattenedEntries.putIfAbsent(key.asString().getValue(), entry);
+                        }
+                    });
+            complete = true;
+        }
+
+        private Optional<JsonObject> project() {
+            final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+            for (final JsonPointer pointer : fields.getPointers()) {
+                seek(pointer).ifPresent(bsonValue -> {
+                    final JsonValue jsonValue = toVisibleJson(pointer, bsonValue);
+                    if (jsonValue != null) {
+                        builder.set(pointer, jsonValue);
+                    }
+                });
+            }
+            return complete ? Optional.of(builder.build()) : Optional.empty();
+        }
+
+        private Optional<BsonValue> seek(final JsonPointer pointer) {
+            BsonValue current = sortingCopy;
+            for (final JsonKey key : pointer) {
+                if (current.isArray()) {
+                    // array elements are not addressable by the flattened keys
+                    complete = false;
+                    return Optional.empty();
+                } else if (!current.isDocument()) {
+                    return Optional.empty();
+                }
+                current = current.asDocument().get(KeyEscapeUtil.escape(key.toString()));
+                if (current == null) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(current);
+        }
+
+        @Nullable
+        private JsonValue toVisibleJson(final JsonPointer pointer, final BsonValue value) {
+            switch (value.getBsonType()) {
+                case DOCUMENT:
+                    return documentToVisibleJson(pointer, value.asDocument());
+                case ARRAY:
+                    return arrayToVisibleJson(pointer, value.asArray());
+                case STRING:
+                    return isVisible(pointer) ? JsonValue.of(value.asString().getValue()) : null;
+                case BOOLEAN:
+                    return isVisible(pointer) ? JsonValue.of(value.asBoolean().getValue()) : null;
+                case INT32:
+                    return isVisible(pointer) ? JsonValue.of(value.asInt32().getValue()) : null;
+                case INT64:
+                    return isVisible(pointer) ? JsonValue.of(value.asInt64().getValue()) : null;
+                case DOUBLE:
+                    return isVisible(pointer) ? JsonValue.of(value.asDouble().getValue()) : null;
+                case NULL:
+                    return isVisible(pointer) ? JsonValue.nullLiteral() : null;
+                default:
+                    complete = false;
+                    return null;
+            }
+        }
+
+        @Nullable
+        private JsonValue documentToVisibleJson(final JsonPointer pointer, final BsonDocument document) {
+            if (document.isEmpty()) {
+                return isVisible(pointer) ? JsonObject.empty() : null;
+            }
+            final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+            document.forEach((key, value) -> {
+                final JsonKey jsonKey = JsonKey.of(KeyEscapeUtil.unescape(key));
+                final JsonValue jsonValue = toVisibleJson(pointer.addLeaf(jsonKey), value);
+                if (jsonValue != null) {
+                    builder.set(jsonKey, jsonValue);
+                }
+            });
+            return builder.isEmpty() ? null : builder.build();
+        }
+
+        @Nullable
+        private JsonValue arrayToVisibleJson(final JsonPointer pointer, final BsonArray array) {
+            if (array.isEmpty()) {
+                return isVisible(pointer) ? JsonFactory.newArray() : null;
+            } else if (maxArraySize >= 0 && array.size() >= maxArraySize) {
+                // the array may have been truncated
+                complete = false;
+                return null;
+            }
+            // elements of an array share the flattened key of the array
+            final List<JsonValue> visibleElements = new ArrayList<>(array.size());
+            array.forEach(element -> {
+                final JsonValue jsonValue = toVisibleJson(pointer, element);
+                if (jsonValue != null) {
+                    visibleElements.add(jsonValue);
+                }
+            });
+            if (visibleElements.isEmpty()) {
+                return null;
+            } else if (visibleElements.size() < array.size()) {
+                // partially visible arrays cannot be reconstructed reliably
+                complete = false;
+                return null;
+            }
+            final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+            visibleElements.forEach(builder::add);
+            return builder.build();
+        }
+
+        private boolean isVisible(final JsonPointer pointer) {
+            final BsonDocument entry = flattenedEntries.get(pointer.toString());
+            if (entry == null) {
+                // the key-value pair was too long to be indexed
+                complete = false;
+                return false;
+            }
+            final BsonDocument permissions = entry.containsKey(FIELD_GRANTED) ? entry : sharedPermissionGroup;
+            return containsAny(permissions.getArray(FIELD_GRANTED, new BsonArray())) &&
+                    !containsAny(permissions.getArray(FIELD_REVOKED, new BsonArray()));
+        }
+
+        private boolean containsAny(final BsonArray subjectIds) {
+            return subjectIds.stream()
+                    .anyMatch(subjectId -> subjectId.isString() &&
+                            authorizationSubjectIds.contains(subjectId.asString().getValue()));
+        }
+
+    }
+
+}
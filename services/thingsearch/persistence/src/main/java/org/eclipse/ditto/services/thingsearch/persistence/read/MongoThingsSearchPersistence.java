@@ -18,9 +18,11 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -29,6 +31,8 @@ import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.things.ThingId;
@@ -61,6 +65,9 @@ import akka.japi.pf.PFBuilder;
 import akka.stream.ActorMaterializer;
 import akka.stream.javadsl.Source;
 import scala.PartialFunction;
+import scala.util.Either;
+import scala.util.Left;
+import scala.util.Right;
 
 /**
  * Persistence Service Implementation for asynchronous MongoDB search.
@@ -73,6 +80,9 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final int maxArraySize;
+    @Nullable private final QueryShapeHints queryShapeHints;
+    private final boolean sharedPermissionGroup;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -92,6 +102,9 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         indexInitializer = IndexInitializer.of(database, materializer);
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        maxArraySize = 0;
+        queryShapeHints = null;
+        sharedPermissionGroup = false;
     }
 
     private MongoThingsSearchPersistence(
@@ -99,13 +112,19 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final int maxArraySize,
+            @Nullable final QueryShapeHints queryShapeHints,
+            final boolean sharedPermissionGroup) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.maxArraySize = maxArraySize;
+        this.queryShapeHints = queryShapeHints;
+        this.sharedPermissionGroup = sharedPermissionGroup;
     }
 
     /**
@@ -116,7 +135,45 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints,
+                maxArraySize, queryShapeHints, sharedPermissionGroup);
+    }
+
+    /**
+     * Create a copy of this object aware of the maximum size of arrays in the search index. Without it, no array is
+     * considered complete when assembling fields from the search index.
+     *
+     * @param maxArraySize the maximum array size of the search index, or a negative number if arrays are not
+     * truncated.
+     * @return copy of this object with the maximum array size configured.
+     */
+    public MongoThingsSearchPersistence withMaxArraySize(final int maxArraySize) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints,
+                maxArraySize, queryShapeHints, sharedPermissionGroup);
+    }
+
+    /**
+     * Create a copy of this object choosing index hints by the observed latency of each query shape. Hints configured
+     * for namespaces take precedence.
+     *
+     * @param queryShapeHints the query shape hints to choose and record with.
+     * @return copy of this object with adaptive hints.
+     */
+    public MongoThingsSearchPersistence withQueryShapeHints(final QueryShapeHints queryShapeHints) {
+        checkNotNull(queryShapeHints, "queryShapeHints");
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints,
+                maxArraySize, queryShapeHints, sharedPermissionGroup);
+    }
+
+    /**
+     * Create a copy of this object whose queries consider the shared permission group of search index documents in
+     * addition to the grants and revokes of their flattened values.
+     *
+     * @return copy of this object aware of shared permission groups.
+     */
+    public MongoThingsSearchPersistence withSharedPermissionGroup() {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints,
+                maxArraySize, queryShapeHints, true);
     }
 
     @Override
@@ -160,7 +217,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds, sharedPermissionGroup);
         log.debug("count with query filter <{}>.", queryFilter);
 
         final CountOptions countOptions = new CountOptions()
@@ -168,7 +225,18 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .limit(query.getLimit())
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
-        return Source.fromPublisher(collection.count(queryFilter, countOptions))
+        final Source<Long, NotUsed> countSource;
+        if (queryShapeHints != null) {
+            final QueryShapeHints.QueryShape shape = QueryShapeHints.shapeOf("count", queryFilter, null);
+            final String indexName = queryShapeHints.chooseIndex(shape);
+            QueryShapeHints.getHint(indexName).ifPresent(countOptions::hint);
+            countSource = queryShapeHints.measure(shape, indexName, maxQueryTime,
+                    Source.fromPublisher(collection.count(queryFilter, countOptions)));
+        } else {
+            countSource = Source.fromPublisher(collection.count(queryFilter, countOptions));
+        }
+
+        return countSource
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("count");
     }
@@ -185,9 +253,47 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        final Document projection = GetSortBsonVisitor.projections(query.getSortOptions());
+
+        return find(query, authorizationSubjectIds, namespaces, projection)
+                .map(resultList -> mapItems(resultList, MongoThingsSearchPersistence::toId))
+                .log("findAll");
+    }
+
+    @Override
+    public Source<Either<ResultList<ThingId>, ResultList<JsonObject>>, NotUsed> findAllWithFields(
+            final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            final JsonFieldSelector fields) {
+
+        checkNotNull(query, "query");
+        checkNotNull(authorizationSubjectIds, "authorization subject IDs");
+        checkNotNull(fields, "fields");
+
+        if (!IndexedFieldsProjection.isApplicable(fields)) {
+            return findAll(query, authorizationSubjectIds, namespaces).map(Left::new);
+        }
+
+        final IndexedFieldsProjection fieldsProjection =
+                IndexedFieldsProjection.of(fields, authorizationSubjectIds, maxArraySize);
+        final Document projection =
+                IndexedFieldsProjection.getMongoProjection(GetSortBsonVisitor.projections(query.getSortOptions()));
+
+        // the projection contains the IDs, so pages which cannot be assembled fall back to IDs without a 2nd query
+        return find(query, authorizationSubjectIds, namespaces, projection)
+                .map(resultList -> project(resultList, fieldsProjection))
+                .log("findAllWithFields");
+    }
+
+    private Source<ResultList<Document>, NotUsed> find(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            final Bson projection) {
+
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds, sharedPermissionGroup);
         if (log.isDebugEnabled()) {
-            log.debug("findAll with query filter <{}>.", queryFilter);
+            log.debug("find with query filter <{}>.", queryFilter);
         }
 
         final Bson sortOptions = getMongoSort(query);
@@ -195,57 +301,89 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final int limit = query.getLimit();
         final int skip = query.getSkip();
         final int limitPlusOne = limit + 1;
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
 
-        return Source.fromPublisher(
+        final Optional<Bson> namespaceHint = hints.getHint(namespaces);
+        @Nullable final QueryShapeHints.QueryShape shape = namespaceHint.isPresent() || queryShapeHints == null
+                ? null
+                : QueryShapeHints.shapeOf("find", queryFilter, BsonUtil.toBsonDocument(sortOptions));
+        @Nullable final String indexName = shape != null ? queryShapeHints.chooseIndex(shape) : null;
+        final Optional<Bson> hint = indexName != null ? QueryShapeHints.getHint(indexName) : namespaceHint;
+
+        final Source<List<Document>, NotUsed> results = Source.fromPublisher(
                 collection.find(queryFilter, Document.class)
-                        .hint(hints.getHint(namespaces).orElse(null))
+                        .hint(hint.orElse(null))
                         .sort(sortOptions)
                         .limit(limitPlusOne)
                         .skip(skip)
                         .projection(projection)
                         .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
                 .grouped(limitPlusOne)
-                .orElse(Source.single(Collections.emptyList()))
+                .orElse(Source.single(Collections.emptyList()));
+
+        return (shape != null ? queryShapeHints.measure(shape, indexName, maxQueryTime, results) : results)
                 .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
-                .mapError(handleMongoExecutionTimeExceededException())
-                .log("findAll");
+                .mapError(handleMongoExecutionTimeExceededException());
     }
 
-    private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
+    private ResultList<Document> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
             final List<SortOption> sortOptions) {
 
         log.debug("Creating paged ResultList from parameters: resultsPlusOne=<{}>,skip={},limit={}",
                 resultsPlus0ne, skip, limit);
 
-        final ResultList<ThingId> pagedResultList;
+        final ResultList<Document> pagedResultList;
         if (resultsPlus0ne.size() <= limit || limit <= 0) {
-            pagedResultList = new ResultListImpl<>(toIds(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
+            pagedResultList = new ResultListImpl<>(resultsPlus0ne, ResultList.NO_NEXT_PAGE);
         } else {
             // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
             final List<Document> results = resultsPlus0ne.subList(0, limit);
             final Document lastResult = results.get(limit - 1);
             final long nextPageOffset = (long) skip + limit;
             final JsonArray sortValues = GetSortBsonVisitor.sortValuesAsArray(lastResult, sortOptions);
-            pagedResultList = new ResultListImpl<>(toIds(results), nextPageOffset, sortValues);
+            pagedResultList = new ResultListImpl<>(results, nextPageOffset, sortValues);
         }
 
         log.debug("Returning paged ResultList: {}", pagedResultList);
         return pagedResultList;
     }
 
-    private static List<ThingId> toIds(final List<Document> docs) {
-        return docs.stream()
-                .map(doc -> doc.getString(PersistenceConstants.FIELD_ID))
-                .map(ThingId::of)
-                .collect(Collectors.toList());
+    private static Either<ResultList<ThingId>, ResultList<JsonObject>> project(
+            final ResultList<Document> resultList,
+            final IndexedFieldsProjection fieldsProjection) {
+
+        final List<JsonObject> items = new ArrayList<>(resultList.size());
+        for (final Document document : resultList) {
+            final Optional<JsonObject> item = fieldsProjection.apply(document);
+            if (!item.isPresent()) {
+                return new Left<>(mapItems(resultList, MongoThingsSearchPersistence::toId));
+            }
+            items.add(item.get());
+        }
+        return new Right<>(withItems(resultList, items));
+    }
+
+    private static <T> ResultList<T> mapItems(final ResultList<Document> resultList,
+            final Function<Document, T> mapper) {
+
+        return withItems(resultList, resultList.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    private static <T> ResultList<T> withItems(final ResultList<?> resultList, final List<T> items) {
+        return new ResultListImpl<>(items, resultList.nextPageOffset(),
+                resultList.lastResultSortValues().orElse(null));
+    }
+
+    private static ThingId toId(final Document document) {
+        return ThingId.of(document.getString(PersistenceConstants.FIELD_ID));
     }
 
     private static BsonDocument getMongoFilter(final Query query,
-            @Nullable final List<String> authorizationSubjectIds) {
+            @Nullable final List<String> authorizationSubjectIds,
+            final boolean sharedPermissionGroup) {
 
         if (authorizationSubjectIds != null) {
-            return BsonUtil.toBsonDocument(CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds));
+            return BsonUtil.toBsonDocument(
+                    CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds, sharedPermissionGroup));
         } else {
             return BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(query.getCriteria()));
         }
@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryShapeHintsConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.Indices;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+
+import akka.NotUsed;
+import akka.japi.pf.PFBuilder;
+import akka.stream.javadsl.Source;
+
+/**
+ * Chooses index hints for search queries by the latency observed for each query shape.
+ * <p>
+ * The shape of a query consists of the operation, the fields and operators of its filter and its sort options.
+ * Literal values are ignored except the keys of the search index entries ({@code d.k}), which decide the selectivity
+ * of a filter. Candidates of a shape are the planner's own choice and every index whose first field occurs in the
+ * filter. Each candidate is tried a few times before the fastest one is used; afterwards a small fraction of queries
+ * still runs with a random candidate so that changes in the data distribution are noticed. Choices may be pinned by
+ * the operator: permanently by config, or at runtime by {@link #pin(String, String)}. Statistics and runtime pins are
+ * held in memory of each search instance and are lost on restart.
+ * </p>
+ */
+@ThreadSafe
+public final class QueryShapeHints {
+
+    /**
+     * Name of the candidate to let the query planner choose the index.
+     */
+    public static final String NO_HINT = "none";
+
+    private static final String PLACEHOLDER = "?";
+    private static final double EWMA_WEIGHT = 0.2;
+
+    private static final List<Index> CANDIDATE_INDICES = Indices.all()
+            .stream()
+            .filter(index -> Indices.KEY_VALUE_NAME.equals(index.getName()) ||
+                    Indices.GLOBAL_READ_NAME.equals(index.getName()) ||
+                    Indices.NAMESPACE_NAME.equals(index.getName()))
+            .collect(Collectors.toList());
+
+    private final int samplesPerIndex;
+    private final double explorationRate;
+    private final int maxShapes;
+    private final DoubleSupplier random;
+    private final Map<String, ShapeStatistics> statistics;
+    private final Map<String, String> pinnedIndices;
+
+    private QueryShapeHints(final int samplesPerIndex, final double explorationRate, final int maxShapes,
+            final DoubleSupplier random) {
+
+        this.samplesPerIndex = samplesPerIndex;
+        this.explorationRate = explorationRate;
+        this.maxShapes = maxShapes;
+        this.random = random;
+        statistics = new ConcurrentHashMap<>();
+        pinnedIndices = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create query shape hints from config and pin the query shapes configured as pinned.
+     *
+     * @param config the query shape hints config.
+     * @return the query shape hints.
+     * @throws NullPointerException if {@code config} is {@code null}.
+     * @throws IllegalArgumentException if a configured pin refers to an unknown index.
+     * @throws org.eclipse.ditto.json.JsonParseException if the configured pinned shapes are no JSON object.
+     */
+    public static QueryShapeHints of(final QueryShapeHintsConfig config) {
+        checkNotNull(config, "config");
+        final QueryShapeHints queryShapeHints =
+                new QueryShapeHints(config.getSamplesPerIndex(), config.getExplorationRate(), config.getMaxShapes(),
+                        () -> ThreadLocalRandom.current().nextDouble());
+        JsonFactory.newObject(config.getPinnedShapes())
+                .forEach(field -> queryShapeHints.pin(field.getKeyName(), field.getValue().formatAsString()));
+        return queryShapeHints;
+    }
+
+    static QueryShapeHints of(final int samplesPerIndex, final double explorationRate, final int maxShapes,
+            final DoubleSupplier random) {
+
+        return new QueryShapeHints(samplesPerIndex, explorationRate, maxShapes, random);
+    }
+
+    /**
+     * Compute the shape of a query.
+     *
+     * @param operation the database operation, e.g. "find" or "count".
+     * @param filter the filter of the query.
+     * @param sort the sort options of the query or {@code null} if the query is not sorted.
+     * @return the query shape.
+     */
+    static QueryShape shapeOf(final String operation, final BsonDocument filter, @Nullable final BsonDocument sort) {
+        final StringBuilder keyBuilder = new StringBuilder(operation).append(' ');
+        final Set<String> fieldPaths = new LinkedHashSet<>();
+        appendDocument(keyBuilder, fieldPaths, "", filter);
+        if (sort != null && !sort.isEmpty()) {
+            keyBuilder.append(" sort ").append(sort.toJson());
+        }
+        final List<String> candidates = new ArrayList<>();
+        candidates.add(NO_HINT);
+        CANDIDATE_INDICES.stream()
+                .filter(index -> fieldPaths.contains(index.getKeys().getFirstKey()))
+                .map(Index::getName)
+                .forEach(candidates::add);
+        return new QueryShape(keyBuilder.toString(), candidates);
+    }
+
+    /**
+     * Choose the candidate to run a query of the given shape with.
+     *
+     * @param shape the query shape.
+     * @return the name of the chosen index or {@link #NO_HINT}.
+     */
+    String chooseIndex(final QueryShape shape) {
+        final String pinnedIndex = pinnedIndices.get(shape.getKey());
+        if (pinnedIndex != null) {
+            return pinnedIndex;
+        }
+        return getStatistics(shape)
+                .map(shapeStatistics -> shapeStatistics.choose(samplesPerIndex, explorationRate, random))
+                .orElse(NO_HINT);
+    }
+
+    /**
+     * Record the latency of a query.
+     *
+     * @param shape the query shape.
+     * @param indexName the index the query ran with.
+     * @param latency the latency of the query.
+     */
+    void record(final QueryShape shape, final String indexName, final Duration latency) {
+        getStatistics(shape).ifPresent(shapeStatistics -> shapeStatistics.record(indexName, latency.toMillis()));
+    }
+
+    /**
+     * Measure the latency of a query from materialization to its first element. Failed queries are recorded with the
+     * given penalty.
+     *
+     * @param shape the query shape.
+     * @param indexName the index the query runs with.
+     * @param penalty latency to record if the query fails.
+     * @param query source of the query results.
+     * @param <T> type of query results.
+     * @return the query source recording its latency.
+     */
+    <T> Source<T, NotUsed> measure(final QueryShape shape, final String indexName, final Duration penalty,
+            final Source<T, NotUsed> query) {
+
+        return Source.single(shape).flatMapConcat(s -> {
+            final long startNanos = System.nanoTime();
+            return query.map(result -> {
+                record(shape, indexName, Duration.ofNanos(System.nanoTime() - startNanos));
+                return result;
+            }).mapError(new PFBuilder<Throwable, Throwable>()
+                    .match(Throwable.class, error -> {
+                        record(shape, indexName, penalty);
+                        return error;
+                    })
+                    .build());
+        });
+    }
+
+    /**
+     * Get the index keys to hint a query with.
+     *
+     * @param indexName name of an index or {@link #NO_HINT}.
+     * @return the keys of the index or an empty optional for {@link #NO_HINT} and unknown indices.
+     */
+    static Optional<Bson> getHint(final String indexName) {
+        return CANDIDATE_INDICES.stream()
+                .filter(index -> index.getName().equals(indexName))
+                .findAny()
+                .map(Index::getKeys);
+    }
+
+    /**
+     * Pin the index of a query shape or remove a pinned index. The pin applies to this instance only until it is
+     * restarted; permanent pins are configured by {@link QueryShapeHintsConfig#getPinnedShapes()}.
+     *
+     * @param shapeKey key of the query shape as reported by {@link #toJson()}.
+     * @param indexName name of the index to pin, {@link #NO_HINT} to pin the planner's choice, or {@code null} to
+     * choose by latency again.
+     * @throws IllegalArgumentException if {@code indexName} is not a candidate index.
+     */
+    public void pin(final String shapeKey, @Nullable final String indexName) {
+        checkNotNull(shapeKey, "shapeKey");
+        if (indexName == null) {
+            pinnedIndices.remove(shapeKey);
+        } else if (NO_HINT.equals(indexName) || getHint(indexName).isPresent()) {
+            pinnedIndices.put(shapeKey, indexName);
+        } else {
+            throw new IllegalArgumentException("Unknown index: " + indexName);
+        }
+    }
+
+    /**
+     * Report the statistics of all observed query shapes.
+     *
+     * @return JSON array with one object per query shape.
+     */
+    public JsonArray toJson() {
+        final Set<String> shapeKeys = new LinkedHashSet<>(statistics.keySet());
+        shapeKeys.addAll(pinnedIndices.keySet());
+        return shapeKeys.stream()
+                .sorted()
+                .map(shapeKey -> {
+                    final JsonObjectBuilder builder = JsonFactory.newObjectBuilder().set("shape", shapeKey);
+                    final String pinnedIndex = pinnedIndices.get(shapeKey);
+                    if (pinnedIndex != null) {
+                        builder.set("pinned", pinnedIndex);
+                    }
+                    final ShapeStatistics shapeStatistics = statistics.get(shapeKey);
+                    if (shapeStatistics != null) {
+                        shapeStatistics.appendTo(builder, samplesPerIndex);
+                    }
+                    return builder.build();
+                })
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    private Optional<ShapeStatistics> getStatistics(final QueryShape shape) {
+        final ShapeStatistics existing = statistics.get(shape.getKey());
+        if (existing != null) {
+            return Optional.of(existing);
+        } else if (statistics.size() < maxShapes) {
+            return Optional.of(statistics.computeIfAbsent(shape.getKey(),
+                    key -> new ShapeStatistics(shape.getCandidates())));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static void appendDocument(final StringBuilder builder, final Set<String> fieldPaths,
+            final String parentPath, final BsonDocument document) {
+
+        builder.append('{');
+        boolean first = true;
+        for (final Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            final String key = entry.getKey();
+            final BsonValue value = entry.getValue();
+            builder.append(key).append(':');
+            final String path;
+            if (key.startsWith("$")) {
+                path = parentPath;
+            } else {
+                path = parentPath.isEmpty() ? key : parentPath + "." + key;
+                fieldPaths.add(path);
+            }
+            if (PersistenceConstants.FIELD_INTERNAL_KEY.equals(key) && value.isString()) {
+                builder.append(value.asString().getValue());
+            } else {
+                appendValue(builder, fieldPaths, path, value);
+            }
+        }
+        builder.append('}');
+    }
+
+    private static void appendValue(final StringBuilder builder, final Set<String> fieldPaths,
+            final String path, final BsonValue value) {
+
+        if (value.isDocument()) {
+            appendDocument(builder, fieldPaths, path, value.asDocument());
+        } else if (value.isArray() && containsDocuments(value.asArray())) {
+            builder.append('[');
+            boolean first = true;
+            for (final BsonValue element : value.asArray()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                appendValue(builder, fieldPaths, path, element);
+            }
+            builder.append(']');
+        } else {
+            builder.append(PLACEHOLDER);
+        }
+    }
+
+    private static boolean containsDocuments(final BsonArray array) {
+        return array.stream().anyMatch(BsonValue::isDocument);
+    }
+
+    /**
+     * Normalized shape of a query.
+     */
+    static final class QueryShape {
+
+        private final String key;
+        private final List<String> candidates;
+
+        private QueryShape(final String key, final List<String> candidates) {
+            this.key = key;
+            this.candidates = Collections.unmodifiableList(candidates);
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        List<String> getCandidates() {
+            return candidates;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "key=" + key +
+                    ", candidates=" + candidates +
+                    "]";
+        }
+
+    }
+
+    /**
+     * Latency statistics of the candidates of one query shape.
+     */
+    private static final class ShapeStatistics {
+
+        @GuardedBy("this") private final Map<String, long[]> samples;
+        @GuardedBy("this") private final Map<String, Double> meanMillis;
+
+        private ShapeStatistics(final List<String> candidates) {
+            samples = new LinkedHashMap<>();
+            meanMillis = new LinkedHashMap<>();
+            candidates.forEach(candidate -> {
+                samples.put(candidate, new long[1]);
+                meanMillis.put(candidate, 0.0);
+            });
+        }
+
+        private synchronized String choose(final int samplesPerIndex, final double explorationRate,
+                final DoubleSupplier random) {
+
+            String leastSampled = NO_HINT;
+            long leastSamples = Long.MAX_VALUE;
+            for (final Map.Entry<String, long[]> entry : samples.entrySet()) {
+                if (entry.getValue()[0] < leastSamples) {
+                    leastSampled = entry.getKey();
+                    leastSamples = entry.getValue()[0];
+                }
+            }
+            if (leastSamples < samplesPerIndex) {
+                return leastSampled;
+            } else if (random.getAsDouble() < explorationRate) {
+                final List<String> candidates = new ArrayList<>(samples.keySet());
+                final int i = (int) (random.getAsDouble() * candidates.size());
+                return candidates.get(Math.min(i, candidates.size() - 1));
+            } else {
+                return getFastest();
+            }
+        }
+
+        private synchronized void record(final String indexName, final long latencyMillis) {
+            final long[] count = samples.get(indexName);
+            if (count != null) {
+                final double mean = meanMillis.get(indexName);
+                // plain average while sampling, exponentially weighted afterwards
+                final double weight = Math.max(EWMA_WEIGHT, 1.0 / (count[0] + 1));
+                meanMillis.put(indexName, mean + weight * (latencyMillis - mean));
+                count[0]++;
+            }
+        }
+
+        private synchronized void appendTo(final JsonObjectBuilder builder, final int samplesPerIndex) {
+            final boolean sampled = samples.values().stream().allMatch(count -> count[0] >= samplesPerIndex);
+            if (sampled) {
+                builder.set("chosen", getFastest());
+            }
+            final JsonObjectBuilder indices = JsonFactory.newObjectBuilder();
+            samples.forEach((indexName, count) -> indices.set(indexName, JsonFactory.newObjectBuilder()
+                    .set("samples", count[0])
+                    .set("meanMillis", meanMillis.get(indexName))
+                    .build()));
+            builder.set("indices", indices.build());
+        }
+
+        @GuardedBy("this")
+        private String getFastest() {
+            return meanMillis.entrySet()
+                    .stream()
+                    .min(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(NO_HINT);
+        }
+
+    }
+
+}
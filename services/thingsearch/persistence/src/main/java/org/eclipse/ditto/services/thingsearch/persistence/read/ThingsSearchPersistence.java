@@ -18,12 +18,16 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 
 import akka.NotUsed;
 import akka.stream.javadsl.Source;
+import scala.util.Either;
+import scala.util.Left;
 
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 
@@ -77,6 +81,30 @@ public interface ThingsSearchPersistence {
     Source<ResultList<ThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the selected fields of all found documents if they can be assembled from the search index alone, or
+     * their IDs otherwise. Whether the fields are assembled is decided per page without querying the documents again.
+     * The fields are subject to the permissions indexed with the documents and thus as eventually consistent as the
+     * search index itself.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param fields the fields to select.
+     * @return an {@link Source} which emits the selected fields of the found documents as right, or their IDs as left
+     * if the search index does not contain enough information to assemble the fields.
+     * @throws NullPointerException if {@code query}, {@code authorizationSubjectIds} or {@code fields} is
+     * {@code null}.
+     */
+    default Source<Either<ResultList<ThingId>, ResultList<JsonObject>>, NotUsed> findAllWithFields(
+            final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            final JsonFieldSelector fields) {
+
+        return findAll(query, authorizationSubjectIds, namespaces).map(Left::new);
+    }
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -43,9 +43,13 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
 
     @Nullable
     private final List<String> authorizationSubjectIds;
+    private final boolean sharedPermissionGroup;
+
+    private CreateBsonVisitor(@Nullable final List<String> authorizationSubjectIds,
+            final boolean sharedPermissionGroup) {
 
-    private CreateBsonVisitor(@Nullable final List<String> authorizationSubjectIds) {
         this.authorizationSubjectIds = authorizationSubjectIds;
+        this.sharedPermissionGroup = sharedPermissionGroup;
     }
 
     /**
@@ -56,7 +60,7 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      */
     public static Bson sudoApply(final Criteria criteria) {
         // not adding the deleteAt filter here as this would cause a COLLSCAN for our stats-only sudoCount.
-        return criteria.accept(new CreateBsonVisitor(null));
+        return criteria.accept(new CreateBsonVisitor(null, false));
     }
 
     /**
@@ -67,9 +71,25 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      * @return the Bson object
      */
     public static Bson apply(final Criteria criteria, List<String> authorizationSubjectIds) {
+        return apply(criteria, authorizationSubjectIds, false);
+    }
+
+    /**
+     * Creates the Bson object used for querying.
+     *
+     * @param criteria the criteria to create Bson for.
+     * @param authorizationSubjectIds subject ids with which to restrict visibility.
+     * @param sharedPermissionGroup whether flattened values without own grants and revokes are visible according to
+     * the shared permission group of their document.
+     * @return the Bson object
+     */
+    public static Bson apply(final Criteria criteria, final List<String> authorizationSubjectIds,
+            final boolean sharedPermissionGroup) {
+
         checkNotNull(criteria, "criteria");
         checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
-        final Bson baseFilter = criteria.accept(new CreateBsonVisitor(authorizationSubjectIds));
+        final Bson baseFilter =
+                criteria.accept(new CreateBsonVisitor(authorizationSubjectIds, sharedPermissionGroup));
         final Bson globalReadableFilter = AbstractFieldBsonCreator.getGlobalReadBson(authorizationSubjectIds);
         final Bson notDeletedFilter = Filters.exists(FIELD_DELETE_AT, false);
 
@@ -81,13 +101,14 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
 
     @Override
     public Bson visitExists(final ExistsFieldExpression fieldExpression) {
-        return GetExistsBsonVisitor.apply(fieldExpression, authorizationSubjectIds);
+        return GetExistsBsonVisitor.apply(fieldExpression, authorizationSubjectIds, sharedPermissionGroup);
     }
 
     @Override
     public Bson visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
         final Function<String, Bson> predicateCreator = predicate.accept(CreateBsonPredicateVisitor.getInstance());
-        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, authorizationSubjectIds);
+        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, authorizationSubjectIds,
+                sharedPermissionGroup);
     }
 
     @Override
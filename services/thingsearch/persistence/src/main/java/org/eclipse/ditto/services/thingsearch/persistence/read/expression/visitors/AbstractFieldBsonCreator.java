@@ -14,6 +14,9 @@ package org.eclipse.ditto.services.thingsearch.persistence.read.expression.visit
 
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PERMISSION_GROUP_GRANTED_PATH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PERMISSION_GROUP_REVOKED_PATH;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.SLASH;
 
@@ -34,9 +37,13 @@ public abstract class AbstractFieldBsonCreator {
 
     @Nullable
     private final List<String> authorizationSubjectIds;
+    private final boolean sharedPermissionGroup;
+
+    AbstractFieldBsonCreator(@Nullable final List<String> authorizationSubjectIds,
+            final boolean sharedPermissionGroup) {
 
-    AbstractFieldBsonCreator(@Nullable final List<String> authorizationSubjectIds) {
         this.authorizationSubjectIds = authorizationSubjectIds;
+        this.sharedPermissionGroup = sharedPermissionGroup;
     }
 
     /**
@@ -53,12 +60,32 @@ public abstract class AbstractFieldBsonCreator {
 
     abstract Bson visitRootLevelField(final String fieldName);
 
-    Optional<Bson> getAuthorizationBson() {
-        return Optional.ofNullable(authorizationSubjectIds)
-                .map(subjectIds -> Filters.and(
-                        Filters.in(FIELD_GRANTED, authorizationSubjectIds),
-                        Filters.nin(FIELD_REVOKED, authorizationSubjectIds)
-                ));
+    /**
+     * Create a filter matching documents with a flattened value that satisfies the element filter and is visible to
+     * the authorization subjects. A flattened value without own grants and revokes is visible according to the shared
+     * permission group of its document. Such values are matched by {@code g: null} rather than by
+     * {@code g: {$exists: false}}, because equality with null has index bounds on the grants which lead the key-value
+     * index; both branches of the resulting disjunction are thereby answered by the key-value index.
+     *
+     * @param elementFilter the filter of flattened values.
+     * @return the BSON filter, or an empty optional if visibility is not restricted.
+     */
+    Optional<Bson> getAuthorizedElemMatch(final Bson elementFilter) {
+        return Optional.ofNullable(authorizationSubjectIds).map(subjectIds -> {
+            final Bson ownPermissions = Filters.elemMatch(FIELD_INTERNAL, Filters.and(elementFilter,
+                    Filters.in(FIELD_GRANTED, subjectIds),
+                    Filters.nin(FIELD_REVOKED, subjectIds)
+            ));
+            if (!sharedPermissionGroup) {
+                return ownPermissions;
+            }
+            final Bson sharedPermissions = Filters.and(
+                    Filters.elemMatch(FIELD_INTERNAL, Filters.and(elementFilter, Filters.eq(FIELD_GRANTED, null))),
+                    Filters.in(FIELD_PERMISSION_GROUP_GRANTED_PATH, subjectIds),
+                    Filters.nin(FIELD_PERMISSION_GROUP_REVOKED_PATH, subjectIds)
+            );
+            return Filters.or(ownPermissions, sharedPermissions);
+        });
     }
 
     /**
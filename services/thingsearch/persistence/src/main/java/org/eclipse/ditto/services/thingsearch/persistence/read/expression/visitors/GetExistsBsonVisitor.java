@@ -14,7 +14,6 @@ package org.eclipse.ditto.services.thingsearch.persistence.read.expression.visit
 
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ATTRIBUTES_PATH;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_FEATURES_PATH;
-import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_KEY;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.PROPERTIES;
@@ -41,8 +40,10 @@ public class GetExistsBsonVisitor extends AbstractFieldBsonCreator implements Ex
     private static final List<Integer> JAVASCRIPT_REGEX_SPECIAL_CHARACTERS =
             "\\^$*+?.()|{}[]".chars().boxed().collect(Collectors.toList());
 
-    private GetExistsBsonVisitor(@Nullable final List<String> authorizationSubjectIds) {
-        super(authorizationSubjectIds);
+    private GetExistsBsonVisitor(@Nullable final List<String> authorizationSubjectIds,
+            final boolean sharedPermissionGroup) {
+
+        super(authorizationSubjectIds, sharedPermissionGroup);
     }
 
     /**
@@ -52,7 +53,22 @@ public class GetExistsBsonVisitor extends AbstractFieldBsonCreator implements Ex
      * @return the complete Bson for the field-based exists criteria
      */
     public static Bson apply(final ExistsFieldExpression expression, final List<String> authorizationSubjectIds) {
-        return expression.acceptExistsVisitor(new GetExistsBsonVisitor(authorizationSubjectIds));
+        return apply(expression, authorizationSubjectIds, false);
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based exists criteria.
+     *
+     * @param expression the expression of the resource whose existence is under scrutiny.
+     * @param authorizationSubjectIds subject IDs to check for authorization, or null to not restrict visibility.
+     * @param sharedPermissionGroup whether to consider the shared permission group of documents for authorization.
+     * @return the complete Bson for the field-based exists criteria
+     */
+    public static Bson apply(final ExistsFieldExpression expression,
+            @Nullable final List<String> authorizationSubjectIds,
+            final boolean sharedPermissionGroup) {
+
+        return expression.acceptExistsVisitor(new GetExistsBsonVisitor(authorizationSubjectIds, sharedPermissionGroup));
     }
 
     /**
@@ -82,8 +98,7 @@ public class GetExistsBsonVisitor extends AbstractFieldBsonCreator implements Ex
 
     @Override
     Bson visitPointer(final String pointer) {
-        return getAuthorizationBson().map(authBson ->
-                Filters.elemMatch(FIELD_INTERNAL, Filters.and(authBson, Filters.eq(FIELD_INTERNAL_KEY, pointer))))
+        return getAuthorizedElemMatch(Filters.eq(FIELD_INTERNAL_KEY, pointer))
                 .orElseGet(() -> Filters.eq(FIELD_PATH_KEY, pointer));
     }
 
@@ -93,9 +108,7 @@ public class GetExistsBsonVisitor extends AbstractFieldBsonCreator implements Ex
     }
 
     private Bson matchKey(final String keyRegex) {
-        return getAuthorizationBson().map(authBson ->
-                Filters.elemMatch(FIELD_INTERNAL, Filters.and(authBson,
-                        Filters.regex(FIELD_INTERNAL_KEY, keyRegex))))
+        return getAuthorizedElemMatch(Filters.regex(FIELD_INTERNAL_KEY, keyRegex))
                 .orElseGet(() -> Filters.regex(PersistenceConstants.FIELD_PATH_KEY, keyRegex));
     }
 
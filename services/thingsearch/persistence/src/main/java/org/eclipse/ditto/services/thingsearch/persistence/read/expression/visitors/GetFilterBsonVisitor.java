@@ -44,9 +44,10 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
      * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
      */
     private GetFilterBsonVisitor(final Function<String, Bson> predicateFunction,
-            @Nullable List<String> authorizationSubjectIds) {
+            @Nullable List<String> authorizationSubjectIds,
+            final boolean sharedPermissionGroup) {
 
-        super(authorizationSubjectIds);
+        super(authorizationSubjectIds, sharedPermissionGroup);
         this.predicateFunction = predicateFunction;
         this.valueFilter = predicateFunction.apply(FIELD_INTERNAL_VALUE);
     }
@@ -63,7 +64,25 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
             final Function<String, Bson> predicateFunction,
             @Nullable final List<String> authorizationSubjectIds) {
 
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, authorizationSubjectIds));
+        return apply(expression, predicateFunction, authorizationSubjectIds, false);
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based search criteria.
+     *
+     * @param expression the expression to create a filter for.
+     * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
+     * @param authorizationSubjectIds subject IDs to check for authorization, or null to not restrict visibility at all
+     * @param sharedPermissionGroup whether to consider the shared permission group of documents for authorization
+     * @return the complete Bson for the field-based search criteria
+     */
+    public static Bson apply(final FilterFieldExpression expression,
+            final Function<String, Bson> predicateFunction,
+            @Nullable final List<String> authorizationSubjectIds,
+            final boolean sharedPermissionGroup) {
+
+        return expression.acceptFilterVisitor(
+                new GetFilterBsonVisitor(predicateFunction, authorizationSubjectIds, sharedPermissionGroup));
     }
 
     /**
@@ -75,7 +94,7 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
      */
     public static Bson sudoApply(final FilterFieldExpression expression,
             final Function<String, Bson> predicateFunction) {
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, null));
+        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, null, false));
     }
 
     @Override
@@ -101,9 +120,7 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
 
     private Bson matchKeyValue(final String key) {
         final Bson keyValueFilter = Filters.and(Filters.eq(FIELD_INTERNAL_KEY, key), valueFilter);
-        return Filters.elemMatch(FIELD_INTERNAL,
-                getAuthorizationBson()
-                        .map(authBson -> Filters.and(keyValueFilter, authBson))
-                        .orElse(keyValueFilter));
+        return getAuthorizedElemMatch(keyValueFilter)
+                .orElseGet(() -> Filters.elemMatch(FIELD_INTERNAL, keyValueFilter));
     }
 }
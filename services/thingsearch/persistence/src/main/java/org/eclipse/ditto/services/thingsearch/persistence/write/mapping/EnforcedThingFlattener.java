@@ -20,10 +20,14 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.stream.Stream;
 
 import org.bson.BsonArray;
+import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.Document;
@@ -69,6 +73,45 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
         return bsonArray;
     }
 
+    /**
+     * Move the most frequent combination of grants and revokes of flattened entries into a permission group shared by
+     * the whole search index document. Entries with exactly the grants and revokes of the shared group lose their own
+     * grants and revokes; all other entries keep them.
+     *
+     * @param flattenedValues the flattened entries computed by {@link #flattenJson(JsonObject, Enforcer, int)}; they
+     * are modified in place.
+     * @return the shared permission group containing grants and revokes.
+     */
+    static BsonDocument extractSharedPermissionGroup(final BsonArray flattenedValues) {
+        final Map<BsonDocument, Integer> frequencies = new LinkedHashMap<>();
+        flattenedValues.forEach(entry -> frequencies.merge(getPermissionGroup(entry.asDocument()), 1, Integer::sum));
+        final BsonDocument sharedGroup = frequencies.entrySet()
+                .stream()
+                .reduce((left, right) -> right.getValue() > left.getValue() ? right : left)
+                .map(Map.Entry::getKey)
+                .orElseGet(() -> getPermissionGroup(new BsonDocument()));
+        flattenedValues.forEach(value -> {
+            final BsonDocument entry = value.asDocument();
+            if (sharedGroup.equals(getPermissionGroup(entry))) {
+                entry.remove(FIELD_GRANTED);
+                entry.remove(FIELD_REVOKED);
+            }
+        });
+        return sharedGroup;
+    }
+
+    private static BsonDocument getPermissionGroup(final BsonDocument entry) {
+        // subject IDs are sorted so that equal sets of subjects are recognized regardless of their order
+        return new BsonDocument().append(FIELD_GRANTED, sortSubjectIds(entry.getArray(FIELD_GRANTED, new BsonArray())))
+                .append(FIELD_REVOKED, sortSubjectIds(entry.getArray(FIELD_REVOKED, new BsonArray())));
+    }
+
+    private static BsonArray sortSubjectIds(final BsonArray subjectIds) {
+        final Collection<String> sortedSubjectIds = new TreeSet<>();
+        subjectIds.forEach(subjectId -> sortedSubjectIds.add(subjectId.asString().getValue()));
+        return toBsonArray(sortedSubjectIds);
+    }
+
     @Override
     public Stream<Document> nullValue(final JsonPointer key) {
         return singleton(key, JsonValue.nullLiteral());
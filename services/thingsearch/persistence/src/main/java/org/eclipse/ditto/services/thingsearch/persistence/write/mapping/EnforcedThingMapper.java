@@ -16,6 +16,7 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_NAMESPACE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PERMISSION_GROUP;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
@@ -94,6 +95,27 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             final int maxArraySize) {
 
+        return toWriteModel(thing, enforcer, policyRevision, maxArraySize, false);
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model.
+     *
+     * @param thing the Thing in JSON format.
+     * @param enforcer the policy- or ACL-enforcer of the Thing.
+     * @param policyRevision revision of the policy for an policy enforcer, or any number for an ACL enforcer.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param sharedPermissionGroup whether the most frequent grants and revokes of flattened values are stored once
+     * per document in a shared permission group instead of in each flattened value.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Enforcer enforcer,
+            final long policyRevision,
+            final int maxArraySize,
+            final boolean sharedPermissionGroup) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final ThingId thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -116,6 +138,11 @@ public final class EnforcedThingMapper {
                         .append(FIELD_SORTING, thingCopyForSorting)
                         .append(FIELD_INTERNAL, flattenedValues);
 
+        if (sharedPermissionGroup) {
+            thingDocument.append(FIELD_PERMISSION_GROUP,
+                    EnforcedThingFlattener.extractSharedPermissionGroup(flattenedValues));
+        }
+
         return ThingWriteModel.of(metadata, thingDocument);
     }
 
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.thingsearch.common.config.AdaptiveBulkConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+/**
+ * Adapts bulk size and write interval of the search updater to the latency of bulk writes by additive increase and
+ * multiplicative decrease: while bulk writes complete within the target latency, the bulk size grows and the write
+ * interval shrinks by a fixed step; after a slow or failed bulk write, the bulk size is multiplied and the write
+ * interval divided by the decrease factor. The current settings are published as gauges.
+ */
+@ThreadSafe
+final class AdaptiveBulkController {
+
+    private static final String BULK_SIZE_GAUGE = "search_updater_bulk_size";
+    private static final String WRITE_INTERVAL_GAUGE = "search_updater_write_interval_ms";
+
+    private final boolean enabled;
+    private final int minBulkSize;
+    private final int maxBulkSize;
+    private final int bulkSizeStep;
+    private final long minWriteIntervalNanos;
+    private final long maxWriteIntervalNanos;
+    private final long writeIntervalStepNanos;
+    private final long targetLatencyNanos;
+    private final double decreaseFactor;
+    private final Gauge bulkSizeGauge;
+    private final Gauge writeIntervalGauge;
+
+    @GuardedBy("this") private int bulkSize;
+    @GuardedBy("this") private long writeIntervalNanos;
+
+    private AdaptiveBulkController(final boolean enabled,
+            final int minBulkSize,
+            final int maxBulkSize,
+            final int bulkSizeStep,
+            final Duration minWriteInterval,
+            final Duration maxWriteInterval,
+            final Duration writeIntervalStep,
+            final Duration targetLatency,
+            final double decreaseFactor) {
+
+        this.enabled = enabled;
+        this.minBulkSize = Math.max(1, Math.min(minBulkSize, maxBulkSize));
+        this.maxBulkSize = Math.max(1, maxBulkSize);
+        this.bulkSizeStep = bulkSizeStep;
+        minWriteIntervalNanos = Math.max(0L, minWriteInterval.toNanos());
+        maxWriteIntervalNanos = Math.max(minWriteIntervalNanos, maxWriteInterval.toNanos());
+        writeIntervalStepNanos = writeIntervalStep.toNanos();
+        targetLatencyNanos = targetLatency.toNanos();
+        this.decreaseFactor = decreaseFactor;
+        bulkSizeGauge = DittoMetrics.gauge(BULK_SIZE_GAUGE);
+        writeIntervalGauge = DittoMetrics.gauge(WRITE_INTERVAL_GAUGE);
+        bulkSize = this.maxBulkSize;
+        writeIntervalNanos = minWriteIntervalNanos;
+        publish();
+    }
+
+    /**
+     * Create a controller adapting bulk size and write interval within the configured bounds.
+     *
+     * @param config the adaptive bulk config.
+     * @param maxBulkSize the maximum and initial bulk size.
+     * @param writeInterval the minimum and initial write interval.
+     * @return the controller; it never changes the settings if the adaptation is disabled.
+     */
+    static AdaptiveBulkController of(final AdaptiveBulkConfig config, final int maxBulkSize,
+            final Duration writeInterval) {
+
+        return new AdaptiveBulkController(config.isEnabled(), config.getMinBulkSize(), maxBulkSize,
+                config.getBulkSizeStep(), writeInterval, config.getMaxWriteInterval(), config.getWriteIntervalStep(),
+                config.getTargetLatency(), config.getDecreaseFactor());
+    }
+
+    /**
+     * Create a controller that never changes bulk size and write interval.
+     *
+     * @param maxBulkSize the bulk size.
+     * @param writeInterval the write interval.
+     * @return the controller.
+     */
+    static AdaptiveBulkController fixed(final int maxBulkSize, final Duration writeInterval) {
+        return new AdaptiveBulkController(false, maxBulkSize, maxBulkSize, 0, writeInterval, writeInterval,
+                Duration.ZERO, Duration.ZERO, 1.0);
+    }
+
+    /**
+     * @return whether bulk size and write interval are adapted to the latency of bulk writes.
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the current bulk size.
+     */
+    synchronized int getBulkSize() {
+        return bulkSize;
+    }
+
+    /**
+     * @return the current delay between bulk writes.
+     */
+    synchronized Duration getWriteInterval() {
+        return Duration.ofNanos(writeIntervalNanos);
+    }
+
+    /**
+     * Adapt the settings to a completed bulk write.
+     *
+     * @param latency how long the bulk write took.
+     */
+    void onSuccess(final Duration latency) {
+        if (latency.toNanos() > targetLatencyNanos) {
+            decrease();
+        } else {
+            increase();
+        }
+    }
+
+    /**
+     * Adapt the settings to a failed bulk write.
+     */
+    void onFailure() {
+        decrease();
+    }
+
+    private synchronized void increase() {
+        if (enabled) {
+            bulkSize = Math.min(maxBulkSize, bulkSize + bulkSizeStep);
+            writeIntervalNanos = Math.max(minWriteIntervalNanos, writeIntervalNanos - writeIntervalStepNanos);
+            publish();
+        }
+    }
+
+    private synchronized void decrease() {
+        if (enabled) {
+            bulkSize = Math.max(minBulkSize, (int) (bulkSize * decreaseFactor));
+            // an interval of 0 cannot grow multiplicatively; start from one step
+            final long base = Math.max(writeIntervalNanos, writeIntervalStepNanos);
+            writeIntervalNanos = Math.min(maxWriteIntervalNanos, (long) (base / decreaseFactor));
+            publish();
+        }
+    }
+
+    @GuardedBy("this")
+    private void publish() {
+        bulkSizeGauge.set((long) bulkSize);
+        writeIntervalGauge.set(Duration.ofNanos(writeIntervalNanos).toMillis());
+    }
+
+}
@@ -14,10 +14,17 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 
 import akka.NotUsed;
 import akka.actor.AbstractActor;
@@ -32,6 +39,12 @@ import akka.stream.javadsl.Source;
 
 /**
  * Collects changes from ThingUpdaters and forward them downstream on demand.
+ * <p>
+ * Changes of the same thing are coalesced: only the change with the highest thing revision is kept. Each dump
+ * contains the longest waiting things first and at most {@code max-dump-size} of them. A thing is dumped at most once
+ * per {@code min-thing-interval}; changes of things updated more often wait in the queue, so that continuously
+ * updated things are not fetched and rewritten at every write interval at the expense of the others.
+ * </p>
  */
 public final class ChangeQueueActor extends AbstractActor {
 
@@ -42,22 +55,55 @@ public final class ChangeQueueActor extends AbstractActor {
 
     private static final Duration ASK_SELF_TIMEOUT = Duration.ofSeconds(5L);
 
+    private static final String QUEUE_SIZE_GAUGE = "search_change_queue_size";
+    private static final String QUEUE_AGE_HISTOGRAM = "search_change_queue_age_ms";
+    private static final String DUMP_SIZE_HISTOGRAM = "search_change_queue_dump_size";
+    private static final String COALESCED_COUNTER = "search_change_queue_coalesced";
+
+    private final int maxDumpSize;
+    private final long minThingIntervalNanos;
+
+    /**
+     * Queued changes of 1 Thing per key in the order of their first enqueueing.
+     */
+    private final Map<ThingId, QueuedChange> queue = new LinkedHashMap<>();
+
     /**
-     * Caching changes of 1 Thing per key.
-     * Change type values according to caching strategy;
-     * for example, replace AtomicReference by a concurrent queue if changes are to be computed from events directly.
+     * When things were dumped within the last minimum thing interval.
      */
-    private Map<ThingId, Metadata> cache = new HashMap<>();
+    private final Map<ThingId, Long> lastDumpNanos = new HashMap<>();
 
-    private ChangeQueueActor() {
-        // prevent instantiation elsewhere
+    private final Gauge queueSize;
+    private final Histogram queueAge;
+    private final Histogram dumpSize;
+    private final Counter coalesced;
+
+    @SuppressWarnings("unused")
+    private ChangeQueueActor(final int maxDumpSize, final Duration minThingInterval) {
+        this.maxDumpSize = maxDumpSize;
+        minThingIntervalNanos = minThingInterval.toNanos();
+        queueSize = DittoMetrics.gauge(QUEUE_SIZE_GAUGE);
+        queueAge = DittoMetrics.histogram(QUEUE_AGE_HISTOGRAM);
+        dumpSize = DittoMetrics.histogram(DUMP_SIZE_HISTOGRAM);
+        coalesced = DittoMetrics.counter(COALESCED_COUNTER);
     }
 
     /**
+     * @param streamConfig the stream config providing the maximum dump size and the minimum thing interval.
      * @return Props of a ChangeQueueActor.
      */
-    public static Props props() {
-        return Props.create(ChangeQueueActor.class);
+    public static Props props(final StreamConfig streamConfig) {
+        return props(streamConfig.getMaxDumpSize(), streamConfig.getMinThingInterval());
+    }
+
+    static Props props(final int maxDumpSize, final Duration minThingInterval) {
+        return Props.create(ChangeQueueActor.class, maxDumpSize, minThingInterval);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        queueSize.set(0L);
+        super.postStop();
     }
 
     @Override
@@ -69,12 +115,21 @@ public final class ChangeQueueActor extends AbstractActor {
     }
 
     /**
-     * Enqueue a change.
+     * Enqueue a change. A queued change of the same thing is replaced unless it has a higher thing revision.
      *
      * @param metadata a description of the change.
      */
     private void enqueue(final Metadata metadata) {
-        cache.put(metadata.getThingId(), metadata);
+        final QueuedChange queued = queue.get(metadata.getThingId());
+        if (queued == null) {
+            queue.put(metadata.getThingId(), new QueuedChange(metadata, System.nanoTime()));
+            queueSize.set((long) queue.size());
+        } else {
+            coalesced.increment();
+            if (metadata.getThingRevision() >= queued.metadata.getThingRevision()) {
+                queued.metadata = metadata;
+            }
+        }
     }
 
     /**
@@ -95,8 +150,27 @@ public final class ChangeQueueActor extends AbstractActor {
     }
 
     private void dump(final Control dump) {
-        getSender().tell(cache, getSelf());
-        cache = new HashMap<>();
+        final long now = System.nanoTime();
+        lastDumpNanos.values().removeIf(lastDump -> now - lastDump >= minThingIntervalNanos);
+
+        final Map<ThingId, Metadata> result = new HashMap<>();
+        final Iterator<Map.Entry<ThingId, QueuedChange>> iterator = queue.entrySet().iterator();
+        while (iterator.hasNext() && (maxDumpSize <= 0 || result.size() < maxDumpSize)) {
+            final Map.Entry<ThingId, QueuedChange> entry = iterator.next();
+            final ThingId thingId = entry.getKey();
+            if (!lastDumpNanos.containsKey(thingId)) {
+                final QueuedChange queuedChange = entry.getValue();
+                result.put(thingId, queuedChange.metadata);
+                queueAge.record(Duration.ofNanos(now - queuedChange.enqueuedNanos).toMillis());
+                iterator.remove();
+                if (minThingIntervalNanos > 0) {
+                    lastDumpNanos.put(thingId, now);
+                }
+            }
+        }
+        queueSize.set((long) queue.size());
+        dumpSize.record((long) result.size());
+        getSender().tell(result, getSelf());
     }
 
     private static Function<Control, Source<Map<ThingId, Metadata>, NotUsed>> askSelf(final ActorRef self) {
@@ -113,6 +187,21 @@ public final class ChangeQueueActor extends AbstractActor {
                         .mapMaterializedValue(whatever -> NotUsed.getInstance());
     }
 
+    /**
+     * A queued change of a thing and when the thing was first enqueued.
+     */
+    private static final class QueuedChange {
+
+        private Metadata metadata;
+        private final long enqueuedNanos;
+
+        private QueuedChange(final Metadata metadata, final long enqueuedNanos) {
+            this.metadata = metadata;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+    }
+
     private enum Control {
         DUMP
     }
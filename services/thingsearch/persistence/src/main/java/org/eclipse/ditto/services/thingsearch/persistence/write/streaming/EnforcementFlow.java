@@ -72,13 +72,15 @@ final class EnforcementFlow {
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
     private final boolean deleteEvent;
+    private final boolean sharedPermissionGroup;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
             final int maxArraySize,
-            final boolean deleteEvent) {
+            final boolean deleteEvent,
+            final boolean sharedPermissionGroup) {
 
         this.thingsShardRegion = thingsShardRegion;
         this.policyEnforcerCache = policyEnforcerCache;
@@ -86,6 +88,7 @@ final class EnforcementFlow {
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
         this.deleteEvent = deleteEvent;
+        this.sharedPermissionGroup = sharedPermissionGroup;
     }
 
     /**
@@ -95,13 +98,16 @@ final class EnforcementFlow {
      * @param thingsShardRegion the shard region to retrieve things from.
      * @param policiesShardRegion the shard region to retrieve policies from.
      * @param cacheDispatcher dispatcher for the enforcer cache.
+     * @param deleteEvent whether things that cannot be retrieved are deleted from the search index.
+     * @param sharedPermissionGroup whether search index documents store a shared permission group.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
             final ActorRef thingsShardRegion,
             final ActorRef policiesShardRegion,
             final MessageDispatcher cacheDispatcher,
-            final boolean deleteEvent) {
+            final boolean deleteEvent,
+            final boolean sharedPermissionGroup) {
 
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
         final StreamCacheConfig streamCacheConfig = updaterStreamConfig.getCacheConfig();
@@ -113,7 +119,8 @@ final class EnforcementFlow {
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher);
 
         return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent);
+                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent,
+                sharedPermissionGroup);
     }
 
     /**
@@ -186,7 +193,7 @@ final class EnforcementFlow {
                     .map(entry -> {
                         if (entry.exists()) {
                             return EnforcedThingMapper.toWriteModel(thing, entry.getValueOrThrow(), entry.getRevision(),
-                                    maxArraySize);
+                                    maxArraySize, sharedPermissionGroup);
                         } else {
                             // no enforcer; delete thing from search index
                             return ThingDeleteModel.of(metadata);
@@ -15,11 +15,15 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.bson.Document;
+import org.eclipse.ditto.services.thingsearch.common.config.AdaptiveBulkConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
-import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.BoundTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +37,7 @@ import com.mongodb.reactivestreams.client.MongoDatabase;
 import akka.NotUsed;
 import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
+import akka.japi.function.Function;
 import akka.stream.Attributes;
 import akka.stream.DelayOverflowStrategy;
 import akka.stream.FanInShape2;
@@ -45,6 +50,7 @@ import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.Zip;
 import kamon.Kamon;
+import kamon.metric.Histogram;
 
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 
@@ -57,6 +63,10 @@ final class MongoSearchUpdaterFlow {
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
 
+    private static final BoundTimer BULK_UPDATE_TIMER =
+            DittoMetrics.boundTimer(TRACE_THING_BULK_UPDATE).tag(UPDATE_TYPE_TAG, "bulkUpdate");
+    private static final Histogram UPDATES_PER_BULK = Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK);
+
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<Document> collection;
@@ -89,63 +99,153 @@ final class MongoSearchUpdaterFlow {
             final int maxBulkSize,
             final Duration writeInterval) {
 
-        final Flow<Source<AbstractWriteModel, NotUsed>, List<WriteModel<Document>>, NotUsed> batchFlow =
-                Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.map(AbstractWriteModel::toMongo).grouped(maxBulkSize));
+        return start(parallelism, AdaptiveBulkController.fixed(maxBulkSize, writeInterval));
+    }
+
+    /**
+     * Create a new flow through the search persistence adapting bulk size and delay between bulk operation requests
+     * to the latency of bulk writes.
+     * No logging or recovery is attempted.
+     *
+     * @param parallelism How many write operations may run in parallel for this sink.
+     * @param maxBulkSize Upper bound of the number of writes to perform in one bulk.
+     * @param writeInterval Lower bound of the delay between bulk operation requests.
+     * @param adaptiveBulkConfig How to adapt bulk size and delay between bulk operation requests.
+     * @return the sink.
+     */
+    public Flow<Source<AbstractWriteModel, NotUsed>, BulkWriteResult, NotUsed> start(final int parallelism,
+            final int maxBulkSize,
+            final Duration writeInterval,
+            final AdaptiveBulkConfig adaptiveBulkConfig) {
 
+        return start(parallelism, AdaptiveBulkController.of(adaptiveBulkConfig, maxBulkSize, writeInterval));
+    }
+
+    private Flow<Source<AbstractWriteModel, NotUsed>, BulkWriteResult, NotUsed> start(final int parallelism,
+            final AdaptiveBulkController controller) {
+
+        final Flow<Source<AbstractWriteModel, NotUsed>, List<WriteModel<Document>>, NotUsed> batchFlow;
         final Flow<List<WriteModel<Document>>, List<WriteModel<Document>>, NotUsed> throttleFlow;
-        if (Duration.ZERO.minus(writeInterval).isNegative()) {
-            throttleFlow = Flow.<List<WriteModel<Document>>>create()
-                    .delay(writeInterval, DelayOverflowStrategy.backpressure());
+        if (controller.isEnabled()) {
+            batchFlow = Flow.<Source<AbstractWriteModel, NotUsed>>create()
+                    .flatMapConcat(source -> source.map(AbstractWriteModel::toMongo)
+                            .map(Optional::of)
+                            .concat(Source.single(Optional.empty()))
+                            .statefulMapConcat(() -> new Batcher<>(controller)));
+            throttleFlow = createAdaptiveThrottleFlow(controller);
         } else {
-            throttleFlow = Flow.create();
+            batchFlow = Flow.<Source<AbstractWriteModel, NotUsed>>create()
+                    .flatMapConcat(source -> source.map(AbstractWriteModel::toMongo)
+                            .grouped(controller.getBulkSize()));
+            throttleFlow = createFixedThrottleFlow(controller.getWriteInterval());
         }
 
         final Flow<List<WriteModel<Document>>, BulkWriteResult, NotUsed> writeFlow =
-                throttleFlow.flatMapMerge(parallelism, this::executeBulkWrite)
+                throttleFlow.flatMapMerge(parallelism, writeModels -> executeBulkWrite(writeModels, controller))
                         // never initiate more than "parallelism" writes against the persistence
                         .withAttributes(Attributes.inputBuffer(parallelism, parallelism));
 
-        final Flow<List<WriteModel<Document>>, StartedTimer, NotUsed> startTimerFlow = createStartTimerFlow();
-        final Flow<Pair<BulkWriteResult, StartedTimer>, BulkWriteResult, NotUsed> stopTimerFlow = createStopTimerFlow();
+        final Flow<List<WriteModel<Document>>, Long, NotUsed> startTimerFlow = createStartTimerFlow();
+        final Flow<Pair<BulkWriteResult, Long>, BulkWriteResult, NotUsed> stopTimerFlow = createStopTimerFlow();
 
         return Flow.fromGraph(assembleFlows(batchFlow, writeFlow, startTimerFlow, stopTimerFlow));
     }
 
-    private Source<BulkWriteResult, NotUsed> executeBulkWrite(final List<WriteModel<Document>> writeModel) {
-        return Source.fromPublisher(collection.bulkWrite(writeModel, new BulkWriteOptions().ordered(false)))
-                .recoverWithRetries(1, new PFBuilder<Throwable, Source<BulkWriteResult, NotUsed>>()
-                        .match(MongoBulkWriteException.class, bulkWriteException -> {
-                            log.info("Got MongoBulkWriteException; may ignore if all are duplicate key errors:",
-                                    bulkWriteException);
-                            return Source.single(bulkWriteException.getWriteResult());
-                        })
-                        .matchAny(error -> {
-                            log.error("Unexpected error", error);
-                            return Source.failed(error);
-                        })
-                        .build());
+    private static Flow<List<WriteModel<Document>>, List<WriteModel<Document>>, NotUsed> createFixedThrottleFlow(
+            final Duration writeInterval) {
+
+        if (Duration.ZERO.minus(writeInterval).isNegative()) {
+            return Flow.<List<WriteModel<Document>>>create()
+                    .delay(writeInterval, DelayOverflowStrategy.backpressure());
+        } else {
+            return Flow.create();
+        }
+    }
+
+    private static Flow<List<WriteModel<Document>>, List<WriteModel<Document>>, NotUsed> createAdaptiveThrottleFlow(
+            final AdaptiveBulkController controller) {
 
+        // the delay stage cannot change its delay, hence every bulk is delayed by the current write interval
+        return Flow.<List<WriteModel<Document>>>create()
+                .flatMapConcat(writeModels -> {
+                    final Duration writeInterval = controller.getWriteInterval();
+                    return writeInterval.isZero()
+                            ? Source.single(writeModels)
+                            : Source.single(writeModels).initialDelay(writeInterval);
+                });
     }
 
-    private static Flow<List<WriteModel<Document>>, StartedTimer, NotUsed> createStartTimerFlow() {
+    private Source<BulkWriteResult, NotUsed> executeBulkWrite(final List<WriteModel<Document>> writeModel,
+            final AdaptiveBulkController controller) {
+
+        return Source.single(writeModel).flatMapConcat(models -> {
+            final long startNanos = System.nanoTime();
+            return Source.fromPublisher(collection.bulkWrite(models, new BulkWriteOptions().ordered(false)))
+                    .recoverWithRetries(1, new PFBuilder<Throwable, Source<BulkWriteResult, NotUsed>>()
+                            .match(MongoBulkWriteException.class, bulkWriteException -> {
+                                log.info("Got MongoBulkWriteException; may ignore if all are duplicate key errors:",
+                                        bulkWriteException);
+                                return Source.single(bulkWriteException.getWriteResult());
+                            })
+                            .matchAny(error -> {
+                                log.error("Unexpected error", error);
+                                controller.onFailure();
+                                return Source.failed(error);
+                            })
+                            .build())
+                    .map(result -> {
+                        controller.onSuccess(Duration.ofNanos(System.nanoTime() - startNanos));
+                        return result;
+                    });
+        });
+    }
+
+    private static Flow<List<WriteModel<Document>>, Long, NotUsed> createStartTimerFlow() {
         return Flow.fromFunction(writeModels -> {
-            Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record(writeModels.size());
-            return DittoMetrics.expiringTimer(TRACE_THING_BULK_UPDATE).tag(UPDATE_TYPE_TAG, "bulkUpdate").build();
+            UPDATES_PER_BULK.record(writeModels.size());
+            return System.nanoTime();
         });
     }
 
-    private static Flow<Pair<BulkWriteResult, StartedTimer>, BulkWriteResult, NotUsed> createStopTimerFlow() {
+    private static Flow<Pair<BulkWriteResult, Long>, BulkWriteResult, NotUsed> createStopTimerFlow() {
         return Flow.fromFunction(pair -> {
-            try {
-                pair.second().stop();
-            } catch (final IllegalStateException e) {
-                // it is okay if the timer stopped already; simply return the result.
-            }
+            BULK_UPDATE_TIMER.recordSince(pair.second());
             return pair.first();
         });
     }
 
+    /**
+     * Groups elements into lists of the current bulk size of the controller. The end of the elements is marked by an
+     * empty optional.
+     */
+    private static final class Batcher<T> implements Function<Optional<T>, Iterable<List<T>>> {
+
+        private final AdaptiveBulkController controller;
+        private List<T> batch;
+
+        private Batcher(final AdaptiveBulkController controller) {
+            this.controller = controller;
+            batch = new ArrayList<>();
+        }
+
+        @Override
+        public Iterable<List<T>> apply(final Optional<T> element) {
+            if (element.isPresent()) {
+                batch.add(element.get());
+                return batch.size() >= controller.getBulkSize() ? flush() : Collections.emptyList();
+            } else {
+                return batch.isEmpty() ? Collections.emptyList() : flush();
+            }
+        }
+
+        private List<List<T>> flush() {
+            final List<T> result = batch;
+            batch = new ArrayList<>();
+            return Collections.singletonList(result);
+        }
+
+    }
+
     @SuppressWarnings("unchecked") // java 8 can't handle graph DSL types
     private static <A, B, C, D> Graph<FlowShape<A, C>, NotUsed> assembleFlows(
             final Flow<A, B, NotUsed> stage1Flow,
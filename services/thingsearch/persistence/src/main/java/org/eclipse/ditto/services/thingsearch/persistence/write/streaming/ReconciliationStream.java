@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PERMISSION_GROUP;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.japi.function.Function;
+import akka.stream.Attributes;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Finds stale search index entries by merge-joining thing revisions from the things journal with the revisions in
+ * the search index. Both sides are read in ascending order of thing IDs, so that each side is read exactly once.
+ * <p>
+ * An entry is stale if its revision differs from the revision in the journal, if its policy revision is lower than
+ * the revision of the policy in the policies journal, if it is missing from the search index or if the thing is not
+ * present in the journal at all. Entries already marked as deleted are ignored.
+ * </p>
+ * <p>
+ * Deleted things remain in the journal but are never indexed again. Therefore a thing missing from the search index is
+ * reported only once as long as its revision in the journal does not change. At most a configured number of such
+ * things is remembered between passes; they are forgotten as soon as they are indexed.
+ * </p>
+ * <p>
+ * Documents whose layout does not match whether shared permission groups are enabled are reported as stale as well,
+ * so that they are reindexed in the background after the setting was switched in either direction.
+ * </p>
+ */
+public final class ReconciliationStream {
+
+    private static final Bson PROJECTION = Projections.include(FIELD_ID, FIELD_REVISION, FIELD_POLICY_ID,
+            FIELD_POLICY_REVISION, FIELD_PERMISSION_GROUP);
+
+    private static final Bson SORT_BY_ID = Sorts.ascending(FIELD_ID);
+
+    private static final Comparator<Entry> BY_THING_ID =
+            (left, right) -> compareCodePoints(left.getId(), right.getId());
+
+    private static final int DEFAULT_MAX_MISSING_FROM_INDEX = 100_000;
+
+    private final MongoCollection<Document> collection;
+    private final int batchSize;
+    private final boolean sharedPermissionGroup;
+    private final int maxMissingFromIndex;
+    private final Map<String, Long> missingFromIndex;
+
+    private ReconciliationStream(final MongoCollection<Document> collection, final int batchSize,
+            final boolean sharedPermissionGroup, final int maxMissingFromIndex) {
+
+        this.collection = collection;
+        this.batchSize = batchSize;
+        this.sharedPermissionGroup = sharedPermissionGroup;
+        this.maxMissingFromIndex = maxMissingFromIndex;
+        missingFromIndex = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create a ReconciliationStream object.
+     *
+     * @param database the database containing the search index.
+     * @param batchSize how many search index entries to read per query.
+     * @return the ReconciliationStream object.
+     */
+    public static ReconciliationStream of(final MongoDatabase database, final int batchSize) {
+        return of(database, batchSize, false, DEFAULT_MAX_MISSING_FROM_INDEX);
+    }
+
+    /**
+     * Create a ReconciliationStream object.
+     *
+     * @param database the database containing the search index.
+     * @param batchSize how many search index entries to read per query.
+     * @param sharedPermissionGroup whether search index documents are written with a shared permission group;
+     * documents of the other layout are stale.
+     * @param maxMissingFromIndex how many things missing from the search index to remember between passes.
+     * @return the ReconciliationStream object.
+     */
+    public static ReconciliationStream of(final MongoDatabase database, final int batchSize,
+            final boolean sharedPermissionGroup, final int maxMissingFromIndex) {
+
+        return new ReconciliationStream(database.getCollection(THINGS_COLLECTION_NAME), batchSize,
+                sharedPermissionGroup, maxMissingFromIndex);
+    }
+
+    /**
+     * Compare thing revisions of the journal with the search index. Passes must not run concurrently.
+     *
+     * @param journalRevisions thing IDs and revisions in the journal in ascending order of thing IDs. Policy IDs and
+     * policy revisions are ignored.
+     * @param policyRevisions revisions of policies in the policies journal by policy ID.
+     * @param materializer materializer to run the queries of search index entries with.
+     * @return metadata of stale things containing the revision of the journal and policy ID and policy revision of
+     * the search index, if any; the policy revision is that of the policies journal if it is higher.
+     */
+    public Source<Metadata, NotUsed> findStaleThings(final Source<Metadata, ?> journalRevisions,
+            final Map<String, Long> policyRevisions,
+            final Materializer materializer) {
+
+        return mergeJoin(journalRevisions, readSearchIndex(materializer), policyRevisions, missingFromIndex,
+                maxMissingFromIndex);
+    }
+
+    /**
+     * Merge-join thing revisions of the journal and the search index, both in ascending order of thing IDs.
+     *
+     * @param journalRevisions thing IDs and revisions in the journal.
+     * @param indexRevisions metadata in the search index.
+     * @param policyRevisions revisions of policies in the policies journal by policy ID.
+     * @param missingFromIndex journal revisions of things missing from the search index which were reported by the
+     * previous pass; replaced by those of this pass at the end of the stream.
+     * @param maxMissingFromIndex how many things missing from the search index to remember at most.
+     * @return metadata of stale things.
+     */
+    static Source<Metadata, NotUsed> mergeJoin(final Source<Metadata, ?> journalRevisions,
+            final Source<Metadata, ?> indexRevisions,
+            final Map<String, Long> policyRevisions,
+            final Map<String, Long> missingFromIndex,
+            final int maxMissingFromIndex) {
+
+        final Source<Entry, ?> journalEntries = journalRevisions.map(Entry::journal);
+        final Source<Entry, ?> indexEntries = indexRevisions.map(Entry::index);
+
+        return journalEntries.mergeSorted(indexEntries, BY_THING_ID)
+                .concat(Source.single(Entry.END))
+                .statefulMapConcat(() -> new Join(policyRevisions, missingFromIndex, maxMissingFromIndex))
+                .mapMaterializedValue(whatever -> NotUsed.getInstance());
+    }
+
+    /**
+     * Read thing IDs, revisions, policy IDs and policy revisions of the search index in ascending order of thing IDs.
+     *
+     * @param materializer materializer to run the queries with.
+     * @return source of metadata in the search index.
+     */
+    Source<Metadata, NotUsed> readSearchIndex(final Materializer materializer) {
+        return Source.<Optional<String>, List<Document>>unfoldAsync(Optional.of(""), lowerBound -> {
+            if (!lowerBound.isPresent()) {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+            final Bson filter =
+                    Filters.and(Filters.gt(FIELD_ID, lowerBound.get()), Filters.exists(FIELD_DELETE_AT, false));
+            return Source.fromPublisher(collection.find(filter)
+                    .projection(PROJECTION)
+                    .sort(SORT_BY_ID)
+                    .limit(batchSize))
+                    .runWith(Sink.seq(), materializer)
+                    .thenApply(documents -> {
+                        if (documents.isEmpty()) {
+                            return Optional.empty();
+                        }
+                        final Optional<String> nextLowerBound = documents.size() < batchSize
+                                ? Optional.empty()
+                                : Optional.of(documents.get(documents.size() - 1).getString(FIELD_ID));
+                        return Optional.of(Pair.create(nextLowerBound, documents));
+                    });
+        })
+                .withAttributes(Attributes.inputBuffer(1, 1))
+                .mapConcat(documents -> documents)
+                .map(this::toMetadata);
+    }
+
+    private Metadata toMetadata(final Document document) {
+        final ThingId thingId = ThingId.of(document.getString(FIELD_ID));
+        // documents to migrate have an unknown revision, so that they never match the journal
+        final long thingRevision = sharedPermissionGroup != document.containsKey(FIELD_PERMISSION_GROUP)
+                ? -1L
+                : getLong(document, FIELD_REVISION);
+        final String policyId = document.getString(FIELD_POLICY_ID);
+        final long policyRevision = getLong(document, FIELD_POLICY_REVISION);
+        return Metadata.of(thingId, thingRevision, policyId, policyRevision);
+    }
+
+    private static long getLong(final Document document, final String key) {
+        final Object value = document.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : -1L;
+    }
+
+    /**
+     * Compare strings by code points, which is the order of their UTF-8 encodings and thus the order of MongoDB.
+     */
+    private static int compareCodePoints(final String left, final String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            final int leftCodePoint = left.codePointAt(i);
+            final int rightCodePoint = right.codePointAt(j);
+            if (leftCodePoint != rightCodePoint) {
+                return Integer.compare(leftCodePoint, rightCodePoint);
+            }
+            i += Character.charCount(leftCodePoint);
+            j += Character.charCount(rightCodePoint);
+        }
+        return Integer.compare(left.length() - i, right.length() - j);
+    }
+
+    /**
+     * Element of the merged stream: metadata from either the journal or the search index.
+     */
+    private static final class Entry {
+
+        private static final Entry END = new Entry("", null, null);
+
+        private final String id;
+        @Nullable private final Metadata journal;
+        @Nullable private final Metadata index;
+
+        private Entry(final String id, @Nullable final Metadata journal, @Nullable final Metadata index) {
+            this.id = id;
+            this.journal = journal;
+            this.index = index;
+        }
+
+        private static Entry journal(final Metadata metadata) {
+            return new Entry(metadata.getThingId().toString(), metadata, null);
+        }
+
+        private static Entry index(final Metadata metadata) {
+            return new Entry(metadata.getThingId().toString(), null, metadata);
+        }
+
+        private String getId() {
+            return id;
+        }
+
+    }
+
+    /**
+     * Joins adjacent entries of the same thing and emits the stale ones.
+     */
+    private static final class Join implements Function<Entry, Iterable<Metadata>> {
+
+        private final Map<String, Long> policyRevisions;
+        private final Map<String, Long> previouslyMissingFromIndex;
+        private final Map<String, Long> missingFromIndex;
+        private final int maxMissingFromIndex;
+        @Nullable private Entry pending;
+
+        private Join(final Map<String, Long> policyRevisions, final Map<String, Long> previouslyMissingFromIndex,
+                final int maxMissingFromIndex) {
+
+            this.policyRevisions = policyRevisions;
+            this.previouslyMissingFromIndex = previouslyMissingFromIndex;
+            this.maxMissingFromIndex = maxMissingFromIndex;
+            missingFromIndex = new HashMap<>();
+        }
+
+        @Override
+        public Iterable<Metadata> apply(final Entry entry) {
+            final Entry previous = pending;
+            if (entry == Entry.END) {
+                pending = null;
+                final List<Metadata> result = previous == null
+                        ? Collections.emptyList()
+                        : toStaleMetadata(previous.journal, previous.index);
+                previouslyMissingFromIndex.keySet().retainAll(missingFromIndex.keySet());
+                previouslyMissingFromIndex.putAll(missingFromIndex);
+                return result;
+            } else if (previous == null) {
+                pending = entry;
+                return Collections.emptyList();
+            } else if (previous.getId().equals(entry.getId())) {
+                pending = null;
+                final Metadata journal = previous.journal != null ? previous.journal : entry.journal;
+                final Metadata index = previous.index != null ? previous.index : entry.index;
+                return toStaleMetadata(journal, index);
+            } else {
+                pending = entry;
+                return toStaleMetadata(previous.journal, previous.index);
+            }
+        }
+
+        private List<Metadata> toStaleMetadata(@Nullable final Metadata journal, @Nullable final Metadata index) {
+            if (journal != null && index != null) {
+                final String policyId = index.getPolicyId().orElse(null);
+                final long policyRevision = Math.max(index.getPolicyRevision(),
+                        policyId == null ? 0L : policyRevisions.getOrDefault(policyId, 0L));
+                return journal.getThingRevision() == index.getThingRevision() &&
+                        policyRevision == index.getPolicyRevision()
+                        ? Collections.emptyList()
+                        : Collections.singletonList(Metadata.of(journal.getThingId(), journal.getThingRevision(),
+                        policyId, policyRevision));
+            } else if (journal != null) {
+                final String thingId = journal.getThingId().toString();
+                final long thingRevision = journal.getThingRevision();
+                if (missingFromIndex.size() < maxMissingFromIndex) {
+                    missingFromIndex.put(thingId, thingRevision);
+                }
+                final Long reportedRevision = previouslyMissingFromIndex.get(thingId);
+                // the policy of a thing missing from the search index is unknown
+                return reportedRevision != null && reportedRevision == thingRevision
+                        ? Collections.emptyList()
+                        : Collections.singletonList(Metadata.of(journal.getThingId(), thingRevision, null, 0L));
+            } else if (index != null) {
+                return Collections.singletonList(index);
+            } else {
+                return Collections.emptyList();
+            }
+        }
+
+    }
+
+}
@@ -103,7 +103,7 @@ public final class SearchUpdaterStream {
 
         final EnforcementFlow enforcementFlow =
                 EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
-                        deleteEvent);
+                        deleteEvent, searchConfig.isSharedPermissionGroupEnabled());
 
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
 
@@ -151,7 +151,8 @@ public final class SearchUpdaterStream {
         final int maxBulkSize = persistenceConfig.getMaxBulkSize();
         final Duration writeInterval = streamConfig.getWriteInterval();
         final Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> sink =
-                mongoSearchUpdaterFlow.start(parallelism, maxBulkSize, writeInterval)
+                mongoSearchUpdaterFlow.start(parallelism, maxBulkSize, writeInterval,
+                        persistenceConfig.getAdaptiveBulkConfig())
                         .map(SearchUpdaterStream::logResult)
                         .log("SearchUpdaterStream/BulkWriteResult")
                         .withAttributes(Attributes.logLevels(
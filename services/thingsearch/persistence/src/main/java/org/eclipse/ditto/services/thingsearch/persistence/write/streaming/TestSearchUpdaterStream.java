@@ -42,9 +42,13 @@ import akka.stream.javadsl.Source;
 public final class TestSearchUpdaterStream {
 
     private final MongoSearchUpdaterFlow mongoSearchUpdaterFlow;
+    private final boolean sharedPermissionGroup;
+
+    private TestSearchUpdaterStream(final MongoSearchUpdaterFlow mongoSearchUpdaterFlow,
+            final boolean sharedPermissionGroup) {
 
-    private TestSearchUpdaterStream(final MongoSearchUpdaterFlow mongoSearchUpdaterFlow) {
         this.mongoSearchUpdaterFlow = mongoSearchUpdaterFlow;
+        this.sharedPermissionGroup = sharedPermissionGroup;
     }
 
     /**
@@ -55,7 +59,16 @@ public final class TestSearchUpdaterStream {
      */
     public static TestSearchUpdaterStream of(final MongoDatabase database) {
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
-        return new TestSearchUpdaterStream(mongoSearchUpdaterFlow);
+        return new TestSearchUpdaterStream(mongoSearchUpdaterFlow, false);
+    }
+
+    /**
+     * Create a copy of this test stream which writes search index documents with a shared permission group.
+     *
+     * @return the test stream.
+     */
+    public TestSearchUpdaterStream withSharedPermissionGroup() {
+        return new TestSearchUpdaterStream(mongoSearchUpdaterFlow, true);
     }
 
     /**
@@ -71,7 +84,8 @@ public final class TestSearchUpdaterStream {
             final long policyRevision) {
 
         final JsonObject thingJson = thing.toJson(FieldType.all());
-        final AbstractWriteModel writeModel = EnforcedThingMapper.toWriteModel(thingJson, enforcer, policyRevision, -1);
+        final AbstractWriteModel writeModel = EnforcedThingMapper.toWriteModel(thingJson, enforcer, policyRevision, -1,
+                sharedPermissionGroup);
 
         return Source.single(Source.single(writeModel))
                 .via(mongoSearchUpdaterFlow.start(1, 1, Duration.ZERO));
@@ -200,6 +200,14 @@ public abstract class AbstractThingSearchPersistenceITBase {
         return done.toCompletableFuture().join();
     }
 
+    /**
+     * Write and query search index documents with a shared permission group from now on.
+     */
+    protected void enableSharedPermissionGroup() {
+        readPersistence = readPersistence.withSharedPermissionGroup();
+        writePersistence = writePersistence.withSharedPermissionGroup();
+    }
+
     protected final DittoMongoClient getClient() {
         return mongoClient;
     }
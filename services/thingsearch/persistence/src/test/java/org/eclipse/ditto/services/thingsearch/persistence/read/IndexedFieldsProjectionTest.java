@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.BsonArray;
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.junit.Test;
+
+/**
+ * Tests {@link IndexedFieldsProjection}.
+ */
+public final class IndexedFieldsProjectionTest {
+
+    private static final JsonObject THING_JSON = JsonFactory.newObject("{\n" +
+            "  \"thingId\": \"hello:world\",\n" +
+            "  \"_revision\": 1024,\n" +
+            "  \"policyId\": \"hello:world\",\n" +
+            "  \"features\": {\n" +
+            "    \"hi\": {\n" +
+            "      \"definition\": [\"earth:v0:1\", \"mars:v0:2\"],\n" +
+            "      \"properties\": { \"there\": true, \"secret\": 42 }\n" +
+            "    }\n" +
+            "  },\n" +
+            "  \"attributes\": { \"hello\": \"world\", \"dotted.key\": null, \"empty\": {} }\n" +
+            "}");
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .setRevokedPermissions(THING, "/features/hi/properties/secret", Permission.READ)
+                    .forLabel("grant-there")
+                    .setSubject("g:1", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/features/hi/properties/there", Permission.READ)
+                    .build());
+
+    private static final Document DOCUMENT = EnforcedThingMapper.mapThing(THING_JSON, ENFORCER, 1L);
+
+    @Test
+    public void projectVisibleFields() {
+        final JsonFieldSelector fields =
+                JsonFactory.newFieldSelector("thingId", "attributes", "features/hi/properties");
+
+        final JsonObject expected = JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true } } },\n" +
+                "  \"attributes\": { \"hello\": \"world\", \"dotted.key\": null, \"empty\": {} }\n" +
+                "}");
+
+        assertThat(underTest(fields, "g:0", -1).apply(DOCUMENT)).contains(expected);
+    }
+
+    @Test
+    public void omitInvisibleFields() {
+        final JsonFieldSelector fields = JsonFactory.newFieldSelector("thingId", "attributes/hello", "features");
+
+        final JsonObject expected = JsonFactory.newObject("{\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true } } }\n" +
+                "}");
+
+        assertThat(underTest(fields, "g:1", -1).apply(DOCUMENT)).contains(expected);
+    }
+
+    @Test
+    public void projectVisibleFieldsOfSharedPermissionGroup() {
+        final Document document = EnforcedThingMapper.toWriteModel(THING_JSON, ENFORCER, 1L, -1, true)
+                .getThingDocument();
+        final JsonFieldSelector fields =
+                JsonFactory.newFieldSelector("thingId", "attributes", "features/hi/properties");
+
+        final JsonObject expectedForG0 = JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true } } },\n" +
+                "  \"attributes\": { \"hello\": \"world\", \"dotted.key\": null, \"empty\": {} }\n" +
+                "}");
+        final JsonObject expectedForG1 = JsonFactory.newObject("{\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true } } }\n" +
+                "}");
+
+        assertThat(underTest(fields, "g:0", -1).apply(document)).contains(expectedForG0);
+        assertThat(underTest(fields, "g:1", -1).apply(document)).contains(expectedForG1);
+    }
+
+    @Test
+    public void projectArraysShorterThanMaxArraySize() {
+        final JsonFieldSelector fields = JsonFactory.newFieldSelector("features/hi/definition");
+
+        final JsonObject expected = JsonFactory.newObject("{\n" +
+                "  \"features\": { \"hi\": { \"definition\": [\"earth:v0:1\", \"mars:v0:2\"] } }\n" +
+                "}");
+
+        assertThat(underTest(fields, "g:0", 3).apply(DOCUMENT)).contains(expected);
+        assertThat(underTest(fields, "g:0", 2).apply(DOCUMENT)).isEmpty();
+    }
+
+    @Test
+    public void doNotProjectValuesWithoutFlattenedEntries() {
+        final Document document = new Document(DOCUMENT);
+        final BsonArray flattenedEntries = new BsonArray();
+        DOCUMENT.get(PersistenceConstants.FIELD_INTERNAL, BsonArray.class).stream()
+                .filter(entry -> !"/attributes/hello".equals(entry.asDocument()
+                        .getString(PersistenceConstants.FIELD_INTERNAL_KEY)
+                        .getValue()))
+                .forEach(flattenedEntries::add);
+        document.put(PersistenceConstants.FIELD_INTERNAL, flattenedEntries);
+
+        final IndexedFieldsProjection underTest =
+                underTest(JsonFactory.newFieldSelector("thingId", "attributes"), "g:0", -1);
+
+        assertThat(underTest.apply(document)).isEmpty();
+    }
+
+    @Test
+    public void inlinedPolicyIsNotApplicable() {
+        assertThat(IndexedFieldsProjection.isApplicable(JsonFactory.newFieldSelector("thingId", "attributes")))
+                .isTrue();
+        assertThat(IndexedFieldsProjection.isApplicable(JsonFactory.newFieldSelector("thingId", "_policy")))
+                .isFalse();
+    }
+
+    private static IndexedFieldsProjection underTest(final JsonFieldSelector fields, final String subjectId,
+            final int maxArraySize) {
+
+        final List<String> subjectIds = Collections.singletonList(subjectId);
+        return IndexedFieldsProjection.of(fields, subjectIds, maxArraySize);
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultQueryShapeHintsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryShapeHintsConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.Indices;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link QueryShapeHints}.
+ */
+public final class QueryShapeHintsTest {
+
+    @Test
+    public void shapeIgnoresLiteralValuesButKeepsKeys() {
+        final QueryShapeHints.QueryShape shape1 = QueryShapeHints.shapeOf("find",
+                keyValueFilter("/attributes/x", "{\"$eq\":5}", "[\"a\",\"b\"]"), sort());
+        final QueryShapeHints.QueryShape shape2 = QueryShapeHints.shapeOf("find",
+                keyValueFilter("/attributes/x", "{\"$eq\":\"hello\"}", "[\"c\"]"), sort());
+        final QueryShapeHints.QueryShape otherKey = QueryShapeHints.shapeOf("find",
+                keyValueFilter("/attributes/y", "{\"$eq\":5}", "[\"a\",\"b\"]"), sort());
+        final QueryShapeHints.QueryShape otherOperator = QueryShapeHints.shapeOf("find",
+                keyValueFilter("/attributes/x", "{\"$gt\":5}", "[\"a\",\"b\"]"), sort());
+        final QueryShapeHints.QueryShape otherOperation = QueryShapeHints.shapeOf("count",
+                keyValueFilter("/attributes/x", "{\"$eq\":5}", "[\"a\",\"b\"]"), null);
+
+        assertThat(shape1.getKey()).isEqualTo(shape2.getKey());
+        assertThat(shape1.getKey()).doesNotContain("hello", "\"a\"");
+        assertThat(otherKey.getKey()).isNotEqualTo(shape1.getKey());
+        assertThat(otherOperator.getKey()).isNotEqualTo(shape1.getKey());
+        assertThat(otherOperation.getKey()).isNotEqualTo(shape1.getKey());
+        assertThat(shape1.getCandidates()).containsExactly(QueryShapeHints.NO_HINT, Indices.KEY_VALUE_NAME);
+    }
+
+    @Test
+    public void chooseFastestCandidateAfterSampling() {
+        final QueryShapeHints underTest = QueryShapeHints.of(2, 0.0, 10, () -> 0.5);
+        final QueryShapeHints.QueryShape shape = QueryShapeHints.shapeOf("find",
+                keyValueFilter("/attributes/x", "{\"$eq\":5}", "[\"a\"]"), sort());
+
+        for (int i = 0; i < 4; ++i) {
+            final String indexName = underTest.chooseIndex(shape);
+            final long latency = Indices.KEY_VALUE_NAME.equals(indexName) ? 10L : 1000L;
+            underTest.record(shape, indexName, Duration.ofMillis(latency));
+        }
+
+        assertThat(underTest.chooseIndex(shape)).isEqualTo(Indices.KEY_VALUE_NAME);
+        final JsonObject report = underTest.toJson().get(0).map(value -> value.asObject()).orElseThrow(
+                AssertionError::new);
+        assertThat(report.getValue("chosen").map(value -> value.asString())).contains(Indices.KEY_VALUE_NAME);
+    }
+
+    @Test
+    public void pinnedIndexTakesPrecedence() {
+        final QueryShapeHints underTest = QueryShapeHints.of(2, 0.0, 10, () -> 0.5);
+        final QueryShapeHints.QueryShape shape = QueryShapeHints.shapeOf("find",
+                keyValueFilter("/attributes/x", "{\"$eq\":5}", "[\"a\"]"), sort());
+
+        underTest.pin(shape.getKey(), Indices.GLOBAL_READ_NAME);
+        assertThat(underTest.chooseIndex(shape)).isEqualTo(Indices.GLOBAL_READ_NAME);
+
+        underTest.pin(shape.getKey(), null);
+        assertThat(underTest.chooseIndex(shape)).isEqualTo(QueryShapeHints.NO_HINT);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> underTest.pin(shape.getKey(), "no-such-index"));
+    }
+
+    @Test
+    public void applyPinnedShapesOfConfig() {
+        final QueryShapeHints.QueryShape shape = QueryShapeHints.shapeOf("find",
+                keyValueFilter("/attributes/x", "{\"$eq\":5}", "[\"a\"]"), sort());
+        final String pinnedShapes = JsonObject.newBuilder().set(shape.getKey(), Indices.GLOBAL_READ_NAME).build()
+                .toString();
+        final QueryShapeHintsConfig config = DefaultQueryShapeHintsConfig.of(ConfigFactory.parseMap(
+                Collections.singletonMap("query-shape-hints.pinned-shapes", pinnedShapes)));
+
+        final QueryShapeHints underTest = QueryShapeHints.of(config);
+
+        assertThat(underTest.chooseIndex(shape)).isEqualTo(Indices.GLOBAL_READ_NAME);
+    }
+
+    @Test
+    public void rejectPinnedShapesOfConfigWithUnknownIndex() {
+        final QueryShapeHintsConfig config = DefaultQueryShapeHintsConfig.of(ConfigFactory.parseMap(
+                Collections.singletonMap("query-shape-hints.pinned-shapes", "{\"count {}\":\"no-such-index\"}")));
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> QueryShapeHints.of(config));
+    }
+
+    @Test
+    public void doNotTrackMoreThanMaxShapes() {
+        final QueryShapeHints underTest = QueryShapeHints.of(2, 0.0, 1, () -> 0.5);
+        final QueryShapeHints.QueryShape shape1 = QueryShapeHints.shapeOf("find",
+                keyValueFilter("/attributes/x", "{\"$eq\":5}", "[\"a\"]"), sort());
+        final QueryShapeHints.QueryShape shape2 = QueryShapeHints.shapeOf("find",
+                keyValueFilter("/attributes/y", "{\"$eq\":5}", "[\"a\"]"), sort());
+
+        underTest.record(shape1, QueryShapeHints.NO_HINT, Duration.ofMillis(1L));
+        underTest.record(shape2, QueryShapeHints.NO_HINT, Duration.ofMillis(1L));
+
+        assertThat(underTest.toJson().getSize()).isEqualTo(1);
+        assertThat(underTest.chooseIndex(shape2)).isEqualTo(QueryShapeHints.NO_HINT);
+    }
+
+    private static BsonDocument keyValueFilter(final String key, final String predicate, final String subjects) {
+        return BsonDocument.parse("{\"d\":{\"$elemMatch\":{\"k\":\"" + key + "\",\"v\":" + predicate +
+                ",\"g\":{\"$in\":" + subjects + "},\"r\":{\"$nin\":" + subjects + "}}}}");
+    }
+
+    private static BsonDocument sort() {
+        return BsonDocument.parse("{\"_id\":1}");
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ATTRIBUTES_PATH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PERMISSION_GROUP;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.Indices;
+import org.eclipse.ditto.services.thingsearch.persistence.TestConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonPredicateVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetFilterBsonVisitor;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.client.model.Filters;
+
+import akka.stream.javadsl.Source;
+
+/**
+ * Tests queries of search index documents with a shared permission group.
+ */
+public final class SharedPermissionGroupIT extends AbstractReadPersistenceITBase {
+
+    private static final ThingId THING_ID = TestConstants.thingId(TestConstants.Thing.NAMESPACE, "thing1");
+
+    private static final String GRANTED_SUBJECT = KNOWN_SUBJECTS.get(0);
+    private static final String REVOKED_SUBJECT = "abc:revoked";
+    private static final String PUBLIC_SUBJECT = "abc:public";
+
+    private static final String SHARED_ATTRIBUTE = "shared";
+    private static final String SHARED_VALUE = "sharedValue";
+    private static final String PUBLIC_ATTRIBUTE = "public";
+    private static final String PUBLIC_VALUE = "publicValue";
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                    .forLabel("viewer")
+                    .setSubject(GRANTED_SUBJECT, SubjectType.GENERATED)
+                    .setSubject(REVOKED_SUBJECT, SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .forLabel("blocked")
+                    .setSubject(REVOKED_SUBJECT, SubjectType.GENERATED)
+                    .setRevokedPermissions(THING, "/", Permission.READ)
+                    .forLabel("public")
+                    .setSubject(PUBLIC_SUBJECT, SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/attributes/" + PUBLIC_ATTRIBUTE, Permission.READ)
+                    .setRevision(1L)
+                    .build());
+
+    @Before
+    @Override
+    public void before() {
+        super.before();
+        enableSharedPermissionGroup();
+        persistThing(createThing(THING_ID)
+                .setAttribute(SHARED_ATTRIBUTE, SHARED_VALUE)
+                .setAttribute(PUBLIC_ATTRIBUTE, PUBLIC_VALUE));
+    }
+
+    @Test
+    public void documentStoresSharedPermissionGroup() {
+        final Document document = findDocument();
+        final Document permissionGroup = document.get(FIELD_PERMISSION_GROUP, Document.class);
+
+        assertThat(permissionGroup.getList(FIELD_GRANTED, String.class)).contains(GRANTED_SUBJECT);
+        assertThat(permissionGroup.getList(FIELD_REVOKED, String.class)).contains(REVOKED_SUBJECT);
+        assertThat(findFlattenedValue(document, SHARED_ATTRIBUTE)).doesNotContainKeys(FIELD_GRANTED, FIELD_REVOKED);
+        assertThat(findFlattenedValue(document, PUBLIC_ATTRIBUTE).getList(FIELD_GRANTED, String.class))
+                .contains(PUBLIC_SUBJECT);
+    }
+
+    @Test
+    public void filterGrantedThroughSharedPermissionGroup() {
+        assertThat(findAll(sharedValueCriteria(), GRANTED_SUBJECT)).containsExactly(THING_ID);
+    }
+
+    @Test
+    public void filterRevokedThroughSharedPermissionGroup() {
+        assertThat(findAll(sharedValueCriteria(), REVOKED_SUBJECT)).isEmpty();
+    }
+
+    @Test
+    public void existsGrantedThroughSharedPermissionGroup() {
+        assertThat(findAll(cf.existsCriteria(fef.existsByAttribute(SHARED_ATTRIBUTE)), GRANTED_SUBJECT))
+                .containsExactly(THING_ID);
+    }
+
+    @Test
+    public void existsRevokedThroughSharedPermissionGroup() {
+        assertThat(findAll(cf.existsCriteria(fef.existsByAttribute(SHARED_ATTRIBUTE)), REVOKED_SUBJECT)).isEmpty();
+    }
+
+    @Test
+    public void ownGrantsOfFlattenedValuesApplyBesidesSharedPermissionGroup() {
+        final Criteria publicValueCriteria =
+                cf.fieldCriteria(fef.filterByAttribute(PUBLIC_ATTRIBUTE), cf.eq(PUBLIC_VALUE));
+
+        assertThat(findAll(publicValueCriteria, PUBLIC_SUBJECT)).containsExactly(THING_ID);
+        assertThat(findAll(publicValueCriteria, GRANTED_SUBJECT)).containsExactly(THING_ID);
+        assertThat(findAll(sharedValueCriteria(), PUBLIC_SUBJECT)).isEmpty();
+    }
+
+    @Test
+    public void filterWithSharedPermissionGroupUsesKeyValueIndex() {
+        final Bson filter = GetFilterBsonVisitor.apply(fef.filterByAttribute(SHARED_ATTRIBUTE),
+                cf.eq(SHARED_VALUE).accept(CreateBsonPredicateVisitor.getInstance()),
+                Collections.singletonList(GRANTED_SUBJECT), true);
+        final Document explainCommand = new Document("explain",
+                new Document("find", THINGS_COLLECTION_NAME).append("filter", filter))
+                .append("verbosity", "queryPlanner");
+
+        final Document explanation = runBlockingWithReturn(
+                Source.fromPublisher(getClient().getDefaultDatabase().runCommand(explainCommand)));
+        final String winningPlan =
+                explanation.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+
+        assertThat(winningPlan).contains(Indices.KEY_VALUE_NAME).doesNotContain("COLLSCAN");
+    }
+
+    @Override
+    Enforcer getPolicyEnforcer(final ThingId thingId) {
+        return ENFORCER;
+    }
+
+    private List<ThingId> findAll(final Criteria criteria, final String subjectId) {
+        return findAll(qbf.newBuilder(criteria).build(), Collections.singletonList(subjectId));
+    }
+
+    private static Criteria sharedValueCriteria() {
+        return cf.fieldCriteria(fef.filterByAttribute(SHARED_ATTRIBUTE), cf.eq(SHARED_VALUE));
+    }
+
+    private Document findDocument() {
+        return runBlockingWithReturn(Source.fromPublisher(getClient().getDefaultDatabase()
+                .getCollection(THINGS_COLLECTION_NAME)
+                .find(Filters.eq(FIELD_ID, THING_ID.toString()))));
+    }
+
+    private static Document findFlattenedValue(final Document document, final String attribute) {
+        final String key = FIELD_ATTRIBUTES_PATH + attribute;
+        return document.getList(FIELD_INTERNAL, Document.class)
+                .stream()
+                .filter(flattenedValue -> key.equals(flattenedValue.getString(FIELD_INTERNAL_KEY)))
+                .findAny()
+                .orElseThrow(() -> new AssertionError("No flattened value for " + key));
+    }
+
+}
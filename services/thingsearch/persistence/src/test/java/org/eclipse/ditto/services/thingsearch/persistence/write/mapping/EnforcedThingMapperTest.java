@@ -15,9 +15,15 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import org.bson.Document;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
@@ -104,4 +110,48 @@ public final class EnforcedThingMapperTest {
 
         assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(expectedJson);
     }
+
+    @Test
+    public void testV2ThingWithSharedPermissionGroup() {
+        final JsonObject thing = JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"_namespace\": \"hello\",\n" +
+                "  \"_revision\": 1024,\n" +
+                "  \"policyId\": \"hello:world\",\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true } } },\n" +
+                "  \"attributes\": { \"hello\": \"world\" }\n" +
+                "}");
+
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                        .forLabel("grant-root")
+                        .setSubject("g:1", SubjectType.GENERATED)
+                        .setSubject("g:0", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ)
+                        .forLabel("grant-d")
+                        .setSubject("g:2", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/features/hi/properties/there", Permission.READ)
+                        .build());
+
+        final Document result = EnforcedThingMapper.toWriteModel(thing, enforcer, 56L, -1, true)
+                .getThingDocument();
+
+        final JsonObject expectedPermissionGroup =
+                JsonFactory.newObject("{ \"g\": [ \"g:0\", \"g:1\" ], \"r\": [] }");
+        final JsonObject json = JsonFactory.newObject(result.toJson());
+        final List<JsonObject> flattenedValues = json.getValueOrThrow(JsonFieldDefinition.ofJsonArray("d"))
+                .stream()
+                .map(JsonValue::asObject)
+                .collect(Collectors.toList());
+
+        assertThat(json.getValue("p")).contains(expectedPermissionGroup);
+        assertThat(flattenedValues.stream().filter(value -> !value.contains("g")).map(value -> value.getValue("k")))
+                .containsExactly(Optional.of(JsonValue.of("/thingId")), Optional.of(JsonValue.of("/_namespace")),
+                        Optional.of(JsonValue.of("/_revision")), Optional.of(JsonValue.of("/policyId")),
+                        Optional.of(JsonValue.of("/attributes/hello")));
+        assertThat(flattenedValues.stream().filter(value -> value.contains("g")))
+                .hasSize(2)
+                .allSatisfy(value -> assertThat(value.getValueOrThrow(JsonFieldDefinition.ofJsonArray("g")))
+                        .containsExactlyInAnyOrder(JsonValue.of("g:0"), JsonValue.of("g:1"), JsonValue.of("g:2")));
+    }
 }
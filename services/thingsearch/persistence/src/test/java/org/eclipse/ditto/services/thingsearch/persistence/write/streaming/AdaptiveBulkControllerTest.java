@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultAdaptiveBulkConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link AdaptiveBulkController}.
+ */
+public final class AdaptiveBulkControllerTest {
+
+    private static final Duration FAST = Duration.ofMillis(10L);
+    private static final Duration SLOW = Duration.ofSeconds(2L);
+
+    @Test
+    public void decreaseMultiplicativelyAndIncreaseAdditivelyWithinBounds() {
+        final AdaptiveBulkController underTest = AdaptiveBulkController.of(DefaultAdaptiveBulkConfig.of(
+                ConfigFactory.parseString("adaptive {\n" +
+                        "  enabled = true\n" +
+                        "  min-bulk-size = 10\n" +
+                        "  bulk-size-step = 5\n" +
+                        "  max-write-interval = 1s\n" +
+                        "  write-interval-step = 100ms\n" +
+                        "  target-latency = 1s\n" +
+                        "  decrease-factor = 0.5\n" +
+                        "}")), 100, Duration.ZERO);
+
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ZERO);
+
+        underTest.onSuccess(SLOW);
+        assertThat(underTest.getBulkSize()).isEqualTo(50);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofMillis(200L));
+
+        underTest.onFailure();
+        underTest.onFailure();
+        underTest.onFailure();
+        assertThat(underTest.getBulkSize()).isEqualTo(10);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofSeconds(1L));
+
+        underTest.onSuccess(FAST);
+        assertThat(underTest.getBulkSize()).isEqualTo(15);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofMillis(900L));
+
+        for (int i = 0; i < 100; ++i) {
+            underTest.onSuccess(FAST);
+        }
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void fixedControllerNeverAdapts() {
+        final AdaptiveBulkController underTest = AdaptiveBulkController.fixed(250, Duration.ofMillis(100L));
+
+        underTest.onFailure();
+        underTest.onSuccess(SLOW);
+
+        assertThat(underTest.getBulkSize()).isEqualTo(250);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ofMillis(100L));
+    }
+
+}
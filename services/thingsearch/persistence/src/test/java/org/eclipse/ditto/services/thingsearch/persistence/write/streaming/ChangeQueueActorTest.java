@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ChangeQueueActor}.
+ */
+public final class ChangeQueueActorTest {
+
+    @Nullable private ActorSystem actorSystem;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void coalesceChangesByRevision() throws Exception {
+        final ActorRef underTest = actorSystem.actorOf(ChangeQueueActor.props(0, Duration.ZERO));
+        underTest.tell(metadata("x:1", 2L), ActorRef.noSender());
+        underTest.tell(metadata("x:1", 1L), ActorRef.noSender());
+        underTest.tell(metadata("x:2", 1L), ActorRef.noSender());
+        underTest.tell(metadata("x:2", 3L), ActorRef.noSender());
+
+        assertThat(dump(underTest)).containsOnly(
+                entry(metadata("x:1", 2L)),
+                entry(metadata("x:2", 3L)));
+    }
+
+    @Test
+    public void boundDumpSizeAndDumpOldestFirst() throws Exception {
+        final ActorRef underTest = actorSystem.actorOf(ChangeQueueActor.props(2, Duration.ZERO));
+        underTest.tell(metadata("x:1", 1L), ActorRef.noSender());
+        underTest.tell(metadata("x:2", 1L), ActorRef.noSender());
+        underTest.tell(metadata("x:3", 1L), ActorRef.noSender());
+        underTest.tell(metadata("x:1", 2L), ActorRef.noSender());
+
+        assertThat(dump(underTest)).containsOnly(
+                entry(metadata("x:1", 2L)),
+                entry(metadata("x:2", 1L)));
+        assertThat(dump(underTest)).containsOnly(entry(metadata("x:3", 1L)));
+    }
+
+    @Test
+    public void rateLimitHotThings() throws Exception {
+        final ActorRef underTest = actorSystem.actorOf(ChangeQueueActor.props(0, Duration.ofHours(1L)));
+        underTest.tell(metadata("x:hot", 1L), ActorRef.noSender());
+        assertThat(dump(underTest)).containsOnly(entry(metadata("x:hot", 1L)));
+
+        underTest.tell(metadata("x:hot", 2L), ActorRef.noSender());
+        underTest.tell(metadata("x:cold", 1L), ActorRef.noSender());
+        assertThat(dump(underTest)).containsOnly(entry(metadata("x:cold", 1L)));
+    }
+
+    private Map<ThingId, Metadata> dump(final ActorRef changeQueueActor) throws Exception {
+        return ChangeQueueActor.createSource(changeQueueActor, Duration.ZERO)
+                .runWith(Sink.head(), ActorMaterializer.create(actorSystem))
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+    }
+
+    private static Metadata metadata(final String thingId, final long revision) {
+        return Metadata.of(ThingId.of(thingId), revision, null, revision);
+    }
+
+    private static Map.Entry<ThingId, Metadata> entry(final Metadata metadata) {
+        return new AbstractMap.SimpleEntry<>(metadata.getThingId(), metadata);
+    }
+
+}
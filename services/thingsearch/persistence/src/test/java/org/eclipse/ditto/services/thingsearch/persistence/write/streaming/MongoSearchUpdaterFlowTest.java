@@ -15,6 +15,9 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -43,6 +46,7 @@ import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.stream.ActorMaterializer;
 import akka.stream.OverflowStrategy;
+import akka.stream.javadsl.AsPublisher;
 import akka.stream.javadsl.RestartSink;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -82,6 +86,37 @@ public final class MongoSearchUpdaterFlowTest {
         testStreamRestart(new FakeMongoExceptionSupplier());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void fixedBulkSizeGroupsWriteModelsOfEachSource() throws Exception {
+        final ActorMaterializer materializer = ActorMaterializer.create(actorSystem);
+        final MongoDatabase db = Mockito.mock(MongoDatabase.class);
+        final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        final BulkWriteResult bulkWriteResult = Mockito.mock(BulkWriteResult.class);
+        final List<Integer> bulkSizes = new CopyOnWriteArrayList<>();
+        Mockito.when(db.getCollection(Mockito.any())).thenReturn(collection);
+        Mockito.when(collection.bulkWrite(Mockito.any(), Mockito.any(BulkWriteOptions.class)))
+                .thenAnswer(invocation -> {
+                    bulkSizes.add(invocation.<List<?>>getArgument(0).size());
+                    return Source.single(bulkWriteResult)
+                            .runWith(Sink.asPublisher(AsPublisher.WITHOUT_FANOUT), materializer);
+                });
+
+        final AbstractWriteModel abstractWriteModel = Mockito.mock(AbstractWriteModel.class);
+        Mockito.when(abstractWriteModel.toMongo()).thenReturn(new DeleteOneModel<>(new Document()));
+
+        final List<BulkWriteResult> results = Source.from(Arrays.asList(
+                Source.repeat(abstractWriteModel).take(5L),
+                Source.single(abstractWriteModel)))
+                .via(MongoSearchUpdaterFlow.of(db).start(2, 2, Duration.ofMillis(10L)))
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+
+        assertThat(results).hasSize(4);
+        assertThat(bulkSizes).containsExactly(2, 2, 1, 1);
+    }
+
     @SuppressWarnings("unchecked")
     private void testStreamRestart(final Supplier<Throwable> errorSupplier) throws Exception {
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ReconciliationStream}.
+ */
+public final class ReconciliationStreamTest {
+
+    @Nullable
+    private ActorSystem actorSystem;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void emitOnlyMismatches() throws Exception {
+        final List<Metadata> journal = Arrays.asList(
+                journal("x:1", 5L),
+                journal("x:2", 3L),
+                journal("x:4", 7L),
+                journal("x:5", 1L));
+        final List<Metadata> index = Arrays.asList(
+                index("x:1", 5L),
+                index("x:2", 2L),
+                index("x:3", 9L),
+                index("x:5", 1L));
+
+        final List<Metadata> stale =
+                mergeJoin(Source.from(journal), Source.from(index), Collections.emptyMap(), new HashMap<>());
+
+        assertThat(stale).containsExactly(
+                Metadata.of(ThingId.of("x:2"), 3L, "x:policy", 4L),
+                index("x:3", 9L),
+                Metadata.of(ThingId.of("x:4"), 7L, null, 0L));
+    }
+
+    @Test
+    public void emitUnmatchedTail() throws Exception {
+        final List<Metadata> stale =
+                mergeJoin(Source.single(journal("x:1", 1L)), Source.empty(), Collections.emptyMap(), new HashMap<>());
+
+        assertThat(stale).containsExactly(Metadata.of(ThingId.of("x:1"), 1L, null, 0L));
+    }
+
+    @Test
+    public void emitThingMissingFromIndexWithUnknownPolicyRevision() throws Exception {
+        final List<Metadata> journal = Arrays.asList(journal("x:1", 5L), journal("x:2", 8L), journal("x:3", 1L));
+        final List<Metadata> index = Arrays.asList(index("x:1", 5L), index("x:3", 1L));
+
+        final List<Metadata> stale =
+                mergeJoin(Source.from(journal), Source.from(index), Collections.emptyMap(), new HashMap<>());
+
+        assertThat(stale).containsExactly(Metadata.of(ThingId.of("x:2"), 8L, null, 0L));
+    }
+
+    @Test
+    public void emitThingsWithStalePolicyRevision() throws Exception {
+        final List<Metadata> journal = Arrays.asList(journal("x:1", 5L), journal("x:2", 3L));
+        final List<Metadata> index = Arrays.asList(index("x:1", 5L),
+                Metadata.of(ThingId.of("x:2"), 3L, "x:other-policy", 2L));
+        final Map<String, Long> policyRevisions = new HashMap<>();
+        policyRevisions.put("x:policy", 6L);
+        policyRevisions.put("x:other-policy", 1L);
+
+        final List<Metadata> stale =
+                mergeJoin(Source.from(journal), Source.from(index), policyRevisions, new HashMap<>());
+
+        assertThat(stale).containsExactly(Metadata.of(ThingId.of("x:1"), 5L, "x:policy", 6L));
+    }
+
+    @Test
+    public void emitThingsMissingFromIndexOncePerRevision() throws Exception {
+        final Map<String, Long> missingFromIndex = new HashMap<>();
+        final List<Metadata> journal = Arrays.asList(journal("x:1", 2L), journal("x:2", 3L));
+        final List<Metadata> nextJournal = Arrays.asList(journal("x:1", 2L), journal("x:2", 4L));
+
+        final List<Metadata> firstPass =
+                mergeJoin(Source.from(journal), Source.empty(), Collections.emptyMap(), missingFromIndex);
+        final List<Metadata> secondPass =
+                mergeJoin(Source.from(nextJournal), Source.empty(), Collections.emptyMap(), missingFromIndex);
+        final List<Metadata> thirdPass =
+                mergeJoin(Source.single(journal("x:1", 2L)), Source.single(index("x:1", 1L)),
+                        Collections.emptyMap(), missingFromIndex);
+
+        assertThat(firstPass).containsExactly(Metadata.of(ThingId.of("x:1"), 2L, null, 0L),
+                Metadata.of(ThingId.of("x:2"), 3L, null, 0L));
+        assertThat(secondPass).containsExactly(Metadata.of(ThingId.of("x:2"), 4L, null, 0L));
+        assertThat(thirdPass).containsExactly(Metadata.of(ThingId.of("x:1"), 2L, "x:policy", 4L));
+        assertThat(missingFromIndex).isEmpty();
+    }
+
+    @Test
+    public void rememberLimitedNumberOfThingsMissingFromIndex() throws Exception {
+        final Map<String, Long> missingFromIndex = new HashMap<>();
+        final List<Metadata> journal = Arrays.asList(journal("x:1", 2L), journal("x:2", 3L), journal("x:3", 4L));
+
+        final List<Metadata> firstPass =
+                mergeJoin(Source.from(journal), Source.empty(), Collections.emptyMap(), missingFromIndex, 2);
+        final List<Metadata> secondPass =
+                mergeJoin(Source.from(journal), Source.empty(), Collections.emptyMap(), missingFromIndex, 2);
+
+        assertThat(firstPass).hasSize(3);
+        assertThat(missingFromIndex).hasSize(2);
+        assertThat(secondPass).containsExactly(Metadata.of(ThingId.of("x:3"), 4L, null, 0L));
+    }
+
+    private List<Metadata> mergeJoin(final Source<Metadata, ?> journal, final Source<Metadata, ?> index,
+            final Map<String, Long> policyRevisions, final Map<String, Long> missingFromIndex) throws Exception {
+
+        return mergeJoin(journal, index, policyRevisions, missingFromIndex, Integer.MAX_VALUE);
+    }
+
+    private List<Metadata> mergeJoin(final Source<Metadata, ?> journal, final Source<Metadata, ?> index,
+            final Map<String, Long> policyRevisions, final Map<String, Long> missingFromIndex,
+            final int maxMissingFromIndex) throws Exception {
+
+        return ReconciliationStream.mergeJoin(journal, index, policyRevisions, missingFromIndex, maxMissingFromIndex)
+                .runWith(Sink.seq(), ActorMaterializer.create(actorSystem))
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+    }
+
+    private static Metadata journal(final String thingId, final long revision) {
+        return Metadata.of(ThingId.of(thingId), revision, null, 0L);
+    }
+
+    private static Metadata index(final String thingId, final long revision) {
+        return Metadata.of(ThingId.of(thingId), revision, "x:policy", 4L);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoPinQueryShape;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveQueryShapes;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveQueryShapesResponse;
+import org.eclipse.ditto.services.thingsearch.persistence.read.QueryShapeHints;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor to inspect the query shapes observed by {@link QueryShapeHints} and to pin the index hint of a query shape.
+ * It is addressed by piggyback commands at {@code /user/thingsSearchRoot/queryShapeHints}.
+ * <p>
+ * Statistics and pins are local to the search instance of this actor and pins are lost on restart. A piggyback command
+ * without instance reaches every search instance, so that each one applies the pin and replies with its own query
+ * shapes. Permanent pins are configured by {@code ditto.things-search.query-shape-hints.pinned-shapes}.
+ * </p>
+ */
+final class QueryShapeHintsActor extends AbstractActor {
+
+    /**
+     * The name of this actor in the system.
+     */
+    static final String ACTOR_NAME = "queryShapeHints";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final QueryShapeHints queryShapeHints;
+
+    @SuppressWarnings("unused")
+    private QueryShapeHintsActor(final QueryShapeHints queryShapeHints) {
+        this.queryShapeHints = queryShapeHints;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor.
+     *
+     * @param queryShapeHints the query shape hints of the search persistence.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final QueryShapeHints queryShapeHints) {
+        return Props.create(QueryShapeHintsActor.class, queryShapeHints);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(SudoRetrieveQueryShapes.class, this::retrieveQueryShapes)
+                .match(SudoPinQueryShape.class, this::pinQueryShape)
+                .matchAny(any -> log.warning("Got unknown message '{}'", any))
+                .build();
+    }
+
+    private void retrieveQueryShapes(final SudoRetrieveQueryShapes command) {
+        reply(command.getDittoHeaders());
+    }
+
+    private void pinQueryShape(final SudoPinQueryShape command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        LogUtil.enhanceLogWithCorrelationId(log, dittoHeaders.getCorrelationId());
+        try {
+            queryShapeHints.pin(command.getShape(), command.getIndex().orElse(null));
+            log.info("Pinned index <{}> for query shape <{}>.", command.getIndex().orElse(null), command.getShape());
+            reply(dittoHeaders);
+        } catch (final IllegalArgumentException e) {
+            getSender().tell(InvalidOptionException.newBuilder()
+                    .message(e.getMessage())
+                    .dittoHeaders(dittoHeaders)
+                    .build(), getSelf());
+        }
+    }
+
+    private void reply(final DittoHeaders dittoHeaders) {
+        getSender().tell(SudoRetrieveQueryShapesResponse.of(queryShapeHints.toJson(), dittoHeaders), getSelf());
+    }
+
+}
@@ -21,6 +21,7 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -33,6 +34,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoQueryThingsResponse;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
@@ -41,6 +43,7 @@ import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
 import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
@@ -74,6 +77,9 @@ import akka.stream.javadsl.Source;
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
  * things have to be retrieved from Things Service via distributed pub/sub.
+ * <p>
+ * If enabled, queries selecting fields are answered with the selected fields assembled from the search index where
+ * possible. Such results are answered by {@link SudoQueryThingsResponse} so that things are not retrieved again.
  */
 public final class SearchActor extends AbstractActor {
 
@@ -94,15 +100,18 @@ public final class SearchActor extends AbstractActor {
 
     private final QueryParser queryParser;
     private final ThingsSearchPersistence searchPersistence;
+    private final boolean indexedFieldsEnabled;
     private final ActorMaterializer materializer;
 
     @SuppressWarnings("unused")
     private SearchActor(
             final QueryParser queryParser,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final boolean indexedFieldsEnabled) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
+        this.indexedFieldsEnabled = indexedFieldsEnabled;
         materializer = ActorMaterializer.create(getContext());
     }
 
@@ -111,13 +120,15 @@ public final class SearchActor extends AbstractActor {
      *
      * @param queryFactory factory of query objects.
      * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param indexedFieldsEnabled whether selected fields are served from the search index if possible.
      * @return the Akka configuration Props object.
      */
     static Props props(
             final QueryParser queryFactory,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final boolean indexedFieldsEnabled) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence)
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, indexedFieldsEnabled)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -232,14 +243,12 @@ public final class SearchActor extends AbstractActor {
                                 searchTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationSubjects();
-                        final Source<ResultList<ThingId>, NotUsed> findAllResult =
-                                searchPersistence.findAll(query, subjectIds, namespaces);
-                        return processSearchPersistenceResult(findAllResult, dittoHeaders)
+                        return processSearchPersistenceResult(
+                                findAll(command, cursor.orElse(null), query, subjectIds, namespaces), dittoHeaders)
                                 .via(Flow.fromFunction(result -> {
                                     stopTimer(databaseAccessTimer);
                                     return result;
-                                }))
-                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
+                                }));
                     })
                     .map(result -> {
                         stopTimer(searchTimer);
@@ -259,6 +268,24 @@ public final class SearchActor extends AbstractActor {
                 .to(sender);
     }
 
+    private Source<CommandResponse<?>, NotUsed> findAll(final QueryThings command,
+            @Nullable final ThingsSearchCursor cursor,
+            final Query query,
+            final List<String> subjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        final Optional<JsonFieldSelector> fields = command.getFields();
+        if (indexedFieldsEnabled && fields.isPresent()) {
+            return searchPersistence.findAllWithFields(query, subjectIds, namespaces, fields.get())
+                    .map(result -> result.isRight()
+                            ? toSudoQueryThingsResponse(command, cursor, result.right().get())
+                            : toQueryThingsResponse(command, cursor, result.left().get()));
+        } else {
+            return searchPersistence.findAll(query, subjectIds, namespaces)
+                    .map(ids -> toQueryThingsResponse(command, cursor, ids));
+        }
+    }
+
     private <T> Source<T, NotUsed> processSearchPersistenceResult(Source<T, NotUsed> source,
             final DittoHeaders dittoHeaders) {
 
@@ -311,6 +338,21 @@ public final class SearchActor extends AbstractActor {
         }
     }
 
+    private SudoQueryThingsResponse toSudoQueryThingsResponse(final QueryThings queryThings,
+            @Nullable ThingsSearchCursor cursor,
+            final ResultList<JsonObject> items) {
+
+        final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
+        LogUtil.enhanceLogWithCorrelationId(log, dittoHeaders.getCorrelationId());
+        // the items contain the selected fields already, the lookup of the things in gateway is not necessary:
+        final SearchResult searchResults = SearchModelFactory.newSearchResult(
+                items.stream().collect(JsonCollectors.valuesToArray()), items.nextPageOffset());
+        final SearchResult processedResults =
+                ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, items);
+
+        return SudoQueryThingsResponse.of(processedResults, dittoHeaders);
+    }
+
     private static StartedTimer startNewTimer(final JsonSchemaVersion version, final String queryType) {
         return DittoMetrics.expiringTimer(TRACING_THINGS_SEARCH)
                 .tag(QUERY_TYPE_TAG, queryType)
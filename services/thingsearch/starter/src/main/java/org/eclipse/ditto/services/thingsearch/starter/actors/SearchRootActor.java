@@ -36,10 +36,12 @@ import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryShapeHintsConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.util.RootSupervisorStrategyFactory;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
+import org.eclipse.ditto.services.thingsearch.persistence.read.QueryShapeHints;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
 import org.eclipse.ditto.services.thingsearch.updater.actors.SearchUpdaterRootActor;
@@ -108,7 +110,7 @@ public final class SearchRootActor extends AbstractActor {
                 .build();
 
         final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final ActorRef searchActor = initializeSearchActor(searchConfig, thingsSearchPersistence);
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final TimestampPersistence thingsSyncPersistence =
@@ -147,8 +149,14 @@ public final class SearchRootActor extends AbstractActor {
             final DittoMongoClient mongoDbClient) {
 
         final ActorContext context = getContext();
-        final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+        final MongoThingsSearchPersistence basePersistence =
+                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem())
+                        .withMaxArraySize(searchConfig.getStreamConfig().getMaxArraySize());
+        final MongoThingsSearchPersistence persistence = withQueryShapeHints(
+                searchConfig.isSharedPermissionGroupEnabled()
+                        ? basePersistence.withSharedPermissionGroup()
+                        : basePersistence,
+                searchConfig.getQueryShapeHintsConfig());
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -165,12 +173,27 @@ public final class SearchRootActor extends AbstractActor {
                 .orElse(persistence);
     }
 
-    private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
+    private MongoThingsSearchPersistence withQueryShapeHints(final MongoThingsSearchPersistence persistence,
+            final QueryShapeHintsConfig queryShapeHintsConfig) {
+
+        if (queryShapeHintsConfig.isEnabled()) {
+            log.info("Choosing MongoDB hints by query shape: <{}>.", queryShapeHintsConfig);
+            final QueryShapeHints queryShapeHints = QueryShapeHints.of(queryShapeHintsConfig);
+            startChildActor(QueryShapeHintsActor.ACTOR_NAME, QueryShapeHintsActor.props(queryShapeHints));
+            return persistence.withQueryShapeHints(queryShapeHints);
+        } else {
+            return persistence;
+        }
+    }
+
+    private ActorRef initializeSearchActor(final SearchConfig searchConfig,
             final ThingsSearchPersistence thingsSearchPersistence) {
 
-        final QueryParser queryParser = getQueryParser(limitsConfig);
+        final QueryParser queryParser = getQueryParser(searchConfig.getLimitsConfig());
+        final Props searchActorProps =
+                SearchActor.props(queryParser, thingsSearchPersistence, searchConfig.isIndexedFieldsEnabled());
 
-        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
+        return startChildActor(SearchActor.ACTOR_NAME, searchActorProps);
     }
 
     static QueryParser getQueryParser(final LimitsConfig limitsConfig) {
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
+import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
+import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.thingsearch.common.config.ReconciliationConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ReconciliationStream;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.KillSwitches;
+import akka.stream.SourceRef;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Cluster singleton to periodically compare the revisions of all things in the things journal and of their policies in
+ * the policies journal with the search index and to enqueue updates of stale things only.
+ */
+final class ReconciliationActor extends AbstractActorWithTimers {
+
+    /**
+     * Name of this actor.
+     */
+    static final String ACTOR_NAME = "reconciliationActor";
+
+    private static final String CHECKED_GAUGE = "search_reconciliation_checked";
+    private static final String STALE_GAUGE = "search_reconciliation_stale";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private final ActorRef pubSubMediator;
+    private final ActorRef changeQueueActor;
+    private final ReconciliationConfig reconciliationConfig;
+    private final ReconciliationStream reconciliationStream;
+    private final ActorMaterializer materializer;
+    private final Gauge checkedGauge;
+    private final Gauge staleGauge;
+
+    @Nullable private UniqueKillSwitch killSwitch;
+
+    @SuppressWarnings("unused")
+    private ReconciliationActor(final ActorRef pubSubMediator,
+            final ActorRef changeQueueActor,
+            final MongoDatabase database,
+            final ReconciliationConfig reconciliationConfig,
+            final boolean sharedPermissionGroup) {
+
+        this.pubSubMediator = pubSubMediator;
+        this.changeQueueActor = changeQueueActor;
+        this.reconciliationConfig = reconciliationConfig;
+        reconciliationStream = ReconciliationStream.of(database, reconciliationConfig.getBurst() * 10,
+                sharedPermissionGroup, reconciliationConfig.getMaxMissingFromIndex());
+        materializer = ActorMaterializer.create(getContext());
+        checkedGauge = DittoMetrics.gauge(CHECKED_GAUGE);
+        staleGauge = DittoMetrics.gauge(STALE_GAUGE);
+        killSwitch = null;
+
+        getTimers().startPeriodicTimer(Control.START_PASS, Control.START_PASS, reconciliationConfig.getInterval());
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param pubSubMediator the pub-sub mediator to request the stream of thing revisions with.
+     * @param changeQueueActor the change queue actor to enqueue updates of stale things into.
+     * @param database the database containing the search index.
+     * @param reconciliationConfig the reconciliation config.
+     * @param sharedPermissionGroup whether search index entries are written with a shared permission group; entries of
+     * the other layout are reindexed.
+     * @return Props for this actor.
+     */
+    static Props props(final ActorRef pubSubMediator,
+            final ActorRef changeQueueActor,
+            final MongoDatabase database,
+            final ReconciliationConfig reconciliationConfig,
+            final boolean sharedPermissionGroup) {
+
+        return Props.create(ReconciliationActor.class, pubSubMediator, changeQueueActor, database,
+                reconciliationConfig, sharedPermissionGroup);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (killSwitch != null) {
+            killSwitch.shutdown();
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.START_PASS, this::startPass)
+                .match(Done.class, this::passCompleted)
+                .match(Status.Failure.class, this::passFailed)
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void startPass(final Control startPass) {
+        if (killSwitch != null) {
+            log.warning("Previous reconciliation pass is still running; skipping this pass.");
+            return;
+        }
+        log.info("Starting reconciliation pass.");
+        checkedGauge.set(0L);
+        staleGauge.set(0L);
+
+        final Source<Map<String, Long>, NotUsed> policyRevisions =
+                requestRevisions(PoliciesMessagingConstants.POLICIES_STREAM_PROVIDER_ACTOR_PATH)
+                        .<Map<String, Long>>fold(new HashMap<>(), (map, element) -> {
+                            map.put(element.getEntityId().toString(), element.getRevision());
+                            return map;
+                        });
+
+        final Source<Metadata, NotUsed> journalRevisions =
+                requestRevisions(ThingsMessagingConstants.THINGS_STREAM_PROVIDER_ACTOR_PATH)
+                        .map(ReconciliationActor::toMetadata)
+                        .throttle(reconciliationConfig.getThingsPerSecond(), Duration.ofSeconds(1L))
+                        .map(metadata -> {
+                            checkedGauge.increment();
+                            return metadata;
+                        });
+
+        // the policy revisions are collected before the things journal is requested
+        killSwitch = policyRevisions.flatMapConcat(revisions ->
+                reconciliationStream.findStaleThings(journalRevisions, revisions, materializer))
+                .viaMat(KillSwitches.single(), Keep.right())
+                .toMat(Sink.foreach(metadata -> {
+                    staleGauge.increment();
+                    changeQueueActor.tell(metadata, ActorRef.noSender());
+                }), Keep.both())
+                .mapMaterializedValue(pair -> {
+                    Patterns.pipe(pair.second(), getContext().dispatcher()).to(getSelf());
+                    return pair.first();
+                })
+                .run(materializer);
+    }
+
+    private void passCompleted(final Done done) {
+        killSwitch = null;
+        log.info("Reconciliation pass completed. Checked <{}> things, found <{}> stale things.",
+                checkedGauge.get(), staleGauge.get());
+    }
+
+    private void passFailed(final Status.Failure failure) {
+        killSwitch = null;
+        log.error(failure.cause(), "Reconciliation pass failed after checking <{}> things.", checkedGauge.get());
+    }
+
+    private Source<EntityIdWithRevision<?>, NotUsed> requestRevisions(final String streamProviderPath) {
+        final SudoStreamPids command =
+                SudoStreamPids.of(reconciliationConfig.getBurst(), reconciliationConfig.getStreamTimeout().toMillis(),
+                        DittoHeaders.empty())
+                        .withRevisions();
+        final Object message = DistPubSubAccess.send(streamProviderPath, command, false);
+
+        return Source.fromCompletionStage(
+                Patterns.ask(pubSubMediator, message, reconciliationConfig.getStreamTimeout()))
+                .flatMapConcat(ReconciliationActor::handleSourceRef);
+    }
+
+    private static Source<EntityIdWithRevision<?>, NotUsed> handleSourceRef(final Object reply) {
+        if (reply instanceof SourceRef) {
+            return ((SourceRef<?>) reply).getSource()
+                    .flatMapConcat(element -> {
+                        if (element instanceof BatchedEntityIdWithRevisions) {
+                            final BatchedEntityIdWithRevisions<?> batch = (BatchedEntityIdWithRevisions) element;
+                            final Source<? extends EntityIdWithRevision, NotUsed> source =
+                                    Source.from(batch.getElements());
+                            return source.<EntityIdWithRevision<?>>map(x -> x);
+                        } else {
+                            return Source.failed(new IllegalStateException(
+                                    "Expect BatchedEntityIdWithRevisions, got: " + element));
+                        }
+                    });
+        } else {
+            return Source.failed(new IllegalStateException("Expect SourceRef, got: " + reply));
+        }
+    }
+
+    private static Metadata toMetadata(final EntityIdWithRevision<?> element) {
+        final ThingId thingId = ThingId.of(element.getEntityId());
+        return Metadata.of(thingId, element.getRevision(), null, 0L);
+    }
+
+    private enum Control {
+        START_PASS
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.thingsearch.updater.actors;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
+import org.eclipse.ditto.services.thingsearch.common.config.ReconciliationConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.common.util.RootSupervisorStrategyFactory;
@@ -97,7 +98,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final ShardRegionFactory shardRegionFactory = ShardRegionFactory.getInstance(actorSystem);
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final ActorRef changeQueueActor = getContext().actorOf(ChangeQueueActor.props(), ChangeQueueActor.ACTOR_NAME);
+        final ActorRef changeQueueActor = getContext().actorOf(ChangeQueueActor.props(searchConfig.getStreamConfig()),
+                ChangeQueueActor.ACTOR_NAME);
         updaterStreamKillSwitch =
                 startSearchUpdaterStream(searchConfig, actorSystem, shardRegionFactory, numberOfShards,
                         changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
@@ -145,6 +147,23 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         startPoliciesStreamsSupervisor(updaterConfig.getPoliciesSyncConfig(), pubSubMediator, materializer,
                 policiesSyncPersistence, searchUpdaterPersistence);
+
+        startReconciliationActor(updaterConfig.getReconciliationConfig(), pubSubMediator, changeQueueActor,
+                searchConfig.isSharedPermissionGroupEnabled());
+    }
+
+    private void startReconciliationActor(final ReconciliationConfig reconciliationConfig,
+            final ActorRef pubSubMediator,
+            final ActorRef changeQueueActor,
+            final boolean sharedPermissionGroup) {
+
+        if (reconciliationConfig.isActive()) {
+            startClusterSingletonActor(ReconciliationActor.ACTOR_NAME,
+                    ReconciliationActor.props(pubSubMediator, changeQueueActor, dittoMongoClient.getDefaultDatabase(),
+                            reconciliationConfig, sharedPermissionGroup));
+        } else {
+            log.info("Reconciliation of search index is not active.");
+        }
     }
 
     private void startThingsStreamSupervisor(final SyncConfig thingsSyncConfig,
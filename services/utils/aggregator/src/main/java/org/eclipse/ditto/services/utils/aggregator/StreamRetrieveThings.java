@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.aggregator;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+
+/**
+ * Asks the {@link ThingsAggregatorProxyActor} to stream the things of a {@link RetrieveThings} command instead of
+ * collecting them into one response. The actor replies with a {@code Source<String, NotUsed>} emitting the JSON of each
+ * retrieved thing in the requested order as soon as it arrives, or with a
+ * {@link org.eclipse.ditto.model.base.exceptions.DittoRuntimeException}.
+ * <p>
+ * The reply is not serializable; this message is meant for the aggregator proxy actor of the local actor system.
+ * </p>
+ */
+@Immutable
+public final class StreamRetrieveThings {
+
+    private final RetrieveThings retrieveThings;
+
+    private StreamRetrieveThings(final RetrieveThings retrieveThings) {
+        this.retrieveThings = retrieveThings;
+    }
+
+    /**
+     * Returns a new instance of {@code StreamRetrieveThings}.
+     *
+     * @param retrieveThings the command whose things to stream.
+     * @return the instance.
+     * @throws NullPointerException if {@code retrieveThings} is {@code null}.
+     */
+    public static StreamRetrieveThings of(final RetrieveThings retrieveThings) {
+        return new StreamRetrieveThings(checkNotNull(retrieveThings, "retrieveThings"));
+    }
+
+    /**
+     * Returns the command whose things to stream.
+     *
+     * @return the command.
+     */
+    public RetrieveThings getRetrieveThings() {
+        return retrieveThings;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final StreamRetrieveThings that = (StreamRetrieveThings) o;
+        return Objects.equals(retrieveThings, that.retrieveThings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(retrieveThings);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "retrieveThings=" + retrieveThings +
+                "]";
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -46,6 +47,7 @@ import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -64,6 +66,10 @@ import akka.stream.javadsl.Source;
  * to a {@link RetrieveThings} command via a {@link SourceRef} which is a pointer in the cluster emitting the retrieved
  * {@link Thing}s one after one in a stream. That ensures that the cluster messages size must not be increased when
  * streaming a larger amount of Things in the cluster.
+ * <p>
+ * Things requested by {@link StreamRetrieveThings} are not collected into one response; instead a source emitting
+ * them as they arrive is sent back.
+ * </p>
  */
 public final class ThingsAggregatorProxyActor extends AbstractActor {
 
@@ -74,6 +80,8 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
 
     private static final String TRACE_AGGREGATOR_RETRIEVE_THINGS = "aggregatorproxy_retrievethings";
 
+    private static final String TRACE_AGGREGATOR_STREAM_THINGS = "aggregatorproxy_streamthings";
+
     private static final int ASK_TIMEOUT = 60;
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
@@ -107,6 +115,7 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
         return ReceiveBuilder.create()
                 .match(RetrieveThings.class, rt -> handleRetrieveThings(rt, rt))
                 .match(SudoRetrieveThings.class, srt -> handleSudoRetrieveThings(srt, srt))
+                .match(StreamRetrieveThings.class, this::handleStreamRetrieveThings)
                 .match(DistributedPubSubMediator.Send.class, send -> {
                     final Object msg = send.msg();
                     if (msg instanceof RetrieveThings) {
@@ -132,7 +141,7 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
                 RetrieveThings.class.getSimpleName(), thingIds.size());
 
         final ActorRef sender = getSender();
-        askTargetActor(rt, thingIds, msgToAsk, sender);
+        askTargetActor(rt, msgToAsk, sender, sourceRef -> handleSourceRef(sourceRef, thingIds, rt, sender));
     }
 
     private void handleSudoRetrieveThings(final SudoRetrieveThings srt, final Object msgToAsk) {
@@ -142,15 +151,26 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
                 SudoRetrieveThings.class.getSimpleName(), thingIds.size());
 
         final ActorRef sender = getSender();
-        askTargetActor(srt, thingIds, msgToAsk, sender);
+        askTargetActor(srt, msgToAsk, sender, sourceRef -> handleSourceRef(sourceRef, thingIds, srt, sender));
     }
 
-    private void askTargetActor(final Command<?> command, final List<ThingId> thingIds,
-            final Object msgToAsk, final ActorRef sender) {
+    private void handleStreamRetrieveThings(final StreamRetrieveThings streamRetrieveThings) {
+        final RetrieveThings rt = streamRetrieveThings.getRetrieveThings();
+        LogUtil.enhanceLogWithCorrelationId(log, rt.getDittoHeaders().getCorrelationId());
+        final List<ThingId> thingIds = rt.getThingEntityIds();
+        log.info("Got '{}' message. Streaming requested '{}' Things..",
+                StreamRetrieveThings.class.getSimpleName(), thingIds.size());
+
+        final ActorRef sender = getSender();
+        askTargetActor(rt, rt, sender, sourceRef -> streamSourceRef(sourceRef, thingIds, sender));
+    }
+
+    private void askTargetActor(final Command<?> command, final Object msgToAsk, final ActorRef sender,
+            final Consumer<SourceRef<?>> sourceRefHandler) {
         PatternsCS.ask(targetActor, msgToAsk, Duration.ofSeconds(ASK_TIMEOUT))
                 .thenAccept(response -> {
                     if (response instanceof SourceRef){
-                        handleSourceRef((SourceRef) response, thingIds, command, sender);
+                        sourceRefHandler.accept((SourceRef<?>) response);
                     } else if (response instanceof DittoRuntimeException) {
                         sender.tell(response, getSelf());
                     } else {
@@ -210,6 +230,32 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
         PatternsCS.pipe(commandResponseCompletionStage, getContext().dispatcher()).to(originatingSender);
     }
 
+    @SuppressWarnings("unchecked")
+    private void streamSourceRef(final SourceRef<?> sourceRef, final List<ThingId> thingIds,
+            final ActorRef originatingSender) {
+
+        final Function<Jsonifiable<?>, PlainJson> thingPlainJsonSupplier =
+                supplyPlainJsonFromRetrieveThingResponse();
+
+        final StartedTimer timer = DittoMetrics.expiringTimer(TRACE_AGGREGATOR_STREAM_THINGS)
+                .tag("size", Integer.toString(thingIds.size()))
+                .build();
+
+        // the things arrive in the requested order: the aggregator retrieves them by an ordered ask stage whose
+        // buffer is bounded by its parallelism, so no sorting is necessary
+        final Source<String, NotUsed> thingJsons = ((SourceRef<Object>) sourceRef).getSource()
+                .filter(element -> element instanceof RetrieveThingResponse)
+                .map(element -> thingPlainJsonSupplier.apply((Jsonifiable<?>) element))
+                .map(PlainJson::getJson)
+                .log("stream-thing-response", log)
+                .watchTermination((notUsed, done) -> {
+                    done.whenComplete((result, error) -> stopTimer(timer));
+                    return notUsed;
+                });
+
+        originatingSender.tell(thingJsons, getSelf());
+    }
+
     private Function<Jsonifiable<?>, PlainJson> supplyPlainJsonFromRetrieveThingResponse() {
         return jsonifiable -> {
             if (jsonifiable instanceof RetrieveThingResponse) {
@@ -12,13 +12,20 @@
  */
 package org.eclipse.ditto.services.utils.aggregator;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -27,6 +34,10 @@ import org.junit.Test;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
 import akka.testkit.TestActor.AutoPilot;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -79,6 +90,37 @@ public class ThingsAggregatorProxyActorTest {
         }};
     }
 
+    @Test
+    public void streamThingsInRequestedOrder() throws Exception {
+        new TestKit(actorSystem) {{
+            final ActorMaterializer materializer = ActorMaterializer.create(actorSystem);
+            final List<RetrieveThingResponse> responses = Arrays.asList(
+                    RetrieveThingResponse.of(ThingId.of("ditto", "thing1"),
+                            Thing.newBuilder().setId(ThingId.of("ditto", "thing1")).build().toJson(), DITTO_HEADERS),
+                    RetrieveThingResponse.of(ThingId.of("ditto", "thing2"),
+                            Thing.newBuilder().setId(ThingId.of("ditto", "thing2")).build().toJson(), DITTO_HEADERS));
+            final TestProbe targetActor = new TestProbe(actorSystem);
+            targetActor.setAutoPilot(new AutoPilot() {
+                @Override
+                public AutoPilot run(final ActorRef sender, final Object msg) {
+                    sender.tell(Source.from(responses).runWith(StreamRefs.sourceRef(), materializer)
+                            .toCompletableFuture()
+                            .join(), ActorRef.noSender());
+                    return keepRunning();
+                }
+            });
+
+            final ActorRef proxyActor = actorSystem.actorOf(ThingsAggregatorProxyActor.props(targetActor.ref()));
+            proxyActor.tell(StreamRetrieveThings.of(RETRIEVE_THINGS_COMMAND), getRef());
+
+            @SuppressWarnings("unchecked") final Source<String, ?> thingJsons = expectMsgClass(Source.class);
+            final List<String> result = thingJsons.runWith(Sink.seq(), materializer)
+                    .toCompletableFuture()
+                    .get(10L, TimeUnit.SECONDS);
+            assertThat(result).containsExactly("{\"thingId\":\"ditto:thing1\"}", "{\"thingId\":\"ditto:thing2\"}");
+        }};
+    }
+
     private static class AutoPilotAnsweringWithException extends AutoPilot {
 
         private final Exception exceptionToRespond;
@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+import akka.util.ByteString;
+
+/**
+ * Encodes {@link JsonValue}s to and decodes them from the Concise Binary Object Representation (CBOR, RFC 7049).
+ * <p>
+ * Only the subset of CBOR which maps onto the JSON data model is supported: maps with text keys, arrays, text
+ * strings, integers, floating point numbers, booleans and {@code null}. Semantic tags are skipped while decoding;
+ * byte strings and {@code undefined} are rejected.
+ * </p>
+ * <p>
+ * Arrays, maps and semantic tags may be nested at most {@value #MAX_NESTING_DEPTH} levels deep. Deeper data items
+ * are rejected both while encoding and while decoding, so that untrusted input cannot exhaust the stack of the
+ * recursive decoder.
+ * </p>
+ */
+@Immutable
+public final class CborJsonCodec {
+
+    /**
+     * The maximum nesting depth of arrays, maps and semantic tags.
+     */
+    public static final int MAX_NESTING_DEPTH = 512;
+
+    private static final int MAJOR_TYPE_UNSIGNED_INT = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INT = 1;
+    private static final int MAJOR_TYPE_BYTE_STRING = 2;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_TAG = 6;
+    private static final int MAJOR_TYPE_SIMPLE = 7;
+
+    private static final int ADDITIONAL_INFO_ONE_BYTE = 24;
+    private static final int ADDITIONAL_INFO_TWO_BYTES = 25;
+    private static final int ADDITIONAL_INFO_FOUR_BYTES = 26;
+    private static final int ADDITIONAL_INFO_EIGHT_BYTES = 27;
+    private static final int ADDITIONAL_INFO_INDEFINITE = 31;
+
+    private static final int SIMPLE_FALSE = 20;
+    private static final int SIMPLE_TRUE = 21;
+    private static final int SIMPLE_NULL = 22;
+
+    private static final int BREAK = 0xFF;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private CborJsonCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Encodes the given JSON value as CBOR.
+     *
+     * @param jsonValue the value to encode.
+     * @return the CBOR representation of {@code jsonValue}.
+     * @throws NullPointerException if {@code jsonValue} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonValue} is nested deeper than {@value #MAX_NESTING_DEPTH} levels.
+     */
+    public static ByteString encode(final JsonValue jsonValue) {
+        final Encoder encoder = new Encoder();
+        encoder.write(jsonValue, 0);
+        return ByteString.fromArray(encoder.buffer, 0, encoder.size);
+    }
+
+    /**
+     * Encodes the given JSON value as CBOR into a byte array.
+     *
+     * @param jsonValue the value to encode.
+     * @return the CBOR representation of {@code jsonValue}.
+     * @throws NullPointerException if {@code jsonValue} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonValue} is nested deeper than {@value #MAX_NESTING_DEPTH} levels.
+     */
+    public static byte[] encodeToArray(final JsonValue jsonValue) {
+        final Encoder encoder = new Encoder();
+        encoder.write(jsonValue, 0);
+        return Arrays.copyOf(encoder.buffer, encoder.size);
+    }
+
+    /**
+     * Decodes a single CBOR data item into a JSON value.
+     *
+     * @param bytes the CBOR representation of exactly one data item.
+     * @return the decoded JSON value.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws JsonParseException if {@code bytes} is no well-formed CBOR, contains items which cannot be represented
+     * as JSON or is nested deeper than {@value #MAX_NESTING_DEPTH} levels.
+     */
+    public static JsonValue decode(final ByteString bytes) {
+        return decode(bytes.toArray());
+    }
+
+    /**
+     * Decodes a single CBOR data item into a JSON value.
+     *
+     * @param bytes the CBOR representation of exactly one data item.
+     * @return the decoded JSON value.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws JsonParseException if {@code bytes} is no well-formed CBOR, contains items which cannot be represented
+     * as JSON or is nested deeper than {@value #MAX_NESTING_DEPTH} levels.
+     */
+    public static JsonValue decode(final byte[] bytes) {
+        final Decoder decoder = new Decoder(bytes);
+        final JsonValue result = decoder.readValue(0);
+        if (decoder.position != decoder.bytes.length) {
+            throw parseException("Unexpected trailing bytes after CBOR data item at offset " + decoder.position);
+        }
+        return result;
+    }
+
+    private static JsonParseException parseException(final String message) {
+        return JsonParseException.newBuilder()
+                .message(message)
+                .description("Ensure that the binary data contains exactly one well-formed CBOR data item.")
+                .build();
+    }
+
+    private static final class Encoder {
+
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int size = 0;
+
+        private void write(final JsonValue value, final int depth) {
+            if (value.isNull()) {
+                writeByte(MAJOR_TYPE_SIMPLE << 5 | SIMPLE_NULL);
+            } else if (value.isObject()) {
+                checkEncodingDepth(depth);
+                writeHeader(MAJOR_TYPE_MAP, value.asObject().getSize());
+                for (final JsonField field : value.asObject()) {
+                    writeText(field.getKeyName());
+                    write(field.getValue(), depth + 1);
+                }
+            } else if (value.isArray()) {
+                checkEncodingDepth(depth);
+                writeHeader(MAJOR_TYPE_ARRAY, value.asArray().getSize());
+                for (final JsonValue element : value.asArray()) {
+                    write(element, depth + 1);
+                }
+            } else if (value.isString()) {
+                writeText(value.asString());
+            } else if (value.isBoolean()) {
+                writeByte(MAJOR_TYPE_SIMPLE << 5 | (value.asBoolean() ? SIMPLE_TRUE : SIMPLE_FALSE));
+            } else if (value.isLong()) {
+                writeLong(value.asLong());
+            } else {
+                writeDouble(value.asDouble());
+            }
+        }
+
+        private static void checkEncodingDepth(final int depth) {
+            if (depth >= MAX_NESTING_DEPTH) {
+                throw new IllegalArgumentException("The JSON value is nested deeper than " + MAX_NESTING_DEPTH +
+                        " levels and cannot be encoded as CBOR.");
+            }
+        }
+
+        private void writeLong(final long value) {
+            if (value >= 0) {
+                writeHeader(MAJOR_TYPE_UNSIGNED_INT, value);
+            } else {
+                writeHeader(MAJOR_TYPE_NEGATIVE_INT, -1L - value);
+            }
+        }
+
+        private void writeDouble(final double value) {
+            final float floatValue = (float) value;
+            if (floatValue == value) {
+                writeByte(MAJOR_TYPE_SIMPLE << 5 | ADDITIONAL_INFO_FOUR_BYTES);
+                writeBigEndian(Float.floatToIntBits(floatValue), 4);
+            } else {
+                writeByte(MAJOR_TYPE_SIMPLE << 5 | ADDITIONAL_INFO_EIGHT_BYTES);
+                writeBigEndian(Double.doubleToLongBits(value), 8);
+            }
+        }
+
+        private void writeText(final String text) {
+            final byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+            writeHeader(MAJOR_TYPE_TEXT_STRING, utf8.length);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, buffer, size, utf8.length);
+            size += utf8.length;
+        }
+
+        private void writeHeader(final int majorType, final long argument) {
+            final int initialByte = majorType << 5;
+            if (argument < ADDITIONAL_INFO_ONE_BYTE) {
+                writeByte(initialByte | (int) argument);
+            } else if (argument <= 0xFFL) {
+                writeByte(initialByte | ADDITIONAL_INFO_ONE_BYTE);
+                writeBigEndian(argument, 1);
+            } else if (argument <= 0xFFFFL) {
+                writeByte(initialByte | ADDITIONAL_INFO_TWO_BYTES);
+                writeBigEndian(argument, 2);
+            } else if (argument <= 0xFFFFFFFFL) {
+                writeByte(initialByte | ADDITIONAL_INFO_FOUR_BYTES);
+                writeBigEndian(argument, 4);
+            } else {
+                writeByte(initialByte | ADDITIONAL_INFO_EIGHT_BYTES);
+                writeBigEndian(argument, 8);
+            }
+        }
+
+        private void writeBigEndian(final long value, final int numberOfBytes) {
+            ensureCapacity(numberOfBytes);
+            for (int i = numberOfBytes - 1; i >= 0; i--) {
+                buffer[size++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        private void writeByte(final int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        private void ensureCapacity(final int additionalBytes) {
+            final int required = size + additionalBytes;
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+            }
+        }
+
+    }
+
+    private static final class Decoder {
+
+        private final byte[] bytes;
+        private int position = 0;
+
+        private Decoder(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private JsonValue readValue(final int depth) {
+            final int initialByte = readByte();
+            if (initialByte == BREAK) {
+                throw parseException("Unexpected CBOR break code at offset " + (position - 1));
+            }
+            return readValue(initialByte, depth);
+        }
+
+        private JsonValue readValue(final int initialByte, final int depth) {
+            final int majorType = initialByte >>> 5;
+            final int additionalInfo = initialByte & 0x1F;
+            switch (majorType) {
+                case MAJOR_TYPE_UNSIGNED_INT:
+                    return unsignedToJson(readArgument(additionalInfo));
+                case MAJOR_TYPE_NEGATIVE_INT:
+                    final long argument = readArgument(additionalInfo);
+                    if (argument < 0) {
+                        // exceeds the range of long; degrade precision like the JSON parser does
+                        return JsonFactory.newValue(-1.0 - unsignedToDouble(argument));
+                    }
+                    return longToJson(-1L - argument);
+                case MAJOR_TYPE_TEXT_STRING:
+                    return JsonFactory.newValue(readText(additionalInfo));
+                case MAJOR_TYPE_ARRAY:
+                    checkDecodingDepth(depth);
+                    return readArray(additionalInfo, depth + 1);
+                case MAJOR_TYPE_MAP:
+                    checkDecodingDepth(depth);
+                    return readMap(additionalInfo, depth + 1);
+                case MAJOR_TYPE_TAG:
+                    checkDecodingDepth(depth);
+                    readArgument(additionalInfo);
+                    return readValue(depth + 1);
+                case MAJOR_TYPE_SIMPLE:
+                    return readSimple(additionalInfo);
+                case MAJOR_TYPE_BYTE_STRING:
+                default:
+                    throw parseException("CBOR byte strings are not supported (offset " + (position - 1) + ")");
+            }
+        }
+
+        private void checkDecodingDepth(final int depth) {
+            if (depth >= MAX_NESTING_DEPTH) {
+                throw parseException("CBOR data item at offset " + (position - 1) + " is nested deeper than " +
+                        MAX_NESTING_DEPTH + " levels");
+            }
+        }
+
+        private JsonValue readArray(final int additionalInfo, final int depth) {
+            final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+            if (additionalInfo == ADDITIONAL_INFO_INDEFINITE) {
+                for (int next = readByte(); next != BREAK; next = readByte()) {
+                    builder.add(readValue(next, depth));
+                }
+            } else {
+                final long length = readArgument(additionalInfo);
+                for (long i = 0; i < length; i++) {
+                    builder.add(readValue(depth));
+                }
+            }
+            return builder.build();
+        }
+
+        private JsonValue readMap(final int additionalInfo, final int depth) {
+            final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+            if (additionalInfo == ADDITIONAL_INFO_INDEFINITE) {
+                for (int next = readByte(); next != BREAK; next = readByte()) {
+                    readMapEntry(next, builder, depth);
+                }
+            } else {
+                final long length = readArgument(additionalInfo);
+                for (long i = 0; i < length; i++) {
+                    readMapEntry(readByte(), builder, depth);
+                }
+            }
+            return builder.build();
+        }
+
+        private void readMapEntry(final int keyInitialByte, final JsonObjectBuilder builder, final int depth) {
+            if (keyInitialByte >>> 5 != MAJOR_TYPE_TEXT_STRING) {
+                throw parseException("CBOR map keys must be text strings (offset " + (position - 1) + ")");
+            }
+            final String key = readText(keyInitialByte & 0x1F);
+            builder.set(JsonFactory.newField(JsonFactory.newKey(key), readValue(depth)));
+        }
+
+        private String readText(final int additionalInfo) {
+            if (additionalInfo == ADDITIONAL_INFO_INDEFINITE) {
+                final StringBuilder stringBuilder = new StringBuilder();
+                for (int next = readByte(); next != BREAK; next = readByte()) {
+                    if (next >>> 5 != MAJOR_TYPE_TEXT_STRING || (next & 0x1F) == ADDITIONAL_INFO_INDEFINITE) {
+                        throw parseException("Invalid chunk in indefinite length CBOR text string at offset " +
+                                (position - 1));
+                    }
+                    stringBuilder.append(readText(next & 0x1F));
+                }
+                return stringBuilder.toString();
+            }
+            final int length = toLength(readArgument(additionalInfo));
+            require(length);
+            final String result = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return result;
+        }
+
+        private JsonValue readSimple(final int additionalInfo) {
+            switch (additionalInfo) {
+                case SIMPLE_FALSE:
+                    return JsonFactory.newValue(false);
+                case SIMPLE_TRUE:
+                    return JsonFactory.newValue(true);
+                case SIMPLE_NULL:
+                    return JsonFactory.nullLiteral();
+                case ADDITIONAL_INFO_TWO_BYTES:
+                    return JsonFactory.newValue(halfToDouble((int) readBigEndian(2)));
+                case ADDITIONAL_INFO_FOUR_BYTES:
+                    return JsonFactory.newValue((double) Float.intBitsToFloat((int) readBigEndian(4)));
+                case ADDITIONAL_INFO_EIGHT_BYTES:
+                    return JsonFactory.newValue(Double.longBitsToDouble(readBigEndian(8)));
+                default:
+                    throw parseException("Unsupported CBOR simple value <" + additionalInfo + "> at offset " +
+                            (position - 1));
+            }
+        }
+
+        private long readArgument(final int additionalInfo) {
+            if (additionalInfo < ADDITIONAL_INFO_ONE_BYTE) {
+                return additionalInfo;
+            }
+            switch (additionalInfo) {
+                case ADDITIONAL_INFO_ONE_BYTE:
+                    return readBigEndian(1);
+                case ADDITIONAL_INFO_TWO_BYTES:
+                    return readBigEndian(2);
+                case ADDITIONAL_INFO_FOUR_BYTES:
+                    return readBigEndian(4);
+                case ADDITIONAL_INFO_EIGHT_BYTES:
+                    return readBigEndian(8);
+                default:
+                    throw parseException("Invalid CBOR additional information <" + additionalInfo +
+                            "> at offset " + (position - 1));
+            }
+        }
+
+        private long readBigEndian(final int numberOfBytes) {
+            require(numberOfBytes);
+            long result = 0;
+            for (int i = 0; i < numberOfBytes; i++) {
+                result = (result << 8) | (bytes[position++] & 0xFF);
+            }
+            return result;
+        }
+
+        private int readByte() {
+            require(1);
+            return bytes[position++] & 0xFF;
+        }
+
+        private void require(final int numberOfBytes) {
+            if (numberOfBytes > bytes.length - position) {
+                throw parseException("Unexpected end of CBOR input at offset " + position);
+            }
+        }
+
+        private int toLength(final long length) {
+            if (length < 0 || length > bytes.length - position) {
+                throw parseException("CBOR length <" + Long.toUnsignedString(length) +
+                        "> exceeds the input at offset " + position);
+            }
+            return (int) length;
+        }
+
+        private static JsonValue unsignedToJson(final long value) {
+            if (value < 0) {
+                // exceeds the range of long; degrade precision like the JSON parser does
+                return JsonFactory.newValue(unsignedToDouble(value));
+            }
+            return longToJson(value);
+        }
+
+        private static JsonValue longToJson(final long value) {
+            if (value == (int) value) {
+                return JsonFactory.newValue((int) value);
+            }
+            return JsonFactory.newValue(value);
+        }
+
+        private static double unsignedToDouble(final long value) {
+            return (double) (value >>> 1) * 2.0 + (value & 1L);
+        }
+
+        private static double halfToDouble(final int half) {
+            final int exponent = (half >> 10) & 0x1F;
+            final int mantissa = half & 0x3FF;
+            final double magnitude;
+            if (exponent == 0) {
+                magnitude = Math.scalb((double) mantissa, -24);
+            } else if (exponent != 0x1F) {
+                magnitude = Math.scalb((double) (mantissa + 1024), exponent - 25);
+            } else {
+                magnitude = mantissa == 0 ? Double.POSITIVE_INFINITY : Double.NaN;
+            }
+            return (half & 0x8000) == 0 ? magnitude : -magnitude;
+        }
+
+    }
+
+}
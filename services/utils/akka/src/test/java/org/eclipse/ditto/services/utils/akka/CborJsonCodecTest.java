@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+import akka.util.ByteString;
+
+/**
+ * Tests {@link CborJsonCodec}.
+ */
+public final class CborJsonCodecTest {
+
+    private static final JsonObject DITTO_PROTOCOL_MESSAGE = JsonFactory.newObject("{" +
+            "\"topic\":\"org.eclipse.ditto/thing/things/twin/commands/modify\"," +
+            "\"headers\":{\"correlation-id\":\"c-1\",\"response-required\":false}," +
+            "\"path\":\"/features/sensor/properties/temperature\"," +
+            "\"value\":{\"current\":-12.75,\"max\":4294967296,\"min\":-2147483649,\"unit\":\"°C\"," +
+            "\"history\":[1,2.5,null,true,false,\"\",{}]}}");
+
+    @Test
+    public void roundTripDittoProtocolMessage() {
+        final ByteString cbor = CborJsonCodec.encode(DITTO_PROTOCOL_MESSAGE);
+
+        assertThat(CborJsonCodec.decode(cbor)).isEqualTo(DITTO_PROTOCOL_MESSAGE);
+        assertThat(cbor.size()).isLessThan(DITTO_PROTOCOL_MESSAGE.toString().length());
+    }
+
+    @Test
+    public void roundTripProtocolMessageString() {
+        final JsonValue startSendEvents = JsonValue.of("START-SEND-EVENTS?filter=eq(foo,1)");
+
+        assertThat(CborJsonCodec.decode(CborJsonCodec.encode(startSendEvents))).isEqualTo(startSendEvents);
+    }
+
+    @Test
+    public void encodeUsesShortestIntegerRepresentation() {
+        assertThat(CborJsonCodec.encode(JsonValue.of(10)).toArray()).containsExactly(0x0a);
+        assertThat(CborJsonCodec.encode(JsonValue.of(500)).toArray()).containsExactly(0x19, 0x01, 0xf4);
+        assertThat(CborJsonCodec.encode(JsonValue.of(-500)).toArray()).containsExactly(0x39, 0x01, 0xf3);
+    }
+
+    @Test
+    public void decodeIndefiniteLengthItems() {
+        // {_ "a": [_ 1, "x"], "b": (_ "fo", "o")}
+        final byte[] bytes = {(byte) 0xbf, 0x61, 'a', (byte) 0x9f, 0x01, 0x61, 'x', (byte) 0xff,
+                0x61, 'b', 0x7f, 0x62, 'f', 'o', 0x61, 'o', (byte) 0xff, (byte) 0xff};
+
+        final JsonValue decoded = CborJsonCodec.decode(ByteString.fromArray(bytes));
+
+        assertThat(decoded).isEqualTo(JsonObject.newBuilder()
+                .set("a", JsonArray.newBuilder().add(1).add("x").build())
+                .set("b", "foo")
+                .build());
+    }
+
+    @Test
+    public void decodeHalfPrecisionFloatAndTag() {
+        // tag 1 (epoch time) wrapping half-precision -2.5
+        final byte[] bytes = {(byte) 0xc1, (byte) 0xf9, (byte) 0xc1, 0x00};
+
+        assertThat(CborJsonCodec.decode(ByteString.fromArray(bytes))).isEqualTo(JsonValue.of(-2.5));
+    }
+
+    @Test
+    public void decodeTruncatedInputFails() {
+        final ByteString cbor = CborJsonCodec.encode(DITTO_PROTOCOL_MESSAGE);
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> CborJsonCodec.decode(cbor.take(cbor.size() - 1)));
+    }
+
+    @Test
+    public void decodeTrailingBytesFails() {
+        final ByteString cbor = CborJsonCodec.encode(JsonValue.of(1)).concat(ByteString.fromArray(new byte[]{1}));
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CborJsonCodec.decode(cbor));
+    }
+
+    @Test
+    public void decodeByteStringFails() {
+        final byte[] bytes = {0x42, 0x01, 0x02};
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> CborJsonCodec.decode(ByteString.fromArray(bytes)));
+    }
+
+    @Test
+    public void decodeNonTextMapKeyFails() {
+        final byte[] bytes = {(byte) 0xa1, 0x01, 0x02};
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> CborJsonCodec.decode(ByteString.fromArray(bytes)));
+    }
+
+    @Test
+    public void decodeDeeplyNestedArraysFails() {
+        final byte[] bytes = new byte[1_000_000];
+        Arrays.fill(bytes, (byte) 0x81);
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> CborJsonCodec.decode(bytes))
+                .withMessageContaining("nested deeper than " + CborJsonCodec.MAX_NESTING_DEPTH);
+    }
+
+    @Test
+    public void decodeDeeplyNestedTagsFails() {
+        final byte[] bytes = new byte[1_000_000];
+        Arrays.fill(bytes, (byte) 0xc0);
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CborJsonCodec.decode(bytes));
+    }
+
+    @Test
+    public void roundTripMaximallyNestedValue() {
+        final JsonValue jsonValue = nestedArrays(CborJsonCodec.MAX_NESTING_DEPTH);
+
+        assertThat(CborJsonCodec.decode(CborJsonCodec.encode(jsonValue))).isEqualTo(jsonValue);
+    }
+
+    @Test
+    public void encodeTooDeeplyNestedValueFails() {
+        final JsonValue jsonValue = nestedArrays(CborJsonCodec.MAX_NESTING_DEPTH + 1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> CborJsonCodec.encode(jsonValue));
+    }
+
+    private static JsonValue nestedArrays(final int depth) {
+        JsonValue result = JsonValue.of(true);
+        for (int i = 0; i < depth; i++) {
+            result = JsonFactory.newArrayBuilder().add(result).build();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Asynchronous cache loader which limits the number of concurrent loads of a delegate cache loader. Loads beyond that
+ * limit wait in a queue and are started in order as soon as a running load completes, so that a burst of cache misses,
+ * e.g. after a restart or a mass invalidation, never asks the shard region of the delegate with more than the
+ * configured number of concurrent requests.
+ * <p>
+ * Loads of the same key are not coalesced here, because the asynchronous cache already joins all requests for a key
+ * whose load is in progress. Therefore the queue holds at most one load per key missing from the cache. Queued loads
+ * whose future was completed in the meantime, e.g. by cancellation, are skipped.
+ * </p>
+ *
+ * @param <K> type of keys.
+ * @param <V> type of values.
+ */
+@ThreadSafe
+public final class BoundedConcurrencyCacheLoader<K, V> implements AsyncCacheLoader<K, V> {
+
+    private final AsyncCacheLoader<K, V> delegate;
+    private final int parallelism;
+    private final Queue<QueuedLoad<K, V>> queue;
+    private final AtomicInteger runningLoads;
+
+    private BoundedConcurrencyCacheLoader(final AsyncCacheLoader<K, V> delegate, final int parallelism) {
+        this.delegate = delegate;
+        this.parallelism = parallelism;
+        queue = new ConcurrentLinkedQueue<>();
+        runningLoads = new AtomicInteger();
+    }
+
+    /**
+     * Creates a {@code BoundedConcurrencyCacheLoader}.
+     *
+     * @param delegate the cache loader to load entries with.
+     * @param parallelism how many loads of the delegate may run concurrently.
+     * @param <K> type of keys.
+     * @param <V> type of values.
+     * @return the cache loader.
+     * @throws NullPointerException if {@code delegate} is {@code null}.
+     * @throws IllegalArgumentException if {@code parallelism} is not positive.
+     */
+    public static <K, V> BoundedConcurrencyCacheLoader<K, V> of(final AsyncCacheLoader<K, V> delegate,
+            final int parallelism) {
+
+        checkNotNull(delegate, "delegate");
+        checkArgument(parallelism, p -> p > 0, () -> "The parallelism must be positive!");
+        return new BoundedConcurrencyCacheLoader<>(delegate, parallelism);
+    }
+
+    @Override
+    public CompletableFuture<V> asyncLoad(final K key, final Executor executor) {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        queue.add(new QueuedLoad<>(key, future, executor));
+        startQueuedLoads();
+        return future;
+    }
+
+    /**
+     * Returns the number of loads waiting for a running load to complete.
+     *
+     * @return the number of queued loads.
+     */
+    int getQueuedLoads() {
+        return queue.size();
+    }
+
+    private void startQueuedLoads() {
+        while (!queue.isEmpty()) {
+            final int running = runningLoads.get();
+            if (running >= parallelism) {
+                return;
+            }
+            if (runningLoads.compareAndSet(running, running + 1)) {
+                final QueuedLoad<K, V> queuedLoad = queue.poll();
+                if (queuedLoad != null && !queuedLoad.future.isDone()) {
+                    start(queuedLoad);
+                } else {
+                    runningLoads.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void start(final QueuedLoad<K, V> queuedLoad) {
+        CompletableFuture<V> load;
+        try {
+            load = delegate.asyncLoad(queuedLoad.key, queuedLoad.executor);
+        } catch (final Exception e) {
+            load = new CompletableFuture<>();
+            load.completeExceptionally(e);
+        }
+        load.whenCompleteAsync((value, error) -> {
+            runningLoads.decrementAndGet();
+            if (error != null) {
+                queuedLoad.future.completeExceptionally(error);
+            } else {
+                queuedLoad.future.complete(value);
+            }
+            startQueuedLoads();
+        }, queuedLoad.executor);
+    }
+
+    private static final class QueuedLoad<K, V> {
+
+        private final K key;
+        private final CompletableFuture<V> future;
+        private final Executor executor;
+
+        private QueuedLoad(final K key, final CompletableFuture<V> future, final Executor executor) {
+            this.key = key;
+            this.future = future;
+            this.executor = executor;
+        }
+
+    }
+
+}
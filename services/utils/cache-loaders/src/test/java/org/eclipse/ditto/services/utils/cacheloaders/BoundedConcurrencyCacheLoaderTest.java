@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Tests {@link BoundedConcurrencyCacheLoader}.
+ */
+public final class BoundedConcurrencyCacheLoaderTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    public void limitConcurrentLoads() {
+        final RecordingLoader delegate = new RecordingLoader();
+        final BoundedConcurrencyCacheLoader<String, String> underTest = BoundedConcurrencyCacheLoader.of(delegate, 2);
+
+        final CompletableFuture<String> a = underTest.asyncLoad("a", DIRECT);
+        final CompletableFuture<String> b = underTest.asyncLoad("b", DIRECT);
+        final CompletableFuture<String> c = underTest.asyncLoad("c", DIRECT);
+
+        assertThat(delegate.loadedKeys).containsExactly("a", "b");
+        assertThat(underTest.getQueuedLoads()).isEqualTo(1);
+
+        delegate.complete("a");
+        assertThat(a).isCompletedWithValue("value-a");
+        assertThat(delegate.loadedKeys).containsExactly("a", "b", "c");
+        assertThat(underTest.getQueuedLoads()).isZero();
+
+        delegate.complete("c");
+        assertThat(c).isCompletedWithValue("value-c");
+        assertThat(b).isNotDone();
+    }
+
+    @Test
+    public void failedLoadReleasesItsSlot() {
+        final RecordingLoader delegate = new RecordingLoader();
+        final BoundedConcurrencyCacheLoader<String, String> underTest = BoundedConcurrencyCacheLoader.of(delegate, 1);
+
+        final CompletableFuture<String> a = underTest.asyncLoad("a", DIRECT);
+        underTest.asyncLoad("b", DIRECT);
+        delegate.fail("a");
+
+        assertThat(a).isCompletedExceptionally();
+        assertThat(delegate.loadedKeys).containsExactly("a", "b");
+    }
+
+    @Test
+    public void loadsBeyondTheLimitWaitInsteadOfFailing() {
+        final RecordingLoader delegate = new RecordingLoader();
+        final BoundedConcurrencyCacheLoader<String, String> underTest = BoundedConcurrencyCacheLoader.of(delegate, 1);
+
+        final CompletableFuture<String> blocked = underTest.asyncLoad("blocked", DIRECT);
+        final List<CompletableFuture<String>> waiting = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            waiting.add(underTest.asyncLoad("key" + i, DIRECT));
+        }
+
+        assertThat(waiting).allSatisfy(future -> assertThat(future).isNotDone());
+        assertThat(underTest.getQueuedLoads()).isEqualTo(1000);
+
+        delegate.complete("blocked");
+        assertThat(blocked).isCompletedWithValue("value-blocked");
+        for (int i = 0; i < 1000; ++i) {
+            delegate.complete("key" + i);
+            assertThat(waiting.get(i)).isCompletedWithValue("value-key" + i);
+        }
+        assertThat(underTest.getQueuedLoads()).isZero();
+    }
+
+    @Test
+    public void skipQueuedLoadsWhichAreCancelled() {
+        final RecordingLoader delegate = new RecordingLoader();
+        final BoundedConcurrencyCacheLoader<String, String> underTest = BoundedConcurrencyCacheLoader.of(delegate, 1);
+
+        underTest.asyncLoad("a", DIRECT);
+        underTest.asyncLoad("b", DIRECT).cancel(false);
+        final CompletableFuture<String> c = underTest.asyncLoad("c", DIRECT);
+        delegate.complete("a");
+
+        assertThat(delegate.loadedKeys).containsExactly("a", "c");
+        delegate.complete("c");
+        assertThat(c).isCompletedWithValue("value-c");
+    }
+
+    private static final class RecordingLoader implements AsyncCacheLoader<String, String> {
+
+        private final List<String> loadedKeys = new ArrayList<>();
+        private final Map<String, CompletableFuture<String>> loads = new HashMap<>();
+
+        @Override
+        public CompletableFuture<String> asyncLoad(final String key, final Executor executor) {
+            loadedKeys.add(key);
+            final CompletableFuture<String> load = new CompletableFuture<>();
+            loads.put(key, load);
+            return load;
+        }
+
+        private void complete(final String key) {
+            loads.get(key).complete("value-" + key);
+        }
+
+        private void fail(final String key) {
+            loads.get(key).completeExceptionally(new IllegalStateException(key));
+        }
+
+    }
+
+}
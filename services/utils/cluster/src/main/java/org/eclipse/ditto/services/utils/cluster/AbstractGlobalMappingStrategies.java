@@ -34,6 +34,7 @@ public abstract class AbstractGlobalMappingStrategies extends AbstractMappingStr
                 .add(GlobalCommandRegistry.getInstance())
                 .add(GlobalCommandResponseRegistry.getInstance())
                 .add(GlobalEventRegistry.getInstance())
+                .add(ShardLoadReport.class, jsonObject -> ShardLoadReport.fromJson(jsonObject))
                 .build();
 
         combinedStrategies.putAll(mappingStrategies.getStrategies());
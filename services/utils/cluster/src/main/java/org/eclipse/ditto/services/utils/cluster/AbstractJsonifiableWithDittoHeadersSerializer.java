@@ -40,7 +40,9 @@ import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.heavyhitters.HeavyHitters;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.base.Signal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,6 +92,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private final Long defaultBufferSize;
     private final Counter inCounter;
     private final Counter outCounter;
+    private final HeavyHitters heavyHitters;
 
     /**
      * Constructs a new {@code AbstractJsonifiableWithDittoHeadersSerializer} object.
@@ -112,6 +115,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 .tag(METRIC_DIRECTION, "in");
         outCounter = DittoMetrics.counter(METRIC_NAME)
                 .tag(METRIC_DIRECTION, "out");
+        heavyHitters = HeavyHitters.get(actorSystem);
     }
 
     @Override
@@ -194,17 +198,29 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public Object fromBinary(final ByteBuffer buf, final String manifest) {
+        final int size = buf.remaining();
         final String json = UTF8_CHARSET.decode(buf).toString();
         try {
             final Jsonifiable jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, json);
             LOG.trace("fromBinary json which got 'in': {}", json);
             inCounter.increment();
+            recordHeavyHitter(jsonifiable, size);
             return jsonifiable;
         } catch (final NotSerializableException e) {
             return e;
         }
     }
 
+    private void recordHeavyHitter(final Jsonifiable jsonifiable, final int size) {
+        if (jsonifiable instanceof Signal) {
+            final Signal<?> signal = (Signal<?>) jsonifiable;
+            if (!signal.getEntityId().isDummy()) {
+                heavyHitters.record(HeavyHitters.Dimension.BYTES, signal.getResourceType(), signal.getEntityId(),
+                        size);
+            }
+        }
+    }
+
     @Override
     public Object fromBinary(final byte[] bytes, final String manifest) {
         return fromBinary(ByteBuffer.wrap(bytes), manifest);
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.services.utils.cluster.config.ShardAllocationConfig;
+
+import akka.actor.ActorRef;
+import akka.actor.Address;
+import akka.cluster.sharding.ShardCoordinator;
+import akka.dispatch.Futures;
+import scala.collection.JavaConverters;
+import scala.collection.immutable.IndexedSeq;
+import scala.concurrent.Future;
+
+/**
+ * Shard allocation strategy which places and moves shards according to the message rates and in-memory entity counts
+ * reported by the shard regions via {@link ShardLoadReporter}.
+ * <ul>
+ * <li>New shards are allocated to the least loaded shard region; ties are broken by the number of shards.</li>
+ * <li>Shards are rebalanced only if the most loaded shard region exceeds the average load by the imbalance threshold
+ * and if all shard regions reported their load recently.</li>
+ * <li>To avoid rebalance storms, shards are moved only after the previous rebalance completed and the rebalance
+ * cool-down passed, and at most the configured number of shards are moved at once. A shard is moved only if the move
+ * reduces the difference between the most and the least loaded shard region.</li>
+ * <li>If no load is measured at all, every shard counts as one unit of load, so that shards are balanced by number.</li>
+ * </ul>
+ * <p>
+ * The strategy is used by the shard coordinator only; its state is not shared with other threads.
+ * </p>
+ */
+public final class LoadAwareShardAllocationStrategy extends ShardCoordinator.AbstractShardAllocationStrategy {
+
+    private final ShardLoadMap loadMap;
+    private final ShardAllocationConfig config;
+    private final Address selfAddress;
+    private final Duration maxReportAge;
+
+    private Instant lastRebalance;
+
+    private LoadAwareShardAllocationStrategy(final ShardLoadMap loadMap, final ShardAllocationConfig config,
+            final Address selfAddress) {
+
+        this.loadMap = loadMap;
+        this.config = config;
+        this.selfAddress = selfAddress;
+        maxReportAge = config.getReportInterval().multipliedBy(3L);
+        lastRebalance = Instant.EPOCH;
+    }
+
+    /**
+     * Create a load-aware shard allocation strategy.
+     *
+     * @param loadMap the load reports of all shard regions filled by the {@link ShardLoadReporter} of this node.
+     * @param config the shard allocation config.
+     * @param selfAddress address of this node to resolve local shard regions with.
+     * @return the strategy.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static LoadAwareShardAllocationStrategy of(final ShardLoadMap loadMap,
+            final ShardAllocationConfig config, final Address selfAddress) {
+
+        return new LoadAwareShardAllocationStrategy(checkNotNull(loadMap, "loadMap"), checkNotNull(config, "config"),
+                checkNotNull(selfAddress, "selfAddress"));
+    }
+
+    @Override
+    public Future<ActorRef> allocateShard(final ActorRef requester, final String shardId,
+            final Map<ActorRef, IndexedSeq<String>> currentShardAllocations) {
+
+        final Map<ActorRef, Double> regionLoads = getRegionLoads(currentShardAllocations, Instant.now(), false);
+        ActorRef leastLoaded = requester;
+        double leastLoad = Double.MAX_VALUE;
+        int leastShards = Integer.MAX_VALUE;
+        for (final Map.Entry<ActorRef, IndexedSeq<String>> entry : currentShardAllocations.entrySet()) {
+            final double load = regionLoads.getOrDefault(entry.getKey(), 0.0);
+            final int shards = entry.getValue().size();
+            if (load < leastLoad || load == leastLoad && shards < leastShards) {
+                leastLoaded = entry.getKey();
+                leastLoad = load;
+                leastShards = shards;
+            }
+        }
+        return Futures.successful(leastLoaded);
+    }
+
+    @Override
+    public Future<Set<String>> rebalance(final Map<ActorRef, IndexedSeq<String>> currentShardAllocations,
+            final Set<String> rebalanceInProgress) {
+
+        final Instant now = Instant.now();
+        if (!rebalanceInProgress.isEmpty() || now.isBefore(lastRebalance.plus(config.getRebalanceCooldown()))) {
+            return Futures.successful(Collections.emptySet());
+        }
+        final Map<ActorRef, Double> regionLoads = getRegionLoads(currentShardAllocations, now, true);
+        if (regionLoads.size() != currentShardAllocations.size()) {
+            // some shard region did not report its load recently
+            return Futures.successful(Collections.emptySet());
+        }
+
+        final Map<String, Map<String, Double>> shardLoads = new HashMap<>();
+        currentShardAllocations.forEach((region, shards) -> shardLoads.put(region.path().toString(),
+                getShardLoads(region, shards, now).orElseGet(Collections::emptyMap)));
+        final Set<String> shardsToMove = selectShardsToMove(shardLoads, config.getImbalanceThreshold(),
+                config.getMaxSimultaneousRebalance());
+        if (!shardsToMove.isEmpty()) {
+            lastRebalance = now;
+        }
+        return Futures.successful(shardsToMove);
+    }
+
+    /**
+     * Select shards to move from the most loaded to the least loaded shard regions.
+     *
+     * @param shardLoads load of each shard per shard region. Every shard of each shard region must be present.
+     * @param imbalanceThreshold factor by which the most loaded shard region must exceed the average load.
+     * @param maxShardsToMove the maximum number of shards to select.
+     * @return IDs of the shards to move.
+     */
+    static Set<String> selectShardsToMove(final Map<String, Map<String, Double>> shardLoads,
+            final double imbalanceThreshold, final int maxShardsToMove) {
+
+        final boolean noLoadMeasured = shardLoads.values()
+                .stream()
+                .flatMap(shards -> shards.values().stream())
+                .allMatch(load -> load <= 0.0);
+        final Map<String, Map<String, Double>> remainingShards = new HashMap<>();
+        final Map<String, Double> regionLoads = new HashMap<>();
+        shardLoads.forEach((region, shards) -> {
+            final Map<String, Double> loads = new HashMap<>();
+            shards.forEach((shardId, load) -> loads.put(shardId, noLoadMeasured ? 1.0 : load));
+            remainingShards.put(region, loads);
+            regionLoads.put(region, loads.values().stream().mapToDouble(Double::doubleValue).sum());
+        });
+        if (regionLoads.size() < 2) {
+            return Collections.emptySet();
+        }
+        final double averageLoad =
+                regionLoads.values().stream().mapToDouble(Double::doubleValue).sum() / regionLoads.size();
+
+        final Set<String> shardsToMove = new HashSet<>();
+        while (shardsToMove.size() < maxShardsToMove) {
+            final String mostLoaded = getRegionWithExtremeLoad(regionLoads, true);
+            final String leastLoaded = getRegionWithExtremeLoad(regionLoads, false);
+            final double maxLoad = regionLoads.get(mostLoaded);
+            final double difference = maxLoad - regionLoads.get(leastLoaded);
+            if (maxLoad <= imbalanceThreshold * averageLoad) {
+                break;
+            }
+            // the best shard to move halves the difference; shards at least as large as the difference do not help
+            String bestShard = null;
+            double bestDistance = Double.MAX_VALUE;
+            for (final Map.Entry<String, Double> shard : remainingShards.get(mostLoaded).entrySet()) {
+                final double load = shard.getValue();
+                final double distance = Math.abs(difference / 2 - load);
+                if (load > 0.0 && load < difference && distance < bestDistance) {
+                    bestShard = shard.getKey();
+                    bestDistance = distance;
+                }
+            }
+            if (bestShard == null) {
+                break;
+            }
+            final double movedLoad = remainingShards.get(mostLoaded).remove(bestShard);
+            regionLoads.put(mostLoaded, maxLoad - movedLoad);
+            regionLoads.put(leastLoaded, regionLoads.get(leastLoaded) + movedLoad);
+            shardsToMove.add(bestShard);
+        }
+        return shardsToMove;
+    }
+
+    private static String getRegionWithExtremeLoad(final Map<String, Double> regionLoads, final boolean max) {
+        String result = null;
+        double extremeLoad = max ? -Double.MAX_VALUE : Double.MAX_VALUE;
+        for (final Map.Entry<String, Double> entry : regionLoads.entrySet()) {
+            if (max ? entry.getValue() > extremeLoad : entry.getValue() < extremeLoad) {
+                result = entry.getKey();
+                extremeLoad = entry.getValue();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sum up the loads of the shards allocated to each shard region.
+     *
+     * @param recentOnly whether to leave out shard regions without a recent load report instead of assuming no load.
+     */
+    private Map<ActorRef, Double> getRegionLoads(final Map<ActorRef, IndexedSeq<String>> currentShardAllocations,
+            final Instant now, final boolean recentOnly) {
+
+        final Map<ActorRef, Double> regionLoads = new HashMap<>();
+        currentShardAllocations.forEach((region, shards) -> {
+            final Optional<Map<String, Double>> shardLoads = getShardLoads(region, shards, now);
+            if (shardLoads.isPresent()) {
+                regionLoads.put(region, shardLoads.get().values().stream().mapToDouble(Double::doubleValue).sum());
+            } else if (!recentOnly) {
+                regionLoads.put(region, 0.0);
+            }
+        });
+        return regionLoads;
+    }
+
+    private Optional<Map<String, Double>> getShardLoads(final ActorRef region, final IndexedSeq<String> shards,
+            final Instant now) {
+
+        return loadMap.getRecentShardLoads(getAddress(region), now, maxReportAge).map(reportedLoads -> {
+            final List<String> shardIds = JavaConverters.seqAsJavaList(shards);
+            final Map<String, Double> result = new HashMap<>();
+            for (final String shardId : shardIds) {
+                @Nullable final ShardLoadReport.ShardLoad load = reportedLoads.get(shardId);
+                result.put(shardId, load == null ? 0.0 : load.getLoad(config.getEntityWeight()));
+            }
+            return result;
+        });
+    }
+
+    private String getAddress(final ActorRef region) {
+        final Address address = region.path().address();
+        return address.hasGlobalScope() ? address.toString() : selfAddress.toString();
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Counts the messages delivered to the entities of each shard of the local shard region.
+ */
+@ThreadSafe
+public final class ShardLoadCounter {
+
+    private final Map<String, LongAdder> counters;
+
+    private ShardLoadCounter() {
+        counters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create a counter without any counted messages.
+     *
+     * @return the counter.
+     */
+    public static ShardLoadCounter newInstance() {
+        return new ShardLoadCounter();
+    }
+
+    /**
+     * Count one message delivered to an entity of a shard.
+     *
+     * @param shardId ID of the shard.
+     */
+    void increment(final String shardId) {
+        counters.computeIfAbsent(shardId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Retrieve the messages counted per shard since the last invocation and reset the counters.
+     *
+     * @return the number of messages delivered per shard ID.
+     */
+    Map<String, Long> drain() {
+        final Map<String, Long> result = new HashMap<>();
+        counters.forEach((shardId, counter) -> result.put(shardId, counter.sumThenReset()));
+        return result;
+    }
+
+}
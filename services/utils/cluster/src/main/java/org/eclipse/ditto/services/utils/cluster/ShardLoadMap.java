@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+
+/**
+ * The latest load reports of all shard regions of one type in the cluster. It is filled by the
+ * {@link ShardLoadReporter} of the local node and read by the {@link LoadAwareShardAllocationStrategy} in case the
+ * shard coordinator runs on the local node.
+ */
+@ThreadSafe
+public final class ShardLoadMap {
+
+    private static final JsonFieldDefinition<String> JSON_RECEIVED_AT =
+            JsonFactory.newStringFieldDefinition("receivedAt");
+
+    private final Map<String, ReceivedReport> reports;
+
+    private ShardLoadMap() {
+        reports = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create an empty load map.
+     *
+     * @return the load map.
+     */
+    public static ShardLoadMap newInstance() {
+        return new ShardLoadMap();
+    }
+
+    /**
+     * Replace the previous load report of a shard region.
+     *
+     * @param report the new load report.
+     */
+    void update(final ShardLoadReport report) {
+        update(report, Instant.now());
+    }
+
+    void update(final ShardLoadReport report, final Instant receivedAt) {
+        reports.put(report.getAddress(), new ReceivedReport(report, receivedAt));
+    }
+
+    /**
+     * Retrieve the shard loads of the shard region on a node if they were reported recently.
+     *
+     * @param address address of the node hosting the shard region.
+     * @param now the current time.
+     * @param maxAge the maximum age of the load report.
+     * @return the load per shard ID, or an empty optional if the shard region did not report recently.
+     */
+    Optional<Map<String, ShardLoadReport.ShardLoad>> getRecentShardLoads(final String address, final Instant now,
+            final Duration maxAge) {
+
+        final ReceivedReport receivedReport = reports.get(address);
+        if (receivedReport == null || receivedReport.receivedAt.plus(maxAge).isBefore(now)) {
+            return Optional.empty();
+        } else {
+            return Optional.of(receivedReport.report.getShards());
+        }
+    }
+
+    /**
+     * Render the load map for the devops view.
+     *
+     * @return the load reports with their time of receipt.
+     */
+    JsonArray toJson() {
+        return reports.values()
+                .stream()
+                .map(receivedReport -> receivedReport.report.toJson()
+                        .set(JSON_RECEIVED_AT, receivedReport.receivedAt.toString()))
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    private static final class ReceivedReport {
+
+        private final ShardLoadReport report;
+        private final Instant receivedAt;
+
+        private ReceivedReport(final ShardLoadReport report, final Instant receivedAt) {
+            this.report = report;
+            this.receivedAt = receivedAt;
+        }
+
+    }
+
+}
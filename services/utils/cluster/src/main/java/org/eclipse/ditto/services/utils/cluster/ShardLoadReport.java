@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+
+/**
+ * Load of the shards of one shard region as reported by the node hosting it.
+ */
+@Immutable
+public final class ShardLoadReport implements Jsonifiable<JsonObject> {
+
+    static final JsonFieldDefinition<String> JSON_TYPE_NAME = JsonFactory.newStringFieldDefinition("typeName");
+
+    static final JsonFieldDefinition<String> JSON_ADDRESS = JsonFactory.newStringFieldDefinition("address");
+
+    static final JsonFieldDefinition<JsonObject> JSON_SHARDS = JsonFactory.newJsonObjectFieldDefinition("shards");
+
+    private final String typeName;
+    private final String address;
+    private final Map<String, ShardLoad> shards;
+
+    private ShardLoadReport(final String typeName, final String address, final Map<String, ShardLoad> shards) {
+        this.typeName = typeName;
+        this.address = address;
+        this.shards = shards;
+    }
+
+    /**
+     * Create a load report.
+     *
+     * @param typeName type name of the shard region.
+     * @param address address of the node hosting the shard region.
+     * @param shards load of each shard hosted by the shard region.
+     * @return the load report.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ShardLoadReport of(final String typeName, final String address,
+            final Map<String, ShardLoad> shards) {
+
+        return new ShardLoadReport(checkNotNull(typeName, "typeName"), checkNotNull(address, "address"),
+                Collections.unmodifiableMap(new HashMap<>(checkNotNull(shards, "shards"))));
+    }
+
+    /**
+     * Deserialize a load report from JSON.
+     *
+     * @param jsonObject the JSON representation of the load report.
+     * @return the load report.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if a field is missing.
+     * @throws org.eclipse.ditto.json.JsonParseException if a field has the wrong format.
+     */
+    public static ShardLoadReport fromJson(final JsonObject jsonObject) {
+        final Map<String, ShardLoad> shards = new HashMap<>();
+        for (final JsonField field : jsonObject.getValueOrThrow(JSON_SHARDS)) {
+            shards.put(field.getKeyName(), ShardLoad.fromJson(field.getValue().asObject()));
+        }
+        return new ShardLoadReport(jsonObject.getValueOrThrow(JSON_TYPE_NAME),
+                jsonObject.getValueOrThrow(JSON_ADDRESS), Collections.unmodifiableMap(shards));
+    }
+
+    /**
+     * Returns the type name of the shard region.
+     *
+     * @return the type name.
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Returns the address of the node hosting the shard region.
+     *
+     * @return the address.
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Returns the load of each shard hosted by the shard region.
+     *
+     * @return the load per shard ID.
+     */
+    public Map<String, ShardLoad> getShards() {
+        return shards;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        final JsonObjectBuilder shardsBuilder = JsonFactory.newObjectBuilder();
+        shards.forEach((shardId, load) -> shardsBuilder.set(shardId, load.toJson()));
+        return JsonFactory.newObjectBuilder()
+                .set(JSON_TYPE_NAME, typeName)
+                .set(JSON_ADDRESS, address)
+                .set(JSON_SHARDS, shardsBuilder.build())
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ShardLoadReport that = (ShardLoadReport) o;
+        return Objects.equals(typeName, that.typeName) &&
+                Objects.equals(address, that.address) &&
+                Objects.equals(shards, that.shards);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(typeName, address, shards);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "typeName=" + typeName +
+                ", address=" + address +
+                ", shards=" + shards +
+                "]";
+    }
+
+    /**
+     * Load of one shard: the rate of messages delivered to its entities and the number of its entities in memory.
+     */
+    @Immutable
+    public static final class ShardLoad implements Jsonifiable<JsonObject> {
+
+        static final JsonFieldDefinition<Double> JSON_MESSAGES_PER_SECOND =
+                JsonFactory.newDoubleFieldDefinition("messagesPerSecond");
+
+        static final JsonFieldDefinition<Integer> JSON_ENTITIES = JsonFactory.newIntFieldDefinition("entities");
+
+        private final double messagesPerSecond;
+        private final int entities;
+
+        private ShardLoad(final double messagesPerSecond, final int entities) {
+            this.messagesPerSecond = messagesPerSecond;
+            this.entities = entities;
+        }
+
+        /**
+         * Create the load of a shard.
+         *
+         * @param messagesPerSecond the rate of messages delivered to the entities of the shard.
+         * @param entities the number of entities of the shard in memory.
+         * @return the load of the shard.
+         */
+        public static ShardLoad of(final double messagesPerSecond, final int entities) {
+            return new ShardLoad(messagesPerSecond, entities);
+        }
+
+        private static ShardLoad fromJson(final JsonObject jsonObject) {
+            return new ShardLoad(jsonObject.getValueOrThrow(JSON_MESSAGES_PER_SECOND),
+                    jsonObject.getValueOrThrow(JSON_ENTITIES));
+        }
+
+        /**
+         * Returns the rate of messages delivered to the entities of the shard.
+         *
+         * @return the messages per second.
+         */
+        public double getMessagesPerSecond() {
+            return messagesPerSecond;
+        }
+
+        /**
+         * Returns the number of entities of the shard in memory.
+         *
+         * @return the number of entities.
+         */
+        public int getEntities() {
+            return entities;
+        }
+
+        /**
+         * Combine message rate and entity count into a single load value.
+         *
+         * @param entityWeight the load of one entity in memory in relation to one message per second.
+         * @return the load value.
+         */
+        public double getLoad(final double entityWeight) {
+            return messagesPerSecond + entityWeight * entities;
+        }
+
+        @Override
+        public JsonObject toJson() {
+            return JsonFactory.newObjectBuilder()
+                    .set(JSON_MESSAGES_PER_SECOND, messagesPerSecond)
+                    .set(JSON_ENTITIES, entities)
+                    .build();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ShardLoad that = (ShardLoad) o;
+            return Double.compare(that.messagesPerSecond, messagesPerSecond) == 0 && entities == that.entities;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(messagesPerSecond, entities);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "messagesPerSecond=" + messagesPerSecond +
+                    ", entities=" + entities +
+                    "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.health.RetrieveHealth;
+import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.services.utils.health.StatusDetailMessage;
+import org.eclipse.ditto.services.utils.health.StatusInfo;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.cluster.sharding.ShardRegion;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor on each node of a sharded service which periodically publishes the load of the shards in the local shard
+ * region and collects the load reports of all nodes into a {@link ShardLoadMap} for the
+ * {@link LoadAwareShardAllocationStrategy}.
+ * <p>
+ * The collected load map is the devops view of the shard load: it is the detail of the response to
+ * {@link RetrieveHealth} sent via piggyback to this actor.
+ * </p>
+ */
+public final class ShardLoadReporter extends AbstractActorWithTimers {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "shardLoadReporter";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private final String typeName;
+    private final ActorRef shardRegion;
+    private final ShardLoadCounter loadCounter;
+    private final ShardLoadMap loadMap;
+    private final ActorRef pubSubMediator;
+    private final String topic;
+    private final String selfAddress;
+
+    private Instant lastReport;
+
+    @SuppressWarnings("unused")
+    private ShardLoadReporter(final String typeName, final ActorRef shardRegion, final ShardLoadCounter loadCounter,
+            final ShardLoadMap loadMap, final ActorRef pubSubMediator, final Duration reportInterval) {
+
+        this.typeName = typeName;
+        this.shardRegion = shardRegion;
+        this.loadCounter = loadCounter;
+        this.loadMap = loadMap;
+        this.pubSubMediator = pubSubMediator;
+        topic = getTopic(typeName);
+        selfAddress = Cluster.get(getContext().getSystem()).selfAddress().toString();
+        lastReport = Instant.now();
+
+        getTimers().startPeriodicTimer(Control.REPORT, Control.REPORT, reportInterval);
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param typeName type name of the shard region.
+     * @param shardRegion the local shard region.
+     * @param loadCounter the counter of messages delivered by the local shard region.
+     * @param loadMap the load map to fill with the reports of all nodes.
+     * @param pubSubMediator the pub-sub mediator to publish and receive load reports with.
+     * @param reportInterval how often to report the load of the local shard region.
+     * @return Props for this actor.
+     */
+    public static Props props(final String typeName, final ActorRef shardRegion, final ShardLoadCounter loadCounter,
+            final ShardLoadMap loadMap, final ActorRef pubSubMediator, final Duration reportInterval) {
+
+        return Props.create(ShardLoadReporter.class, typeName, shardRegion, loadCounter, loadMap, pubSubMediator,
+                reportInterval);
+    }
+
+    @Override
+    public void preStart() {
+        pubSubMediator.tell(DistPubSubAccess.subscribe(topic, getSelf()), getSelf());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.REPORT, this::requestShardRegionStats)
+                .match(ShardRegion.ShardRegionStats.class, this::publishReport)
+                .match(ShardLoadReport.class, this::updateLoadMap)
+                .match(RetrieveHealth.class, this::retrieveHealth)
+                .match(DistributedPubSubMediator.SubscribeAck.class, ack ->
+                        log.debug("Subscribed to load reports: <{}>", ack))
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void requestShardRegionStats(final Control report) {
+        shardRegion.tell(ShardRegion.getRegionStatsInstance(), getSelf());
+    }
+
+    private void publishReport(final ShardRegion.ShardRegionStats stats) {
+        final Instant now = Instant.now();
+        final double seconds = Math.max(1L, Duration.between(lastReport, now).toMillis()) / 1000.0;
+        lastReport = now;
+
+        final Map<String, Long> messages = loadCounter.drain();
+        final Map<String, ShardLoadReport.ShardLoad> shards = new HashMap<>();
+        stats.getStats().forEach((shardId, entities) -> {
+            final long shardMessages = messages.getOrDefault(shardId, 0L);
+            shards.put(shardId, ShardLoadReport.ShardLoad.of(shardMessages / seconds, ((Number) entities).intValue()));
+        });
+        pubSubMediator.tell(DistPubSubAccess.publish(topic, ShardLoadReport.of(typeName, selfAddress, shards)),
+                getSelf());
+    }
+
+    private void updateLoadMap(final ShardLoadReport report) {
+        log.debug("Received load report: <{}>", report);
+        loadMap.update(report);
+    }
+
+    private void retrieveHealth(final RetrieveHealth command) {
+        final StatusInfo statusInfo = StatusInfo.fromStatus(StatusInfo.Status.UP,
+                Collections.singletonList(StatusDetailMessage.of(StatusDetailMessage.Level.INFO,
+                        JsonFactory.newObjectBuilder()
+                                .set(ShardLoadReport.JSON_TYPE_NAME, typeName)
+                                .set("regions", loadMap.toJson())
+                                .build())));
+        getSender().tell(RetrieveHealthResponse.of(statusInfo, command.getDittoHeaders()), getSelf());
+    }
+
+    private static String getTopic(final String typeName) {
+        return ShardLoadReport.class.getSimpleName() + ":" + typeName;
+    }
+
+    private enum Control {
+        REPORT
+    }
+
+}
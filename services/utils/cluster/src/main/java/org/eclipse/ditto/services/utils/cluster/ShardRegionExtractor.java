@@ -22,6 +22,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.IntStream;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
@@ -39,10 +41,14 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
 
     private final int numberOfShards;
     private final MappingStrategies mappingStrategies;
+    @Nullable private final ShardLoadCounter loadCounter;
+
+    private ShardRegionExtractor(final int numberOfShards, final MappingStrategies mappingStrategies,
+            @Nullable final ShardLoadCounter loadCounter) {
 
-    private ShardRegionExtractor(final int numberOfShards, final MappingStrategies mappingStrategies) {
         this.numberOfShards = numberOfShards;
         this.mappingStrategies = checkNotNull(mappingStrategies, "mapping strategies");
+        this.loadCounter = loadCounter;
     }
 
     /**
@@ -54,7 +60,7 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
      */
     public static ShardRegionExtractor of(final int numberOfShards, final ActorSystem actorSystem) {
         final MappingStrategies mappingStrategies = MappingStrategies.loadMappingStrategies(actorSystem);
-        return new ShardRegionExtractor(numberOfShards, mappingStrategies);
+        return new ShardRegionExtractor(numberOfShards, mappingStrategies, null);
     }
 
     /**
@@ -65,7 +71,17 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
      * @param mappingStrategy the strategy for parsing incoming messages.
      */
     public static ShardRegionExtractor of(final int numberOfShards, final MappingStrategies mappingStrategy) {
-        return new ShardRegionExtractor(numberOfShards, mappingStrategy);
+        return new ShardRegionExtractor(numberOfShards, mappingStrategy, null);
+    }
+
+    /**
+     * Returns a copy of this extractor which counts the messages delivered to the entities of each shard.
+     *
+     * @param loadCounter the counter of messages per shard.
+     * @return the new extractor.
+     */
+    public ShardRegionExtractor withLoadCounter(final ShardLoadCounter loadCounter) {
+        return new ShardRegionExtractor(numberOfShards, mappingStrategies, checkNotNull(loadCounter, "loadCounter"));
     }
 
     @Override
@@ -95,6 +111,14 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
             entity = message;
         }
 
+        if (loadCounter != null) {
+            // the shard extracts the message only once when delivering it to the entity
+            final String shardId = shardId(entity);
+            if (shardId != null) {
+                loadCounter.increment(shardId);
+            }
+        }
+
         return entity;
     }
 
@@ -147,18 +171,19 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
         if (o == null || getClass() != o.getClass())
             return false;
         final ShardRegionExtractor that = (ShardRegionExtractor) o;
-        return numberOfShards == that.numberOfShards && Objects.equals(mappingStrategies, that.mappingStrategies);
+        return numberOfShards == that.numberOfShards && Objects.equals(mappingStrategies, that.mappingStrategies) &&
+                Objects.equals(loadCounter, that.loadCounter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(numberOfShards, mappingStrategies);
+        return Objects.hash(numberOfShards, mappingStrategies, loadCounter);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" + "numberOfShards=" + numberOfShards + ", mappingStrategy="
-                + mappingStrategies + "]";
+                + mappingStrategies + ", loadCounter=" + loadCounter + "]";
     }
 
 }
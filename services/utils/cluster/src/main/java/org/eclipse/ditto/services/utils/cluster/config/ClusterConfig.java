@@ -39,6 +39,13 @@ public interface ClusterConfig {
      */
     Collection<String> getClusterStatusRolesBlacklist();
 
+    /**
+     * Returns the config of the allocation of shards to shard regions.
+     *
+     * @return the shard allocation config.
+     */
+    ShardAllocationConfig getShardAllocationConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ClusterConfig}.
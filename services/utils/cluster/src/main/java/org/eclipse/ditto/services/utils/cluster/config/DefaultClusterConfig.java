@@ -31,11 +31,13 @@ public final class DefaultClusterConfig implements ClusterConfig {
 
     private final int numberOfShards;
     private final List<String> clusterStatusRolesBlacklist;
+    private final ShardAllocationConfig shardAllocationConfig;
 
     private DefaultClusterConfig(final ConfigWithFallback config) {
         numberOfShards = config.getInt(ClusterConfigValue.NUMBER_OF_SHARDS.getConfigPath());
         clusterStatusRolesBlacklist = Collections.unmodifiableList(
                 new ArrayList<>(config.getStringList(ClusterConfigValue.CLUSTER_STATUS_ROLES_BLACKLIST.getConfigPath())));
+        shardAllocationConfig = DefaultShardAllocationConfig.of(config);
     }
 
     /**
@@ -60,6 +62,11 @@ public final class DefaultClusterConfig implements ClusterConfig {
         return clusterStatusRolesBlacklist;
     }
 
+    @Override
+    public ShardAllocationConfig getShardAllocationConfig() {
+        return shardAllocationConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -70,12 +77,13 @@ public final class DefaultClusterConfig implements ClusterConfig {
         }
         final DefaultClusterConfig that = (DefaultClusterConfig) o;
         return numberOfShards == that.numberOfShards &&
-                Objects.equals(clusterStatusRolesBlacklist, that.clusterStatusRolesBlacklist);
+                Objects.equals(clusterStatusRolesBlacklist, that.clusterStatusRolesBlacklist) &&
+                Objects.equals(shardAllocationConfig, that.shardAllocationConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(numberOfShards, clusterStatusRolesBlacklist);
+        return Objects.hash(numberOfShards, clusterStatusRolesBlacklist, shardAllocationConfig);
     }
 
     @Override
@@ -83,6 +91,7 @@ public final class DefaultClusterConfig implements ClusterConfig {
         return getClass().getSimpleName() + " [" +
                 "numberOfShards=" + numberOfShards +
                 ", clusterStatusRolesBlacklist=" + clusterStatusRolesBlacklist +
+                ", shardAllocationConfig=" + shardAllocationConfig +
                 "]";
     }
 }
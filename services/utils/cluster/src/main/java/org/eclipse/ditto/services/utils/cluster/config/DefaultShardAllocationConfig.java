@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ShardAllocationConfig}.
+ */
+@Immutable
+public final class DefaultShardAllocationConfig implements ShardAllocationConfig {
+
+    private static final String CONFIG_PATH = "shard-allocation";
+
+    private final boolean loadAware;
+    private final Duration reportInterval;
+    private final Duration rebalanceCooldown;
+    private final double imbalanceThreshold;
+    private final double entityWeight;
+    private final int maxSimultaneousRebalance;
+
+    private DefaultShardAllocationConfig(final ConfigWithFallback config) {
+        loadAware = config.getBoolean(ShardAllocationConfigValue.LOAD_AWARE.getConfigPath());
+        reportInterval = config.getDuration(ShardAllocationConfigValue.REPORT_INTERVAL.getConfigPath());
+        rebalanceCooldown = config.getDuration(ShardAllocationConfigValue.REBALANCE_COOLDOWN.getConfigPath());
+        imbalanceThreshold = config.getDouble(ShardAllocationConfigValue.IMBALANCE_THRESHOLD.getConfigPath());
+        entityWeight = config.getDouble(ShardAllocationConfigValue.ENTITY_WEIGHT.getConfigPath());
+        maxSimultaneousRebalance =
+                config.getInt(ShardAllocationConfigValue.MAX_SIMULTANEOUS_REBALANCE.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultShardAllocationConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the shard allocation config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultShardAllocationConfig of(final Config config) {
+        return new DefaultShardAllocationConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ShardAllocationConfigValue.values()));
+    }
+
+    @Override
+    public boolean isLoadAware() {
+        return loadAware;
+    }
+
+    @Override
+    public Duration getReportInterval() {
+        return reportInterval;
+    }
+
+    @Override
+    public Duration getRebalanceCooldown() {
+        return rebalanceCooldown;
+    }
+
+    @Override
+    public double getImbalanceThreshold() {
+        return imbalanceThreshold;
+    }
+
+    @Override
+    public double getEntityWeight() {
+        return entityWeight;
+    }
+
+    @Override
+    public int getMaxSimultaneousRebalance() {
+        return maxSimultaneousRebalance;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultShardAllocationConfig that = (DefaultShardAllocationConfig) o;
+        return loadAware == that.loadAware &&
+                Double.compare(that.imbalanceThreshold, imbalanceThreshold) == 0 &&
+                Double.compare(that.entityWeight, entityWeight) == 0 &&
+                maxSimultaneousRebalance == that.maxSimultaneousRebalance &&
+                Objects.equals(reportInterval, that.reportInterval) &&
+                Objects.equals(rebalanceCooldown, that.rebalanceCooldown);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(loadAware, reportInterval, rebalanceCooldown, imbalanceThreshold, entityWeight,
+                maxSimultaneousRebalance);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "loadAware=" + loadAware +
+                ", reportInterval=" + reportInterval +
+                ", rebalanceCooldown=" + rebalanceCooldown +
+                ", imbalanceThreshold=" + imbalanceThreshold +
+                ", entityWeight=" + entityWeight +
+                ", maxSimultaneousRebalance=" + maxSimultaneousRebalance +
+                "]";
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the load-aware allocation of shards to shard regions.
+ */
+@Immutable
+public interface ShardAllocationConfig {
+
+    /**
+     * Indicates whether shards are allocated and rebalanced according to their load instead of their number.
+     *
+     * @return whether load-aware shard allocation is enabled.
+     */
+    boolean isLoadAware();
+
+    /**
+     * Returns how often each shard region reports the load of its shards.
+     *
+     * @return the report interval.
+     */
+    Duration getReportInterval();
+
+    /**
+     * Returns the minimum duration between two rebalances, so that moved shards can report their new load before
+     * the next shard is moved.
+     *
+     * @return the rebalance cool-down.
+     */
+    Duration getRebalanceCooldown();
+
+    /**
+     * Returns the factor by which the load of the most loaded shard region must exceed the average load before
+     * shards are rebalanced.
+     *
+     * @return the imbalance threshold.
+     */
+    double getImbalanceThreshold();
+
+    /**
+     * Returns the load of one entity in memory in relation to one message per second.
+     *
+     * @return the weight of in-memory entities.
+     */
+    double getEntityWeight();
+
+    /**
+     * Returns the maximum number of shards to move at once.
+     *
+     * @return the maximum number of simultaneous rebalances.
+     */
+    int getMaxSimultaneousRebalance();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ShardAllocationConfig}.
+     */
+    enum ShardAllocationConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether load-aware shard allocation is enabled.
+         */
+        LOAD_AWARE("load-aware", false),
+
+        /**
+         * How often each shard region reports the load of its shards.
+         */
+        REPORT_INTERVAL("report-interval", Duration.ofSeconds(10L)),
+
+        /**
+         * The minimum duration between two rebalances.
+         */
+        REBALANCE_COOLDOWN("rebalance-cooldown", Duration.ofMinutes(2L)),
+
+        /**
+         * The factor by which the most loaded shard region must exceed the average load to trigger a rebalance.
+         */
+        IMBALANCE_THRESHOLD("imbalance-threshold", 1.5),
+
+        /**
+         * The load of one entity in memory in relation to one message per second.
+         */
+        ENTITY_WEIGHT("entity-weight", 0.01),
+
+        /**
+         * The maximum number of shards to move at once.
+         */
+        MAX_SIMULTANEOUS_REBALANCE("max-simultaneous-rebalance", 1);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ShardAllocationConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
+}
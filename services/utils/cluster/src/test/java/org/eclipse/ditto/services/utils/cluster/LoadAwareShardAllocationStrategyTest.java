@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Tests the selection of shards to move of {@link LoadAwareShardAllocationStrategy}.
+ */
+public final class LoadAwareShardAllocationStrategyTest {
+
+    @Test
+    public void moveShardHalvingTheDifference() {
+        final Map<String, Map<String, Double>> shardLoads = new HashMap<>();
+        shardLoads.put("region1", loads("1", 100.0, "2", 45.0, "3", 10.0));
+        shardLoads.put("region2", loads("4", 5.0));
+
+        final Set<String> shardsToMove = LoadAwareShardAllocationStrategy.selectShardsToMove(shardLoads, 1.5, 1);
+
+        // moving shard 1 leaves loads of 55 and 105, moving shard 2 leaves 110 and 50
+        assertThat(shardsToMove).containsExactly("1");
+    }
+
+    @Test
+    public void doNotMoveSingleHotShard() {
+        final Map<String, Map<String, Double>> shardLoads = new HashMap<>();
+        shardLoads.put("region1", loads("1", 100.0));
+        shardLoads.put("region2", loads("2", 1.0));
+
+        assertThat(LoadAwareShardAllocationStrategy.selectShardsToMove(shardLoads, 1.5, 3)).isEmpty();
+    }
+
+    @Test
+    public void doNotMoveBelowImbalanceThreshold() {
+        final Map<String, Map<String, Double>> shardLoads = new HashMap<>();
+        shardLoads.put("region1", loads("1", 30.0, "2", 30.0));
+        shardLoads.put("region2", loads("3", 20.0, "4", 20.0));
+
+        assertThat(LoadAwareShardAllocationStrategy.selectShardsToMove(shardLoads, 1.5, 3)).isEmpty();
+    }
+
+    @Test
+    public void balanceByNumberWithoutMeasuredLoad() {
+        final Map<String, Map<String, Double>> shardLoads = new HashMap<>();
+        shardLoads.put("region1", loads("1", 0.0, "2", 0.0, "3", 0.0, "4", 0.0));
+        shardLoads.put("region2", new HashMap<>());
+
+        assertThat(LoadAwareShardAllocationStrategy.selectShardsToMove(shardLoads, 1.2, 3)).hasSize(2);
+    }
+
+    private static Map<String, Double> loads(final Object... shardIdsAndLoads) {
+        final Map<String, Double> loads = new HashMap<>();
+        for (int i = 0; i < shardIdsAndLoads.length; i += 2) {
+            loads.put((String) shardIdsAndLoads[i], (Double) shardIdsAndLoads[i + 1]);
+        }
+        return loads;
+    }
+
+}
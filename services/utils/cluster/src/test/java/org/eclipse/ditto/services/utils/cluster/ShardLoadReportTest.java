@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link ShardLoadReport}.
+ */
+public final class ShardLoadReportTest {
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ShardLoadReport.class)
+                .usingGetClass()
+                .verify();
+        EqualsVerifier.forClass(ShardLoadReport.ShardLoad.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void serializeAndDeserialize() {
+        final Map<String, ShardLoadReport.ShardLoad> shards = new HashMap<>();
+        shards.put("0", ShardLoadReport.ShardLoad.of(12.5, 3));
+        shards.put("17", ShardLoadReport.ShardLoad.of(0.0, 0));
+        final ShardLoadReport report = ShardLoadReport.of("thing", "akka.tcp://ditto-cluster@10.0.0.1:2551", shards);
+
+        assertThat(ShardLoadReport.fromJson(report.toJson())).isEqualTo(report);
+    }
+
+}
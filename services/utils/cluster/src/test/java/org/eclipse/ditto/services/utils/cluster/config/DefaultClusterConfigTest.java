@@ -47,7 +47,7 @@ public final class DefaultClusterConfigTest {
     public void assertImmutability() {
         assertInstancesOf(DefaultClusterConfig.class,
                 areImmutable(),
-                provided(Config.class).isAlsoImmutable());
+                provided(Config.class, ShardAllocationConfig.class).areAlsoImmutable());
     }
 
     @Test
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultShardAllocationConfig}.
+ */
+public final class DefaultShardAllocationConfigTest {
+
+    private static Config shardAllocationTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        shardAllocationTestConf = ConfigFactory.load("cluster-test").getConfig("cluster");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultShardAllocationConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultShardAllocationConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultShardAllocationConfig underTest = DefaultShardAllocationConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isLoadAware())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.LOAD_AWARE.getConfigPath())
+                .isEqualTo(ShardAllocationConfig.ShardAllocationConfigValue.LOAD_AWARE.getDefaultValue());
+        softly.assertThat(underTest.getReportInterval())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.REPORT_INTERVAL.getConfigPath())
+                .isEqualTo(ShardAllocationConfig.ShardAllocationConfigValue.REPORT_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getRebalanceCooldown())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.REBALANCE_COOLDOWN.getConfigPath())
+                .isEqualTo(ShardAllocationConfig.ShardAllocationConfigValue.REBALANCE_COOLDOWN.getDefaultValue());
+        softly.assertThat(underTest.getImbalanceThreshold())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.IMBALANCE_THRESHOLD.getConfigPath())
+                .isEqualTo(ShardAllocationConfig.ShardAllocationConfigValue.IMBALANCE_THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getEntityWeight())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.ENTITY_WEIGHT.getConfigPath())
+                .isEqualTo(ShardAllocationConfig.ShardAllocationConfigValue.ENTITY_WEIGHT.getDefaultValue());
+        softly.assertThat(underTest.getMaxSimultaneousRebalance())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.MAX_SIMULTANEOUS_REBALANCE.getConfigPath())
+                .isEqualTo(
+                        ShardAllocationConfig.ShardAllocationConfigValue.MAX_SIMULTANEOUS_REBALANCE.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultShardAllocationConfig underTest = DefaultShardAllocationConfig.of(shardAllocationTestConf);
+
+        softly.assertThat(underTest.isLoadAware())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.LOAD_AWARE.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getReportInterval())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.REPORT_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(5L));
+        softly.assertThat(underTest.getRebalanceCooldown())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.REBALANCE_COOLDOWN.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(3L));
+        softly.assertThat(underTest.getImbalanceThreshold())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.IMBALANCE_THRESHOLD.getConfigPath())
+                .isEqualTo(2.0);
+        softly.assertThat(underTest.getEntityWeight())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.ENTITY_WEIGHT.getConfigPath())
+                .isEqualTo(0.5);
+        softly.assertThat(underTest.getMaxSimultaneousRebalance())
+                .as(ShardAllocationConfig.ShardAllocationConfigValue.MAX_SIMULTANEOUS_REBALANCE.getConfigPath())
+                .isEqualTo(2);
+    }
+
+}
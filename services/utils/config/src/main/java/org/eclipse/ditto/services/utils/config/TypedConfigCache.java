@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.config;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Actor system extension holding typed config objects built from the Ditto scoped config of the actor system.
+ * Each config object is built once per actor system and shared by all actors asking for it afterwards, so that
+ * actors started in large numbers do not traverse the Typesafe config in their constructors.
+ * <p>
+ * The cached config objects are expected to be immutable.
+ * </p>
+ */
+@ThreadSafe
+public final class TypedConfigCache implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private final ScopedConfig dittoScopedConfig;
+    private final Map<Class<?>, Object> configs;
+
+    private TypedConfigCache(final ScopedConfig dittoScopedConfig) {
+        this.dittoScopedConfig = dittoScopedConfig;
+        configs = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the typed config cache of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the typed config cache of {@code actorSystem}.
+     * @throws NullPointerException if {@code actorSystem} is {@code null}.
+     */
+    public static TypedConfigCache get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(checkNotNull(actorSystem, "actorSystem"));
+    }
+
+    /**
+     * Returns the config object of the given type. It is created with the given factory from the Ditto scoped config
+     * of the actor system if it was not requested before.
+     *
+     * @param configClass the type of the config object.
+     * @param factory creates the config object from the Ditto scoped config.
+     * @param <T> the type of the config object.
+     * @return the config object.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws DittoConfigError if the config object cannot be created from the config of the actor system.
+     */
+    public <T> T getOrCreate(final Class<T> configClass, final Function<? super ScopedConfig, ? extends T> factory) {
+        checkNotNull(configClass, "configClass");
+        checkNotNull(factory, "factory");
+        return configClass.cast(configs.computeIfAbsent(configClass, key -> factory.apply(dittoScopedConfig)));
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<TypedConfigCache> {
+
+        @Override
+        public TypedConfigCache createExtension(final ExtendedActorSystem system) {
+            return new TypedConfigCache(DefaultScopedConfig.dittoScoped(system.settings().config()));
+        }
+
+    }
+
+}
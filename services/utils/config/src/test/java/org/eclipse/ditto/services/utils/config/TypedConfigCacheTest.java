@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+
+/**
+ * Unit test for {@link TypedConfigCache}.
+ */
+public final class TypedConfigCacheTest {
+
+    @Nullable private ActorSystem actorSystem;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName(),
+                ConfigFactory.parseMap(Collections.singletonMap("ditto.answer", 42)));
+    }
+
+    @After
+    public void terminateActorSystem() {
+        if (actorSystem != null) {
+            actorSystem.terminate();
+        }
+    }
+
+    @Test
+    public void createConfigOnceFromDittoScopedConfig() {
+        final AtomicInteger factoryInvocations = new AtomicInteger();
+        final TypedConfigCache underTest = TypedConfigCache.get(actorSystem);
+
+        final Integer first = underTest.getOrCreate(Integer.class, config -> {
+            factoryInvocations.incrementAndGet();
+            return config.getInt("answer");
+        });
+        final Integer second = TypedConfigCache.get(actorSystem).getOrCreate(Integer.class, config -> {
+            factoryInvocations.incrementAndGet();
+            return -1;
+        });
+
+        assertThat(first).isEqualTo(42);
+        assertThat(second).isSameAs(first);
+        assertThat(factoryInvocations).hasValue(1);
+    }
+
+}
@@ -39,10 +39,13 @@ import org.eclipse.ditto.services.utils.akka.actors.RetrieveConfigBehavior;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategies;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategy;
+import org.eclipse.ditto.services.utils.metrics.heavyhitters.HeavyHitters;
 import org.eclipse.ditto.signals.base.JsonTypeNotParsableException;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.common.RetrieveHeavyHitters;
+import org.eclipse.ditto.signals.commands.common.RetrieveHeavyHittersResponse;
 import org.eclipse.ditto.signals.commands.devops.AggregatedDevOpsCommandResponse;
 import org.eclipse.ditto.signals.commands.devops.ChangeLogLevel;
 import org.eclipse.ditto.signals.commands.devops.ChangeLogLevelResponse;
@@ -126,6 +129,7 @@ public final class DevOpsCommandsActor extends AbstractActor implements Retrieve
         return ReceiveBuilder.create()
                 .match(DevOpsCommand.class, this::handleInitialDevOpsCommand)
                 .match(DevOpsCommandViaPubSub.class, this::handleDevOpsCommandViaPubSub)
+                .match(RetrieveHeavyHitters.class, this::handleRetrieveHeavyHitters)
                 .build()
                 .orElse(retrieveConfigBehavior())
                 .orElse(matchAnyUnhandled());
@@ -279,6 +283,15 @@ public final class DevOpsCommandsActor extends AbstractActor implements Retrieve
         getSender().tell(retrieveLoggerConfigResponse, getSelf());
     }
 
+    private void handleRetrieveHeavyHitters(final RetrieveHeavyHitters command) {
+        final JsonObject heavyHitters = JsonObject.newBuilder()
+                .set(DevOpsCommand.JsonFields.JSON_SERVICE_NAME, serviceName)
+                .set(DevOpsCommand.JsonFields.JSON_INSTANCE, instance)
+                .setAll(HeavyHitters.get(getContext().getSystem()).toJson())
+                .build();
+        getSender().tell(RetrieveHeavyHittersResponse.of(heavyHitters, command.getDittoHeaders()), getSelf());
+    }
+
     private void handleExecutePiggyBack(final ExecutePiggybackCommand command) {
         LogUtil.enhanceLogWithCorrelationId(log, command);
 
@@ -18,6 +18,7 @@ import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.KamonGauge;
 import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.services.utils.metrics.instruments.histogram.KamonHistogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.BoundTimer;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.DefaultTimerBuilder;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.ExpiringTimerBuilder;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
@@ -49,6 +50,17 @@ public final class DittoMetrics {
         return new ExpiringTimerBuilder(name);
     }
 
+    /**
+     * Creates a {@link BoundTimer} for the segment "overall" of the timer with the given name. Tags are bound once, so
+     * that the timer should be created at setup time and kept for recording durations on hot paths.
+     *
+     * @param name The name of the timer.
+     * @return The {@link BoundTimer}.
+     */
+    public static BoundTimer boundTimer(final String name) {
+        return BoundTimer.of(name);
+    }
+
     /**
      * Creates a {@link Counter} with the given name.
      *
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.metrics.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -33,12 +34,23 @@ public final class DefaultMetricsConfig implements MetricsConfig {
     private final boolean prometheusEnabled;
     private final String prometheusHostname;
     private final int prometheusPort;
+    private final boolean heavyHittersEnabled;
+    private final int heavyHittersTopK;
+    private final Duration heavyHittersInterval;
+    private final int timerSegmentSampleRate;
 
     private DefaultMetricsConfig(final ConfigWithFallback metricsScopedConfig) {
         systemMetricEnabled = metricsScopedConfig.getBoolean(MetricsConfigValue.SYSTEM_METRICS_ENABLED.getConfigPath());
         prometheusEnabled = metricsScopedConfig.getBoolean(MetricsConfigValue.PROMETHEUS_ENABLED.getConfigPath());
         prometheusHostname = metricsScopedConfig.getString(MetricsConfigValue.PROMETHEUS_HOSTNAME.getConfigPath());
         prometheusPort = metricsScopedConfig.getInt(MetricsConfigValue.PROMETHEUS_PORT.getConfigPath());
+        heavyHittersEnabled =
+                metricsScopedConfig.getBoolean(MetricsConfigValue.HEAVY_HITTERS_ENABLED.getConfigPath());
+        heavyHittersTopK = metricsScopedConfig.getInt(MetricsConfigValue.HEAVY_HITTERS_TOP_K.getConfigPath());
+        heavyHittersInterval =
+                metricsScopedConfig.getDuration(MetricsConfigValue.HEAVY_HITTERS_INTERVAL.getConfigPath());
+        timerSegmentSampleRate =
+                metricsScopedConfig.getInt(MetricsConfigValue.TIMER_SEGMENT_SAMPLE_RATE.getConfigPath());
     }
 
     /**
@@ -73,6 +85,26 @@ public final class DefaultMetricsConfig implements MetricsConfig {
         return prometheusPort;
     }
 
+    @Override
+    public boolean isHeavyHittersEnabled() {
+        return heavyHittersEnabled;
+    }
+
+    @Override
+    public int getHeavyHittersTopK() {
+        return heavyHittersTopK;
+    }
+
+    @Override
+    public Duration getHeavyHittersInterval() {
+        return heavyHittersInterval;
+    }
+
+    @Override
+    public int getTimerSegmentSampleRate() {
+        return timerSegmentSampleRate;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -85,12 +117,17 @@ public final class DefaultMetricsConfig implements MetricsConfig {
         return systemMetricEnabled == that.systemMetricEnabled &&
                 prometheusEnabled == that.prometheusEnabled &&
                 prometheusPort == that.prometheusPort &&
-                Objects.equals(prometheusHostname, that.prometheusHostname);
+                heavyHittersEnabled == that.heavyHittersEnabled &&
+                heavyHittersTopK == that.heavyHittersTopK &&
+                timerSegmentSampleRate == that.timerSegmentSampleRate &&
+                Objects.equals(prometheusHostname, that.prometheusHostname) &&
+                Objects.equals(heavyHittersInterval, that.heavyHittersInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(systemMetricEnabled, prometheusEnabled, prometheusHostname, prometheusPort);
+        return Objects.hash(systemMetricEnabled, prometheusEnabled, prometheusHostname, prometheusPort,
+                heavyHittersEnabled, heavyHittersTopK, heavyHittersInterval, timerSegmentSampleRate);
     }
 
     @Override
@@ -100,6 +137,10 @@ public final class DefaultMetricsConfig implements MetricsConfig {
                 ", prometheusEnabled=" + prometheusEnabled +
                 ", prometheusHostname=" + prometheusHostname +
                 ", prometheusPort=" + prometheusPort +
+                ", heavyHittersEnabled=" + heavyHittersEnabled +
+                ", heavyHittersTopK=" + heavyHittersTopK +
+                ", heavyHittersInterval=" + heavyHittersInterval +
+                ", timerSegmentSampleRate=" + timerSegmentSampleRate +
                 "]";
     }
 
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.metrics.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
@@ -50,6 +52,34 @@ public interface MetricsConfig {
      */
     int getPrometheusPort();
 
+    /**
+     * Indicates whether the entities receiving the most commands, events and bytes are tracked.
+     *
+     * @return {@code true} if heavy hitters are tracked, {@code false} if not.
+     */
+    boolean isHeavyHittersEnabled();
+
+    /**
+     * Returns the number of heavy hitters to report per dimension.
+     *
+     * @return the number of heavy hitters.
+     */
+    int getHeavyHittersTopK();
+
+    /**
+     * Returns the length of the time window over which heavy hitters are counted.
+     *
+     * @return the length of the time window.
+     */
+    Duration getHeavyHittersInterval();
+
+    /**
+     * Returns the rate at which measurements of timer segments are sampled.
+     *
+     * @return about one of this many segment measurements is recorded; {@code 1} if all of them are recorded.
+     */
+    int getTimerSegmentSampleRate();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code MetricsConfig}.
@@ -74,7 +104,27 @@ public interface MetricsConfig {
         /**
          * The port to bind the Prometheus HTTP server to.
          */
-        PROMETHEUS_PORT("prometheus.port", 9095);
+        PROMETHEUS_PORT("prometheus.port", 9095),
+
+        /**
+         * Determines whether heavy hitters are tracked.
+         */
+        HEAVY_HITTERS_ENABLED("heavyHitters.enabled", false),
+
+        /**
+         * The number of heavy hitters to report per dimension.
+         */
+        HEAVY_HITTERS_TOP_K("heavyHitters.topK", 20),
+
+        /**
+         * The length of the time window over which heavy hitters are counted.
+         */
+        HEAVY_HITTERS_INTERVAL("heavyHitters.interval", Duration.ofMinutes(1L)),
+
+        /**
+         * The rate at which measurements of timer segments are sampled.
+         */
+        TIMER_SEGMENT_SAMPLE_RATE("timer.segmentSampleRate", 1);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.heavyhitters;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import scala.util.hashing.MurmurHash3$;
+
+/**
+ * Count-min sketch of the weights of string keys together with the top-K keys by estimated weight.
+ * <p>
+ * The sketch has a fixed size independent of the number of keys. Estimates never undercount and overcount by at most
+ * a small fraction of the total weight with high probability. Adding a key is lock-free unless its estimate exceeds
+ * the smallest estimate of the current top-K candidates and the key is no candidate yet or is the smallest candidate
+ * itself; hot keys which are already among the top-K raise their cached estimate in place. Each row of the sketch is
+ * indexed by a Murmur-3 hash of the key with its own seed, so that keys colliding in one row are unlikely to collide in
+ * the others.
+ * </p>
+ */
+@ThreadSafe
+final class CountMinTopK {
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F};
+
+    private final int width;
+    private final int k;
+    private final AtomicLongArray counters;
+    private final ConcurrentMap<String, AtomicLong> candidates;
+    private volatile long threshold;
+
+    private CountMinTopK(final int width, final int k) {
+        this.width = width;
+        this.k = k;
+        counters = new AtomicLongArray(DEPTH * width);
+        candidates = new ConcurrentHashMap<>();
+        threshold = 0L;
+    }
+
+    /**
+     * Create a sketch tracking the top-K keys.
+     *
+     * @param width number of counters per row; rounded up to a power of 2.
+     * @param k number of keys to track.
+     * @return the sketch.
+     * @throws IllegalArgumentException if {@code width} or {@code k} is not positive.
+     */
+    static CountMinTopK of(final int width, final int k) {
+        if (width <= 0 || k <= 0) {
+            throw new IllegalArgumentException("Width and k must be positive, got <" + width + "> and <" + k + ">");
+        }
+        final int roundedWidth = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        return new CountMinTopK(roundedWidth, k);
+    }
+
+    /**
+     * Add weight to a key.
+     *
+     * @param key the key.
+     * @param weight the weight to add.
+     * @return the estimated total weight of the key.
+     */
+    long add(final String key, final long weight) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; ++row) {
+            final int index = row * width + indexInRow(key, row);
+            estimate = Math.min(estimate, counters.addAndGet(index, weight));
+        }
+        if (estimate > threshold && !raiseCandidate(key, estimate)) {
+            offer(key, estimate);
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimate the total weight of a key.
+     *
+     * @param key the key.
+     * @return the estimated weight.
+     */
+    long estimate(final String key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; ++row) {
+            estimate = Math.min(estimate, counters.get(row * width + indexInRow(key, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Retrieve the top-K keys in descending order of estimated weight.
+     *
+     * @return the heavy hitters.
+     */
+    synchronized List<HeavyHitter> getTopK() {
+        final List<HeavyHitter> result = new ArrayList<>(candidates.size());
+        candidates.forEach((key, count) -> result.add(HeavyHitter.of(key, count.get())));
+        result.sort(HeavyHitter.DESCENDING);
+        return result;
+    }
+
+    /**
+     * Raise the cached estimate of a top-K candidate without locking. That is only possible if the candidate is not
+     * the smallest one, because raising the smallest candidate changes the threshold. The threshold may become smaller
+     * than the smallest candidate if that is evicted concurrently, which merely causes a superfluous offer.
+     *
+     * @param key the key.
+     * @param estimate the new estimate of the key.
+     * @return whether the key is a candidate whose estimate is at least the given one now.
+     */
+    private boolean raiseCandidate(final String key, final long estimate) {
+        final AtomicLong cachedEstimate = candidates.get(key);
+        if (cachedEstimate == null) {
+            return false;
+        }
+        long current = cachedEstimate.get();
+        while (current > threshold) {
+            if (current >= estimate || cachedEstimate.compareAndSet(current, estimate)) {
+                return true;
+            }
+            current = cachedEstimate.get();
+        }
+        return false;
+    }
+
+    private synchronized void offer(final String key, final long estimate) {
+        final AtomicLong cachedEstimate = candidates.get(key);
+        if (cachedEstimate != null) {
+            cachedEstimate.accumulateAndGet(estimate, Math::max);
+        } else {
+            candidates.put(key, new AtomicLong(estimate));
+            if (candidates.size() > k) {
+                evictSmallest();
+            }
+        }
+        threshold = candidates.size() < k ? 0L : smallestCandidate();
+    }
+
+    private void evictSmallest() {
+        final Iterator<Map.Entry<String, AtomicLong>> iterator = candidates.entrySet().iterator();
+        Map.Entry<String, AtomicLong> smallest = iterator.next();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, AtomicLong> entry = iterator.next();
+            if (entry.getValue().get() < smallest.getValue().get()) {
+                smallest = entry;
+            }
+        }
+        candidates.remove(smallest.getKey());
+    }
+
+    private long smallestCandidate() {
+        long smallest = Long.MAX_VALUE;
+        for (final AtomicLong count : candidates.values()) {
+            smallest = Math.min(smallest, count.get());
+        }
+        return smallest;
+    }
+
+    private int indexInRow(final String key, final int row) {
+        return MurmurHash3$.MODULE$.stringHash(key, SEEDS[row]) & (width - 1);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.heavyhitters;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A key together with its estimated weight in a time window.
+ */
+@Immutable
+public final class HeavyHitter {
+
+    static final Comparator<HeavyHitter> DESCENDING =
+            Comparator.comparingLong(HeavyHitter::getCount).reversed().thenComparing(HeavyHitter::getKey);
+
+    private final String key;
+    private final long count;
+
+    private HeavyHitter(final String key, final long count) {
+        this.key = key;
+        this.count = count;
+    }
+
+    static HeavyHitter of(final String key, final long count) {
+        return new HeavyHitter(key, count);
+    }
+
+    /**
+     * Returns the key consisting of resource type and entity ID.
+     *
+     * @return the key.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the estimated weight of the key.
+     *
+     * @return the estimated weight.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HeavyHitter that = (HeavyHitter) o;
+        return count == that.count && Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, count);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "key=" + key +
+                ", count=" + count +
+                "]";
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.heavyhitters;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.config.DefaultMetricsConfig;
+import org.eclipse.ditto.services.utils.metrics.config.MetricsConfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Actor system extension tracking the entities receiving the most commands, events and bytes on this cluster node.
+ * <p>
+ * Weights are counted in a count-min sketch per dimension, so that memory does not grow with the number of entities.
+ * At the end of each time window the top-K entities of each dimension are reported as gauges
+ * {@code heavy_hitters_<dimension>} tagged with the entity, and gauges of entities no longer among the top-K are
+ * removed. The last completed window is kept for retrieval via DevOps commands.
+ * </p>
+ */
+@ThreadSafe
+public final class HeavyHitters implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private static final String GAUGE_PREFIX = "heavy_hitters_";
+    private static final String ENTITY_TAG = "entity";
+    private static final int SKETCH_WIDTH = 2048;
+
+    private final boolean enabled;
+    private final int topK;
+    private final Map<Dimension, AtomicReference<CountMinTopK>> sketches;
+    private final Map<Dimension, Set<String>> reportedKeys;
+    private volatile JsonObject lastWindow;
+
+    private HeavyHitters(final boolean enabled, final int topK) {
+        this.enabled = enabled;
+        this.topK = topK;
+        sketches = new EnumMap<>(Dimension.class);
+        reportedKeys = new EnumMap<>(Dimension.class);
+        for (final Dimension dimension : Dimension.values()) {
+            sketches.put(dimension, new AtomicReference<>(CountMinTopK.of(SKETCH_WIDTH, topK)));
+            reportedKeys.put(dimension, new HashSet<>());
+        }
+        lastWindow = JsonObject.empty();
+    }
+
+    /**
+     * Returns the heavy hitters extension of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the heavy hitters extension of {@code actorSystem}.
+     * @throws NullPointerException if {@code actorSystem} is {@code null}.
+     */
+    public static HeavyHitters get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(checkNotNull(actorSystem, "actorSystem"));
+    }
+
+    /**
+     * Record weight for an entity. Does nothing if heavy hitters are disabled.
+     *
+     * @param dimension what is counted.
+     * @param resourceType the resource type of the entity.
+     * @param entityId the ID of the entity.
+     * @param weight the weight to add.
+     */
+    public void record(final Dimension dimension, final String resourceType, final CharSequence entityId,
+            final long weight) {
+
+        if (enabled) {
+            sketches.get(dimension).get().add(resourceType + ":" + entityId, weight);
+        }
+    }
+
+    /**
+     * Returns the heavy hitters of the last completed time window as JSON object from dimension names to arrays of
+     * entities and counts in descending order of counts.
+     *
+     * @return the heavy hitters of the last completed time window.
+     */
+    public JsonObject toJson() {
+        return lastWindow;
+    }
+
+    /**
+     * Complete the current time window: report its heavy hitters as gauges and start counting anew.
+     */
+    synchronized void completeWindow() {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        sketches.forEach((dimension, sketch) -> {
+            final List<HeavyHitter> heavyHitters = sketch.getAndSet(CountMinTopK.of(SKETCH_WIDTH, topK)).getTopK();
+            reportGauges(dimension, heavyHitters);
+            builder.set(dimension.getName(), toJsonArray(heavyHitters));
+        });
+        lastWindow = builder.build();
+    }
+
+    private void reportGauges(final Dimension dimension, final List<HeavyHitter> heavyHitters) {
+        final String gaugeName = GAUGE_PREFIX + dimension.getName();
+        final Set<String> previousKeys = reportedKeys.get(dimension);
+        final Set<String> currentKeys = new HashSet<>();
+        for (final HeavyHitter heavyHitter : heavyHitters) {
+            DittoMetrics.gauge(gaugeName).tag(ENTITY_TAG, heavyHitter.getKey()).set(heavyHitter.getCount());
+            currentKeys.add(heavyHitter.getKey());
+        }
+        previousKeys.removeAll(currentKeys);
+        previousKeys.forEach(key -> DittoMetrics.gauge(gaugeName).tag(ENTITY_TAG, key).remove());
+        previousKeys.clear();
+        previousKeys.addAll(currentKeys);
+    }
+
+    private static JsonArray toJsonArray(final List<HeavyHitter> heavyHitters) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        heavyHitters.forEach(heavyHitter -> builder.add(JsonFactory.newObjectBuilder()
+                .set(ENTITY_TAG, heavyHitter.getKey())
+                .set("count", heavyHitter.getCount())
+                .build()));
+        return builder.build();
+    }
+
+    /**
+     * What is counted per entity.
+     */
+    public enum Dimension {
+
+        /**
+         * Commands handled by the entity.
+         */
+        COMMANDS("commands"),
+
+        /**
+         * Events persisted by the entity.
+         */
+        EVENTS("events"),
+
+        /**
+         * Bytes of serialized messages addressed to the entity.
+         */
+        BYTES("bytes");
+
+        private final String name;
+
+        Dimension(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the dimension used in gauge names and JSON.
+         *
+         * @return the name.
+         */
+        public String getName() {
+            return name;
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<HeavyHitters> {
+
+        @Override
+        public HeavyHitters createExtension(final ExtendedActorSystem system) {
+            final Config config = system.settings().config();
+            // actor systems without Ditto config, e.g. in tests, get the default metrics config
+            final MetricsConfig metricsConfig = DefaultMetricsConfig.of(config.hasPath(ScopedConfig.DITTO_SCOPE)
+                    ? DefaultScopedConfig.dittoScoped(config)
+                    : ConfigFactory.empty());
+            final HeavyHitters heavyHitters =
+                    new HeavyHitters(metricsConfig.isHeavyHittersEnabled(), metricsConfig.getHeavyHittersTopK());
+            if (metricsConfig.isHeavyHittersEnabled()) {
+                final Duration interval = metricsConfig.getHeavyHittersInterval();
+                system.scheduler().schedule(interval, interval, heavyHitters::completeWindow, system.dispatcher());
+            }
+            return heavyHitters;
+        }
+
+    }
+
+}
@@ -47,4 +47,11 @@ public interface Gauge extends ResettableMetricInstrument, TaggedMetricInstrumen
      * @return The current value of the gauge.
      */
     Long get();
+
+    /**
+     * Removes the gauge with the tags of this gauge from the metric registry, so that it is no longer reported.
+     *
+     * @return True if the gauge was registered before.
+     */
+    boolean remove();
 }
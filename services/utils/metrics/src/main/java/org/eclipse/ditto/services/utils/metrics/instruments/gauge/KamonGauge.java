@@ -108,6 +108,13 @@ public class KamonGauge implements Gauge {
         return true;
     }
 
+    @Override
+    public boolean remove() {
+        final boolean removed = Kamon.gauge(name).remove(tags);
+        LOGGER.trace("Removed gauge with name <{}> and tags <{}>: <{}>.", name, tags, removed);
+        return removed;
+    }
+
     private kamon.metric.Gauge getKamonInternalGauge() {
         return Kamon.gauge(name).refine(tags);
     }
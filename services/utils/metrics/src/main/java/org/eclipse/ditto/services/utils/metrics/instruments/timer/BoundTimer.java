@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.instruments.timer;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import kamon.Kamon;
+import kamon.metric.Timer;
+
+/**
+ * Kamon timer whose tags are bound once at creation. Recording a duration neither copies tags nor looks up the
+ * underlying Kamon instrument, so that it is suitable for code paths executed per message.
+ * <p>
+ * Unlike {@link StartedTimer}, a bound timer does not keep state per measurement. Callers take the start time with
+ * {@link System#nanoTime()} themselves and record via {@link #recordSince(long)}. Bound timers for other segments or
+ * tag values are derived with {@link #segment(String)} and {@link #tag(String, String)}; this should happen at setup
+ * time and the results should be kept for reuse.
+ * </p>
+ * <p>
+ * A bound timer may be sampled: if its sample rate is {@code n > 1}, {@link #isSampled()} is {@code true} for
+ * roughly every {@code n}-th invocation only. Callers should skip the measurement otherwise.
+ * </p>
+ */
+@Immutable
+public final class BoundTimer {
+
+    private static final String SEGMENT_TAG = "segment";
+    private static final String OVERALL_SEGMENT = "overall";
+
+    private final String name;
+    private final Map<String, String> tags;
+    private final int sampleRate;
+    private final Timer kamonTimer;
+
+    private BoundTimer(final String name, final Map<String, String> tags, final int sampleRate) {
+        this.name = name;
+        this.tags = Collections.unmodifiableMap(tags);
+        this.sampleRate = sampleRate;
+        kamonTimer = Kamon.timer(name).refine(this.tags);
+    }
+
+    /**
+     * Creates a bound timer for the segment "overall" of the timer with the given name.
+     *
+     * @param name the name of the timer.
+     * @return the bound timer.
+     * @throws NullPointerException if {@code name} is {@code null}.
+     */
+    public static BoundTimer of(final String name) {
+        checkNotNull(name, "name");
+        final Map<String, String> tags = new HashMap<>();
+        tags.put(SEGMENT_TAG, OVERALL_SEGMENT);
+        return new BoundTimer(name, tags, 1);
+    }
+
+    /**
+     * Returns a bound timer with the given tag in addition to the tags of this timer.
+     *
+     * @param key the key of the tag.
+     * @param value the value of the tag.
+     * @return the new bound timer.
+     */
+    public BoundTimer tag(final String key, final String value) {
+        final Map<String, String> newTags = new HashMap<>(tags);
+        newTags.put(key, value);
+        return new BoundTimer(name, newTags, sampleRate);
+    }
+
+    /**
+     * Returns a bound timer with the given tag in addition to the tags of this timer.
+     *
+     * @param key the key of the tag.
+     * @param value the value of the tag.
+     * @return the new bound timer.
+     */
+    public BoundTimer tag(final String key, final boolean value) {
+        return tag(key, Boolean.toString(value));
+    }
+
+    /**
+     * Returns a bound timer for the segment with the given name, keeping all other tags of this timer.
+     *
+     * @param segmentName the name of the segment.
+     * @return the new bound timer.
+     */
+    public BoundTimer segment(final String segmentName) {
+        return tag(SEGMENT_TAG, segmentName);
+    }
+
+    /**
+     * Returns a bound timer with the same name and tags which is sampled at the given rate.
+     *
+     * @param rate record about one of {@code rate} measurements; {@code 1} or less records all of them.
+     * @return the new bound timer.
+     */
+    public BoundTimer sampled(final int rate) {
+        return new BoundTimer(name, new HashMap<>(tags), Math.max(1, rate));
+    }
+
+    /**
+     * Indicates whether the next measurement should be taken.
+     *
+     * @return {@code true} if the timer is not sampled or if the next measurement is part of the sample.
+     */
+    public boolean isSampled() {
+        return sampleRate <= 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param durationNanos the duration in nanoseconds.
+     */
+    public void record(final long durationNanos) {
+        kamonTimer.record(durationNanos);
+    }
+
+    /**
+     * Records the duration from the given start time until now.
+     *
+     * @param startNanos the start time as returned by {@link System#nanoTime()}.
+     */
+    public void recordSince(final long startNanos) {
+        kamonTimer.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the name of this timer.
+     *
+     * @return the name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the tags of this timer.
+     *
+     * @return an unmodifiable map of the tags.
+     */
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the value of the tag with the given key.
+     *
+     * @param key the key of the tag.
+     * @return the value of the tag or {@code null} if this timer has no such tag.
+     */
+    @Nullable
+    public String getTag(final String key) {
+        return tags.get(key);
+    }
+
+    /**
+     * Returns the sample rate of this timer.
+     *
+     * @return the sample rate; {@code 1} if every measurement is recorded.
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "name=" + name +
+                ", tags=" + tags +
+                ", sampleRate=" + sampleRate +
+                "]";
+    }
+
+}
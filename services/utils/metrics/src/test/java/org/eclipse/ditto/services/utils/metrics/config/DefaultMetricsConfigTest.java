@@ -15,6 +15,8 @@ package org.eclipse.ditto.services.utils.metrics.config;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Duration;
+
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.eclipse.ditto.services.utils.metrics.config.MetricsConfig.MetricsConfigValue;
 import org.junit.BeforeClass;
@@ -69,6 +71,18 @@ public final class DefaultMetricsConfigTest {
         softly.assertThat(underTest.getPrometheusPort())
                 .as(MetricsConfigValue.PROMETHEUS_PORT.getConfigPath())
                 .isEqualTo(MetricsConfigValue.PROMETHEUS_PORT.getDefaultValue());
+        softly.assertThat(underTest.isHeavyHittersEnabled())
+                .as(MetricsConfigValue.HEAVY_HITTERS_ENABLED.getConfigPath())
+                .isEqualTo(MetricsConfigValue.HEAVY_HITTERS_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getHeavyHittersTopK())
+                .as(MetricsConfigValue.HEAVY_HITTERS_TOP_K.getConfigPath())
+                .isEqualTo(MetricsConfigValue.HEAVY_HITTERS_TOP_K.getDefaultValue());
+        softly.assertThat(underTest.getHeavyHittersInterval())
+                .as(MetricsConfigValue.HEAVY_HITTERS_INTERVAL.getConfigPath())
+                .isEqualTo(MetricsConfigValue.HEAVY_HITTERS_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getTimerSegmentSampleRate())
+                .as(MetricsConfigValue.TIMER_SEGMENT_SAMPLE_RATE.getConfigPath())
+                .isEqualTo(MetricsConfigValue.TIMER_SEGMENT_SAMPLE_RATE.getDefaultValue());
     }
 
     @Test
@@ -87,6 +101,18 @@ public final class DefaultMetricsConfigTest {
         softly.assertThat(underTest.getPrometheusPort())
                 .as(MetricsConfigValue.PROMETHEUS_PORT.getConfigPath())
                 .isEqualTo(9999);
+        softly.assertThat(underTest.isHeavyHittersEnabled())
+                .as(MetricsConfigValue.HEAVY_HITTERS_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getHeavyHittersTopK())
+                .as(MetricsConfigValue.HEAVY_HITTERS_TOP_K.getConfigPath())
+                .isEqualTo(5);
+        softly.assertThat(underTest.getHeavyHittersInterval())
+                .as(MetricsConfigValue.HEAVY_HITTERS_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(30L));
+        softly.assertThat(underTest.getTimerSegmentSampleRate())
+                .as(MetricsConfigValue.TIMER_SEGMENT_SAMPLE_RATE.getConfigPath())
+                .isEqualTo(10);
     }
 
 }
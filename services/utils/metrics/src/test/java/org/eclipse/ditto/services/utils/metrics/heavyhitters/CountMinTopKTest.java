@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.heavyhitters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link CountMinTopK}.
+ */
+public final class CountMinTopKTest {
+
+    @Test
+    public void estimatesNeverUndercount() {
+        final CountMinTopK underTest = CountMinTopK.of(64, 3);
+        for (int i = 0; i < 1000; ++i) {
+            underTest.add("key" + i, i % 7);
+        }
+
+        for (int i = 0; i < 1000; i += 97) {
+            assertThat(underTest.estimate("key" + i)).isGreaterThanOrEqualTo(i % 7);
+        }
+    }
+
+    @Test
+    public void findHeavyHittersAmongManyKeys() {
+        final CountMinTopK underTest = CountMinTopK.of(2048, 3);
+        for (int round = 0; round < 100; ++round) {
+            for (int i = 0; i < 500; ++i) {
+                underTest.add("cold" + i, 1L);
+            }
+            underTest.add("hot1", 50L);
+            underTest.add("hot2", 30L);
+            underTest.add("hot3", 20L);
+        }
+
+        final List<String> topK = underTest.getTopK().stream()
+                .map(HeavyHitter::getKey)
+                .collect(Collectors.toList());
+
+        assertThat(topK).containsExactly("hot1", "hot2", "hot3");
+        assertThat(underTest.getTopK().get(0).getCount()).isGreaterThanOrEqualTo(5000L);
+    }
+
+    @Test
+    public void keysWithEqualHashCodeAreCountedSeparately() {
+        final CountMinTopK underTest = CountMinTopK.of(1024, 3);
+        assertThat("AaAa".hashCode()).isEqualTo("BBBB".hashCode());
+
+        underTest.add("AaAa", 100L);
+
+        assertThat(underTest.estimate("AaAa")).isEqualTo(100L);
+        assertThat(underTest.estimate("BBBB")).isZero();
+    }
+
+    @Test
+    public void cachedEstimatesOfCandidatesFollowTheSketch() {
+        final CountMinTopK underTest = CountMinTopK.of(1024, 2);
+        underTest.add("small", 1L);
+        underTest.add("large", 10L);
+        for (int i = 0; i < 100; ++i) {
+            underTest.add("large", 1L);
+        }
+
+        assertThat(underTest.getTopK()).containsExactly(HeavyHitter.of("large", underTest.estimate("large")),
+                HeavyHitter.of("small", underTest.estimate("small")));
+        assertThat(underTest.estimate("large")).isGreaterThanOrEqualTo(110L);
+    }
+
+    @Test
+    public void concurrentAddsKeepTheTopK() throws InterruptedException {
+        final CountMinTopK underTest = CountMinTopK.of(2048, 3);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; ++thread) {
+            executor.execute(() -> {
+                for (int round = 0; round < 1000; ++round) {
+                    underTest.add("hot1", 3L);
+                    underTest.add("hot2", 2L);
+                    underTest.add("hot3", 1L);
+                    underTest.add("cold" + round, 1L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10L, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(underTest.getTopK()).extracting(HeavyHitter::getKey).containsExactly("hot1", "hot2", "hot3");
+        assertThat(underTest.estimate("hot1")).isGreaterThanOrEqualTo(12000L);
+        assertThat(underTest.estimate("hot3")).isGreaterThanOrEqualTo(4000L);
+    }
+
+}
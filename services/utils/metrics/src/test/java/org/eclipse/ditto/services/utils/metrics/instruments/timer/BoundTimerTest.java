@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.instruments.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link BoundTimer}.
+ */
+public final class BoundTimerTest {
+
+    @Test
+    public void recordsIntoTimerWithSameNameAndTags() {
+        final BoundTimer underTest = BoundTimer.of("BoundTestTimer").tag("TEST", "someValue");
+        final PreparedTimer sameTimer = PreparedKamonTimer.newTimer("BoundTestTimer").tags(underTest.getTags());
+        sameTimer.reset();
+
+        underTest.record(TimeUnit.SECONDS.toNanos(2L));
+        underTest.recordSince(System.nanoTime());
+
+        assertThat(underTest.getTag("segment")).isEqualTo("overall");
+        assertThat(sameTimer.getNumberOfRecords()).isEqualTo(2L);
+        assertThat(sameTimer.getRecords()[1]).isGreaterThan(TimeUnit.SECONDS.toNanos(1L));
+    }
+
+    @Test
+    public void derivedTimersDoNotChangeOriginal() {
+        final BoundTimer underTest = BoundTimer.of("BoundTestTimer");
+        final BoundTimer segment = underTest.segment("payload").tag("success", true);
+
+        assertThat(underTest.getTags()).containsOnlyKeys("segment");
+        assertThat(segment.getTag("segment")).isEqualTo("payload");
+        assertThat(segment.getTag("success")).isEqualTo("true");
+    }
+
+    @Test
+    public void samplingSkipsMostMeasurements() {
+        final BoundTimer unsampled = BoundTimer.of("BoundTestTimer");
+        final BoundTimer sampled = unsampled.sampled(100);
+
+        final long sampledCount = IntStream.range(0, 10_000).filter(i -> sampled.isSampled()).count();
+
+        assertThat(unsampled.isSampled()).isTrue();
+        assertThat(sampled.getSampleRate()).isEqualTo(100);
+        assertThat(sampledCount).isBetween(30L, 300L);
+    }
+
+}
@@ -62,7 +62,7 @@ abstract class AbstractBasicDBMapper<T, J extends JsonValue> implements Function
         return JsonFactory.newKey(jsonKeyNameReviser.apply(jsonKeyName));
     }
 
-    private static JsonValue mapBsonValueToJsonValue(@Nullable final BsonValue bsonValue,
+    static JsonValue mapBsonValueToJsonValue(@Nullable final BsonValue bsonValue,
             final Function<String, String> jsonKeyNameReviser) {
         final JsonValue result;
         if (bsonValue == null || bsonValue.isNull()) {
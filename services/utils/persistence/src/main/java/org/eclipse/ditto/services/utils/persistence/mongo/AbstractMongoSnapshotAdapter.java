@@ -35,6 +35,11 @@ import akka.persistence.SnapshotOffer;
 
 /**
  * Abstract implementation of a MongoDB specific {@link SnapshotAdapter} for a {@link Jsonifiable}.
+ * <p>
+ * Snapshots are stored either as BSON documents mirroring the JSON representation of the entity or, if binary
+ * encoding is enabled, as documents containing the compressed binary encoding of the JSON representation. Snapshots
+ * in either format are read regardless of the configured encoding.
+ * </p>
  *
  * @param <T> the jsonifiable type to snapshot.
  */
@@ -43,9 +48,21 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    private final boolean binaryEncoding;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, false);
+    }
+
+    /**
+     * Constructs a new {@code AbstractMongoSnapshotAdapter}.
+     *
+     * @param logger the logger to report deserialization failures with.
+     * @param binaryEncoding whether to store snapshots as compressed binary payload instead of plain BSON.
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final boolean binaryEncoding) {
         this.logger = logger;
+        this.binaryEncoding = binaryEncoding;
     }
 
     @Override
@@ -54,6 +71,9 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
+        if (binaryEncoding) {
+            return BinarySnapshotFormat.encode(json);
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(json);
     }
@@ -107,7 +127,10 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
     private static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
         checkNotNull(rawSnapshotEntity, "raw snapshot entity");
         if (rawSnapshotEntity instanceof BsonValue) {
-            return convertToJson((BsonValue) rawSnapshotEntity);
+            final BsonValue bsonValue = (BsonValue) rawSnapshotEntity;
+            return BinarySnapshotFormat.isBinary(bsonValue)
+                    ? BinarySnapshotFormat.decode(bsonValue.asDocument())
+                    : convertToJson(bsonValue);
         }
         final String pattern = "Unable to create a Jsonifiable from <{0}>! Expected was a BsonDocument instance.";
         throw new IllegalArgumentException(MessageFormat.format(pattern, rawSnapshotEntity.getClass()));
@@ -168,13 +168,19 @@ public abstract class AbstractPersistenceStreamingActor<T extends EntityIdWithRe
         log.info("Starting stream for <{}>", command);
         final Duration maxIdleTime = Duration.ofMillis(command.getTimeoutMillis());
         final int batchSize = command.getBurst() * 5;
+        final String lowerBoundPid = command.hasNonEmptyLowerBound()
+                ? entityUnmapper.apply(command.getLowerBound()).getPersistenceId()
+                : "";
+        if (command.isWithRevisions()) {
+            return readJournal.getJournalPidsWithHighestSeqNrAbove(lowerBoundPid, batchSize, maxIdleTime,
+                    materializer)
+                    .map(this::mapEntity)
+                    .log("pid-with-revision-streaming", log);
+        }
         final Source<String, NotUsed> pidSource;
         if (command.hasNonEmptyLowerBound()) {
             // resume from lower bound
-            final PidWithSeqNr pidWithSeqNr = entityUnmapper.apply(command.getLowerBound());
-            pidSource =
-                    readJournal.getJournalPidsAbove(pidWithSeqNr.getPersistenceId(), batchSize, maxIdleTime,
-                            materializer);
+            pidSource = readJournal.getJournalPidsAbove(lowerBoundPid, batchSize, maxIdleTime, materializer);
         } else {
             // no lower bound; read from event journals with restart-source
             pidSource = readJournal.getJournalPids(batchSize, maxIdleTime, materializer);
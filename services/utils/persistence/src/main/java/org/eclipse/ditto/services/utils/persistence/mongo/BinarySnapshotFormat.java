@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.io.ByteArrayOutputStream;
+import java.text.MessageFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.akka.CborJsonCodec;
+
+/**
+ * Binary encoding of snapshots: the JSON representation of the entity is encoded as CBOR and compressed with
+ * Deflate. The resulting snapshot document has the following fields:
+ * <ul>
+ * <li>{@value #FORMAT_FIELD}: the version of the binary format,</li>
+ * <li>{@value #LENGTH_FIELD}: the length of the uncompressed CBOR data and</li>
+ * <li>{@value #PAYLOAD_FIELD}: the compressed CBOR data.</li>
+ * </ul>
+ * Snapshot documents without the format field are plain BSON snapshots; both kinds can be read side by side.
+ */
+@Immutable
+final class BinarySnapshotFormat {
+
+    /**
+     * The field containing the version of the binary format.
+     */
+    static final String FORMAT_FIELD = "__snapshotFormat";
+
+    /**
+     * The field containing the length of the uncompressed payload.
+     */
+    static final String LENGTH_FIELD = "__snapshotLength";
+
+    /**
+     * The field containing the compressed payload.
+     */
+    static final String PAYLOAD_FIELD = "__snapshotPayload";
+
+    /**
+     * Version 1: Deflate compressed CBOR.
+     */
+    static final int DEFLATED_CBOR = 1;
+
+    /**
+     * The maximum length of the uncompressed payload of a snapshot which is decoded.
+     */
+    static final int MAX_LENGTH = 256 * 1024 * 1024;
+
+    /**
+     * Deflate does not compress data better than this ratio.
+     */
+    private static final long MAX_COMPRESSION_RATIO = 1032L;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private BinarySnapshotFormat() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Encodes the JSON representation of an entity as binary snapshot document.
+     *
+     * @param json the JSON representation.
+     * @return the snapshot document.
+     */
+    static BsonDocument encode(final JsonObject json) {
+        final byte[] cbor = CborJsonCodec.encodeToArray(json);
+        return new BsonDocument()
+                .append(FORMAT_FIELD, new BsonInt32(DEFLATED_CBOR))
+                .append(LENGTH_FIELD, new BsonInt32(cbor.length))
+                .append(PAYLOAD_FIELD, new BsonBinary(deflate(cbor)));
+    }
+
+    /**
+     * Indicates whether the given snapshot document is in binary format.
+     *
+     * @param snapshot the snapshot document.
+     * @return {@code true} if {@code snapshot} was created by {@link #encode(JsonObject)}.
+     */
+    static boolean isBinary(final BsonValue snapshot) {
+        return snapshot.isDocument() && snapshot.asDocument().containsKey(FORMAT_FIELD);
+    }
+
+    /**
+     * Decodes a binary snapshot document to the JSON representation of the entity.
+     *
+     * @param snapshot the snapshot document.
+     * @return the JSON representation.
+     * @throws IllegalArgumentException if the format version of {@code snapshot} is unknown.
+     * @throws JsonParseException if the payload of {@code snapshot} is corrupt or if its length is negative, exceeds
+     * {@value #MAX_LENGTH} bytes or cannot be the result of decompressing the payload.
+     */
+    static JsonObject decode(final BsonDocument snapshot) {
+        final int format = snapshot.getInt32(FORMAT_FIELD).getValue();
+        if (format != DEFLATED_CBOR) {
+            final String pattern = "Unknown binary snapshot format <{0}>!";
+            throw new IllegalArgumentException(MessageFormat.format(pattern, format));
+        }
+        final int length = snapshot.getInt32(LENGTH_FIELD).getValue();
+        final byte[] payload = snapshot.getBinary(PAYLOAD_FIELD).getData();
+        if (length < 0 || length > MAX_LENGTH || length > payload.length * MAX_COMPRESSION_RATIO) {
+            // reject corrupt lengths before allocating the buffer for the uncompressed payload
+            throw corruptPayload(MessageFormat.format("The length <{0}> of the payload is invalid.", length));
+        }
+        final byte[] cbor = inflate(payload, length);
+        final JsonValue json = CborJsonCodec.decode(cbor);
+        if (!json.isObject()) {
+            throw corruptPayload("The payload is no JSON object.");
+        }
+        return json.asObject();
+    }
+
+    private static byte[] deflate(final byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] data, final int length) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            final byte[] result = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                final int inflated = inflater.inflate(result, offset, length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += inflated;
+            }
+            if (offset != length || !inflater.finished()) {
+                throw corruptPayload("The length of the payload does not match.");
+            }
+            return result;
+        } catch (final DataFormatException e) {
+            throw corruptPayload(e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static JsonParseException corruptPayload(final String message) {
+        return JsonParseException.newBuilder()
+                .message("Binary snapshot is corrupt: " + message)
+                .build();
+    }
+
+}
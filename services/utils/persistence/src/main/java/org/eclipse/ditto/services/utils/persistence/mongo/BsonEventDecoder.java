@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonMissingFieldException;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.signals.events.base.Event;
+
+/**
+ * Decodes journal entries of registered event types directly from BSON into events. Only the payload values of an
+ * event are converted to JSON; the journal entry as a whole is never converted into a {@code JsonObject} which is
+ * then migrated and parsed again.
+ * <p>
+ * Journal entries of unregistered types, entries in a legacy format which have to be migrated and malformed entries
+ * are not decoded, so that callers can fall back to parsing the JSON representation of the entry.
+ * </p>
+ *
+ * @param <T> the type of the decoded events.
+ */
+@Immutable
+public final class BsonEventDecoder<T extends Event> {
+
+    private static final String TYPE = "type";
+    private static final String TIMESTAMP = "_timestamp";
+
+    // fields of journal entries written before "type" was introduced; those entries have to be migrated.
+    private static final String LEGACY_EVENT = "event";
+    private static final String LEGACY_PAYLOAD = "payload";
+
+    private final Map<String, EventFactory<? extends T>> eventFactories;
+
+    private BsonEventDecoder(final Map<String, EventFactory<? extends T>> eventFactories) {
+        this.eventFactories = Collections.unmodifiableMap(eventFactories);
+    }
+
+    /**
+     * Returns a decoder which does not decode any event type.
+     *
+     * @param <T> the type of the decoded events.
+     * @return the decoder.
+     */
+    public static <T extends Event> BsonEventDecoder<T> empty() {
+        return new BsonEventDecoder<>(Collections.emptyMap());
+    }
+
+    /**
+     * Returns a copy of this decoder which additionally decodes events of the given type.
+     *
+     * @param type the type of the events as written to the {@code "type"} field of the journal entry.
+     * @param eventFactory creates the event from the journal entry.
+     * @return the new decoder.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public BsonEventDecoder<T> with(final String type, final EventFactory<? extends T> eventFactory) {
+        checkNotNull(type, "type");
+        checkNotNull(eventFactory, "eventFactory");
+        final Map<String, EventFactory<? extends T>> newEventFactories = new HashMap<>(eventFactories);
+        newEventFactories.put(type, eventFactory);
+        return new BsonEventDecoder<>(newEventFactories);
+    }
+
+    /**
+     * Decodes a journal entry if its type was registered. The revision of the decoded event is
+     * {@link Event#DEFAULT_REVISION}, just like for events parsed from JSON.
+     *
+     * @param journalEntry the journal entry.
+     * @return the decoded event or an empty Optional if the journal entry has to be parsed from JSON.
+     * @throws NullPointerException if {@code journalEntry} is {@code null}.
+     */
+    public Optional<T> tryToDecode(final BsonValue journalEntry) {
+        checkNotNull(journalEntry, "journalEntry");
+        if (!journalEntry.isDocument()) {
+            return Optional.empty();
+        }
+        final BsonDocument document = journalEntry.asDocument();
+        final BsonValue type = document.get(TYPE);
+        if (type == null || !type.isString() || document.containsKey(LEGACY_EVENT) ||
+                document.containsKey(LEGACY_PAYLOAD)) {
+            return Optional.empty();
+        }
+        final EventFactory<? extends T> eventFactory = eventFactories.get(type.asString().getValue());
+        if (eventFactory == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(eventFactory.create(document, Event.DEFAULT_REVISION, getTimestamp(document)));
+        } catch (final JsonRuntimeException | DittoRuntimeException | BsonInvalidOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the string value of a field of a journal entry.
+     *
+     * @param document the journal entry.
+     * @param key the key of the field.
+     * @return the value of the field.
+     * @throws JsonMissingFieldException if the field is absent.
+     * @throws BsonInvalidOperationException if the value of the field is not a string.
+     */
+    public static String getString(final BsonDocument document, final String key) {
+        return getValue(document, key).asString().getValue();
+    }
+
+    /**
+     * Returns the value of a field of a journal entry as JSON.
+     *
+     * @param document the journal entry.
+     * @param key the key of the field.
+     * @return the value of the field.
+     * @throws JsonMissingFieldException if the field is absent.
+     */
+    public static JsonValue getJsonValue(final BsonDocument document, final String key) {
+        return DittoBsonJson.getInstance().serializeValue(getValue(document, key));
+    }
+
+    /**
+     * Returns the value of a field of a journal entry as JSON object. A BSON {@code null} is returned as JSON null
+     * object.
+     *
+     * @param document the journal entry.
+     * @param key the key of the field.
+     * @return the value of the field.
+     * @throws JsonMissingFieldException if the field is absent.
+     * @throws BsonInvalidOperationException if the value of the field is neither a document nor {@code null}.
+     */
+    public static JsonObject getJsonObject(final BsonDocument document, final String key) {
+        final BsonValue value = getValue(document, key);
+        return value.isNull()
+                ? JsonFactory.nullObject()
+                : DittoBsonJson.getInstance().serialize(value.asDocument());
+    }
+
+    private static BsonValue getValue(final BsonDocument document, final String key) {
+        final BsonValue value = document.get(key);
+        if (value == null) {
+            throw new JsonMissingFieldException(key);
+        }
+        return value;
+    }
+
+    @Nullable
+    private static Instant getTimestamp(final BsonDocument document) {
+        final BsonValue timestamp = document.get(TIMESTAMP);
+        if (timestamp == null || !timestamp.isString()) {
+            return null;
+        }
+        try {
+            return Instant.parse(timestamp.asString().getValue());
+        } catch (final DateTimeParseException e) {
+            throw new JsonParseException("The journal entry's field '_timestamp' is not in ISO-8601 format.");
+        }
+    }
+
+    /**
+     * Creates an event from a journal entry.
+     *
+     * @param <T> the type of the created event.
+     */
+    @FunctionalInterface
+    public interface EventFactory<T extends Event> {
+
+        /**
+         * Creates the event.
+         *
+         * @param document the journal entry.
+         * @param revision the revision of the event.
+         * @param timestamp the timestamp of the event, if any.
+         * @return the event.
+         * @throws JsonMissingFieldException if a required field is absent.
+         * @throws BsonInvalidOperationException if a field has an unexpected type.
+         */
+        T create(BsonDocument document, long revision, @Nullable Instant timestamp);
+
+    }
+
+}
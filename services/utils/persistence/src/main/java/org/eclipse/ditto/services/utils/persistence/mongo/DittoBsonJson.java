@@ -37,6 +37,7 @@ public final class DittoBsonJson {
     private final Function<JsonArray, BsonArray> jsonArrayToBsonArrayMapper;
     private final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper;
     private final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper;
+    private final Function<BsonValue, JsonValue> bsonValueToJsonValueMapper;
 
     /*
      * Inhibit instantiation of this utility class.
@@ -44,12 +45,14 @@ public final class DittoBsonJson {
     private DittoBsonJson(final Function<JsonObject, BsonDocument> jsonObjectToBsonDocumentMapper,
             final Function<JsonArray, BsonArray> jsonArrayToBsonArrayMapper,
             final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper,
-            final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper) {
+            final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper,
+            final Function<BsonValue, JsonValue> bsonValueToJsonValueMapper) {
 
         this.jsonObjectToBsonDocumentMapper = jsonObjectToBsonDocumentMapper;
         this.jsonArrayToBsonArrayMapper = jsonArrayToBsonArrayMapper;
         this.bsonDocumentToJsonObjectMapper = bsonDocumentToJsonObjectMapper;
         this.bsonArrayToJsonObjectMapper = bsonArrayToJsonObjectMapper;
+        this.bsonValueToJsonValueMapper = bsonValueToJsonValueMapper;
     }
 
     /**
@@ -69,7 +72,8 @@ public final class DittoBsonJson {
                 JsonValueToDbEntityMapper.forJsonObject(jsonToMongoDbKeyNameReviser),
                 JsonValueToDbEntityMapper.forJsonArray(jsonToMongoDbKeyNameReviser),
                 BsonDocumentToJsonObjectMapper.getInstance(jsonKeyNameReviser),
-                BsonArrayToJsonObjectMapper.getInstance(jsonKeyNameReviser));
+                BsonArrayToJsonObjectMapper.getInstance(jsonKeyNameReviser),
+                bsonValue -> AbstractBasicDBMapper.mapBsonValueToJsonValue(bsonValue, jsonKeyNameReviser));
     }
 
     /**
@@ -117,6 +121,19 @@ public final class DittoBsonJson {
         return bsonArrayToJsonObjectMapper.apply(checkNotNull(bsonArray, "BsonArray to be serialized"));
     }
 
+    /**
+     * Serializes the specified {@link BsonValue} of any type to Json, applying replacement of "special" characters
+     * {@code "$"} and {@code "."} in the keys of nested documents. Values of unsupported BSON types are serialized as
+     * JSON {@code null}.
+     *
+     * @param bsonValue the BsonValue to be serialized.
+     * @return the BsonValue serialized as JsonValue.
+     * @throws NullPointerException if {@code bsonValue} is {@code null}.
+     */
+    public JsonValue serializeValue(final BsonValue bsonValue) {
+        return bsonValueToJsonValueMapper.apply(checkNotNull(bsonValue, "BsonValue to be serialized"));
+    }
+
     /**
      * Parses the specified {@link JsonObject} into an {@link BsonDocument}.
      *
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoEventSnapshotCleanup;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
+
+import com.typesafe.config.Config;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Actor which cleans up events and snapshots of persistence actors directly in the database without starting them.
+ * It answers {@link CleanupPersistence} commands like the persistence actors do. Commands arriving while a cleanup is
+ * running are collected and cleaned up together with bulk writes afterwards.
+ * <p>
+ * Entities with events written since the instant in the header {@value #ACTIVE_SINCE_HEADER} of the command are
+ * considered active and skipped; their persistence actors clean up after themselves.
+ * </p>
+ */
+public final class PersistenceCleanupActor extends AbstractActor {
+
+    /**
+     * The name of this actor.
+     */
+    public static final String ACTOR_NAME = "persistenceCleanupActor";
+
+    /**
+     * Header of {@link CleanupPersistence} containing the ISO-8601 instant since which entities with written events
+     * are skipped.
+     */
+    public static final String ACTIVE_SINCE_HEADER = "cleanup-active-since";
+
+    private static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * Batches are cleaned up one after another with sequential queries, so a small pool suffices and the connection
+     * pool of the service is not duplicated.
+     */
+    private static final int CLEANUP_MAX_POOL_SIZE = 2;
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final String persistenceIdPrefix;
+    private final MongoEventSnapshotCleanup cleanup;
+    private final DittoMongoClient mongoClient;
+    private final ActorMaterializer materializer;
+    private final List<Request> pendingRequests;
+    private boolean cleanupRunning;
+
+    @SuppressWarnings("unused")
+    private PersistenceCleanupActor(final String persistenceIdPrefix) {
+        this.persistenceIdPrefix = persistenceIdPrefix;
+        final Config config = getContext().getSystem().settings().config();
+        mongoClient = MongoClientWrapper.getBuilder(DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(config)))
+                .connectionPoolMaxSize(CLEANUP_MAX_POOL_SIZE)
+                .build();
+        cleanup = MongoEventSnapshotCleanup.newInstance(config, mongoClient);
+        materializer = ActorMaterializer.create(getContext());
+        pendingRequests = new ArrayList<>();
+        cleanupRunning = false;
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param persistenceIdPrefix prefix of the persistence IDs of the entities, e.g. {@code thing:}.
+     * @return the Props object.
+     */
+    public static Props props(final String persistenceIdPrefix) {
+        return Props.create(PersistenceCleanupActor.class, persistenceIdPrefix);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        // the client is owned by this actor, close its connection pool
+        mongoClient.close();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(CleanupPersistence.class, this::enqueue)
+                .match(BatchCompleted.class, this::batchCompleted)
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private void enqueue(final CleanupPersistence command) {
+        pendingRequests.add(new Request(command, getSender()));
+        if (!cleanupRunning) {
+            startBatch();
+        }
+    }
+
+    private void startBatch() {
+        final List<Request> batch = new ArrayList<>(pendingRequests.subList(0,
+                Math.min(MAX_BATCH_SIZE, pendingRequests.size())));
+        pendingRequests.subList(0, batch.size()).clear();
+        cleanupRunning = true;
+
+        final List<String> pids = batch.stream()
+                .map(request -> persistenceIdPrefix + request.command.getEntityId())
+                .distinct()
+                .collect(Collectors.toList());
+        final Instant activeSince = batch.stream()
+                .map(request -> getActiveSince(request.command))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .min(Instant::compareTo)
+                .orElse(null);
+
+        Patterns.pipe(cleanup.deleteBeforeLatestSnapshots(pids, activeSince)
+                .runWith(Sink.seq(), materializer)
+                .handle((cleaned, error) -> new BatchCompleted(batch, cleaned, error)), getContext().dispatcher())
+                .to(getSelf());
+    }
+
+    private void batchCompleted(final BatchCompleted batchCompleted) {
+        if (batchCompleted.error != null) {
+            log.error(batchCompleted.error, "Cleanup of <{}> entities failed.", batchCompleted.batch.size());
+        } else {
+            log.info("Cleaned up <{}> of <{}> entities.", batchCompleted.cleaned.size(),
+                    batchCompleted.batch.size());
+        }
+        for (final Request request : batchCompleted.batch) {
+            final CleanupPersistenceResponse response = batchCompleted.error == null
+                    ? CleanupPersistenceResponse.success(request.command.getEntityId(),
+                    request.command.getDittoHeaders())
+                    : CleanupPersistenceResponse.failure(request.command.getEntityId(),
+                    request.command.getDittoHeaders());
+            request.sender.tell(response, getSelf());
+        }
+        cleanupRunning = false;
+        if (!pendingRequests.isEmpty()) {
+            startBatch();
+        }
+    }
+
+    private Optional<Instant> getActiveSince(final CleanupPersistence command) {
+        final String activeSince = command.getDittoHeaders().get(ACTIVE_SINCE_HEADER);
+        if (activeSince == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Instant.parse(activeSince));
+        } catch (final DateTimeParseException e) {
+            log.warning("Ignoring invalid header <{}>: <{}>", ACTIVE_SINCE_HEADER, activeSince);
+            return Optional.empty();
+        }
+    }
+
+    private static final class Request {
+
+        private final CleanupPersistence command;
+        private final ActorRef sender;
+
+        private Request(final CleanupPersistence command, final ActorRef sender) {
+            this.command = command;
+            this.sender = sender;
+        }
+
+    }
+
+    private static final class BatchCompleted {
+
+        private final List<Request> batch;
+        private final List<PidWithSeqNr> cleaned;
+        @Nullable private final Throwable error;
+
+        private BatchCompleted(final List<Request> batch, @Nullable final List<PidWithSeqNr> cleaned,
+                @Nullable final Throwable error) {
+            this.batch = batch;
+            this.cleaned = cleaned != null ? cleaned : new ArrayList<>();
+            this.error = error;
+        }
+
+    }
+
+}
@@ -38,6 +38,22 @@ public interface ActivityCheckConfig {
      */
     Duration getDeletedInterval();
 
+    /**
+     * Returns the maximum number of entities of one type to keep in memory on one cluster node. The least recently
+     * used entities are shut down when it is exceeded.
+     *
+     * @return the maximum number of entities or 0 if the number of entities is not limited.
+     */
+    int getMaxEntities();
+
+    /**
+     * Returns the maximum estimated size in bytes of all entities of one type kept in memory on one cluster node.
+     * The least recently used entities are shut down when it is exceeded.
+     *
+     * @return the maximum estimated size in bytes or 0 if the size is not limited.
+     */
+    long getMaxEntityBytes();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ActivityCheckConfig}.
@@ -52,7 +68,17 @@ public interface ActivityCheckConfig {
         /**
          * The interval of how long to keep a deleted entity in memory.
          */
-        DELETED_INTERVAL("deleted-interval", Duration.ofMinutes(5L));
+        DELETED_INTERVAL("deleted-interval", Duration.ofMinutes(5L)),
+
+        /**
+         * The maximum number of entities in memory per cluster node; 0 for no limit.
+         */
+        MAX_ENTITIES("max-entities", 0),
+
+        /**
+         * The maximum estimated size in bytes of the entities in memory per cluster node; 0 for no limit.
+         */
+        MAX_ENTITY_BYTES("max-entity-bytes", 0L);
 
         private final String path;
         private final Object defaultValue;
@@ -32,10 +32,14 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
 
     private final Duration inactiveInterval;
     private final Duration deletedInterval;
+    private final int maxEntities;
+    private final long maxEntityBytes;
 
     private DefaultActivityCheckConfig(final ScopedConfig scopedConfig) {
         inactiveInterval = scopedConfig.getDuration(ActivityCheckConfigValue.INACTIVE_INTERVAL.getConfigPath());
         deletedInterval = scopedConfig.getDuration(ActivityCheckConfigValue.DELETED_INTERVAL.getConfigPath());
+        maxEntities = scopedConfig.getInt(ActivityCheckConfigValue.MAX_ENTITIES.getConfigPath());
+        maxEntityBytes = scopedConfig.getBytes(ActivityCheckConfigValue.MAX_ENTITY_BYTES.getConfigPath());
     }
 
     /**
@@ -60,6 +64,16 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
         return deletedInterval;
     }
 
+    @Override
+    public int getMaxEntities() {
+        return maxEntities;
+    }
+
+    @Override
+    public long getMaxEntityBytes() {
+        return maxEntityBytes;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -69,13 +83,15 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
             return false;
         }
         final DefaultActivityCheckConfig that = (DefaultActivityCheckConfig) o;
-        return Objects.equals(inactiveInterval, that.inactiveInterval) &&
+        return maxEntities == that.maxEntities &&
+                maxEntityBytes == that.maxEntityBytes &&
+                Objects.equals(inactiveInterval, that.inactiveInterval) &&
                 Objects.equals(deletedInterval, that.deletedInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(inactiveInterval, deletedInterval);
+        return Objects.hash(inactiveInterval, deletedInterval, maxEntities, maxEntityBytes);
     }
 
     @Override
@@ -83,6 +99,8 @@ public final class DefaultActivityCheckConfig implements ActivityCheckConfig {
         return getClass().getSimpleName() + " [" +
                 "inactiveInterval=" + inactiveInterval +
                 ", deletedInterval=" + deletedInterval +
+                ", maxEntities=" + maxEntities +
+                ", maxEntityBytes=" + maxEntityBytes +
                 "]";
     }
 
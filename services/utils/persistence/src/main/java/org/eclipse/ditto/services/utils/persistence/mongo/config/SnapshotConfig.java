@@ -38,6 +38,14 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Indicates whether snapshots are stored as compressed binary payload instead of plain BSON documents.
+     * Snapshots in either format can be read regardless of this setting.
+     *
+     * @return {@code true} if snapshots are stored in binary encoding.
+     */
+    boolean isBinaryEncoding();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +60,12 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * Whether snapshots are stored as compressed binary payload.
+         */
+        BINARY_ENCODING("binary-encoding", false);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.typesafe.config.Config;
+
+import akka.NotUsed;
+import akka.contrib.persistence.mongodb.JournallingFieldNames$;
+import akka.contrib.persistence.mongodb.SnapshottingFieldNames$;
+import akka.stream.javadsl.Source;
+
+/**
+ * Deletes events and snapshots older than the latest snapshot of persistence IDs directly in the event journal and
+ * snapshot store of com.github.scullxbones.akka-persistence-mongo plugin, without starting the persistence actors.
+ * The collections are resolved from the Akka system configuration in the same way as by {@link MongoReadJournal}.
+ * <p>
+ * All events and snapshots before the latest snapshot are deleted. Unlike the persistence actor, this cleanup cannot
+ * record the highest sequence number in the metadata of the plugin. It therefore keeps the journal entry containing
+ * the event of the latest snapshot, so that the persistence actor recovers the same sequence number after the
+ * cleanup.
+ * </p>
+ */
+@AllValuesAreNonnullByDefault
+public final class MongoEventSnapshotCleanup {
+
+    private static final String ID = JournallingFieldNames$.MODULE$.ID();
+    private static final String PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String TO = JournallingFieldNames$.MODULE$.TO();
+    private static final String SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String LAST_WRITE = "lastWrite";
+
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+
+    private final MongoCollection<Document> journal;
+    private final MongoCollection<Document> snaps;
+
+    private MongoEventSnapshotCleanup(final MongoCollection<Document> journal,
+            final MongoCollection<Document> snaps) {
+        this.journal = journal;
+        this.snaps = snaps;
+    }
+
+    /**
+     * Creates a new {@code MongoEventSnapshotCleanup}.
+     *
+     * @param config the Akka system configuration.
+     * @param mongoClient the Mongo client wrapper.
+     * @return the cleanup.
+     */
+    public static MongoEventSnapshotCleanup newInstance(final Config config, final DittoMongoClient mongoClient) {
+        final MongoDatabase db = mongoClient.getDefaultDatabase();
+        return new MongoEventSnapshotCleanup(db.getCollection(MongoReadJournal.getJournalCollectionName(config)),
+                db.getCollection(MongoReadJournal.getSnapsCollectionName(config)));
+    }
+
+    /**
+     * Delete all events and snapshots before the latest snapshot of each persistence ID with bulk writes. The event
+     * at the sequence number of the latest snapshot is kept. Persistence IDs without snapshot and persistence IDs with events written at or after {@code activeSince} are
+     * skipped.
+     *
+     * @param pids the persistence IDs.
+     * @param activeSince persistence IDs with events written since then are considered active; {@code null} to skip
+     * no persistence ID.
+     * @return source of the cleaned up persistence IDs with the sequence numbers of their latest snapshots.
+     */
+    public Source<PidWithSeqNr, NotUsed> deleteBeforeLatestSnapshots(final List<String> pids,
+            @Nullable final Instant activeSince) {
+
+        if (pids.isEmpty()) {
+            return Source.empty();
+        }
+        return findActivePids(pids, activeSince)
+                .flatMapConcat(activePids -> findLatestSnapshots(pids)
+                        .filter(pidWithSeqNr -> !activePids.contains(pidWithSeqNr.getPersistenceId()) &&
+                                pidWithSeqNr.getSequenceNr() > 0L)
+                        .grouped(pids.size()))
+                .flatMapConcat(this::deleteBefore);
+    }
+
+    private Source<Set<String>, NotUsed> findActivePids(final List<String> pids, @Nullable final Instant activeSince) {
+        if (activeSince == null) {
+            return Source.single(new HashSet<>());
+        }
+        final List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(Filters.in(PROCESSOR_ID, pids)),
+                Aggregates.group("$" + PROCESSOR_ID, Accumulators.max(LAST_WRITE, "$" + ID))
+        );
+        return Source.fromPublisher(journal.aggregate(pipeline))
+                .filter(document -> {
+                    final Object lastWrite = document.get(LAST_WRITE);
+                    return lastWrite instanceof ObjectId &&
+                            !((ObjectId) lastWrite).getDate().toInstant().isBefore(activeSince);
+                })
+                .map(document -> document.getString(ID))
+                .<Set<String>>fold(new HashSet<>(), (set, pid) -> {
+                    set.add(pid);
+                    return set;
+                });
+    }
+
+    private Source<PidWithSeqNr, NotUsed> findLatestSnapshots(final List<String> pids) {
+        final List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(Filters.in(PROCESSOR_ID, pids)),
+                Aggregates.group("$" + PROCESSOR_ID, Accumulators.max(SN, "$" + SN))
+        );
+        return Source.fromPublisher(snaps.aggregate(pipeline))
+                .map(document -> new PidWithSeqNr(document.getString(ID), getLong(document, SN)));
+    }
+
+    private Source<PidWithSeqNr, NotUsed> deleteBefore(final List<PidWithSeqNr> latestSnapshots) {
+        // keep the event of the latest snapshot: without metadata, the journal holds the highest sequence number
+        final List<WriteModel<Document>> eventDeletes = latestSnapshots.stream()
+                .map(snapshot -> new DeleteManyModel<Document>(Filters.and(
+                        Filters.eq(PROCESSOR_ID, snapshot.getPersistenceId()),
+                        Filters.lt(TO, snapshot.getSequenceNr()))))
+                .collect(Collectors.toList());
+        final List<WriteModel<Document>> snapshotDeletes = latestSnapshots.stream()
+                .map(snapshot -> new DeleteManyModel<Document>(Filters.and(
+                        Filters.eq(PROCESSOR_ID, snapshot.getPersistenceId()),
+                        Filters.lt(SN, snapshot.getSequenceNr()))))
+                .collect(Collectors.toList());
+
+        return Source.fromPublisher(journal.bulkWrite(eventDeletes, UNORDERED))
+                .flatMapConcat(eventResult -> Source.fromPublisher(snaps.bulkWrite(snapshotDeletes, UNORDERED)))
+                .mapConcat(snapshotResult -> latestSnapshots);
+    }
+
+    private static long getLong(final Document document, final String key) {
+        final Object value = document.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+}
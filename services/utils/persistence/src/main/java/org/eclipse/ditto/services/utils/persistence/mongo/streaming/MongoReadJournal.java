@@ -37,6 +37,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.mongodb.QueryOperators;
+import com.mongodb.client.model.Accumulators;
 import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
@@ -135,13 +136,29 @@ public class MongoReadJournal {
      * @return A {@code MongoReadJournal} object.
      */
     public static MongoReadJournal newInstance(final Config config, final DittoMongoClient mongoClient) {
+        return new MongoReadJournal(getJournalCollectionName(config), getSnapsCollectionName(config), mongoClient);
+    }
+
+    /**
+     * Resolve the name of the event journal collection of the auto-start journal.
+     *
+     * @param config the Akka system configuration.
+     * @return the name of the event journal collection.
+     */
+    static String getJournalCollectionName(final Config config) {
         final String autoStartJournalKey = extractAutoStartConfigKey(config, AKKA_PERSISTENCE_JOURNAL_AUTO_START);
+        return getOverrideCollectionName(config.getConfig(autoStartJournalKey), JOURNAL_COLLECTION_NAME_KEY);
+    }
+
+    /**
+     * Resolve the name of the snapshot collection of the auto-start snapshot store.
+     *
+     * @param config the Akka system configuration.
+     * @return the name of the snapshot collection.
+     */
+    static String getSnapsCollectionName(final Config config) {
         final String autoStartSnapsKey = extractAutoStartConfigKey(config, AKKA_PERSISTENCE_SNAPS_AUTO_START);
-        final String journalCollection =
-                getOverrideCollectionName(config.getConfig(autoStartJournalKey), JOURNAL_COLLECTION_NAME_KEY);
-        final String snapshotCollection =
-                getOverrideCollectionName(config.getConfig(autoStartSnapsKey), SNAPS_COLLECTION_NAME_KEY);
-        return new MongoReadJournal(journalCollection, snapshotCollection, mongoClient);
+        return getOverrideCollectionName(config.getConfig(autoStartSnapsKey), SNAPS_COLLECTION_NAME_KEY);
     }
 
     /**
@@ -203,6 +220,73 @@ public class MongoReadJournal {
                 .mapConcat(pids -> pids);
     }
 
+    /**
+     * Retrieve all unique PIDs in journals together with their highest sequence numbers in journal or snapshot store.
+     * The PIDs are sorted in ascending order.
+     *
+     * @param lowerBoundPid the lower-bound PID; the empty string to retrieve all PIDs.
+     * @param batchSize how many events to read in one query.
+     * @param maxIdleTime how long the stream is allowed to idle without sending any element. Bounds the number of
+     * retries with exponential back-off.
+     * @param mat the actor materializer to run the query streams.
+     * @return source of PIDs above the lower bound with their highest sequence numbers.
+     */
+    public Source<PidWithSeqNr, NotUsed> getJournalPidsWithHighestSeqNrAbove(final String lowerBoundPid,
+            final int batchSize, final Duration maxIdleTime, final ActorMaterializer mat) {
+
+        final int maxRestarts = computeMaxRestarts(maxIdleTime);
+        final MongoDatabase db = mongoClient.getDefaultDatabase();
+        final MongoCollection<Document> journal = db.getCollection(journalCollection);
+        final MongoCollection<Document> snaps = db.getCollection(snapsCollection);
+        return getJournal().withAttributes(Attributes.inputBuffer(1, 1))
+                .flatMapConcat(theJournal ->
+                        listPidsInJournal(theJournal, lowerBoundPid, batchSize, mat, MAX_BACK_OFF_DURATION,
+                                maxRestarts)
+                )
+                .flatMapConcat(pids -> listHighestSeqNrs(journal, snaps, pids, maxRestarts));
+    }
+
+    private Source<PidWithSeqNr, NotUsed> listHighestSeqNrs(final MongoCollection<Document> journal,
+            final MongoCollection<Document> snaps, final List<String> pids, final int maxRestarts) {
+
+        final Source<Document, NotUsed> journalSeqNrs =
+                aggregateWithBackOff(journal, highestSeqNrPipeline(pids, TO), maxRestarts);
+        final Source<Document, NotUsed> snapsSeqNrs =
+                aggregateWithBackOff(snaps, highestSeqNrPipeline(pids, SN), maxRestarts);
+
+        return journalSeqNrs.concat(snapsSeqNrs)
+                .<Map<String, Long>>fold(new HashMap<>(), (map, document) -> {
+                    map.merge(document.getString(ID), getLong(document, SN), Math::max);
+                    return map;
+                })
+                .mapConcat(map -> {
+                    final List<PidWithSeqNr> result = new ArrayList<>(pids.size());
+                    for (final String pid : pids) {
+                        result.add(new PidWithSeqNr(pid, map.getOrDefault(pid, 0L)));
+                    }
+                    return result;
+                });
+    }
+
+    private static List<Bson> highestSeqNrPipeline(final List<String> pids, final String seqNrField) {
+        return Arrays.asList(
+                Aggregates.match(Filters.in(PROCESSOR_ID, pids)),
+                Aggregates.group("$" + PROCESSOR_ID, Accumulators.max(SN, "$" + seqNrField))
+        );
+    }
+
+    private static Source<Document, NotUsed> aggregateWithBackOff(final MongoCollection<Document> collection,
+            final List<Bson> pipeline, final int maxRestarts) {
+
+        return RestartSource.onFailuresWithBackoff(Duration.ofSeconds(1L), MAX_BACK_OFF_DURATION, 0.1, maxRestarts,
+                () -> Source.fromPublisher(collection.aggregate(pipeline)));
+    }
+
+    private static long getLong(final Document document, final String key) {
+        final Object value = document.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
     private Source<List<String>, NotUsed> listPidsInJournal(final MongoCollection<Document> journal,
             final String lowerBound, final int batchSize, final ActorMaterializer mat, final Duration maxBackOff,
             final int maxRestarts) {
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.junit.Test;
+
+/**
+ * Tests {@link BinarySnapshotFormat}.
+ */
+public final class BinarySnapshotFormatTest {
+
+    private static final JsonObject JSON = JsonFactory.readFrom("{\"thingId\":\"x:y\",\"_revision\":5," +
+            "\"attributes\":{\"$dollar\":\"value\",\"dotted.key\":[1,2.5,true,null]}}").asObject();
+
+    @Test
+    public void roundTripPreservesKeysWhichBsonWouldEscape() {
+        final BsonDocument snapshot = BinarySnapshotFormat.encode(JSON);
+
+        assertThat(BinarySnapshotFormat.isBinary(snapshot)).isTrue();
+        assertThat(snapshot.getInt32(BinarySnapshotFormat.FORMAT_FIELD).getValue())
+                .isEqualTo(BinarySnapshotFormat.DEFLATED_CBOR);
+        assertThat(BinarySnapshotFormat.decode(snapshot)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void plainBsonSnapshotIsNotBinary() {
+        assertThat(BinarySnapshotFormat.isBinary(DittoBsonJson.getInstance().parse(JSON))).isFalse();
+    }
+
+    @Test
+    public void rejectUnknownFormat() {
+        final BsonDocument snapshot = BinarySnapshotFormat.encode(JSON)
+                .append(BinarySnapshotFormat.FORMAT_FIELD, new BsonInt32(99));
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> BinarySnapshotFormat.decode(snapshot));
+    }
+
+    @Test
+    public void rejectCorruptPayload() {
+        final BsonDocument snapshot = BinarySnapshotFormat.encode(JSON)
+                .append(BinarySnapshotFormat.PAYLOAD_FIELD, new BsonBinary(new byte[]{1, 2, 3}));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> BinarySnapshotFormat.decode(snapshot));
+    }
+
+    @Test
+    public void rejectNegativeLength() {
+        final BsonDocument snapshot = BinarySnapshotFormat.encode(JSON)
+                .append(BinarySnapshotFormat.LENGTH_FIELD, new BsonInt32(-1));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> BinarySnapshotFormat.decode(snapshot))
+                .withMessageContaining("<-1>");
+    }
+
+    @Test
+    public void rejectLengthAboveMaximum() {
+        final BsonDocument snapshot = BinarySnapshotFormat.encode(JSON)
+                .append(BinarySnapshotFormat.LENGTH_FIELD, new BsonInt32(Integer.MAX_VALUE));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> BinarySnapshotFormat.decode(snapshot))
+                .withMessageContaining("is invalid");
+    }
+
+    @Test
+    public void rejectLengthWhichCannotResultFromPayload() {
+        final BsonDocument snapshot = BinarySnapshotFormat.encode(JSON)
+                .append(BinarySnapshotFormat.LENGTH_FIELD, new BsonInt32(BinarySnapshotFormat.MAX_LENGTH));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> BinarySnapshotFormat.decode(snapshot))
+                .withMessageContaining("is invalid");
+    }
+
+}
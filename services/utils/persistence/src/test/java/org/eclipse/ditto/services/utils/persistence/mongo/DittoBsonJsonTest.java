@@ -90,6 +90,21 @@ public final class DittoBsonJsonTest {
         JSONAssert.assertEquals(JSON_WITH_DOLLAR_INKEYS, serialized.toString(), true);
     }
 
+    @Test
+    public void serializeValueRevisesKeysOfNestedDocuments() throws JSONException {
+        final BsonDocument parse = BsonDocument.parse(JSON_NESTED_WITH_UNICODE_DOTS_INKEYS);
+        final JsonValue serialized = underTest.serializeValue(parse.get("foo"));
+
+        JSONAssert.assertEquals("{\"org.eclipse.ditto\": 42}", serialized.toString(), true);
+    }
+
+    @Test
+    public void serializePrimitiveValue() {
+        final BsonDocument parse = BsonDocument.parse(JSON_WITH_DOTS_INKEYS);
+
+        assertThat(underTest.serializeValue(parse.get("org.eclipse.ditto"))).isEqualTo(JsonValue.of(42));
+    }
+
     @Test
     public void serializeJsonNestedWithotsInKeys() throws JSONException {
         final BsonDocument parse = BsonDocument.parse(JSON_NESTED_WITH_DOTS_INKEYS);
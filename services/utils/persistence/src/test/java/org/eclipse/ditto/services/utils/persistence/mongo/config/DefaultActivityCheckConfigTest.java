@@ -66,6 +66,12 @@ public final class DefaultActivityCheckConfigTest {
         softly.assertThat(underTest.getDeletedInterval())
                 .as(ActivityCheckConfig.ActivityCheckConfigValue.DELETED_INTERVAL.getConfigPath())
                 .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.DELETED_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getMaxEntities())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.MAX_ENTITIES.getConfigPath())
+                .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.MAX_ENTITIES.getDefaultValue());
+        softly.assertThat(underTest.getMaxEntityBytes())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.MAX_ENTITY_BYTES.getConfigPath())
+                .isEqualTo(ActivityCheckConfig.ActivityCheckConfigValue.MAX_ENTITY_BYTES.getDefaultValue());
     }
 
     @Test
@@ -78,5 +84,11 @@ public final class DefaultActivityCheckConfigTest {
         softly.assertThat(underTest.getDeletedInterval())
                 .as(ActivityCheckConfig.ActivityCheckConfigValue.DELETED_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofDays(100L));
+        softly.assertThat(underTest.getMaxEntities())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.MAX_ENTITIES.getConfigPath())
+                .isEqualTo(50000);
+        softly.assertThat(underTest.getMaxEntityBytes())
+                .as(ActivityCheckConfig.ActivityCheckConfigValue.MAX_ENTITY_BYTES.getConfigPath())
+                .isEqualTo(512L * 1024L * 1024L);
     }
 }
@@ -65,6 +65,9 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.isBinaryEncoding())
+                .as(SnapshotConfig.SnapshotConfigValue.BINARY_ENCODING.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.BINARY_ENCODING.getDefaultValue());
     }
 
     @Test
@@ -77,5 +80,8 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.isBinaryEncoding())
+                .as(SnapshotConfig.SnapshotConfigValue.BINARY_ENCODING.getConfigPath())
+                .isTrue();
     }
 }
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.persistence.AbstractPersistentActor;
+import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SnapshotOffer;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link MongoEventSnapshotCleanup}.
+ */
+public final class MongoEventSnapshotCleanupIT {
+
+    private static final String MONGO_HOST = "localhost";
+    private static final String MONGO_DB = "mongoEventSnapshotCleanupIT";
+
+    private static MongoDbResource mongoResource;
+    private static DittoMongoClient mongoClient;
+
+    private ActorSystem actorSystem;
+    private ActorMaterializer materializer;
+    private MongoEventSnapshotCleanup underTest;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoResource = new MongoDbResource(MONGO_HOST);
+        mongoResource.start();
+        mongoClient = MongoClientWrapper.getBuilder()
+                .hostnameAndPort(mongoResource.getBindIp(), mongoResource.getPort())
+                .defaultDatabaseName(MONGO_DB)
+                .connectionPoolMaxSize(100)
+                .connectionPoolMaxWaitQueueSize(500_000)
+                .connectionPoolMaxWaitTime(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        try {
+            if (null != mongoClient) {
+                mongoClient.close();
+            }
+            if (null != mongoResource) {
+                mongoResource.stop();
+            }
+        } catch (final IllegalStateException e) {
+            System.err.println("IllegalStateException during shutdown of MongoDB: " + e.getMessage());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        // set persistence plugin Mongo URI for the persistence actor of the recovery test
+        final String mongoUri = String.format("mongodb://%s:%d/%s", MONGO_HOST, mongoResource.getPort(), MONGO_DB);
+        final Config config = ConfigFactory.load("mongo-read-journal-test")
+                .withValue("akka.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(mongoUri));
+        actorSystem = ActorSystem.create("AkkaTestSystem", config);
+        materializer = ActorMaterializer.create(actorSystem);
+        underTest = MongoEventSnapshotCleanup.newInstance(config, mongoClient);
+    }
+
+    @After
+    public void after() {
+        if (null != mongoClient) {
+            Source.fromPublisher(mongoClient.getDefaultDatabase().drop())
+                    .runWith(Sink.ignore(), materializer)
+                    .toCompletableFuture()
+                    .join();
+        }
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void deleteEventsAndSnapshotsBeforeLatestSnapshot() {
+        final Instant anHourAgo = Instant.now().minusSeconds(3600L);
+        insert("test_journal",
+                event("pid1", 1L, anHourAgo),
+                event("pid1", 2L, anHourAgo),
+                event("pid1", 3L, anHourAgo),
+                event("pid2", 1L, anHourAgo));
+        insert("test_snaps",
+                new Document().append("pid", "pid1").append("sn", 1L),
+                new Document().append("pid", "pid1").append("sn", 2L));
+
+        final List<PidWithSeqNr> cleaned = underTest.deleteBeforeLatestSnapshots(Arrays.asList("pid1", "pid2"), null)
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(cleaned).containsExactly(new PidWithSeqNr("pid1", 2L));
+        assertThat(find("test_journal", "to")).containsExactlyInAnyOrder(2L, 3L, 1L);
+        assertThat(find("test_snaps", "sn")).containsExactly(2L);
+    }
+
+    @Test
+    public void skipActivePersistenceIds() {
+        final Instant now = Instant.now();
+        insert("test_journal",
+                event("pid1", 1L, now.minusSeconds(3600L)),
+                event("pid1", 2L, now));
+        insert("test_snaps",
+                new Document().append("pid", "pid1").append("sn", 1L),
+                new Document().append("pid", "pid1").append("sn", 2L));
+
+        final List<PidWithSeqNr> cleaned =
+                underTest.deleteBeforeLatestSnapshots(Arrays.asList("pid1"), now.minusSeconds(60L))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(cleaned).isEmpty();
+        assertThat(find("test_journal", "to")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(find("test_snaps", "sn")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    public void persistenceActorRecoversSequenceNumberAfterCleanup() {
+        new TestKit(actorSystem) {{
+            final ActorRef counter = actorSystem.actorOf(CounterActor.props("counter1"));
+            incrementAndExpect(this, counter, 1L, 2L, 3L);
+            counter.tell(CounterActor.SNAPSHOT, getRef());
+            expectMsg(3L);
+            stopAndExpectTerminated(this, counter);
+
+            assertThat(cleanUp("counter1")).containsExactly(new PidWithSeqNr("counter1", 3L));
+            assertThat(find("test_journal", "to")).containsExactly(3L);
+
+            final ActorRef recoveredCounter = actorSystem.actorOf(CounterActor.props("counter1"));
+            recoveredCounter.tell(CounterActor.GET, getRef());
+            expectMsg(Arrays.asList(3L, 3L));
+            incrementAndExpect(this, recoveredCounter, 4L);
+        }};
+    }
+
+    @Test
+    public void persistenceActorRecoversLaterEventsAfterCleanup() {
+        new TestKit(actorSystem) {{
+            final ActorRef counter = actorSystem.actorOf(CounterActor.props("counter2"));
+            incrementAndExpect(this, counter, 1L, 2L, 3L);
+            counter.tell(CounterActor.SNAPSHOT, getRef());
+            expectMsg(3L);
+            incrementAndExpect(this, counter, 4L, 5L);
+            stopAndExpectTerminated(this, counter);
+
+            assertThat(cleanUp("counter2")).containsExactly(new PidWithSeqNr("counter2", 3L));
+            assertThat(find("test_journal", "to")).containsExactlyInAnyOrder(3L, 4L, 5L);
+
+            final ActorRef recoveredCounter = actorSystem.actorOf(CounterActor.props("counter2"));
+            recoveredCounter.tell(CounterActor.GET, getRef());
+            expectMsg(Arrays.asList(5L, 5L));
+            incrementAndExpect(this, recoveredCounter, 6L);
+        }};
+    }
+
+    private List<PidWithSeqNr> cleanUp(final String pid) {
+        return underTest.deleteBeforeLatestSnapshots(Collections.singletonList(pid), null)
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static void incrementAndExpect(final TestKit testKit, final ActorRef counter,
+            final Long... expectedCounts) {
+
+        for (final Long expectedCount : expectedCounts) {
+            counter.tell(CounterActor.INCREMENT, testKit.getRef());
+            testKit.expectMsg(expectedCount);
+        }
+    }
+
+    private static void stopAndExpectTerminated(final TestKit testKit, final ActorRef actor) {
+        testKit.watch(actor);
+        testKit.getSystem().stop(actor);
+        testKit.expectTerminated(actor);
+    }
+
+    private static Document event(final String pid, final long seqNr, final Instant written) {
+        return new Document().append("_id", new ObjectId(Date.from(written)))
+                .append("pid", pid)
+                .append("from", seqNr)
+                .append("to", seqNr);
+    }
+
+    private List<Long> find(final String collection, final String seqNrField) {
+        return Source.fromPublisher(mongoClient.getCollection(collection).find())
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join()
+                .stream()
+                .map(document -> document.getLong(seqNrField))
+                .collect(Collectors.toList());
+    }
+
+    private void insert(final String collection, final Document... documents) {
+        Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
+                .runWith(Sink.ignore(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
+    /**
+     * Persistence actor counting its events to check recovery after cleanup.
+     */
+    private static final class CounterActor extends AbstractPersistentActor {
+
+        private static final String INCREMENT = "increment";
+        private static final String SNAPSHOT = "snapshot";
+        private static final String GET = "get";
+
+        private final String persistenceId;
+        private long count;
+        private ActorRef snapshotRequester;
+
+        @SuppressWarnings("unused")
+        private CounterActor(final String persistenceId) {
+            this.persistenceId = persistenceId;
+        }
+
+        private static Props props(final String persistenceId) {
+            return Props.create(CounterActor.class, persistenceId);
+        }
+
+        @Override
+        public String persistenceId() {
+            return persistenceId;
+        }
+
+        @Override
+        public String journalPluginId() {
+            return "akka-contrib-mongodb-persistence-test-journal";
+        }
+
+        @Override
+        public String snapshotPluginId() {
+            return "akka-contrib-mongodb-persistence-test-snapshots";
+        }
+
+        @Override
+        public Receive createReceiveRecover() {
+            return receiveBuilder()
+                    .match(SnapshotOffer.class, offer -> count = (Long) offer.snapshot())
+                    .matchEquals(INCREMENT, event -> ++count)
+                    .build();
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchEquals(INCREMENT, command -> persist(INCREMENT, event -> {
+                        ++count;
+                        getSender().tell(count, getSelf());
+                    }))
+                    .matchEquals(SNAPSHOT, command -> {
+                        snapshotRequester = getSender();
+                        saveSnapshot(count);
+                    })
+                    .match(SaveSnapshotSuccess.class, success ->
+                            snapshotRequester.tell(success.metadata().sequenceNr(), getSelf()))
+                    .matchEquals(GET, command -> getSender().tell(Arrays.asList(count, lastSequenceNr()), getSelf()))
+                    .build();
+        }
+
+    }
+
+}
@@ -24,7 +24,9 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.heavyhitters.HeavyHitters;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
@@ -68,6 +70,7 @@ public abstract class AbstractShardedPersistenceActor<
     protected final DiagnosticLoggingAdapter log;
 
     private final SnapshotAdapter<S> snapshotAdapter;
+    private final HeavyHitters heavyHitters;
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private long lastSnapshotRevision;
@@ -86,6 +89,9 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    @Nullable private EntityMemoryBudget.Budget memoryBudget;
+    @Nullable private EntityMemoryBudget.Entry memoryBudgetEntry;
+
     /**
      * Instantiate the actor.
      *
@@ -96,6 +102,7 @@ public abstract class AbstractShardedPersistenceActor<
         this.entityId = entityId;
         this.snapshotAdapter = snapshotAdapter;
         log = LogUtil.obtain(this);
+        heavyHitters = HeavyHitters.get(getContext().getSystem());
         entity = null;
 
         lastSnapshotRevision = 0L;
@@ -189,6 +196,17 @@ public abstract class AbstractShardedPersistenceActor<
         becomeCreatedOrDeletedHandler();
     }
 
+    /**
+     * Estimate the size of the entity in memory. Only called if the number of bytes of entities in memory is limited
+     * by the activity check config.
+     *
+     * @param entity the entity.
+     * @return the estimated size in bytes; the length of the JSON representation of the entity by default.
+     */
+    protected long estimateEntityBytes(final S entity) {
+        return entity instanceof Jsonifiable ? ((Jsonifiable<?>) entity).toJsonString().length() : 0L;
+    }
+
     /**
      * Apply the created or deleted behavior according to the current state of the entity.
      */
@@ -211,6 +229,9 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        if (memoryBudget != null && memoryBudgetEntry != null) {
+            memoryBudget.unregister(memoryBudgetEntry);
+        }
         super.postStop();
     }
 
@@ -238,7 +259,10 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, recoveryCompleted -> {
+                    registerInMemoryBudget();
+                    recoveryCompleted(recoveryCompleted);
+                })
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
                 .build());
     }
@@ -252,6 +276,7 @@ public abstract class AbstractShardedPersistenceActor<
         final Receive receive = handleCleanups.orElse(ReceiveBuilder.create()
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
+                .matchEquals(EntityMemoryBudget.Control.EVICT, this::evict)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
@@ -332,6 +357,35 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    /**
+     * Shut down because this entity is the least recently used one beyond the memory budget of this cluster node.
+     * The time-based activity check remains the upper bound of how long entities stay in memory.
+     *
+     * @param evict the eviction message.
+     */
+    private void evict(final EntityMemoryBudget.Control evict) {
+        memoryBudgetEntry = null;
+        if (entityExistsAsDeleted() && lastSnapshotRevision < getRevisionNumber()) {
+            takeSnapshot("the entity is deleted and evicted from memory");
+        }
+        shutdown("Entity <{}> exceeded the memory budget. Shutting Actor down ...", entityId);
+    }
+
+    private void registerInMemoryBudget() {
+        final EntityMemoryBudget.Budget budget =
+                EntityMemoryBudget.get(getContext().getSystem()).getBudget(getClass(), getActivityCheckConfig());
+        if (budget.isEnabled()) {
+            memoryBudget = budget;
+            memoryBudgetEntry = budget.register(getSelf(), persistenceId(), estimateMemoryBudgetBytes());
+        }
+    }
+
+    private long estimateMemoryBudgetBytes() {
+        return memoryBudget != null && memoryBudget.isSizeLimited() && entity != null
+                ? estimateEntityBytes(entity)
+                : 0L;
+    }
+
     /**
      * Request parent to shutdown this actor gracefully in a thread-safe manner.
      */
@@ -343,6 +397,7 @@ public abstract class AbstractShardedPersistenceActor<
         final CommandStrategy<? extends C, S, K, Result<E>> deleteStrategy = getDeletedStrategy();
         return handleCleanups.orElse(handleByStrategyReceiveBuilder(deleteStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
+                .matchEquals(EntityMemoryBudget.Control.EVICT, this::evict)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
@@ -387,6 +442,10 @@ public abstract class AbstractShardedPersistenceActor<
             final CommandStrategy<T, S, K, Result<E>> strategy) {
         log.debug("Handling by strategy: <{}>", command);
         accessCounter++;
+        if (memoryBudgetEntry != null) {
+            memoryBudgetEntry.touch();
+        }
+        heavyHitters.record(HeavyHitters.Dimension.COMMANDS, command.getResourceType(), entityId, 1L);
         final Result<E> result;
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
@@ -433,6 +492,7 @@ public abstract class AbstractShardedPersistenceActor<
         persist(event, persistedEvent -> {
             LogUtil.enhanceLogWithCorrelationId(log, event.getDittoHeaders().getCorrelationId());
             log.info("Successfully persisted Event <{}>.", event.getType());
+            heavyHitters.record(HeavyHitters.Dimension.EVENTS, event.getResourceType(), entityId, 1L);
 
             /* the event has to be applied before creating the snapshot, otherwise a snapshot with new
                sequence no (e.g. 2), but old entity revision no (e.g. 1) will be created -> can lead to serious
@@ -457,6 +517,9 @@ public abstract class AbstractShardedPersistenceActor<
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
+            if (memoryBudget != null && memoryBudgetEntry != null && memoryBudget.isSizeLimited()) {
+                memoryBudget.updateBytes(memoryBudgetEntry, estimateMemoryBudgetBytes());
+            }
         } else if (lastSnapshotRevision == revision) {
             log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", entity, revision,
                     reason);
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Actor system extension limiting the number and estimated size of persistence actors kept in memory on a cluster
+ * node. Each persistence actor class has its own budget configured by its {@link ActivityCheckConfig}.
+ * <p>
+ * Actors record the time of their last access without locking. When a budget is exceeded, the least recently used
+ * actors are asked to passivate until the budget is used to {@value #LOW_WATERMARK_PERCENT} percent, so that the
+ * sorting of all actors by last access is amortized over many registrations.
+ * </p>
+ */
+@ThreadSafe
+final class EntityMemoryBudget implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private static final int LOW_WATERMARK_PERCENT = 90;
+    private static final int MAX_REMEMBERED_EVICTIONS = 10_000;
+
+    private final Map<Class<?>, Budget> budgets;
+
+    private EntityMemoryBudget() {
+        budgets = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the entity memory budget extension of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the extension.
+     */
+    static EntityMemoryBudget get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Returns the budget shared by all actors of a class. It is created with the activity check config of the first
+     * actor asking for it.
+     *
+     * @param actorClass the class of the persistence actor.
+     * @param activityCheckConfig the activity check config of the persistence actor.
+     * @return the budget.
+     */
+    Budget getBudget(final Class<?> actorClass, final ActivityCheckConfig activityCheckConfig) {
+        return budgets.computeIfAbsent(actorClass, c -> new Budget(c.getSimpleName(),
+                activityCheckConfig.getMaxEntities(), activityCheckConfig.getMaxEntityBytes()));
+    }
+
+    /**
+     * Message to a persistence actor asking it to passivate because the budget is exceeded.
+     */
+    enum Control {
+        EVICT
+    }
+
+    /**
+     * Budget of one persistence actor class.
+     */
+    @ThreadSafe
+    static final class Budget {
+
+        private final long maxEntities;
+        private final long maxBytes;
+        private final Set<Entry> entries;
+        private final AtomicInteger entityCount;
+        private final AtomicLong totalBytes;
+        private final AtomicBoolean evicting;
+        private final Map<String, Boolean> recentlyEvicted;
+        private final Counter evictionCounter;
+        private final Counter recoveryCounter;
+
+        Budget(final String type, final int maxEntities, final long maxBytes) {
+            this.maxEntities = maxEntities;
+            this.maxBytes = maxBytes;
+            entries = ConcurrentHashMap.newKeySet();
+            entityCount = new AtomicInteger();
+            totalBytes = new AtomicLong();
+            evicting = new AtomicBoolean();
+            recentlyEvicted = Collections.synchronizedMap(new LinkedHashMap<String, Boolean>() {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+                    return size() > MAX_REMEMBERED_EVICTIONS;
+                }
+            });
+            evictionCounter = DittoMetrics.counter("persistence_budget_evictions").tag("type", type);
+            recoveryCounter = DittoMetrics.counter("persistence_budget_recoveries").tag("type", type);
+        }
+
+        /**
+         * @return whether the number or the size of entities is limited.
+         */
+        boolean isEnabled() {
+            return maxEntities > 0 || maxBytes > 0;
+        }
+
+        /**
+         * @return whether the size of entities is limited, so that sizes have to be estimated.
+         */
+        boolean isSizeLimited() {
+            return maxBytes > 0;
+        }
+
+        /**
+         * Register a recovered persistence actor. Counts a recovery caused by the budget if the entity was evicted
+         * recently, and evicts least recently used actors if the budget is exceeded.
+         *
+         * @param actor the persistence actor.
+         * @param persistenceId the persistence ID of the actor.
+         * @param bytes the estimated size of the entity.
+         * @return the entry to record accesses and size changes with.
+         */
+        Entry register(final ActorRef actor, final String persistenceId, final long bytes) {
+            final Entry entry = new Entry(actor, persistenceId, bytes);
+            entries.add(entry);
+            entityCount.incrementAndGet();
+            totalBytes.addAndGet(bytes);
+            if (recentlyEvicted.remove(persistenceId) != null) {
+                recoveryCounter.increment();
+            }
+            evictIfExceeded();
+            return entry;
+        }
+
+        /**
+         * Update the estimated size of an entity.
+         *
+         * @param entry the entry of the entity.
+         * @param bytes the new estimated size.
+         */
+        void updateBytes(final Entry entry, final long bytes) {
+            synchronized (entry) {
+                if (entries.contains(entry)) {
+                    totalBytes.addAndGet(bytes - entry.bytes);
+                }
+                entry.bytes = bytes;
+            }
+            evictIfExceeded();
+        }
+
+        /**
+         * Remove the entry of a stopped persistence actor.
+         *
+         * @param entry the entry.
+         */
+        void unregister(final Entry entry) {
+            remove(entry);
+        }
+
+        int getEntityCount() {
+            return entityCount.get();
+        }
+
+        long getTotalBytes() {
+            return totalBytes.get();
+        }
+
+        private boolean remove(final Entry entry) {
+            synchronized (entry) {
+                if (entries.remove(entry)) {
+                    entityCount.decrementAndGet();
+                    totalBytes.addAndGet(-entry.bytes);
+                    return true;
+                }
+                return false;
+            }
+        }
+
+        private boolean isExceeded(final int percent) {
+            return maxEntities > 0 && entityCount.get() * 100L > maxEntities * percent ||
+                    maxBytes > 0 && totalBytes.get() * 100L > maxBytes * percent;
+        }
+
+        private void evictIfExceeded() {
+            if (isExceeded(100) && evicting.compareAndSet(false, true)) {
+                try {
+                    // take the access times before sorting, since they change concurrently
+                    final List<Map.Entry<Long, Entry>> candidates = new ArrayList<>(entries.size());
+                    entries.forEach(entry -> candidates.add(new SimpleImmutableEntry<>(entry.lastAccess, entry)));
+                    candidates.sort(Map.Entry.comparingByKey());
+                    for (final Map.Entry<Long, Entry> lastAccessAndCandidate : candidates) {
+                        if (!isExceeded(LOW_WATERMARK_PERCENT)) {
+                            break;
+                        }
+                        final Entry candidate = lastAccessAndCandidate.getValue();
+                        if (remove(candidate)) {
+                            recentlyEvicted.put(candidate.persistenceId, Boolean.TRUE);
+                            evictionCounter.increment();
+                            candidate.actor.tell(Control.EVICT, ActorRef.noSender());
+                        }
+                    }
+                } finally {
+                    evicting.set(false);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Budget entry of one persistence actor.
+     */
+    static final class Entry {
+
+        private final ActorRef actor;
+        private final String persistenceId;
+        private volatile long lastAccess;
+        private long bytes;
+
+        private Entry(final ActorRef actor, final String persistenceId, final long bytes) {
+            this.actor = actor;
+            this.persistenceId = persistenceId;
+            this.bytes = bytes;
+            lastAccess = System.nanoTime();
+        }
+
+        /**
+         * Record an access of the entity.
+         */
+        void touch() {
+            lastAccess = System.nanoTime();
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<EntityMemoryBudget> {
+
+        @Override
+        public EntityMemoryBudget createExtension(final ExtendedActorSystem system) {
+            return new EntityMemoryBudget();
+        }
+
+    }
+
+}
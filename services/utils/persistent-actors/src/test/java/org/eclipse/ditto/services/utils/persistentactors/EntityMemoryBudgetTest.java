@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link EntityMemoryBudget}.
+ */
+public final class EntityMemoryBudgetTest {
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create("EntityMemoryBudgetTest");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedEntitiesWhenNumberIsExceeded() {
+        final EntityMemoryBudget.Budget underTest = new EntityMemoryBudget.Budget("count", 3, 0L);
+        final TestKit first = new TestKit(actorSystem);
+        final TestKit second = new TestKit(actorSystem);
+        final TestKit third = new TestKit(actorSystem);
+        final TestKit fourth = new TestKit(actorSystem);
+
+        final EntityMemoryBudget.Entry firstEntry = underTest.register(first.getRef(), "x:1", 0L);
+        underTest.register(second.getRef(), "x:2", 0L);
+        underTest.register(third.getRef(), "x:3", 0L);
+        firstEntry.touch();
+        underTest.register(fourth.getRef(), "x:4", 0L);
+
+        // evicted down to 90% of the budget: the 2 least recently used entities
+        second.expectMsg(EntityMemoryBudget.Control.EVICT);
+        third.expectMsg(EntityMemoryBudget.Control.EVICT);
+        first.expectNoMessage(Duration.ofMillis(200L));
+        fourth.expectNoMessage(Duration.ZERO);
+        assertThat(underTest.getEntityCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void evictWhenEstimatedSizeIsExceeded() {
+        final EntityMemoryBudget.Budget underTest = new EntityMemoryBudget.Budget("bytes", 0, 1000L);
+        final TestKit small = new TestKit(actorSystem);
+        final TestKit large = new TestKit(actorSystem);
+
+        underTest.register(small.getRef(), "x:small", 200L);
+        final EntityMemoryBudget.Entry largeEntry = underTest.register(large.getRef(), "x:large", 500L);
+        small.expectNoMessage(Duration.ofMillis(200L));
+
+        underTest.updateBytes(largeEntry, 850L);
+
+        small.expectMsg(EntityMemoryBudget.Control.EVICT);
+        assertThat(underTest.getTotalBytes()).isEqualTo(850L);
+    }
+
+    @Test
+    public void unregisterReleasesBudget() {
+        final EntityMemoryBudget.Budget underTest = new EntityMemoryBudget.Budget("unregister", 1, 0L);
+        final TestKit first = new TestKit(actorSystem);
+        final TestKit second = new TestKit(actorSystem);
+
+        final EntityMemoryBudget.Entry firstEntry = underTest.register(first.getRef(), "x:1", 0L);
+        underTest.unregister(firstEntry);
+        underTest.register(second.getRef(), "x:2", 0L);
+
+        first.expectNoMessage(Duration.ofMillis(200L));
+        second.expectNoMessage(Duration.ZERO);
+        assertThat(underTest.getEntityCount()).isEqualTo(1);
+    }
+
+}
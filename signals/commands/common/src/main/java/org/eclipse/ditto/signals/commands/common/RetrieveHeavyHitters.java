@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.common;
+
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+
+/**
+ * Command to retrieve the entities receiving the most commands, events and bytes on a service instance.
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = RetrieveHeavyHitters.TYPE_PREFIX, name = RetrieveHeavyHitters.NAME)
+public final class RetrieveHeavyHitters extends CommonCommand<RetrieveHeavyHitters> {
+
+    /**
+     * The name of the command.
+     */
+    static final String NAME = "retrieveHeavyHitters";
+
+    /**
+     * The type of the command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    private RetrieveHeavyHitters(final DittoHeaders dittoHeaders) {
+        super(TYPE, Category.QUERY, dittoHeaders);
+    }
+
+    /**
+     * Create a RetrieveHeavyHitters object with the given headers.
+     *
+     * @param dittoHeaders the Ditto headers.
+     * @return the RetrieveHeavyHitters object.
+     */
+    public static RetrieveHeavyHitters of(final DittoHeaders dittoHeaders) {
+        return new RetrieveHeavyHitters(dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+        // no payload
+    }
+
+    @Override
+    public RetrieveHeavyHitters setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new RetrieveHeavyHitters(dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RetrieveHeavyHitters} from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    @SuppressWarnings("unused")
+    public static RetrieveHeavyHitters fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new RetrieveHeavyHitters(dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        return super.equals(that) && that instanceof RetrieveHeavyHitters;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + "]";
+    }
+}
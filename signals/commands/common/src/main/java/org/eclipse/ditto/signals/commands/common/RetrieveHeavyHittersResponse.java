@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.common;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+
+/**
+ * Response to {@code RetrieveHeavyHitters} containing the heavy hitters of a service instance.
+ */
+@JsonParsableCommandResponse(type = RetrieveHeavyHittersResponse.TYPE)
+public final class RetrieveHeavyHittersResponse extends CommonCommandResponse<RetrieveHeavyHittersResponse> {
+
+    /**
+     * Type of this command response.
+     */
+    public static final String TYPE = TYPE_PREFIX + RetrieveHeavyHitters.NAME;
+
+    private static final JsonFieldDefinition<JsonValue> JSON_HEAVY_HITTERS =
+            JsonFactory.newJsonValueFieldDefinition("heavyHitters");
+
+    private final JsonValue heavyHitters;
+
+    private RetrieveHeavyHittersResponse(final JsonValue heavyHitters, final DittoHeaders dittoHeaders) {
+        super(TYPE, HttpStatusCode.OK, dittoHeaders);
+        this.heavyHitters = heavyHitters;
+    }
+
+    /**
+     * Create a {@code RetrieveHeavyHittersResponse}.
+     *
+     * @param heavyHitters heavy hitters per dimension.
+     * @param headers Ditto headers.
+     * @return the {@code RetrieveHeavyHittersResponse}.
+     */
+    public static RetrieveHeavyHittersResponse of(final JsonValue heavyHitters, final DittoHeaders headers) {
+        return new RetrieveHeavyHittersResponse(heavyHitters, headers);
+    }
+
+    /**
+     * Creates a new {@code RetrieveHeavyHittersResponse} from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the JSON object does not contain the field
+     * "heavyHitters".
+     */
+    public static RetrieveHeavyHittersResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        return new RetrieveHeavyHittersResponse(jsonObject.getValueOrThrow(JSON_HEAVY_HITTERS), dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        jsonObjectBuilder.set(JSON_HEAVY_HITTERS, heavyHitters);
+    }
+
+    @Override
+    public RetrieveHeavyHittersResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new RetrieveHeavyHittersResponse(heavyHitters, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        if (super.equals(that) && that instanceof RetrieveHeavyHittersResponse) {
+            return Objects.equals(heavyHitters, ((RetrieveHeavyHittersResponse) that).heavyHitters);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), heavyHitters);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() +
+                ", heavyHitters=" + heavyHitters +
+                "]";
+    }
+}
@@ -232,7 +232,7 @@ public final class RetrieveThingResponse extends AbstractCommandResponse<Retriev
      * @return the retrieved Thing.
      */
     public Thing getThing() {
-        return ThingsModelFactory.newThing(lazyLoadThingJsonObject());
+        return ThingsModelFactory.newThingBackedByJson(lazyLoadThingJsonObject());
     }
 
     @Override
@@ -84,7 +84,8 @@ public final class RetrieveThingResponseTest {
                 RetrieveThingResponse.fromJson(KNOWN_JSON.toString(), TestConstants.EMPTY_DITTO_HEADERS);
 
         assertThat(underTest).isNotNull();
-        assertThat(underTest.getThing().toJson()).isEqualTo(TestConstants.Thing.THING.toJson());
+        // the Thing returns the JSON object it was deserialized from, which carries no field definitions
+        assertThat(underTest.getThing().toJson()).isEqualToIgnoringFieldDefinitions(TestConstants.Thing.THING.toJson());
     }
 
     @Test